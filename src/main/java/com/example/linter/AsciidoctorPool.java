@@ -0,0 +1,165 @@
+package com.example.linter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Supplier;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.asciidoctor.Asciidoctor;
+
+/**
+ * Pool of pre-created Asciidoctor instances.
+ * Each instance owns its own JRuby runtime, so documents parsed on leases
+ * from different instances do not contend on a single interpreter.
+ */
+public final class AsciidoctorPool implements AutoCloseable {
+
+    private static final Logger logger = LogManager.getLogger(AsciidoctorPool.class);
+
+    private final Supplier<Asciidoctor> factory;
+    private final BlockingQueue<Asciidoctor> available;
+    private final List<Asciidoctor> instances;
+    private volatile boolean closed;
+
+    /**
+     * Creates a pool and eagerly boots the given number of instances.
+     *
+     * @param size the number of instances to create, must be positive
+     */
+    public AsciidoctorPool(int size) {
+        this(size, Asciidoctor.Factory::create);
+    }
+
+    AsciidoctorPool(int size, Supplier<Asciidoctor> factory) {
+        if (size < 1) {
+            throw new IllegalArgumentException("size must be positive");
+        }
+        this.factory = Objects.requireNonNull(factory, "factory must not be null");
+        this.available = new LinkedBlockingQueue<>();
+        this.instances = new CopyOnWriteArrayList<>();
+        ensureSize(size);
+    }
+
+    /**
+     * Grows the pool to at least the given number of instances.
+     * New instances are booted concurrently since JRuby startup dominates.
+     * If any of them fails to boot, the others are closed and the pool keeps
+     * its previous size.
+     *
+     * @param size the minimum number of instances
+     */
+    public synchronized void ensureSize(int size) {
+        checkOpen();
+        int missing = size - instances.size();
+        if (missing <= 0) {
+            return;
+        }
+
+        logger.debug("Creating {} Asciidoctor instance(s)", missing);
+        // A dedicated executor keeps JRuby boot off the common pool
+        ExecutorService executor = Executors.newFixedThreadPool(missing, runnable -> {
+            Thread thread = new Thread(runnable, "asciidoctor-boot");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            List<CompletableFuture<Asciidoctor>> created = new ArrayList<>();
+            for (int i = 0; i < missing; i++) {
+                created.add(CompletableFuture.supplyAsync(factory, executor));
+            }
+            
+            // Wait for every instance, even after a failure, so none is left running
+            List<Asciidoctor> booted = new ArrayList<>();
+            RuntimeException failure = null;
+            for (CompletableFuture<Asciidoctor> future : created) {
+                try {
+                    booted.add(future.join());
+                } catch (CompletionException e) {
+                    RuntimeException cause = e.getCause() instanceof RuntimeException runtime ? runtime : e;
+                    if (failure == null) {
+                        failure = cause;
+                    } else {
+                        failure.addSuppressed(cause);
+                    }
+                }
+            }
+            if (failure != null) {
+                for (Asciidoctor asciidoctor : booted) {
+                    asciidoctor.close();
+                }
+                throw failure;
+            }
+            
+            instances.addAll(booted);
+            available.addAll(booted);
+        } finally {
+            executor.shutdown();
+        }
+    }
+    
+    /**
+     * Takes an instance from the pool, waiting until one is released if necessary.
+     *
+     * @return an instance exclusively owned by the caller until released
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public Asciidoctor lease() throws InterruptedException {
+        checkOpen();
+        return available.take();
+    }
+
+    /**
+     * Returns a previously leased instance to the pool.
+     *
+     * @param asciidoctor the leased instance
+     */
+    public void release(Asciidoctor asciidoctor) {
+        if (asciidoctor == null) {
+            return;
+        }
+        if (closed) {
+            return;
+        }
+        available.add(asciidoctor);
+    }
+
+    /**
+     * Returns the number of instances owned by this pool.
+     *
+     * @return the pool size
+     */
+    public int size() {
+        return instances.size();
+    }
+
+    /**
+     * Closes all instances. Safe to call more than once.
+     */
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        available.clear();
+        for (Asciidoctor asciidoctor : instances) {
+            asciidoctor.close();
+        }
+        instances.clear();
+    }
+
+    private void checkOpen() {
+        if (closed) {
+            throw new IllegalStateException("Asciidoctor pool is closed");
+        }
+    }
+}
\ No newline at end of file
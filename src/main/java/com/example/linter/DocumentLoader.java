@@ -0,0 +1,104 @@
+package com.example.linter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+
+import org.asciidoctor.Asciidoctor;
+import org.asciidoctor.Attributes;
+import org.asciidoctor.Options;
+import org.asciidoctor.OptionsBuilder;
+import org.asciidoctor.ast.Document;
+
+/**
+ * Parses AsciiDoc sources that have already been read into memory.
+ * Sets the same document attributes Asciidoctor derives when it loads a file
+ * itself, so validators see identical documents whichever way the content arrived.
+ */
+final class DocumentLoader {
+
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("HH:mm:ss z");
+
+    private DocumentLoader() {
+    }
+
+    /**
+     * Reads a file as UTF-8.
+     *
+     * @param file the file to read
+     * @return the file content
+     * @throws IOException if the file cannot be read
+     */
+    static String read(Path file) throws IOException {
+        return Files.readString(file, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Parses in-memory content on behalf of the given file.
+     *
+     * @param asciidoctor the Asciidoctor instance to parse with
+     * @param file the file the content was read from
+     * @param content the AsciiDoc source
+     * @return the parsed document
+     */
+    static Document load(Asciidoctor asciidoctor, Path file, String content) {
+        return load(asciidoctor, file, content, false);
+    }
+
+    /**
+     * Parses in-memory content on behalf of the given file, optionally stopping after the header.
+     *
+     * @param asciidoctor the Asciidoctor instance to parse with
+     * @param file the file the content was read from
+     * @param content the AsciiDoc source
+     * @param headerOnly whether to parse only the document header
+     * @return the parsed document, without blocks if only the header was parsed
+     */
+    static Document load(Asciidoctor asciidoctor, Path file, String content, boolean headerOnly) {
+        return asciidoctor.load(content, createOptions(file, headerOnly));
+    }
+
+    private static Options createOptions(Path file, boolean headerOnly) {
+        Path absolute = file.toAbsolutePath();
+        Path directory = absolute.getParent();
+        String fileName = absolute.getFileName().toString();
+        int extensionIndex = fileName.lastIndexOf('.');
+
+        Attributes attributes = Attributes.builder()
+            .attribute("docfile", absolute.toString())
+            .attribute("docdir", directory != null ? directory.toString() : "")
+            .attribute("docname", extensionIndex > 0 ? fileName.substring(0, extensionIndex) : fileName)
+            .attribute("docfilesuffix", extensionIndex > 0 ? fileName.substring(extensionIndex) : "")
+            .build();
+        addModificationDate(absolute, attributes);
+
+        OptionsBuilder options = Options.builder()
+            .sourcemap(true)  // Enable source location tracking
+            .toFile(false)    // Don't write output file
+            .parseHeaderOnly(headerOnly)
+            .attributes(attributes);
+        if (directory != null) {
+            options.baseDir(directory.toFile());
+        }
+        return options.build();
+    }
+
+    private static void addModificationDate(Path file, Attributes attributes) {
+        try {
+            ZonedDateTime modified = Files.getLastModifiedTime(file).toInstant().atZone(ZoneId.systemDefault());
+            String date = DATE_FORMAT.format(modified);
+            String time = TIME_FORMAT.format(modified);
+            attributes.setAttribute("docdate", date);
+            attributes.setAttribute("doctime", time);
+            attributes.setAttribute("docdatetime", date + " " + time);
+            attributes.setAttribute("docyear", String.valueOf(modified.getYear()));
+        } catch (IOException e) {
+            // Asciidoctor falls back to the current date
+        }
+    }
+}
\ No newline at end of file
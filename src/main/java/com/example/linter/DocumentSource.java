@@ -0,0 +1,52 @@
+package com.example.linter;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Supplies the content of the documents a {@link Linter} validates. The default
+ * reads files from disk; other sources serve content that exists only in memory or
+ * in another store, such as the blobs staged in a git index.
+ *
+ * <p>Implementations used with more than one job are called from several threads.</p>
+ */
+public interface DocumentSource {
+
+    /**
+     * Reads regular files from the file system as UTF-8.
+     */
+    DocumentSource FILE_SYSTEM = file -> {
+        Linter.checkRegularFile(file);
+        return DocumentLoader.read(file);
+    };
+
+    /**
+     * Returns the content of a document.
+     *
+     * @param file the document, as passed to the linter
+     * @return the AsciiDoc source
+     * @throws IOException if the document cannot be read
+     */
+    String read(Path file) throws IOException;
+
+    /**
+     * Returns where the document lives on disk. Its directory is what includes and
+     * the {@code docdir} attribute resolve against.
+     *
+     * @param file the document, as passed to the linter
+     * @return the absolute location of the document
+     */
+    default Path locate(Path file) {
+        return file.toAbsolutePath();
+    }
+
+    /**
+     * Returns the file name reported in validation messages for the document.
+     *
+     * @param file the document, as passed to the linter
+     * @return the reported file name, the absolute location by default
+     */
+    default String describe(Path file) {
+        return locate(file).toString();
+    }
+}
@@ -8,24 +8,27 @@ import java.nio.file.PathMatcher;
 import java.nio.file.SimpleFileVisitor;
 import java.nio.file.attribute.BasicFileAttributes;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.asciidoctor.Asciidoctor;
-import org.asciidoctor.Options;
-import org.asciidoctor.ast.Document;
-import org.asciidoctor.ast.StructuralNode;
 
+import com.example.linter.ast.AstDocument;
+import com.example.linter.ast.AstSnapshot;
+import com.example.linter.ast.HeaderScan;
+import com.example.linter.cache.IncludeGraph;
+import com.example.linter.cache.ResultCache;
 import com.example.linter.config.LinterConfiguration;
-import com.example.linter.config.rule.SectionConfig;
-import com.example.linter.validator.BlockValidator;
-import com.example.linter.validator.MetadataValidator;
-import com.example.linter.validator.SectionValidator;
+import com.example.linter.config.Severity;
+import com.example.linter.validator.CompiledPlan;
+import com.example.linter.validator.DocumentValidator;
 import com.example.linter.validator.SourceLocation;
 import com.example.linter.validator.ValidationMessage;
 import com.example.linter.validator.ValidationResult;
@@ -38,10 +41,93 @@ public class Linter {
     
     private static final Logger logger = LogManager.getLogger(Linter.class);
     
-    private final Asciidoctor asciidoctor;
+    /**
+     * Version of the linter, part of every result cache key.
+     */
+    public static final String VERSION = "1.0.0";
+    
+    private final AsciidoctorPool asciidoctorPool;
+    private final boolean ownsPool;
+    private final ResultCache resultCache;
+    private final IncludeGraph includeGraph;
+    private final boolean trackIncludes;
+    private final boolean checkIncludes;
+    private volatile PreparedPlan preparedPlan;
     
     public Linter() {
-        this.asciidoctor = Asciidoctor.Factory.create();
+        this(1);
+    }
+    
+    /**
+     * Creates a linter backed by the given number of pre-created Asciidoctor instances.
+     * 
+     * @param poolSize the number of Asciidoctor instances to boot up front
+     */
+    public Linter(int poolSize) {
+        this(poolSize, null);
+    }
+    
+    /**
+     * Creates a linter that reuses stored messages for documents it has validated before.
+     * The cache is owned by the caller and is not closed by {@link #close()}.
+     * 
+     * @param poolSize the number of Asciidoctor instances to boot up front
+     * @param resultCache the result cache, or null to always validate
+     */
+    public Linter(int poolSize, ResultCache resultCache) {
+        this(poolSize, resultCache, false, false);
+    }
+    
+    /**
+     * Creates a linter that reuses stored messages and, on request, follows the
+     * includes of every document it validates.
+     * 
+     * @param poolSize the number of Asciidoctor instances to boot up front
+     * @param resultCache the result cache, or null to always validate
+     * @param trackIncludes true to record every document's includes in the {@link #getIncludeGraph() include
+     *                      graph}, as watch mode needs; always done with a result cache
+     * @param checkIncludes true to report include cycles and includes nested too deep, which implies tracking
+     */
+    public Linter(int poolSize, ResultCache resultCache, boolean trackIncludes, boolean checkIncludes) {
+        this(new AsciidoctorPool(poolSize), true, resultCache, trackIncludes, checkIncludes);
+    }
+    
+    /**
+     * Creates a linter on an existing pool, so several short-lived linters can share
+     * warm Asciidoctor instances. The pool is not closed by {@link #close()}.
+     * 
+     * @param asciidoctorPool the shared pool
+     * @param resultCache the result cache, or null to always validate
+     */
+    public Linter(AsciidoctorPool asciidoctorPool, ResultCache resultCache) {
+        this(asciidoctorPool, resultCache, false, false);
+    }
+    
+    /**
+     * Creates a linter on an existing pool that, on request, follows the includes of
+     * every document it validates.
+     * 
+     * @param asciidoctorPool the shared pool
+     * @param resultCache the result cache, or null to always validate
+     * @param trackIncludes true to record every document's includes in the include graph
+     * @param checkIncludes true to report include cycles and includes nested too deep
+     * @see #Linter(int, ResultCache, boolean, boolean)
+     */
+    public Linter(AsciidoctorPool asciidoctorPool, ResultCache resultCache, boolean trackIncludes,
+                  boolean checkIncludes) {
+        this(Objects.requireNonNull(asciidoctorPool, "asciidoctorPool must not be null"), false, resultCache,
+             trackIncludes, checkIncludes);
+    }
+    
+    private Linter(AsciidoctorPool asciidoctorPool, boolean ownsPool, ResultCache resultCache,
+                   boolean trackIncludes, boolean checkIncludes) {
+        this.asciidoctorPool = asciidoctorPool;
+        this.ownsPool = ownsPool;
+        this.resultCache = resultCache;
+        this.includeGraph = resultCache != null ? resultCache.getIncludeGraph() : new IncludeGraph();
+        // Cache keys cover the included files, so a cache needs the includes of every document
+        this.trackIncludes = trackIncludes || checkIncludes || resultCache != null;
+        this.checkIncludes = checkIncludes;
     }
     
     /**
@@ -53,18 +139,27 @@ public class Linter {
      * @throws IOException if the file cannot be read
      */
     public ValidationResult validateFile(Path file, LinterConfiguration config) throws IOException {
+        return validateFile(file, config, DocumentSource.FILE_SYSTEM);
+    }
+    
+    /**
+     * Validates a single AsciiDoc document whose content is supplied by the given source.
+     * 
+     * @param file the document, as known to the source
+     * @param config the linter configuration
+     * @param source supplies the content of the document
+     * @return validation result
+     * @throws IOException if the source cannot read the document
+     */
+    public ValidationResult validateFile(Path file, LinterConfiguration config, DocumentSource source)
+            throws IOException {
         Objects.requireNonNull(file, "file must not be null");
         Objects.requireNonNull(config, "config must not be null");
+        Objects.requireNonNull(source, "source must not be null");
         
-        if (!Files.exists(file)) {
-            throw new IOException("File does not exist: " + file);
-        }
-        
-        if (!Files.isRegularFile(file)) {
-            throw new IOException("Not a regular file: " + file);
-        }
+        String content = source.read(file);
         
-        return performValidation(file, config);
+        return performValidation(file, content, config, source);
     }
     
     /**
@@ -75,23 +170,111 @@ public class Linter {
      * @return map of file to validation result
      */
     public Map<Path, ValidationResult> validateFiles(List<Path> files, LinterConfiguration config) {
+        return validateFiles(files, config, 1);
+    }
+    
+    /**
+     * Validates multiple AsciiDoc files using the given number of worker threads.
+     * Files are read ahead, parsed and validated in a {@link ValidationPipeline};
+     * each parse worker leases its own Asciidoctor instance per document. Results
+     * are returned in the order of the input list.
+     * 
+     * @param files the files to validate
+     * @param config the linter configuration
+     * @param jobs the number of parallel workers, must be positive
+     * @return map of file to validation result
+     */
+    public Map<Path, ValidationResult> validateFiles(List<Path> files, LinterConfiguration config, int jobs) {
         Objects.requireNonNull(files, "files must not be null");
-        Objects.requireNonNull(config, "config must not be null");
         
         Map<Path, ValidationResult> results = new LinkedHashMap<>();
+        // Reserve slots in input order; a stalled reorder window may report files out of order
+        files.forEach(file -> results.put(file, null));
         
-        for (Path file : files) {
-            try {
-                ValidationResult result = validateFile(file, config);
-                results.put(file, result);
-            } catch (IOException e) {
-                // Create error result
-                ValidationResult errorResult = createIOErrorResult(file, e);
-                results.put(file, errorResult);
+        validateFiles(files, config, jobs, results::put);
+        
+        return results;
+    }
+    
+    /**
+     * Validates multiple AsciiDoc files and pushes each result to the sink as soon
+     * as it is ready, in the order of {@code files}. Nothing is retained after a
+     * result has been delivered, so memory grows with the number of files in flight
+     * rather than with the run.
+     * 
+     * @param files the files to validate
+     * @param config the linter configuration
+     * @param jobs the number of parallel workers, must be positive
+     * @param sink receives every result, followed by {@link ResultSink#onComplete()}
+     */
+    public void validateFiles(Iterable<Path> files, LinterConfiguration config, int jobs, ResultSink sink) {
+        validateFiles(files, config, jobs, ResultOrder.defaults(), sink);
+    }
+    
+    /**
+     * Validates multiple AsciiDoc files and pushes each result to the sink as soon
+     * as every earlier file has been delivered. With more than one job, results that
+     * finish early are held back in a window bounded by the given order.
+     * 
+     * @param files the files to validate
+     * @param config the linter configuration
+     * @param jobs the number of parallel workers, must be positive
+     * @param order the reorder window and what to do when it stalls
+     * @param sink receives every result, followed by {@link ResultSink#onComplete()}
+     */
+    public void validateFiles(Iterable<Path> files, LinterConfiguration config, int jobs, ResultOrder order,
+                              ResultSink sink) {
+        validateFiles(files, config, jobs, order, DocumentSource.FILE_SYSTEM, sink);
+    }
+    
+    /**
+     * Validates multiple AsciiDoc documents whose content is supplied by the given
+     * source, pushing each result to the sink in the order of {@code files}. Results
+     * are only cached for the file system source, since cached messages name files
+     * by their absolute path.
+     * 
+     * @param files the documents, as known to the source
+     * @param config the linter configuration
+     * @param jobs the number of parallel workers, must be positive
+     * @param order the reorder window and what to do when it stalls
+     * @param source supplies the content of the documents
+     * @param sink receives every result, followed by {@link ResultSink#onComplete()}
+     */
+    public void validateFiles(Iterable<Path> files, LinterConfiguration config, int jobs, ResultOrder order,
+                              DocumentSource source, ResultSink sink) {
+        Objects.requireNonNull(files, "files must not be null");
+        Objects.requireNonNull(config, "config must not be null");
+        Objects.requireNonNull(order, "order must not be null");
+        Objects.requireNonNull(source, "source must not be null");
+        Objects.requireNonNull(sink, "sink must not be null");
+        if (jobs < 1) {
+            throw new IllegalArgumentException("jobs must be positive");
+        }
+        if (files instanceof Collection<?> collection) {
+            // No point in booting more Asciidoctor instances than there are files
+            jobs = Math.max(1, Math.min(jobs, collection.size()));
+        }
+        
+        if (jobs == 1) {
+            for (Path file : files) {
+                try {
+                    sink.onResult(file, validateFile(file, config, source));
+                } catch (IOException e) {
+                    // Create error result
+                    sink.onResult(file, createIOErrorResult(file, e));
+                }
             }
+        } else {
+            ValidationPipeline.builder()
+                .linter(this)
+                .jobs(jobs)
+                .resultOrder(order)
+                .source(source)
+                .build()
+                .run(files, config, sink::onResult);
         }
         
-        return results;
+        sink.onComplete();
     }
     
     /**
@@ -118,85 +301,218 @@ public class Linter {
         return validateFiles(files, config);
     }
     
+    /**
+     * Validates all matching files in a directory and streams each result to the sink.
+     * 
+     * @param directory the directory to scan
+     * @param pattern file pattern (e.g., "*.adoc")
+     * @param recursive whether to scan subdirectories
+     * @param config the linter configuration
+     * @param sink receives every result, followed by {@link ResultSink#onComplete()}
+     * @throws IOException if the directory cannot be read
+     */
+    public void validateDirectory(Path directory, String pattern, boolean recursive, 
+                                  LinterConfiguration config, ResultSink sink) throws IOException {
+        Objects.requireNonNull(directory, "directory must not be null");
+        Objects.requireNonNull(pattern, "pattern must not be null");
+        Objects.requireNonNull(config, "config must not be null");
+        
+        if (!Files.isDirectory(directory)) {
+            throw new IOException("Not a directory: " + directory);
+        }
+        
+        List<Path> files = findMatchingFiles(directory, pattern, recursive);
+        validateFiles(files, config, 1, sink);
+    }
+    
+    /**
+     * Returns the includes recorded for every validated document. With a result cache
+     * the graph is the one stored with it, so it also covers earlier runs.
+     * 
+     * @return the include graph
+     */
+    public IncludeGraph getIncludeGraph() {
+        return includeGraph;
+    }
+    
     /**
      * Closes the linter and releases resources.
      */
     public void close() {
-        if (asciidoctor != null) {
-            asciidoctor.close();
+        if (ownsPool) {
+            asciidoctorPool.close();
+        }
+    }
+    
+    private Asciidoctor leaseAsciidoctor() {
+        try {
+            return asciidoctorPool.lease();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for an Asciidoctor instance", e);
         }
     }
     
-    private ValidationResult performValidation(Path file, LinterConfiguration config) {
+    private ValidationResult performValidation(Path file, String content, LinterConfiguration config,
+                                               DocumentSource source) {
         ValidationResult.Builder resultBuilder = ValidationResult.builder();
         
-        try {
-            // Parse the document
-            Options options = Options.builder()
-                .sourcemap(true)  // Enable source location tracking
-                .toFile(false)    // Don't write output file
+        // Unchanged documents with unchanged includes skip Asciidoctor entirely
+        IncludeGraph.Resolution includes = resolveIncludes(file, content, source);
+        String cacheKey = cacheKey(content, includes, config, source);
+        Optional<List<ValidationMessage>> cached = lookupCache(file, cacheKey);
+        if (cached.isPresent()) {
+            return resultBuilder.addMessages(withIncludeProblems(cached.get(), includes))
+                .cacheHits(1)
+                .complete()
                 .build();
-        Document document = asciidoctor.loadFile(file.toFile(), options);
-            
-            // Run validators
-            List<ValidationMessage> messages = new ArrayList<>();
-            
-            if (config.document() != null) {
-                // Metadata validation
-                if (config.document().metadata() != null) {
-                    MetadataValidator metadataValidator = MetadataValidator
-                        .fromConfiguration(config.document().metadata())
-                        .build();
-                    ValidationResult metadataResult = metadataValidator.validate(document);
-                    messages.addAll(metadataResult.getMessages());
-                }
-                
-                // Section validation
-                if (config.document().sections() != null) {
-                    SectionValidator sectionValidator = SectionValidator.builder()
-                        .configuration(config.document())
-                        .build();
-                    ValidationResult sectionResult = sectionValidator.validate(document);
-                    messages.addAll(sectionResult.getMessages());
-                    
-                    // Block validation within sections
-                    messages.addAll(validateBlocks(document, config.document().sections()));
-                }
-            }
-            
-            // Add all messages to result
-            messages.forEach(resultBuilder::addMessage);
-            
+        }
+        
+        AstDocument document;
+        Asciidoctor asciidoctor = leaseAsciidoctor();
+        try {
+            // Parse the document and copy it out of JRuby, so the instance is free before validating
+            document = parse(asciidoctor, file, content, config, source);
         } catch (Exception e) {
             // Add error message for parsing failure
+            return resultBuilder.addMessage(createParseErrorMessage(file, e)).complete().build();
+        } finally {
+            asciidoctorPool.release(asciidoctor);
+        }
+        
+        try {
+            // Run validators
+            List<ValidationMessage> messages = validateDocument(document, config);
+            resultBuilder.addMessages(withIncludeProblems(messages, includes));
+            storeInCache(file, cacheKey, messages, resultBuilder);
+        } catch (Exception e) {
             resultBuilder.addMessage(createParseErrorMessage(file, e));
         }
         
         return resultBuilder.complete().build();
     }
     
-    private List<ValidationMessage> validateBlocks(Document document, List<SectionConfig> sectionConfigs) {
-        List<ValidationMessage> messages = new ArrayList<>();
-        BlockValidator blockValidator = new BlockValidator();
-        String filename = extractDocumentFilename(document);
-        
-        // Validate blocks in each section
-        for (StructuralNode node : document.getBlocks()) {
-            if (node instanceof org.asciidoctor.ast.Section) {
-                org.asciidoctor.ast.Section section = (org.asciidoctor.ast.Section) node;
-                
-                // Find matching section config
-                for (SectionConfig sectionConfig : sectionConfigs) {
-                    if (matchesSection(section, sectionConfig)) {
-                        ValidationResult blockResult = blockValidator.validate(section, sectionConfig, filename);
-                        messages.addAll(blockResult.getMessages());
-                        break;
-                    }
-                }
-            }
+    /**
+     * Parses a document and copies it out of JRuby. If the configuration has no section
+     * rules and the header can be cut out of the source, only the header is parsed.
+     */
+    AstDocument parse(Asciidoctor asciidoctor, Path file, String content, LinterConfiguration config,
+                      DocumentSource source) {
+        HeaderScan header = HeaderScan.scan(content);
+        boolean headerOnly = !prepare(config).plan.needsDocumentBody() && header.getHeaderEnd() >= 0;
+        String parsedContent = headerOnly ? content.substring(0, header.getHeaderEnd()) : content;
+        return AstSnapshot.of(DocumentLoader.load(asciidoctor, source.locate(file), parsedContent, headerOnly),
+                              header, source.describe(file));
+    }
+    
+    /**
+     * Records the includes of a document in the include graph, if anything needs them.
+     * Included files are read from disk whatever the source, as Asciidoctor reads them.
+     * 
+     * @return the resolved includes, or null if includes are not tracked
+     */
+    IncludeGraph.Resolution resolveIncludes(Path file, String content, DocumentSource source) {
+        if (!trackIncludes) {
+            return null;
+        }
+        return includeGraph.resolve(source.locate(file), content, source == DocumentSource.FILE_SYSTEM);
+    }
+    
+    /**
+     * Computes the result cache key for a document and the files it includes.
+     * 
+     * @return the key, or null if this linter has no result cache or the document does not come from disk
+     */
+    String cacheKey(String content, IncludeGraph.Resolution includes, LinterConfiguration config,
+                    DocumentSource source) {
+        return resultCache != null && source == DocumentSource.FILE_SYSTEM
+            ? resultCache.key(content, config, includes.getFingerprint())
+            : null;
+    }
+    
+    /**
+     * Returns the cached messages for a key computed by {@link #cacheKey}.
+     */
+    Optional<List<ValidationMessage>> lookupCache(Path file, String cacheKey) {
+        return cacheKey != null ? resultCache.get(cacheKey, file) : Optional.empty();
+    }
+    
+    /**
+     * Stores freshly computed messages and records the cache miss on the result.
+     */
+    void storeInCache(Path file, String cacheKey, List<ValidationMessage> messages, 
+                      ValidationResult.Builder resultBuilder) {
+        if (cacheKey != null) {
+            resultCache.put(cacheKey, file, messages);
+            resultBuilder.cacheMisses(1);
+        }
+    }
+    
+    /**
+     * Runs all configured validators against a document snapshot.
+     * 
+     * @param document the snapshot of the parsed document
+     * @param config the linter configuration
+     * @return the validation messages in reporting order
+     */
+    List<ValidationMessage> validateDocument(AstDocument document, LinterConfiguration config) {
+        return prepare(config).validator.validate(document).getMessages();
+    }
+    
+    /**
+     * Adds the includes that were not followed to a document's messages, if include
+     * checks are enabled. They are added after the cache lookup, so cached messages
+     * do not depend on the checks.
+     * 
+     * @param messages the validation messages of the document
+     * @param includes the resolved includes of the document, or null if they are not tracked
+     * @return the messages in reporting order, include problems last
+     */
+    List<ValidationMessage> withIncludeProblems(List<ValidationMessage> messages, IncludeGraph.Resolution includes) {
+        if (!checkIncludes || includes == null || includes.getProblems().isEmpty()) {
+            return messages;
+        }
+        List<ValidationMessage> withProblems = new ArrayList<>(messages);
+        for (IncludeGraph.Problem problem : includes.getProblems()) {
+            withProblems.add(ValidationMessage.builder()
+                .severity(Severity.ERROR)
+                .ruleId(problem.getKind() == IncludeGraph.Problem.Kind.CYCLE ? "include-cycle" : "include-depth")
+                .location(SourceLocation.builder()
+                    .filename(problem.getFile().toString())
+                    .startLine(problem.getLine())
+                    .build())
+                .message(problem.getMessage())
+                .build());
+        }
+        return withProblems;
+    }
+    
+    /**
+     * Returns the compiled plan for a configuration. The last plan is kept, so a run
+     * over many files with the same configuration compiles it once.
+     */
+    private PreparedPlan prepare(LinterConfiguration config) {
+        PreparedPlan prepared = preparedPlan;
+        if (prepared == null || prepared.plan.getConfiguration() != config) {
+            // Racing threads may both compile; either plan is equivalent
+            prepared = new PreparedPlan(CompiledPlan.compile(config));
+            preparedPlan = prepared;
+        }
+        return prepared;
+    }
+    
+    static void checkRegularFile(Path file) throws IOException {
+        if (!Files.exists(file)) {
+            throw new IOException("File does not exist: " + file);
         }
         
-        return messages;
+        if (!Files.isRegularFile(file)) {
+            throw new IOException("Not a regular file: " + file);
+        }
+    }
+    
+    AsciidoctorPool getAsciidoctorPool() {
+        return asciidoctorPool;
     }
     
     private List<Path> findMatchingFiles(Path directory, String pattern, boolean recursive) throws IOException {
@@ -224,28 +540,7 @@ public class Linter {
         return matchingFiles;
     }
     
-    private String extractDocumentFilename(Document document) {
-        Map<String, Object> attrs = document.getAttributes();
-        if (attrs.containsKey("docfile")) {
-            return attrs.get("docfile").toString();
-        }
-        return "unknown";
-    }
-    
-    private boolean matchesSection(org.asciidoctor.ast.Section section, SectionConfig config) {
-        // Match by title pattern if configured
-        if (config.title() != null && config.title().pattern() != null) {
-            String title = section.getTitle();
-            if (title != null) {
-                return title.matches(config.title().pattern());
-            }
-        }
-        
-        // Match by level
-        return config.level() == section.getLevel();
-    }
-    
-    private ValidationResult createIOErrorResult(Path file, IOException e) {
+    ValidationResult createIOErrorResult(Path file, IOException e) {
         return ValidationResult.builder()
             .addMessage(ValidationMessage.builder()
                 .severity(com.example.linter.config.Severity.ERROR)
@@ -260,7 +555,7 @@ public class Linter {
             .build();
     }
     
-    private ValidationMessage createParseErrorMessage(Path file, Exception e) {
+    ValidationMessage createParseErrorMessage(Path file, Exception e) {
         return ValidationMessage.builder()
             .severity(com.example.linter.config.Severity.ERROR)
             .ruleId("parse-error")
@@ -271,4 +566,20 @@ public class Linter {
             .message("Failed to parse AsciiDoc file: " + e.getMessage())
             .build();
     }
+    
+    /**
+     * A compiled plan together with the validator that walks documents against it. The
+     * validator keeps its per-document state in the walk, so one instance serves every
+     * document and thread of a run.
+     */
+    private static final class PreparedPlan {
+        private final CompiledPlan plan;
+        private final DocumentValidator validator;
+        
+        PreparedPlan(CompiledPlan plan) {
+            this.plan = plan;
+            this.validator = DocumentValidator.builder().plan(plan).build();
+        }
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,134 @@
+package com.example.linter;
+
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiConsumer;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.example.linter.validator.ValidationResult;
+
+/**
+ * Puts results that complete out of order back into discovery order.
+ *
+ * <p>Every file takes a sequence number when it is admitted. A completed result is
+ * reported as soon as all files admitted before it have been reported, otherwise it
+ * is held back. At most {@code window} results are held back: with
+ * {@link ResultOrder.StallPolicy#WAIT} admission blocks while the window is full,
+ * with {@link ResultOrder.StallPolicy#UNORDERED} the oldest held back results are
+ * reported ahead of the files that stall the window.</p>
+ *
+ * <p>{@link #admit()} is called by a single producer thread and
+ * {@link #complete(long, Path, ValidationResult)} by a single consumer thread,
+ * which is also the thread results are reported on.</p>
+ */
+final class ReorderBuffer {
+
+    private static final Logger logger = LogManager.getLogger(ReorderBuffer.class);
+
+    private final int window;
+    private final BiConsumer<Path, ValidationResult> reporter;
+    private final Semaphore slots;
+    private final AtomicBoolean unblocked = new AtomicBoolean();
+    private final TreeMap<Long, Completed> heldBack = new TreeMap<>();
+    private long admitted;
+    private long nextSequence;
+
+    ReorderBuffer(ResultOrder order, int jobs, BiConsumer<Path, ValidationResult> reporter) {
+        this.window = order.windowFor(jobs);
+        this.reporter = reporter;
+        this.slots = order.getStallPolicy() == ResultOrder.StallPolicy.WAIT ? new Semaphore(window) : null;
+    }
+
+    int getWindow() {
+        return window;
+    }
+
+    /**
+     * Assigns the next sequence number, waiting for a free slot if the window is full
+     * and stalls are waited out.
+     *
+     * @return the sequence number of the admitted file
+     * @throws InterruptedException if interrupted while waiting for a slot
+     */
+    long admit() throws InterruptedException {
+        if (slots != null) {
+            slots.acquire();
+        }
+        return admitted++;
+    }
+
+    /**
+     * Accepts the result of an admitted file and reports every result that is now in order.
+     *
+     * @param sequence the sequence number returned by {@link #admit()}
+     * @param file the validated file
+     * @param result its result
+     */
+    void complete(long sequence, Path file, ValidationResult result) {
+        if (sequence < nextSequence) {
+            // The window already moved past this file while it stalled
+            report(file, result);
+            return;
+        }
+        heldBack.put(sequence, new Completed(file, result));
+        drain();
+        while (heldBack.size() >= window) {
+            long stalled = nextSequence;
+            nextSequence = heldBack.firstKey();
+            logger.debug("Window of {} results stalled on file #{}, reporting ahead of it", window, stalled);
+            drain();
+        }
+    }
+
+    /**
+     * Reports whatever is still held back in sequence order. Only has an effect if
+     * files were lost, i.e. admitted but never completed.
+     */
+    void flush() {
+        while (!heldBack.isEmpty()) {
+            Map.Entry<Long, Completed> entry = heldBack.pollFirstEntry();
+            nextSequence = entry.getKey() + 1;
+            report(entry.getValue().file, entry.getValue().result);
+        }
+    }
+
+    /**
+     * Stops limiting admission. Used when a stage fails and admitted files may never
+     * complete, so the producer cannot wait for a slot forever.
+     */
+    void unblock() {
+        if (slots != null && unblocked.compareAndSet(false, true)) {
+            slots.release(Integer.MAX_VALUE / 2);
+        }
+    }
+
+    private void drain() {
+        Completed next;
+        while ((next = heldBack.remove(nextSequence)) != null) {
+            nextSequence++;
+            report(next.file, next.result);
+        }
+    }
+
+    private void report(Path file, ValidationResult result) {
+        if (slots != null && !unblocked.get()) {
+            slots.release();
+        }
+        reporter.accept(file, result);
+    }
+
+    private static final class Completed {
+        private final Path file;
+        private final ValidationResult result;
+
+        Completed(Path file, ValidationResult result) {
+            this.file = file;
+            this.result = result;
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.linter;
+
+import java.util.Objects;
+
+/**
+ * Controls the order in which results of a parallel run are reported.
+ *
+ * <p>Results are reported in the order the files were discovered. Files that
+ * finish early wait in a window until every earlier file is done; the window
+ * bounds how many results are held back. When a slow file fills the window, the
+ * {@link StallPolicy} decides whether discovery waits for it or the held back
+ * results are reported ahead of it.</p>
+ */
+public final class ResultOrder {
+
+    /**
+     * Number of results held back per job when no window is configured.
+     */
+    public static final int DEFAULT_WINDOW_PER_JOB = 16;
+
+    private static final ResultOrder DEFAULTS = builder().build();
+
+    /**
+     * What to do when a slow file keeps the window full.
+     */
+    public enum StallPolicy {
+        /**
+         * Stop admitting new files until the slow file is done. Output stays in
+         * discovery order, throughput drops to the slow file.
+         */
+        WAIT,
+
+        /**
+         * Report the held back results ahead of the slow file, which is reported
+         * as soon as it is done. Workers stay busy, output is no longer strictly ordered.
+         */
+        UNORDERED
+    }
+
+    private final int window;
+    private final StallPolicy stallPolicy;
+
+    private ResultOrder(Builder builder) {
+        if (builder.window < 0) {
+            throw new IllegalArgumentException("window must not be negative");
+        }
+        this.window = builder.window;
+        this.stallPolicy = Objects.requireNonNull(builder.stallPolicy, "stallPolicy must not be null");
+    }
+
+    /**
+     * Returns the discovery order with the default window and {@link StallPolicy#WAIT}.
+     */
+    public static ResultOrder defaults() {
+        return DEFAULTS;
+    }
+
+    /**
+     * Returns the configured window, or 0 if it is derived from the number of jobs.
+     */
+    public int getWindow() {
+        return window;
+    }
+
+    /**
+     * Returns the number of results that may be held back for a run with the given jobs.
+     *
+     * @param jobs the number of parallel workers
+     * @return the window size, at least 1
+     */
+    public int windowFor(int jobs) {
+        return window > 0 ? window : Math.max(1, jobs) * DEFAULT_WINDOW_PER_JOB;
+    }
+
+    public StallPolicy getStallPolicy() {
+        return stallPolicy;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static final class Builder {
+        private int window;
+        private StallPolicy stallPolicy = StallPolicy.WAIT;
+
+        private Builder() {
+        }
+
+        /**
+         * Sets how many results may be held back. Defaults to
+         * {@value ResultOrder#DEFAULT_WINDOW_PER_JOB} per job when 0.
+         */
+        public Builder window(int window) {
+            this.window = window;
+            return this;
+        }
+
+        public Builder stallPolicy(StallPolicy stallPolicy) {
+            this.stallPolicy = stallPolicy;
+            return this;
+        }
+
+        public ResultOrder build() {
+            return new ResultOrder(this);
+        }
+    }
+}
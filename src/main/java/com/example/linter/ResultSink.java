@@ -0,0 +1,29 @@
+package com.example.linter;
+
+import java.nio.file.Path;
+
+import com.example.linter.validator.ValidationResult;
+
+/**
+ * Receives per-file validation results as soon as they are available.
+ * Lets callers report or aggregate results incrementally instead of
+ * waiting for a map of every result in the run.
+ * All calls for one run are made from the same thread.
+ */
+@FunctionalInterface
+public interface ResultSink {
+    
+    /**
+     * Called once for every validated file.
+     * 
+     * @param file the validated file
+     * @param result the validation result for that file
+     */
+    void onResult(Path file, ValidationResult result);
+    
+    /**
+     * Called once after the last result has been delivered.
+     */
+    default void onComplete() {
+    }
+}
\ No newline at end of file
@@ -0,0 +1,458 @@
+package com.example.linter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Method;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.asciidoctor.Asciidoctor;
+
+import com.example.linter.ast.AstDocument;
+import com.example.linter.cache.IncludeGraph;
+import com.example.linter.config.LinterConfiguration;
+import com.example.linter.validator.ValidationMessage;
+import com.example.linter.validator.ValidationResult;
+
+/**
+ * Staged validation pipeline: discovery, reading, parsing, validation and reporting.
+ *
+ * <p>Stages are connected by bounded queues. Discovery submits file reads to a
+ * separate I/O executor and queues the pending reads, so up to {@code readAhead}
+ * files are loaded while the parse workers are busy. Parse workers receive the
+ * content in memory and never block on disk. When parsing is the slow stage the
+ * full queues stall discovery, which keeps memory bounded by the queue capacities
+ * rather than by the number of files.</p>
+ *
+ * <p>Parse workers hand an {@link com.example.linter.ast.AstDocument} snapshot to
+ * the validation stage and return their Asciidoctor instance straight away, so
+ * validators never touch the JRuby AST.</p>
+ *
+ * <p>Results are handed to the reporter on the calling thread in discovery order.
+ * A {@link ReorderBuffer} holds back results that finish before an earlier file,
+ * so each result is reported as soon as every earlier file is done. The
+ * {@link ResultOrder} bounds how many results are held back and decides what
+ * happens when a slow file keeps that window full.</p>
+ */
+public final class ValidationPipeline {
+
+    private static final Logger logger = LogManager.getLogger(ValidationPipeline.class);
+    private static final AtomicInteger PIPELINE_COUNTER = new AtomicInteger();
+
+    private final Linter linter;
+    private final int jobs;
+    private final int readAhead;
+    private final ResultOrder resultOrder;
+    private final DocumentSource source;
+
+    private ValidationPipeline(Builder builder) {
+        this.linter = Objects.requireNonNull(builder.linter, "linter must not be null");
+        if (builder.jobs < 1) {
+            throw new IllegalArgumentException("jobs must be positive");
+        }
+        this.jobs = builder.jobs;
+        this.readAhead = builder.readAhead > 0 ? builder.readAhead : builder.jobs * 4;
+        this.resultOrder = Objects.requireNonNull(builder.resultOrder, "resultOrder must not be null");
+        this.source = Objects.requireNonNull(builder.source, "source must not be null");
+    }
+
+    /**
+     * Validates the given files and passes each result to the reporter.
+     * Files are pulled from the iterable lazily on a dedicated discovery thread.
+     *
+     * @param files the files to validate
+     * @param config the linter configuration
+     * @param reporter receives each file with its result on the calling thread, in the order of {@code files}
+     *                 unless the window stalls under {@link ResultOrder.StallPolicy#UNORDERED}
+     */
+    public void run(Iterable<Path> files, LinterConfiguration config, BiConsumer<Path, ValidationResult> reporter) {
+        Objects.requireNonNull(files, "files must not be null");
+        Objects.requireNonNull(config, "config must not be null");
+        Objects.requireNonNull(reporter, "reporter must not be null");
+
+        linter.getAsciidoctorPool().ensureSize(jobs);
+
+        int pipelineNumber = PIPELINE_COUNTER.incrementAndGet();
+        BlockingQueue<PendingFile> parseQueue = new ArrayBlockingQueue<>(readAhead);
+        BlockingQueue<ParsedFile> validateQueue = new ArrayBlockingQueue<>(jobs);
+        BlockingQueue<CompletedFile> reportQueue = new ArrayBlockingQueue<>(jobs * 2);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        ReorderBuffer reorderBuffer = new ReorderBuffer(resultOrder, jobs, reporter);
+
+        ExecutorService ioExecutor = Executors.newCachedThreadPool(
+            createIoThreadFactory("linter-" + pipelineNumber + "-read-"));
+        ExecutorService stageExecutor = Executors.newFixedThreadPool(1 + jobs * 2,
+            new StageThreadFactory("linter-" + pipelineNumber + "-"));
+
+        try {
+            stageExecutor.execute(() -> discover(files, ioExecutor, parseQueue, reorderBuffer, failure));
+
+            AtomicInteger activeParsers = new AtomicInteger(jobs);
+            AtomicInteger activeValidators = new AtomicInteger(jobs);
+            for (int i = 0; i < jobs; i++) {
+                stageExecutor.execute(() -> parse(parseQueue, validateQueue, config, activeParsers,
+                                                  reorderBuffer, failure));
+                stageExecutor.execute(() -> validate(validateQueue, reportQueue, config, activeValidators,
+                                                     reorderBuffer, failure));
+            }
+
+            report(reportQueue, reorderBuffer);
+
+            Throwable error = failure.get();
+            if (error != null) {
+                throw new IllegalStateException("Validation pipeline failed: " + error.getMessage(), error);
+            }
+        } finally {
+            stageExecutor.shutdownNow();
+            ioExecutor.shutdownNow();
+        }
+    }
+
+    /**
+     * Discovery stage: pulls paths, numbers them in discovery order and starts reading
+     * them ahead of the parsers. Waits while the reorder window is full.
+     */
+    private void discover(Iterable<Path> files, ExecutorService ioExecutor, BlockingQueue<PendingFile> parseQueue,
+                          ReorderBuffer reorderBuffer, AtomicReference<Throwable> failure) {
+        try {
+            for (Path file : files) {
+                long sequence = reorderBuffer.admit();
+                CompletableFuture<String> content = CompletableFuture.supplyAsync(() -> read(file), ioExecutor);
+                parseQueue.put(new PendingFile(sequence, file, content));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        } catch (RuntimeException e) {
+            logger.error("File discovery failed: {}", e.getMessage());
+            failure.compareAndSet(null, e);
+        }
+        putQuietly(parseQueue, PendingFile.END);
+    }
+
+    /**
+     * Parse stage: waits for the prefetched content, parses it with a leased instance and
+     * snapshots the AST, unless the result cache already holds the messages for that content.
+     */
+    private void parse(BlockingQueue<PendingFile> parseQueue, BlockingQueue<ParsedFile> validateQueue,
+                       LinterConfiguration config, AtomicInteger activeParsers, ReorderBuffer reorderBuffer,
+                       AtomicReference<Throwable> failure) {
+        try {
+            while (true) {
+                PendingFile pending = parseQueue.take();
+                if (pending == PendingFile.END) {
+                    // Let the other parse workers see the end marker as well
+                    parseQueue.put(PendingFile.END);
+                    break;
+                }
+                validateQueue.put(parse(pending, config));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        } catch (RuntimeException e) {
+            failure.compareAndSet(null, e);
+            // The file in hand is lost, do not let discovery wait for its slot
+            reorderBuffer.unblock();
+        }
+        if (activeParsers.decrementAndGet() == 0) {
+            putQuietly(validateQueue, ParsedFile.END);
+        }
+    }
+
+    private ParsedFile parse(PendingFile pending, LinterConfiguration config) throws InterruptedException {
+        long startTime = System.currentTimeMillis();
+        String content;
+        try {
+            content = pending.content.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof UncheckedIOException) {
+                return ParsedFile.failed(pending.sequence, pending.file,
+                    linter.createIOErrorResult(pending.file, ((UncheckedIOException) cause).getCause()));
+            }
+            return ParsedFile.failed(pending.sequence, pending.file, parseError(pending.file, cause, startTime));
+        }
+
+        IncludeGraph.Resolution includes = linter.resolveIncludes(pending.file, content, source);
+        String cacheKey = linter.cacheKey(content, includes, config, source);
+        Optional<List<ValidationMessage>> cached = linter.lookupCache(pending.file, cacheKey);
+        if (cached.isPresent()) {
+            return ParsedFile.completed(pending.sequence, pending.file, ValidationResult.builder()
+                .startTime(startTime)
+                .addMessages(linter.withIncludeProblems(cached.get(), includes))
+                .cacheHits(1)
+                .complete()
+                .build());
+        }
+
+        Asciidoctor asciidoctor = linter.getAsciidoctorPool().lease();
+        try {
+            AstDocument document = linter.parse(asciidoctor, pending.file, content, config, source);
+            return new ParsedFile(pending.sequence, pending.file, document, cacheKey, includes, startTime);
+        } catch (Exception e) {
+            return ParsedFile.failed(pending.sequence, pending.file, parseError(pending.file, e, startTime));
+        } finally {
+            linter.getAsciidoctorPool().release(asciidoctor);
+        }
+    }
+
+    /**
+     * Validation stage: runs the configured validators on parsed documents.
+     */
+    private void validate(BlockingQueue<ParsedFile> validateQueue, BlockingQueue<CompletedFile> reportQueue,
+                          LinterConfiguration config, AtomicInteger activeValidators,
+                          ReorderBuffer reorderBuffer, AtomicReference<Throwable> failure) {
+        try {
+            while (true) {
+                ParsedFile parsed = validateQueue.take();
+                if (parsed == ParsedFile.END) {
+                    validateQueue.put(ParsedFile.END);
+                    break;
+                }
+                reportQueue.put(new CompletedFile(parsed.sequence, parsed.file, validate(parsed, config)));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        } catch (RuntimeException e) {
+            failure.compareAndSet(null, e);
+            reorderBuffer.unblock();
+        }
+        if (activeValidators.decrementAndGet() == 0) {
+            putQuietly(reportQueue, CompletedFile.END);
+        }
+    }
+
+    private ValidationResult validate(ParsedFile parsed, LinterConfiguration config) {
+        if (parsed.result != null) {
+            return parsed.result;
+        }
+        ValidationResult.Builder resultBuilder = ValidationResult.builder().startTime(parsed.startTime);
+        try {
+            List<ValidationMessage> messages = linter.validateDocument(parsed.document, config);
+            resultBuilder.addMessages(linter.withIncludeProblems(messages, parsed.includes));
+            linter.storeInCache(parsed.file, parsed.cacheKey, messages, resultBuilder);
+        } catch (Exception e) {
+            resultBuilder.addMessage(linter.createParseErrorMessage(parsed.file, e));
+        }
+        return resultBuilder.complete().build();
+    }
+
+    /**
+     * Reporting stage: runs on the calling thread until every file has been reported,
+     * restoring discovery order through the reorder buffer.
+     */
+    private void report(BlockingQueue<CompletedFile> reportQueue, ReorderBuffer reorderBuffer) {
+        try {
+            while (true) {
+                CompletedFile completed = reportQueue.take();
+                if (completed == CompletedFile.END) {
+                    reorderBuffer.flush();
+                    return;
+                }
+                reorderBuffer.complete(completed.sequence, completed.file, completed.result);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for validation results", e);
+        }
+    }
+
+    private ValidationResult parseError(Path file, Throwable error, long startTime) {
+        Exception exception = error instanceof Exception ? (Exception) error : new RuntimeException(error);
+        return ValidationResult.builder()
+            .startTime(startTime)
+            .addMessage(linter.createParseErrorMessage(file, exception))
+            .complete()
+            .build();
+    }
+
+    private String read(Path file) {
+        try {
+            return source.read(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static <T> void putQuietly(BlockingQueue<T> queue, T item) {
+        try {
+            queue.put(item);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Uses virtual threads for blocking reads when the running JVM provides them,
+     * otherwise falls back to daemon platform threads.
+     */
+    private static ThreadFactory createIoThreadFactory(String prefix) {
+        try {
+            Method ofVirtual = Thread.class.getMethod("ofVirtual");
+            Object builder = ofVirtual.invoke(null);
+            Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+            builder = builderType.getMethod("name", String.class, long.class).invoke(builder, prefix, 1L);
+            return (ThreadFactory) builderType.getMethod("factory").invoke(builder);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return new StageThreadFactory(prefix);
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static final class Builder {
+        private Linter linter;
+        private int jobs = 1;
+        private int readAhead;
+        private ResultOrder resultOrder = ResultOrder.defaults();
+        private DocumentSource source = DocumentSource.FILE_SYSTEM;
+
+        private Builder() {
+        }
+
+        public Builder linter(Linter linter) {
+            this.linter = linter;
+            return this;
+        }
+
+        public Builder jobs(int jobs) {
+            this.jobs = jobs;
+            return this;
+        }
+
+        /**
+         * Sets how many files may be read ahead of the parse workers.
+         * Defaults to four files per job.
+         */
+        public Builder readAhead(int readAhead) {
+            this.readAhead = readAhead;
+            return this;
+        }
+
+        /**
+         * Sets how results are put back into discovery order.
+         * Defaults to {@link ResultOrder#defaults()}.
+         */
+        public Builder resultOrder(ResultOrder resultOrder) {
+            this.resultOrder = resultOrder;
+            return this;
+        }
+
+        /**
+         * Sets where the content of the files comes from.
+         * Defaults to {@link DocumentSource#FILE_SYSTEM}.
+         */
+        public Builder source(DocumentSource source) {
+            this.source = source;
+            return this;
+        }
+
+        public ValidationPipeline build() {
+            return new ValidationPipeline(this);
+        }
+    }
+
+    /**
+     * Names stage threads and marks them as daemons so a stuck parse cannot keep the JVM alive.
+     */
+    private static final class StageThreadFactory implements ThreadFactory {
+        private final String prefix;
+        private final AtomicInteger threadCounter = new AtomicInteger();
+
+        StageThreadFactory(String prefix) {
+            this.prefix = prefix;
+        }
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, prefix + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+
+    private static final class PendingFile {
+        static final PendingFile END = new PendingFile(-1, null, null);
+
+        private final long sequence;
+        private final Path file;
+        private final CompletableFuture<String> content;
+
+        PendingFile(long sequence, Path file, CompletableFuture<String> content) {
+            this.sequence = sequence;
+            this.file = file;
+            this.content = content;
+        }
+    }
+
+    private static final class ParsedFile {
+        static final ParsedFile END = new ParsedFile(-1, null, null, null, null, 0);
+
+        private final long sequence;
+        private final Path file;
+        private final AstDocument document;
+        private final String cacheKey;
+        private final IncludeGraph.Resolution includes;
+        private final ValidationResult result;
+        private final long startTime;
+
+        ParsedFile(long sequence, Path file, AstDocument document, String cacheKey,
+                   IncludeGraph.Resolution includes, long startTime) {
+            this(sequence, file, document, cacheKey, includes, null, startTime);
+        }
+
+        private ParsedFile(long sequence, Path file, AstDocument document, String cacheKey,
+                           IncludeGraph.Resolution includes, ValidationResult result, long startTime) {
+            this.sequence = sequence;
+            this.file = file;
+            this.document = document;
+            this.cacheKey = cacheKey;
+            this.includes = includes;
+            this.result = result;
+            this.startTime = startTime;
+        }
+
+        static ParsedFile failed(long sequence, Path file, ValidationResult failure) {
+            return completed(sequence, file, failure);
+        }
+
+        /**
+         * A file whose result is already known and skips validation.
+         */
+        static ParsedFile completed(long sequence, Path file, ValidationResult result) {
+            return new ParsedFile(sequence, file, null, null, null, result, 0);
+        }
+    }
+
+    private static final class CompletedFile {
+        static final CompletedFile END = new CompletedFile(-1, null, null);
+
+        private final long sequence;
+        private final Path file;
+        private final ValidationResult result;
+
+        CompletedFile(long sequence, Path file, ValidationResult result) {
+            this.sequence = sequence;
+            this.file = file;
+            this.result = result;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,117 @@
+package com.example.linter.ast;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Immutable snapshot of a parsed AsciiDoc document: its title, its attributes
+ * in declaration order and its top-level blocks, plus the source lines of the
+ * header where they are known.
+ *
+ * @see AstSnapshot
+ */
+public final class AstDocument {
+    private final String title;
+    private final int titleLine;
+    private final Map<String, Object> attributes;
+    private final Map<String, Integer> attributeLines;
+    private final List<AstNode> blocks;
+
+    private AstDocument(Builder builder) {
+        this.title = builder.title;
+        this.titleLine = builder.titleLine;
+        this.attributes = Collections.unmodifiableMap(new LinkedHashMap<>(builder.attributes));
+        this.attributeLines = builder.attributeLines.isEmpty()
+            ? Collections.emptyMap()
+            : new HashMap<>(builder.attributeLines);
+
+        List<AstNode> children = new ArrayList<>(builder.blocks.size());
+        for (AstNode.Builder child : builder.blocks) {
+            children.add(AstNode.create(child, this));
+        }
+        this.blocks = Collections.unmodifiableList(children);
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    /**
+     * Returns the 1-based source line of the title, or 0 if it is not known.
+     */
+    public int getTitleLine() {
+        return titleLine;
+    }
+
+    public Map<String, Object> getAttributes() {
+        return attributes;
+    }
+
+    public Object getAttribute(String name) {
+        return attributes.get(name);
+    }
+
+    public boolean hasAttribute(String name) {
+        return attributes.containsKey(name);
+    }
+
+    /**
+     * Returns the 1-based source line that sets an attribute, or 0 if it is not known.
+     */
+    public int getAttributeLine(String name) {
+        return attributeLines.getOrDefault(name, 0);
+    }
+
+    public List<AstNode> getBlocks() {
+        return blocks;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static final class Builder {
+        private String title;
+        private int titleLine;
+        private final Map<String, Object> attributes = new LinkedHashMap<>();
+        private final Map<String, Integer> attributeLines = new HashMap<>();
+        private final List<AstNode.Builder> blocks = new ArrayList<>();
+
+        private Builder() {
+        }
+
+        public Builder title(String title) {
+            this.title = title;
+            return this;
+        }
+
+        public Builder titleLine(int titleLine) {
+            this.titleLine = titleLine;
+            return this;
+        }
+
+        public Builder attributeLine(String name, int line) {
+            this.attributeLines.put(Objects.requireNonNull(name, "name must not be null"), line);
+            return this;
+        }
+
+        public Builder attribute(String name, Object value) {
+            this.attributes.put(Objects.requireNonNull(name, "name must not be null"), value);
+            return this;
+        }
+
+        public Builder addBlock(AstNode.Builder block) {
+            this.blocks.add(Objects.requireNonNull(block, "block must not be null"));
+            return this;
+        }
+
+        public AstDocument build() {
+            return new AstDocument(this);
+        }
+    }
+}
\ No newline at end of file
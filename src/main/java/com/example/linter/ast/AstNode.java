@@ -0,0 +1,217 @@
+package com.example.linter.ast;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Immutable snapshot of a section or block of a parsed AsciiDoc document.
+ *
+ * <p>Accessors mirror the AsciidoctorJ node API, but every value has been
+ * copied out of the JRuby AST, so reading them never calls into Ruby and a
+ * node can be read from any thread once the snapshot has been built.</p>
+ *
+ * @see AstSnapshot
+ */
+public final class AstNode {
+    private final String context;
+    private final String style;
+    private final String title;
+    private final int level;
+    private final int lineNumber;
+    private final Map<String, Object> attributes;
+    private final List<String> roles;
+    private final String source;
+    private final AstTable table;
+    private final List<AstNode> blocks;
+    private final AstDocument document;
+
+    private AstNode(Builder builder, AstDocument document) {
+        this.context = Objects.requireNonNull(builder.context, "context must not be null");
+        this.style = builder.style;
+        this.title = builder.title;
+        this.level = builder.level;
+        this.lineNumber = builder.lineNumber;
+        this.attributes = Collections.unmodifiableMap(new LinkedHashMap<>(builder.attributes));
+        this.roles = List.copyOf(builder.roles);
+        this.source = builder.source;
+        this.table = builder.table;
+        this.document = document;
+
+        List<AstNode> children = new ArrayList<>(builder.blocks.size());
+        for (Builder child : builder.blocks) {
+            children.add(new AstNode(child, document));
+        }
+        this.blocks = Collections.unmodifiableList(children);
+    }
+
+    static AstNode create(Builder builder, AstDocument document) {
+        return new AstNode(builder, document);
+    }
+
+    /**
+     * Returns the Asciidoctor context, e.g. {@code section}, {@code paragraph} or {@code listing}.
+     */
+    public String getContext() {
+        return context;
+    }
+
+    public String getStyle() {
+        return style;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public int getLevel() {
+        return level;
+    }
+
+    /**
+     * Returns the line the node starts on, or 0 if the source location is unknown.
+     */
+    public int getLineNumber() {
+        return lineNumber;
+    }
+
+    public Map<String, Object> getAttributes() {
+        return attributes;
+    }
+
+    public Object getAttribute(String name) {
+        return attributes.get(name);
+    }
+
+    public boolean hasAttribute(String name) {
+        return attributes.containsKey(name);
+    }
+
+    public List<String> getRoles() {
+        return roles;
+    }
+
+    public boolean hasRole(String role) {
+        return roles.contains(role);
+    }
+
+    /**
+     * Returns the raw source of the block's own lines, without substitutions or conversion,
+     * or null if the node has no lines of its own, e.g. a section or a compound block.
+     */
+    public String getSource() {
+        return source;
+    }
+
+    /**
+     * Returns the table structure, or null if this node is not a table.
+     */
+    public AstTable getTable() {
+        return table;
+    }
+
+    public List<AstNode> getBlocks() {
+        return blocks;
+    }
+
+    public boolean isSection() {
+        return "section".equals(context);
+    }
+
+    /**
+     * Returns the document this node belongs to, or null for a node built on its own.
+     */
+    public AstDocument getDocument() {
+        return document;
+    }
+
+    @Override
+    public String toString() {
+        return "AstNode{" +
+                "context='" + context + '\'' +
+                ", title='" + title + '\'' +
+                ", lineNumber=" + lineNumber +
+                ", blocks=" + blocks.size() +
+                '}';
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static final class Builder {
+        private String context;
+        private String style;
+        private String title;
+        private int level;
+        private int lineNumber;
+        private final Map<String, Object> attributes = new LinkedHashMap<>();
+        private final List<String> roles = new ArrayList<>();
+        private String source;
+        private AstTable table;
+        private final List<Builder> blocks = new ArrayList<>();
+
+        private Builder() {
+        }
+
+        public Builder context(String context) {
+            this.context = context;
+            return this;
+        }
+
+        public Builder style(String style) {
+            this.style = style;
+            return this;
+        }
+
+        public Builder title(String title) {
+            this.title = title;
+            return this;
+        }
+
+        public Builder level(int level) {
+            this.level = level;
+            return this;
+        }
+
+        public Builder lineNumber(int lineNumber) {
+            this.lineNumber = lineNumber;
+            return this;
+        }
+
+        public Builder attribute(String name, Object value) {
+            this.attributes.put(Objects.requireNonNull(name, "name must not be null"), value);
+            return this;
+        }
+
+        public Builder role(String role) {
+            this.roles.add(Objects.requireNonNull(role, "role must not be null"));
+            return this;
+        }
+
+        public Builder source(String source) {
+            this.source = source;
+            return this;
+        }
+
+        public Builder table(AstTable table) {
+            this.table = table;
+            return this;
+        }
+
+        public Builder addBlock(Builder block) {
+            this.blocks.add(Objects.requireNonNull(block, "block must not be null"));
+            return this;
+        }
+
+        /**
+         * Builds a node that does not belong to a document.
+         */
+        public AstNode build() {
+            return new AstNode(this, null);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,174 @@
+package com.example.linter.ast;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.asciidoctor.ast.Block;
+import org.asciidoctor.ast.Cell;
+import org.asciidoctor.ast.DescriptionList;
+import org.asciidoctor.ast.DescriptionListEntry;
+import org.asciidoctor.ast.Document;
+import org.asciidoctor.ast.Row;
+import org.asciidoctor.ast.StructuralNode;
+import org.asciidoctor.ast.Table;
+
+/**
+ * Copies a parsed Asciidoctor document into an immutable {@link AstDocument}.
+ *
+ * <p>Each node of the JRuby AST is visited exactly once and every value the
+ * validators read is copied in that visit, so the JRuby document can be
+ * released as soon as the snapshot exists.</p>
+ *
+ * <p>Block content is copied as raw source lines. Nothing is converted:
+ * {@code getContent()} would run the inline substitutions and the HTML
+ * converter for every block, while the rules only count lines, characters
+ * and callouts, which the source answers directly and more faithfully.</p>
+ */
+public final class AstSnapshot {
+
+    private static final Logger logger = LogManager.getLogger(AstSnapshot.class);
+    private static final String COMPOUND = "compound";
+
+    private AstSnapshot() {
+    }
+
+    /**
+     * Takes a snapshot of a parsed document.
+     *
+     * @param document the parsed document
+     * @return the immutable snapshot
+     */
+    public static AstDocument of(Document document) {
+        return of(document, HeaderScan.scan(null));
+    }
+
+    /**
+     * Takes a snapshot of a parsed document and adds the header lines scanned from its source.
+     *
+     * @param document the parsed document
+     * @param header the scanned header of the document's source
+     * @return the immutable snapshot
+     */
+    public static AstDocument of(Document document, HeaderScan header) {
+        return of(document, header, null);
+    }
+
+    /**
+     * Takes a snapshot of a parsed document that is reported under the given file name.
+     * Asciidoctor shortens {@code docfile} in secure mode, so the name validators report
+     * is set on the snapshot instead of being passed through the parser.
+     *
+     * @param document the parsed document
+     * @param header the scanned header of the document's source
+     * @param docfile the file name validators report, or null to keep the parsed attribute
+     * @return the immutable snapshot
+     */
+    public static AstDocument of(Document document, HeaderScan header, String docfile) {
+        AstDocument.Builder builder = AstDocument.builder();
+        for (Map.Entry<String, Object> attribute : copyAttributes(document.getAttributes()).entrySet()) {
+            builder.attribute(attribute.getKey(), attribute.getValue());
+            int line = header.getAttributeLine(attribute.getKey());
+            if (line > 0) {
+                builder.attributeLine(attribute.getKey(), line);
+            }
+        }
+        if (docfile != null) {
+            builder.attribute("docfile", docfile);
+        }
+        builder.title(document.getTitle()).titleLine(header.getTitleLine());
+
+        for (StructuralNode child : document.getBlocks()) {
+            builder.addBlock(snapshot(child));
+        }
+        return builder.build();
+    }
+
+    private static AstNode.Builder snapshot(StructuralNode node) {
+        AstNode.Builder builder = AstNode.builder()
+            .context(node.getContext())
+            .style(node.getStyle())
+            .title(node.getTitle())
+            .level(node.getLevel());
+        if (node.getSourceLocation() != null) {
+            builder.lineNumber(node.getSourceLocation().getLineNumber());
+        }
+        copyAttributes(node.getAttributes()).forEach(builder::attribute);
+        for (String role : node.getRoles()) {
+            builder.role(role);
+        }
+        if (node instanceof Table) {
+            builder.table(snapshotTable((Table) node));
+        }
+
+        if (node instanceof Block) {
+            builder.source(rawSource((Block) node));
+        }
+
+        for (StructuralNode child : children(node)) {
+            builder.addBlock(snapshot(child));
+        }
+        return builder;
+    }
+
+    /**
+     * Returns the children of a node. The blocks of a description list are
+     * {@code [terms, item]} pairs rather than nodes, so lists are read through
+     * their items; a description list contributes the description of each entry.
+     */
+    private static List<? extends StructuralNode> children(StructuralNode node) {
+        if (node instanceof DescriptionList) {
+            List<StructuralNode> descriptions = new ArrayList<>();
+            for (DescriptionListEntry entry : ((DescriptionList) node).getItems()) {
+                if (entry.getDescription() != null) {
+                    descriptions.add(entry.getDescription());
+                }
+            }
+            return descriptions;
+        }
+        if (node instanceof org.asciidoctor.ast.List) {
+            return ((org.asciidoctor.ast.List) node).getItems();
+        }
+        return node.getBlocks();
+    }
+
+    private static AstTable snapshotTable(Table table) {
+        AstTable.Builder builder = AstTable.builder()
+            .columnCount(table.getColumns().size())
+            .bodyRowCount(table.getBody().size());
+        for (Row row : table.getHeader()) {
+            List<String> cells = new ArrayList<>();
+            for (Cell cell : row.getCells()) {
+                cells.add(cell.getText());
+            }
+            builder.addHeaderRow(cells);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Returns the block's own source lines, or null for compound blocks, whose text lives in their children.
+     */
+    private static String rawSource(Block block) {
+        if (COMPOUND.equals(block.getContentModel())) {
+            return null;
+        }
+        try {
+            return block.getSource();
+        } catch (RuntimeException e) {
+            logger.debug("Could not read source of {} block: {}", block.getContext(), e.getMessage());
+            return null;
+        }
+    }
+
+    private static Map<String, Object> copyAttributes(Map<String, Object> attributes) {
+        Map<String, Object> copy = new LinkedHashMap<>();
+        for (Map.Entry<?, ?> entry : ((Map<?, ?>) attributes).entrySet()) {
+            copy.put(String.valueOf(entry.getKey()), entry.getValue());
+        }
+        return copy;
+    }
+}
\ No newline at end of file
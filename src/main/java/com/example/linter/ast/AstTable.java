@@ -0,0 +1,69 @@
+package com.example.linter.ast;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Immutable snapshot of the structure of a table block: its column count,
+ * the text of its header cells and the number of body rows.
+ */
+public final class AstTable {
+    private final int columnCount;
+    private final List<List<String>> header;
+    private final int bodyRowCount;
+
+    private AstTable(Builder builder) {
+        this.columnCount = builder.columnCount;
+        this.header = List.copyOf(builder.header);
+        this.bodyRowCount = builder.bodyRowCount;
+    }
+
+    public int getColumnCount() {
+        return columnCount;
+    }
+
+    /**
+     * Returns the header rows, each as the text of its cells.
+     */
+    public List<List<String>> getHeader() {
+        return header;
+    }
+
+    public int getBodyRowCount() {
+        return bodyRowCount;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static final class Builder {
+        private int columnCount;
+        private final List<List<String>> header = new ArrayList<>();
+        private int bodyRowCount;
+
+        private Builder() {
+        }
+
+        public Builder columnCount(int columnCount) {
+            this.columnCount = columnCount;
+            return this;
+        }
+
+        public Builder addHeaderRow(List<String> cells) {
+            Objects.requireNonNull(cells, "cells must not be null");
+            this.header.add(List.copyOf(cells));
+            return this;
+        }
+
+        public Builder bodyRowCount(int bodyRowCount) {
+            this.bodyRowCount = bodyRowCount;
+            return this;
+        }
+
+        public AstTable build() {
+            return new AstTable(this);
+        }
+    }
+}
\ No newline at end of file
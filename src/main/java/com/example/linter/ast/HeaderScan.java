@@ -0,0 +1,240 @@
+package com.example.linter.ast;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Line numbers of the document header, read from the AsciiDoc source.
+ *
+ * <p>Asciidoctor does not keep source locations for the document title or for
+ * attribute entries, so the header is scanned with the same line rules the
+ * parser applies: leading blank lines, comments, block attributes and attribute
+ * entries may precede the title, the author and revision lines follow it, and
+ * the first blank line ends the header.</p>
+ *
+ * <p>The scan also reports where the header ends. That offset is only known
+ * when the source has a document title and no preprocessor directive in its
+ * header, because an include or a conditional can change what the header is.</p>
+ */
+public final class HeaderScan {
+
+    private static final Pattern TITLE_PATTERN = Pattern.compile("^[=#] +\\S.*$");
+    private static final Pattern ATTRIBUTE_ENTRY_PATTERN = Pattern.compile("^:(!?\\w[^:]*):(?:[ \\t]+(.*))?$");
+    private static final Pattern PREPROCESSOR_PATTERN = Pattern.compile("^(?:include|ifdef|ifndef|ifeval|endif)::.*$");
+
+    private static final Set<String> AUTHOR_ATTRIBUTES = Set.of(
+        "author", "authors", "firstname", "middlename", "lastname", "authorinitials", "email");
+    private static final Set<String> REVISION_ATTRIBUTES = Set.of("revnumber", "revdate", "revremark");
+
+    private static final HeaderScan EMPTY = new HeaderScan(0, 0, 0, Collections.emptyMap(), -1);
+
+    private final int titleLine;
+    private final int authorLine;
+    private final int revisionLine;
+    private final Map<String, Integer> attributeLines;
+    private final int headerEnd;
+
+    private HeaderScan(int titleLine, int authorLine, int revisionLine, Map<String, Integer> attributeLines,
+                       int headerEnd) {
+        this.titleLine = titleLine;
+        this.authorLine = authorLine;
+        this.revisionLine = revisionLine;
+        this.attributeLines = attributeLines;
+        this.headerEnd = headerEnd;
+    }
+
+    /**
+     * Scans the header of an AsciiDoc source.
+     *
+     * @param source the AsciiDoc source
+     * @return the header line numbers, all 0 if the source has no header
+     */
+    public static HeaderScan scan(String source) {
+        if (source == null || source.isEmpty()) {
+            return EMPTY;
+        }
+        return new Scanner(source).scan();
+    }
+
+    /**
+     * Returns the 1-based line of the document title, or 0 if there is none.
+     */
+    public int getTitleLine() {
+        return titleLine;
+    }
+
+    /**
+     * Returns the 1-based line that sets a header attribute, or 0 if the header does not set it.
+     * Attributes derived from the author and revision lines report those lines.
+     *
+     * @param name the attribute name
+     * @return the line number, or 0
+     */
+    public int getAttributeLine(String name) {
+        String key = name.toLowerCase(Locale.ROOT);
+        Integer line = attributeLines.get(key);
+        if (line != null) {
+            return line;
+        }
+        if (isAuthorAttribute(key)) {
+            return authorLine > 0 ? authorLine : attributeLines.getOrDefault("author", 0);
+        }
+        if (REVISION_ATTRIBUTES.contains(key)) {
+            return revisionLine;
+        }
+        return 0;
+    }
+
+    /**
+     * Returns the offset just past the header, or -1 if the header cannot be cut out of the source.
+     * Parsing {@code source.substring(0, getHeaderEnd())} yields the same header as the full source.
+     */
+    public int getHeaderEnd() {
+        return headerEnd;
+    }
+
+    private static boolean isAuthorAttribute(String name) {
+        if (AUTHOR_ATTRIBUTES.contains(name)) {
+            return true;
+        }
+        // Every author after the first gets numbered copies, e.g. author_2 or email_3
+        int separator = name.lastIndexOf('_');
+        if (separator <= 0 || separator == name.length() - 1) {
+            return false;
+        }
+        for (int i = separator + 1; i < name.length(); i++) {
+            if (!Character.isDigit(name.charAt(i))) {
+                return false;
+            }
+        }
+        return AUTHOR_ATTRIBUTES.contains(name.substring(0, separator));
+    }
+
+    private static final class Scanner {
+        private final String source;
+        private final Map<String, Integer> attributeLines = new HashMap<>();
+        private int offset;
+        private int lineStart;
+        private int lineNumber;
+        private int titleLine;
+        private int authorLine;
+        private int revisionLine;
+
+        Scanner(String source) {
+            this.source = source;
+        }
+
+        HeaderScan scan() {
+            int headerEnd = -1;
+            boolean inBlockComment = false;
+            String line;
+            while ((line = nextLine()) != null) {
+                if (inBlockComment) {
+                    inBlockComment = !isBlockCommentDelimiter(line);
+                    continue;
+                }
+                if (isBlockCommentDelimiter(line)) {
+                    inBlockComment = true;
+                    continue;
+                }
+                if (line.startsWith("//")) {
+                    continue;
+                }
+                if (PREPROCESSOR_PATTERN.matcher(line).matches()) {
+                    break;
+                }
+                if (line.isBlank()) {
+                    if (titleLine == 0) {
+                        continue;
+                    }
+                    headerEnd = lineStart;
+                    break;
+                }
+                Matcher entry = ATTRIBUTE_ENTRY_PATTERN.matcher(line);
+                if (entry.matches()) {
+                    recordAttribute(entry.group(1), entry.group(2));
+                    continue;
+                }
+                if (titleLine == 0) {
+                    if (TITLE_PATTERN.matcher(line).matches()) {
+                        titleLine = lineNumber;
+                        continue;
+                    }
+                    if (line.startsWith("[")) {
+                        // Block attributes and anchors may precede the title
+                        continue;
+                    }
+                    // The document starts with content, so it has no header
+                    break;
+                }
+                if (authorLine == 0) {
+                    authorLine = lineNumber;
+                } else if (revisionLine == 0) {
+                    revisionLine = lineNumber;
+                } else {
+                    // Anything else ends the header even without a blank line
+                    headerEnd = lineStart;
+                    break;
+                }
+            }
+            if (line == null && titleLine > 0 && !inBlockComment) {
+                headerEnd = source.length();
+            }
+            return new HeaderScan(titleLine, authorLine, revisionLine,
+                Collections.unmodifiableMap(attributeLines), titleLine > 0 ? headerEnd : -1);
+        }
+
+        private String nextLine() {
+            if (offset >= source.length()) {
+                return null;
+            }
+            lineStart = offset;
+            int end = source.indexOf('\n', offset);
+            if (end < 0) {
+                end = source.length();
+                offset = end;
+            } else {
+                offset = end + 1;
+            }
+            if (end > lineStart && source.charAt(end - 1) == '\r') {
+                end--;
+            }
+            lineNumber++;
+            return source.substring(lineStart, end);
+        }
+
+        private void recordAttribute(String name, String value) {
+            int line = lineNumber;
+            // Values ending with a continuation marker carry on on the next line
+            String current = value;
+            while (current != null && (current.endsWith(" \\") || current.endsWith(" +"))) {
+                current = nextLine();
+            }
+            String key = name;
+            if (key.startsWith("!")) {
+                key = key.substring(1);
+            } else if (key.endsWith("!")) {
+                key = key.substring(0, key.length() - 1);
+            }
+            attributeLines.put(key.toLowerCase(Locale.ROOT), line);
+        }
+
+        private static boolean isBlockCommentDelimiter(String line) {
+            String trimmed = line.stripTrailing();
+            if (trimmed.length() < 4) {
+                return false;
+            }
+            for (int i = 0; i < trimmed.length(); i++) {
+                if (trimmed.charAt(i) != '/') {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,230 @@
+package com.example.linter.ast;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * The include directives and attribute entries of an AsciiDoc source, read with
+ * the line rules of the preprocessor.
+ *
+ * <p>Directives inside block comments and escaped directives are skipped, as
+ * Asciidoctor skips them. Directives inside conditionals are always reported,
+ * since whether they apply depends on attributes set elsewhere. Attribute
+ * references in a target are replaced with the values of entries above the
+ * directive; references to attributes defined elsewhere are left in place.</p>
+ */
+public final class IncludeScan {
+
+    private static final Pattern INCLUDE_PATTERN = Pattern.compile("^include::([^\\s\\[](?:[^\\[]*[^\\s\\[])?)\\[.*\\]$");
+    private static final Pattern ATTRIBUTE_ENTRY_PATTERN = Pattern.compile("^:(!?\\w[^:]*):(?:[ \\t]+(.*))?$");
+    private static final Pattern ATTRIBUTE_REFERENCE_PATTERN = Pattern.compile("\\{(\\w[\\w-]*)\\}");
+
+    private static final IncludeScan EMPTY = new IncludeScan(Collections.emptyList(), Collections.emptyMap());
+
+    private final List<Directive> directives;
+    private final Map<String, String> attributes;
+
+    private IncludeScan(List<Directive> directives, Map<String, String> attributes) {
+        this.directives = directives;
+        this.attributes = attributes;
+    }
+
+    /**
+     * Scans an AsciiDoc source for include directives.
+     *
+     * @param source the AsciiDoc source
+     * @return the directives in source order
+     */
+    public static IncludeScan scan(String source) {
+        if (source == null || source.isEmpty()) {
+            return EMPTY;
+        }
+        return new Scanner(source).scan();
+    }
+
+    /**
+     * Creates a scan from directives and attributes that were recorded earlier.
+     *
+     * @param directives the include directives in source order
+     * @param attributes the attribute values by lower case name
+     * @return the scan
+     */
+    public static IncludeScan of(List<Directive> directives, Map<String, String> attributes) {
+        return new IncludeScan(List.copyOf(directives), Map.copyOf(attributes));
+    }
+
+    /**
+     * Returns the include directives in source order.
+     */
+    public List<Directive> getDirectives() {
+        return directives;
+    }
+
+    /**
+     * Returns the last value every attribute entry of the source sets, by lower case name.
+     * Unset attributes and values continued on the next line are not included.
+     */
+    public Map<String, String> getAttributes() {
+        return attributes;
+    }
+
+    /**
+     * Replaces attribute references with the given values, keeping unknown references.
+     *
+     * @param text the text holding references like {@code {name}}
+     * @param values the attribute values by lower case name
+     * @return the text with every known reference replaced
+     */
+    public static String substitute(String text, Map<String, String> values) {
+        if (text.indexOf('{') < 0) {
+            return text;
+        }
+        Matcher reference = ATTRIBUTE_REFERENCE_PATTERN.matcher(text);
+        StringBuilder substituted = new StringBuilder(text.length());
+        while (reference.find()) {
+            String value = values.get(reference.group(1).toLowerCase(Locale.ROOT));
+            reference.appendReplacement(substituted, Matcher.quoteReplacement(value != null ? value : reference.group()));
+        }
+        reference.appendTail(substituted);
+        return substituted.toString();
+    }
+
+    /**
+     * Returns true if the text still holds an attribute reference.
+     */
+    public static boolean hasAttributeReference(String text) {
+        return text.indexOf('{') >= 0 && ATTRIBUTE_REFERENCE_PATTERN.matcher(text).find();
+    }
+
+    /**
+     * An include directive.
+     */
+    public static final class Directive {
+        private final String target;
+        private final int line;
+
+        public Directive(String target, int line) {
+            this.target = target;
+            this.line = line;
+        }
+
+        /**
+         * Returns the target with the references to earlier attribute entries replaced.
+         */
+        public String getTarget() {
+            return target;
+        }
+
+        /**
+         * Returns the 1-based line of the directive.
+         */
+        public int getLine() {
+            return line;
+        }
+    }
+
+    private static final class Scanner {
+        private final String source;
+        private final List<Directive> directives = new ArrayList<>();
+        private final Map<String, String> attributes = new HashMap<>();
+        private int offset;
+        private int lineNumber;
+
+        Scanner(String source) {
+            this.source = source;
+        }
+
+        IncludeScan scan() {
+            boolean inBlockComment = false;
+            String line;
+            while ((line = nextLine()) != null) {
+                if (inBlockComment) {
+                    inBlockComment = !isBlockCommentDelimiter(line);
+                    continue;
+                }
+                if (isBlockCommentDelimiter(line)) {
+                    inBlockComment = true;
+                    continue;
+                }
+                if (line.startsWith("include::")) {
+                    Matcher include = INCLUDE_PATTERN.matcher(line);
+                    if (include.matches()) {
+                        directives.add(new Directive(substitute(include.group(1), attributes), lineNumber));
+                    }
+                    continue;
+                }
+                if (line.startsWith(":")) {
+                    Matcher entry = ATTRIBUTE_ENTRY_PATTERN.matcher(line);
+                    if (entry.matches()) {
+                        recordAttribute(entry.group(1), entry.group(2));
+                    }
+                }
+            }
+            return new IncludeScan(Collections.unmodifiableList(directives), Collections.unmodifiableMap(attributes));
+        }
+
+        private String nextLine() {
+            if (offset >= source.length()) {
+                return null;
+            }
+            int lineStart = offset;
+            int end = source.indexOf('\n', offset);
+            if (end < 0) {
+                end = source.length();
+                offset = end;
+            } else {
+                offset = end + 1;
+            }
+            if (end > lineStart && source.charAt(end - 1) == '\r') {
+                end--;
+            }
+            lineNumber++;
+            return source.substring(lineStart, end);
+        }
+
+        private void recordAttribute(String name, String value) {
+            String key = name;
+            boolean unset = false;
+            if (key.startsWith("!")) {
+                key = key.substring(1);
+                unset = true;
+            } else if (key.endsWith("!")) {
+                key = key.substring(0, key.length() - 1);
+                unset = true;
+            }
+            key = key.toLowerCase(Locale.ROOT);
+            String current = value;
+            if (current != null && (current.endsWith(" \\") || current.endsWith(" +"))) {
+                // Multi-line values are not resolved, skip their continuation lines
+                while (current != null && (current.endsWith(" \\") || current.endsWith(" +"))) {
+                    current = nextLine();
+                }
+                unset = true;
+            }
+            if (unset) {
+                attributes.remove(key);
+            } else {
+                attributes.put(key, substitute(value != null ? value.strip() : "", attributes));
+            }
+        }
+
+        private static boolean isBlockCommentDelimiter(String line) {
+            String trimmed = line.stripTrailing();
+            if (trimmed.length() < 4) {
+                return false;
+            }
+            for (int i = 0; i < trimmed.length(); i++) {
+                if (trimmed.charAt(i) != '/') {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
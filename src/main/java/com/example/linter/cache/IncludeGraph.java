@@ -0,0 +1,527 @@
+package com.example.linter.cache;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import com.example.linter.ast.IncludeScan;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * The files every validated document includes, directly or through other
+ * includes, so a change to a fragment can be traced to the documents it affects.
+ *
+ * <p>Include edges are read from the sources with {@link IncludeScan} rather than
+ * recorded by Asciidoctor, so documents that are never parsed, such as result
+ * cache hits, still get theirs. Directives inside conditionals are always
+ * followed, which can only add documents to re-validate. A target may reference
+ * attributes defined above it in the same file, anywhere in the document, or
+ * {@code docdir}; targets still holding a reference after that, and URIs, are
+ * not followed.</p>
+ *
+ * <p>The scan of every file is kept with its size and modification time, so
+ * resolving an unchanged tree again only stats the files. Files modified within
+ * the last seconds are not kept, since a second change in the same clock tick
+ * would go unnoticed. Include cycles and nesting deeper than Asciidoctor's
+ * default {@code max-include-depth} are reported instead of followed. The graph
+ * is safe for concurrent use.</p>
+ */
+public final class IncludeGraph {
+
+    /**
+     * Asciidoctor's default {@code max-include-depth}.
+     */
+    public static final int DEFAULT_MAX_DEPTH = 64;
+
+    static final String FILE_NAME = "include-graph.json";
+
+    private static final int FORMAT_VERSION = 1;
+    private static final long RACY_MILLIS = 2000;
+    private static final String MISSING_DIGEST = "missing";
+
+    private final int maxDepth;
+    private final Map<Path, FileScan> files = new ConcurrentHashMap<>();
+    private final Map<Path, List<Path>> documents = new ConcurrentHashMap<>();
+    private volatile boolean modified;
+
+    public IncludeGraph() {
+        this(DEFAULT_MAX_DEPTH);
+    }
+
+    /**
+     * Creates an empty graph.
+     *
+     * @param maxDepth the deepest include nesting that is followed, must be positive
+     */
+    public IncludeGraph(int maxDepth) {
+        if (maxDepth < 1) {
+            throw new IllegalArgumentException("maxDepth must be positive");
+        }
+        this.maxDepth = maxDepth;
+    }
+
+    /**
+     * Resolves the includes of a document on disk, reading only files that changed
+     * since they were last scanned.
+     *
+     * @param document the document
+     * @return the files it includes; none if the document cannot be read
+     */
+    public Resolution resolve(Path document) {
+        Path location = normalize(document);
+        return walk(location, scanFile(location));
+    }
+
+    /**
+     * Resolves the includes of a document whose content has already been read.
+     * Included files are always read from disk.
+     *
+     * @param document the location of the document, whose directory relative targets resolve against
+     * @param content the document source
+     * @param onDisk true if the content is what the file holds on disk, so its scan can be kept
+     * @return the files it includes
+     */
+    public Resolution resolve(Path document, String content, boolean onDisk) {
+        Objects.requireNonNull(content, "content must not be null");
+        Path location = normalize(document);
+        byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+        FileScan scan = new FileScan(FileScan.UNKNOWN, bytes.length, digest(bytes), IncludeScan.scan(content));
+        if (onDisk) {
+            scan = keepIfStable(location, scan);
+        }
+        return walk(location, scan);
+    }
+
+    /**
+     * Returns the files a document included when it was last resolved.
+     *
+     * @param document the document
+     * @return the included files, empty if the document has not been resolved
+     */
+    public List<Path> dependenciesOf(Path document) {
+        return documents.getOrDefault(normalize(document), List.of());
+    }
+
+    /**
+     * Returns true if the document has been resolved, so {@link #affectedBy} knows its includes.
+     *
+     * @param document the document
+     * @return true if the graph records the document's includes
+     */
+    public boolean isResolved(Path document) {
+        return documents.containsKey(normalize(document));
+    }
+
+    /**
+     * Returns the documents that include any of the given files, directly or through
+     * other includes, as of their last resolution.
+     *
+     * @param changed the changed files
+     * @return the affected documents, as absolute normalized paths
+     */
+    public Set<Path> affectedBy(Collection<Path> changed) {
+        Set<Path> changedFiles = changed.stream().map(IncludeGraph::normalize).collect(Collectors.toSet());
+        Set<Path> affected = new HashSet<>();
+        documents.forEach((document, dependencies) -> {
+            for (Path dependency : dependencies) {
+                if (changedFiles.contains(dependency)) {
+                    affected.add(document);
+                    return;
+                }
+            }
+        });
+        return affected;
+    }
+
+    /**
+     * Returns true if the graph changed since it was created or loaded.
+     */
+    boolean isModified() {
+        return modified;
+    }
+
+    private Resolution walk(Path document, FileScan root) {
+        Map<String, String> attributes = new HashMap<>(root.scan.getAttributes());
+        Path directory = document.getParent();
+        if (directory != null) {
+            attributes.putIfAbsent("docdir", directory.toString());
+        }
+
+        Walk walk = new Walk(document, attributes);
+        walk.visit(document, root, 0);
+
+        List<Path> dependencies = List.copyOf(walk.digests.keySet());
+        if (!dependencies.equals(documents.put(document, dependencies))) {
+            modified = true;
+        }
+
+        MessageDigest fingerprint = sha256();
+        walk.digests.forEach((file, digest) -> {
+            fingerprint.update(file.toString().getBytes(StandardCharsets.UTF_8));
+            fingerprint.update((byte) 0);
+            fingerprint.update(digest.getBytes(StandardCharsets.UTF_8));
+            fingerprint.update((byte) 0);
+        });
+        String key = dependencies.isEmpty() ? "" : hex(fingerprint.digest());
+        return new Resolution(dependencies, key, List.copyOf(walk.problems));
+    }
+
+    /**
+     * Returns the scan of a file, reusing the kept one if size and modification time match.
+     */
+    private FileScan scanFile(Path file) {
+        BasicFileAttributes attributes;
+        try {
+            attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        } catch (IOException e) {
+            if (files.remove(file) != null) {
+                modified = true;
+            }
+            return FileScan.MISSING;
+        }
+        if (!attributes.isRegularFile()) {
+            return FileScan.MISSING;
+        }
+        long lastModified = attributes.lastModifiedTime().toMillis();
+        FileScan known = files.get(file);
+        if (known != null && known.lastModified == lastModified && known.size == attributes.size()) {
+            return known;
+        }
+
+        byte[] bytes;
+        try {
+            bytes = Files.readAllBytes(file);
+        } catch (IOException e) {
+            return FileScan.MISSING;
+        }
+        // Stat before read: a change while reading leaves a newer time that does not match next time
+        FileScan scan = new FileScan(lastModified, attributes.size(), digest(bytes),
+                                     IncludeScan.scan(new String(bytes, StandardCharsets.UTF_8)));
+        if (isStable(lastModified)) {
+            files.put(file, scan);
+            modified = true;
+        }
+        return scan;
+    }
+
+    private FileScan keepIfStable(Path file, FileScan scan) {
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+            long lastModified = attributes.lastModifiedTime().toMillis();
+            if (attributes.size() == scan.size && isStable(lastModified)) {
+                FileScan stamped = new FileScan(lastModified, scan.size, scan.digest, scan.scan);
+                files.put(file, stamped);
+                modified = true;
+                return stamped;
+            }
+        } catch (IOException e) {
+            // Not kept, the document is scanned from its content every time
+        }
+        return scan;
+    }
+
+    private static boolean isStable(long lastModified) {
+        return System.currentTimeMillis() - lastModified >= RACY_MILLIS;
+    }
+
+    /**
+     * Writes the graph, dropping files and documents that no longer exist.
+     */
+    ObjectNode toJson(ObjectMapper mapper) {
+        ObjectNode root = mapper.createObjectNode();
+        root.put("version", FORMAT_VERSION);
+        ArrayNode fileArray = root.putArray("files");
+        files.forEach((path, scan) -> {
+            if (!Files.exists(path)) {
+                return;
+            }
+            ObjectNode node = fileArray.addObject();
+            node.put("path", path.toString());
+            node.put("modified", scan.lastModified);
+            node.put("size", scan.size);
+            node.put("digest", scan.digest);
+            ArrayNode includes = node.putArray("includes");
+            for (IncludeScan.Directive directive : scan.scan.getDirectives()) {
+                includes.addObject()
+                    .put("target", directive.getTarget())
+                    .put("line", directive.getLine());
+            }
+            ObjectNode attributes = node.putObject("attributes");
+            scan.scan.getAttributes().forEach(attributes::put);
+        });
+        ArrayNode documentArray = root.putArray("documents");
+        documents.forEach((path, dependencies) -> {
+            if (!Files.exists(path)) {
+                return;
+            }
+            ObjectNode node = documentArray.addObject();
+            node.put("path", path.toString());
+            ArrayNode includes = node.putArray("includes");
+            dependencies.forEach(dependency -> includes.add(dependency.toString()));
+        });
+        return root;
+    }
+
+    /**
+     * Reads a graph written by {@link #toJson}.
+     *
+     * @throws IllegalArgumentException if the JSON is not a graph of this version
+     */
+    static IncludeGraph fromJson(JsonNode root) {
+        if (root.path("version").asInt() != FORMAT_VERSION) {
+            throw new IllegalArgumentException("unsupported include graph version");
+        }
+        IncludeGraph graph = new IncludeGraph();
+        for (JsonNode node : root.path("files")) {
+            List<IncludeScan.Directive> directives = new ArrayList<>();
+            for (JsonNode include : node.path("includes")) {
+                directives.add(new IncludeScan.Directive(include.path("target").asText(), include.path("line").asInt()));
+            }
+            Map<String, String> attributes = new HashMap<>();
+            node.path("attributes").fields().forEachRemaining(entry -> attributes.put(entry.getKey(), entry.getValue().asText()));
+            graph.files.put(Path.of(node.path("path").asText()), new FileScan(
+                node.path("modified").asLong(FileScan.UNKNOWN), node.path("size").asLong(),
+                node.path("digest").asText(), IncludeScan.of(directives, attributes)));
+        }
+        for (JsonNode node : root.path("documents")) {
+            List<Path> dependencies = new ArrayList<>();
+            for (JsonNode include : node.path("includes")) {
+                dependencies.add(Path.of(include.asText()));
+            }
+            graph.documents.put(Path.of(node.path("path").asText()), List.copyOf(dependencies));
+        }
+        return graph;
+    }
+
+    private static Path normalize(Path file) {
+        return file.toAbsolutePath().normalize();
+    }
+
+    private static String digest(byte[] bytes) {
+        return hex(sha256().digest(bytes));
+    }
+
+    private static String hex(byte[] bytes) {
+        return HexFormat.of().formatHex(bytes);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * The files a document includes and what was wrong with its includes.
+     */
+    public static final class Resolution {
+        private final List<Path> dependencies;
+        private final String fingerprint;
+        private final List<Problem> problems;
+
+        private Resolution(List<Path> dependencies, String fingerprint, List<Problem> problems) {
+            this.dependencies = dependencies;
+            this.fingerprint = fingerprint;
+            this.problems = problems;
+        }
+
+        /**
+         * Returns every file the document includes, directly or not, in the order
+         * they are first reached. Targets that do not exist are included.
+         */
+        public List<Path> getDependencies() {
+            return dependencies;
+        }
+
+        /**
+         * Returns a hash over the paths and contents of all dependencies, empty if there are none.
+         */
+        public String getFingerprint() {
+            return fingerprint;
+        }
+
+        public List<Problem> getProblems() {
+            return problems;
+        }
+    }
+
+    /**
+     * An include that was not followed.
+     */
+    public static final class Problem {
+
+        public enum Kind {
+            CYCLE,
+            DEPTH
+        }
+
+        private final Kind kind;
+        private final Path file;
+        private final int line;
+        private final String message;
+
+        private Problem(Kind kind, Path file, int line, String message) {
+            this.kind = kind;
+            this.file = file;
+            this.line = line;
+            this.message = message;
+        }
+
+        public Kind getKind() {
+            return kind;
+        }
+
+        /**
+         * Returns the file holding the include directive.
+         */
+        public Path getFile() {
+            return file;
+        }
+
+        /**
+         * Returns the 1-based line of the include directive.
+         */
+        public int getLine() {
+            return line;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+    }
+
+    /**
+     * A depth-first walk over the includes of one document. Each file is entered once;
+     * the height of the include tree below it is kept, so nesting that only gets too
+     * deep along a second path to a file is still found.
+     */
+    private final class Walk {
+        private final Path document;
+        private final Map<String, String> attributes;
+        private final Map<Path, String> digests = new LinkedHashMap<>();
+        private final Map<Path, Integer> heights = new HashMap<>();
+        private final Deque<Path> path = new ArrayDeque<>();
+        private final Set<Path> onPath = new HashSet<>();
+        private final List<Problem> problems = new ArrayList<>();
+        private boolean depthReported;
+
+        Walk(Path document, Map<String, String> attributes) {
+            this.document = document;
+            this.attributes = attributes;
+        }
+
+        int visit(Path file, FileScan scan, int depth) {
+            path.addLast(file);
+            onPath.add(file);
+            int height = 0;
+            for (IncludeScan.Directive directive : scan.scan.getDirectives()) {
+                Path child = resolveTarget(file, directive.getTarget());
+                if (child == null) {
+                    continue;
+                }
+                if (onPath.contains(child)) {
+                    problems.add(new Problem(Problem.Kind.CYCLE, file, directive.getLine(),
+                        "Include cycle: " + describeCycle(child)));
+                    continue;
+                }
+                Integer childHeight = heights.get(child);
+                if (childHeight == null) {
+                    if (depth + 1 > maxDepth) {
+                        reportDepth(file, directive.getLine());
+                        continue;
+                    }
+                    FileScan childScan = scanFile(child);
+                    digests.put(child, childScan.digest);
+                    childHeight = visit(child, childScan, depth + 1);
+                }
+                if (depth + 1 + childHeight > maxDepth) {
+                    reportDepth(file, directive.getLine());
+                }
+                height = Math.max(height, childHeight + 1);
+            }
+            path.removeLast();
+            onPath.remove(file);
+            heights.put(file, height);
+            return height;
+        }
+
+        private Path resolveTarget(Path file, String target) {
+            String resolved = IncludeScan.substitute(target, attributes);
+            if (IncludeScan.hasAttributeReference(resolved) || resolved.contains("://")) {
+                return null;
+            }
+            try {
+                Path directory = file.getParent();
+                return normalize(directory != null ? directory.resolve(resolved) : Path.of(resolved));
+            } catch (InvalidPathException e) {
+                return null;
+            }
+        }
+
+        private void reportDepth(Path file, int line) {
+            if (depthReported) {
+                return;
+            }
+            depthReported = true;
+            problems.add(new Problem(Problem.Kind.DEPTH, file, line,
+                "Includes are nested deeper than " + maxDepth + " levels"));
+        }
+
+        private String describeCycle(Path start) {
+            Path base = document.getParent();
+            StringBuilder cycle = new StringBuilder();
+            boolean inCycle = false;
+            for (Path file : path) {
+                inCycle |= file.equals(start);
+                if (inCycle) {
+                    cycle.append(base != null ? base.relativize(file) : file).append(" -> ");
+                }
+            }
+            return cycle.append(base != null ? base.relativize(start) : start).toString();
+        }
+    }
+
+    /**
+     * The include directives of one file, with what identifies the content they were read from.
+     */
+    private static final class FileScan {
+        static final long UNKNOWN = -1;
+        static final FileScan MISSING = new FileScan(UNKNOWN, -1, MISSING_DIGEST, IncludeScan.scan(""));
+
+        private final long lastModified;
+        private final long size;
+        private final String digest;
+        private final IncludeScan scan;
+
+        FileScan(long lastModified, long size, String digest, IncludeScan scan) {
+            this.lastModified = lastModified;
+            this.size = size;
+            this.digest = digest;
+            this.scan = scan;
+        }
+    }
+}
@@ -0,0 +1,529 @@
+package com.example.linter.cache;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.example.linter.config.LinterConfiguration;
+import com.example.linter.config.Severity;
+import com.example.linter.validator.ErrorType;
+import com.example.linter.validator.SourceLocation;
+import com.example.linter.validator.Suggestion;
+import com.example.linter.validator.ValidationMessage;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * On-disk cache of validation messages for unchanged documents.
+ *
+ * <p>Entries are keyed by a hash over the linter version, the effective
+ * configuration and the document content, so any change to one of them
+ * simply misses. Each entry is a small JSON file written to a temporary
+ * file and moved into place atomically, which lets several processes share
+ * one cache directory. Hits refresh the entry's modification time and
+ * {@link #close()} evicts the least recently used entries once the
+ * directory grows beyond its size limit.</p>
+ *
+ * <p>The {@link IncludeGraph} is kept in the same directory, so the next run
+ * knows which fragments each document includes without reading unchanged files.
+ * Include fingerprints are part of the key, so a changed fragment misses for
+ * every document that includes it.</p>
+ */
+public final class ResultCache implements AutoCloseable {
+
+    public static final String DEFAULT_DIRECTORY_NAME = ".power-adoc-linter-cache";
+    public static final long DEFAULT_MAX_SIZE_BYTES = 64L * 1024 * 1024;
+
+    private static final Logger logger = LogManager.getLogger(ResultCache.class);
+    private static final String ENTRY_SUFFIX = ".json";
+    private static final String TEMP_SUFFIX = ".tmp";
+    private static final long STALE_TEMP_FILE_MILLIS = TimeUnit.HOURS.toMillis(1);
+
+    private final Path directory;
+    private final long maxSizeBytes;
+    private final String linterVersion;
+    private final ObjectMapper objectMapper;
+    private final ObjectMapper configMapper;
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong writeCount = new AtomicLong();
+    private volatile ConfigDigest configDigest;
+    private IncludeGraph includeGraph;
+
+    private ResultCache(Builder builder) {
+        this.directory = Objects.requireNonNull(builder.directory, "directory must not be null");
+        this.linterVersion = Objects.requireNonNull(builder.linterVersion, "linterVersion must not be null");
+        if (builder.maxSizeBytes < 1) {
+            throw new IllegalArgumentException("maxSizeBytes must be positive");
+        }
+        this.maxSizeBytes = builder.maxSizeBytes;
+        this.objectMapper = new ObjectMapper();
+        this.configMapper = JsonMapper.builder()
+            .enable(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY)
+            .enable(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS)
+            .disable(SerializationFeature.FAIL_ON_EMPTY_BEANS)
+            .build();
+    }
+
+    /**
+     * Computes the cache key for a document validated with the given configuration.
+     *
+     * @param content the document source
+     * @param config the effective linter configuration
+     * @return the hex encoded key
+     */
+    public String key(String content, LinterConfiguration config) {
+        return key(content, config, "");
+    }
+
+    /**
+     * Computes the cache key for a document that includes other files.
+     *
+     * @param content the document source
+     * @param config the effective linter configuration
+     * @param includes the {@link IncludeGraph.Resolution#getFingerprint() fingerprint} of its includes
+     * @return the hex encoded key
+     */
+    public String key(String content, LinterConfiguration config, String includes) {
+        Objects.requireNonNull(content, "content must not be null");
+        Objects.requireNonNull(config, "config must not be null");
+        Objects.requireNonNull(includes, "includes must not be null");
+
+        MessageDigest digest = sha256();
+        digest.update(linterVersion.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+        digest.update(configDigest(config));
+        digest.update((byte) 0);
+        digest.update(content.getBytes(StandardCharsets.UTF_8));
+        if (!includes.isEmpty()) {
+            // Documents without includes keep the keys they had before includes were tracked
+            digest.update((byte) 0);
+            digest.update(includes.getBytes(StandardCharsets.UTF_8));
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * Looks up the messages stored for a key.
+     *
+     * @param key the key computed by {@link #key(String, LinterConfiguration)}
+     * @param file the file being validated, restored as the filename of its own messages
+     * @return the cached messages, or empty on a miss
+     */
+    public Optional<List<ValidationMessage>> get(String key, Path file) {
+        Objects.requireNonNull(key, "key must not be null");
+        Objects.requireNonNull(file, "file must not be null");
+
+        Path entry = entryPath(key);
+        try {
+            JsonNode root = objectMapper.readTree(Files.readAllBytes(entry));
+            List<ValidationMessage> messages = readMessages(root, file);
+            touch(entry);
+            hitCount.incrementAndGet();
+            return Optional.of(messages);
+        } catch (NoSuchFileException e) {
+            missCount.incrementAndGet();
+            return Optional.empty();
+        } catch (IOException | RuntimeException e) {
+            logger.debug("Discarding unreadable cache entry {}: {}", entry, e.getMessage());
+            deleteQuietly(entry);
+            missCount.incrementAndGet();
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Stores the messages produced for a key. Failures are logged and otherwise ignored,
+     * since a missing entry only costs a re-validation.
+     *
+     * @param key the key computed by {@link #key(String, LinterConfiguration)}
+     * @param file the validated file
+     * @param messages the messages to store
+     */
+    public void put(String key, Path file, List<ValidationMessage> messages) {
+        Objects.requireNonNull(key, "key must not be null");
+        Objects.requireNonNull(file, "file must not be null");
+        Objects.requireNonNull(messages, "messages must not be null");
+
+        Path temp = null;
+        try {
+            Files.createDirectories(directory);
+            byte[] bytes = objectMapper.writeValueAsBytes(writeMessages(messages, file));
+            temp = Files.createTempFile(directory, key, TEMP_SUFFIX);
+            Files.write(temp, bytes);
+            moveIntoPlace(temp, entryPath(key));
+            writeCount.incrementAndGet();
+        } catch (IOException e) {
+            logger.debug("Could not write cache entry for {}: {}", file, e.getMessage());
+            if (temp != null) {
+                deleteQuietly(temp);
+            }
+        }
+    }
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Returns the include graph stored with the cache, reading it on first use.
+     * An unreadable graph is replaced by an empty one.
+     */
+    public synchronized IncludeGraph getIncludeGraph() {
+        if (includeGraph == null) {
+            Path file = directory.resolve(IncludeGraph.FILE_NAME);
+            try {
+                includeGraph = IncludeGraph.fromJson(objectMapper.readTree(Files.readAllBytes(file)));
+            } catch (NoSuchFileException e) {
+                includeGraph = new IncludeGraph();
+            } catch (IOException | RuntimeException e) {
+                logger.debug("Discarding unreadable include graph {}: {}", file, e.getMessage());
+                includeGraph = new IncludeGraph();
+            }
+        }
+        return includeGraph;
+    }
+
+    /**
+     * Evicts least recently used entries until the cache fits its size limit.
+     * Entries that disappear concurrently are skipped.
+     */
+    public void evict() {
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+
+        List<Entry> entries = new ArrayList<>();
+        long totalSize = 0;
+        long now = System.currentTimeMillis();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory)) {
+            for (Path path : stream) {
+                String name = path.getFileName().toString();
+                if (name.equals(IncludeGraph.FILE_NAME)) {
+                    continue;
+                }
+                try {
+                    BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+                    long modified = attributes.lastModifiedTime().toMillis();
+                    if (name.endsWith(TEMP_SUFFIX)) {
+                        // Left behind by a process that died while writing
+                        if (now - modified > STALE_TEMP_FILE_MILLIS) {
+                            deleteQuietly(path);
+                        }
+                    } else if (name.endsWith(ENTRY_SUFFIX)) {
+                        entries.add(new Entry(path, attributes.size(), modified));
+                        totalSize += attributes.size();
+                    }
+                } catch (NoSuchFileException e) {
+                    // Removed by another process
+                }
+            }
+        } catch (IOException e) {
+            logger.debug("Could not scan cache directory {}: {}", directory, e.getMessage());
+            return;
+        }
+
+        if (totalSize <= maxSizeBytes) {
+            return;
+        }
+
+        entries.sort(Comparator.comparingLong(entry -> entry.lastModified));
+        int evicted = 0;
+        for (Entry entry : entries) {
+            if (totalSize <= maxSizeBytes) {
+                break;
+            }
+            deleteQuietly(entry.path);
+            totalSize -= entry.size;
+            evicted++;
+        }
+        logger.debug("Evicted {} cache entries from {}", evicted, directory);
+    }
+
+    /**
+     * Stores the include graph if it changed and evicts old entries if this cache wrote any.
+     */
+    @Override
+    public void close() {
+        saveIncludeGraph();
+        if (writeCount.get() > 0) {
+            evict();
+        }
+    }
+
+    private synchronized void saveIncludeGraph() {
+        if (includeGraph == null || !includeGraph.isModified()) {
+            return;
+        }
+        Path temp = null;
+        try {
+            Files.createDirectories(directory);
+            byte[] bytes = objectMapper.writeValueAsBytes(includeGraph.toJson(objectMapper));
+            temp = Files.createTempFile(directory, "include-graph", TEMP_SUFFIX);
+            Files.write(temp, bytes);
+            moveIntoPlace(temp, directory.resolve(IncludeGraph.FILE_NAME));
+        } catch (IOException e) {
+            logger.debug("Could not write include graph to {}: {}", directory, e.getMessage());
+            if (temp != null) {
+                deleteQuietly(temp);
+            }
+        }
+    }
+
+    private byte[] configDigest(LinterConfiguration config) {
+        ConfigDigest current = configDigest;
+        if (current != null && current.config == config) {
+            return current.digest;
+        }
+        try {
+            // Sorted properties give the same bytes for equal configurations in every run
+            byte[] digest = sha256().digest(configMapper.writeValueAsBytes(config));
+            configDigest = new ConfigDigest(config, digest);
+            return digest;
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot compute cache key for configuration: " + e.getMessage(), e);
+        }
+    }
+
+    private Path entryPath(String key) {
+        return directory.resolve(key + ENTRY_SUFFIX);
+    }
+
+    private static void moveIntoPlace(Path temp, Path entry) throws IOException {
+        try {
+            Files.move(temp, entry, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, entry, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static void touch(Path entry) {
+        try {
+            Files.setLastModifiedTime(entry, FileTime.fromMillis(System.currentTimeMillis()));
+        } catch (IOException e) {
+            // Only affects eviction order
+        }
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            logger.debug("Could not delete {}: {}", path, e.getMessage());
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private ObjectNode writeMessages(List<ValidationMessage> messages, Path file) {
+        String ownFilename = file.toAbsolutePath().toString();
+        ObjectNode root = objectMapper.createObjectNode();
+        ArrayNode array = root.putArray("messages");
+        for (ValidationMessage message : messages) {
+            ObjectNode node = array.addObject();
+            node.put("severity", message.getSeverity().name());
+            node.put("ruleId", message.getRuleId());
+            node.put("message", message.getMessage());
+
+            SourceLocation location = message.getLocation();
+            ObjectNode locationNode = node.putObject("location");
+            // Messages about the validated file itself follow the file when it moves
+            if (!ownFilename.equals(location.getFilename())) {
+                locationNode.put("filename", location.getFilename());
+            }
+            locationNode.put("startLine", location.getStartLine());
+            locationNode.put("startColumn", location.getStartColumn());
+            locationNode.put("endLine", location.getEndLine());
+            locationNode.put("endColumn", location.getEndColumn());
+            putIfPresent(locationNode, "sourceLine", location.getSourceLine());
+
+            message.getAttributeName().ifPresent(value -> node.put("attributeName", value));
+            message.getActualValue().ifPresent(value -> node.put("actualValue", value));
+            message.getExpectedValue().ifPresent(value -> node.put("expectedValue", value));
+            node.put("errorType", message.getErrorType().name());
+            putIfPresent(node, "missingValueHint", message.getMissingValueHint());
+
+            if (message.hasSuggestions()) {
+                ArrayNode suggestions = node.putArray("suggestions");
+                for (Suggestion suggestion : message.getSuggestions()) {
+                    ObjectNode suggestionNode = suggestions.addObject();
+                    suggestionNode.put("description", suggestion.getDescription());
+                    putIfPresent(suggestionNode, "fixedValue", suggestion.getFixedValue());
+                    putIfPresent(suggestionNode, "explanation", suggestion.getExplanation());
+                    suggestionNode.put("preferred", suggestion.isPreferred());
+                    suggestionNode.put("autoFixable", suggestion.isAutoFixable());
+                    if (suggestion.hasExamples()) {
+                        ArrayNode examples = suggestionNode.putArray("examples");
+                        suggestion.getExamples().forEach(examples::add);
+                    }
+                }
+            }
+            if (!message.getContextLines().isEmpty()) {
+                ArrayNode contextLines = node.putArray("contextLines");
+                message.getContextLines().forEach(contextLines::add);
+            }
+        }
+        return root;
+    }
+
+    private static List<ValidationMessage> readMessages(JsonNode root, Path file) {
+        JsonNode array = root.get("messages");
+        if (array == null || !array.isArray()) {
+            throw new IllegalArgumentException("missing messages");
+        }
+
+        String ownFilename = file.toAbsolutePath().toString();
+        List<ValidationMessage> messages = new ArrayList<>(array.size());
+        for (JsonNode node : array) {
+            JsonNode locationNode = node.path("location");
+            SourceLocation location = SourceLocation.builder()
+                .filename(text(locationNode, "filename", ownFilename))
+                .startLine(locationNode.path("startLine").asInt(1))
+                .startColumn(locationNode.path("startColumn").asInt(1))
+                .endLine(locationNode.path("endLine").asInt(1))
+                .endColumn(locationNode.path("endColumn").asInt(1))
+                .sourceLine(text(locationNode, "sourceLine", null))
+                .build();
+
+            ValidationMessage.Builder message = ValidationMessage.builder()
+                .severity(Severity.valueOf(node.path("severity").asText()))
+                .ruleId(text(node, "ruleId", null))
+                .message(text(node, "message", null))
+                .location(location)
+                .attributeName(text(node, "attributeName", null))
+                .actualValue(text(node, "actualValue", null))
+                .expectedValue(text(node, "expectedValue", null))
+                .errorType(ErrorType.valueOf(node.path("errorType").asText(ErrorType.GENERIC.name())))
+                .missingValueHint(text(node, "missingValueHint", null));
+
+            for (JsonNode suggestionNode : node.path("suggestions")) {
+                Suggestion.Builder suggestion = Suggestion.builder()
+                    .description(text(suggestionNode, "description", null))
+                    .fixedValue(text(suggestionNode, "fixedValue", null))
+                    .explanation(text(suggestionNode, "explanation", null))
+                    .preferred(suggestionNode.path("preferred").asBoolean())
+                    .autoFixable(suggestionNode.path("autoFixable").asBoolean());
+                for (JsonNode example : suggestionNode.path("examples")) {
+                    suggestion.addExample(example.asText());
+                }
+                message.addSuggestion(suggestion.build());
+            }
+            for (JsonNode line : node.path("contextLines")) {
+                message.addContextLine(line.asText());
+            }
+            messages.add(message.build());
+        }
+        return messages;
+    }
+
+    private static void putIfPresent(ObjectNode node, String field, String value) {
+        if (value != null) {
+            node.put(field, value);
+        }
+    }
+
+    private static String text(JsonNode node, String field, String defaultValue) {
+        JsonNode value = node.get(field);
+        return value != null && !value.isNull() ? value.asText() : defaultValue;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static final class Builder {
+        private Path directory;
+        private long maxSizeBytes = DEFAULT_MAX_SIZE_BYTES;
+        private String linterVersion;
+
+        private Builder() {
+        }
+
+        public Builder directory(Path directory) {
+            this.directory = directory;
+            return this;
+        }
+
+        /**
+         * Sets the size above which least recently used entries are evicted.
+         */
+        public Builder maxSizeBytes(long maxSizeBytes) {
+            this.maxSizeBytes = maxSizeBytes;
+            return this;
+        }
+
+        /**
+         * Sets the linter version; entries written by other versions are never hit.
+         */
+        public Builder linterVersion(String linterVersion) {
+            this.linterVersion = linterVersion;
+            return this;
+        }
+
+        public ResultCache build() {
+            return new ResultCache(this);
+        }
+    }
+
+    private static final class ConfigDigest {
+        private final LinterConfiguration config;
+        private final byte[] digest;
+
+        ConfigDigest(LinterConfiguration config, byte[] digest) {
+            this.config = config;
+            this.digest = digest;
+        }
+    }
+
+    private static final class Entry {
+        private final Path path;
+        private final long size;
+        private final long lastModified;
+
+        Entry(Path path, long size, long lastModified) {
+            this.path = path;
+            this.size = size;
+            this.lastModified = lastModified;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,285 @@
+package com.example.linter.cli;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntPredicate;
+import java.util.regex.Pattern;
+
+/**
+ * A set of Ant patterns compiled into one matcher that is driven one path segment
+ * at a time, so a single directory walk can match every pattern and skip
+ * directories that no pattern can match.
+ *
+ * <p>Leading literal segments of all patterns are merged into a prefix trie:
+ * {@code docs/**}{@code /*.adoc} and {@code guides/**}{@code /*.adoc} only ever
+ * look at the {@code docs} and {@code guides} subtrees. From the first wildcard
+ * segment on, a pattern is tracked as a position (pattern, segment) and each
+ * segment is matched by a dedicated {@link SegmentMatcher}. {@code **} matches
+ * zero or more directories, {@code *} and {@code ?} match within one segment.</p>
+ */
+final class AntPatternSet {
+
+    private static final String DOUBLE_WILDCARD = "**";
+    private static final long[] NO_STATES = new long[0];
+
+    private final SegmentMatcher[][] segments;
+    private final Node root = new Node();
+
+    private AntPatternSet(List<String> patterns) {
+        this.segments = new SegmentMatcher[patterns.size()][];
+        for (int p = 0; p < patterns.size(); p++) {
+            String[] parts = patterns.get(p).replace(File.separatorChar, '/').split("/");
+            segments[p] = new SegmentMatcher[parts.length];
+            Node node = root;
+            int literalPrefix = 0;
+            for (int i = 0; i < parts.length; i++) {
+                segments[p][i] = SegmentMatcher.of(parts[i]);
+                if (literalPrefix == i && segments[p][i].literal != null) {
+                    node = node.children.computeIfAbsent(parts[i], name -> new Node());
+                    literalPrefix++;
+                }
+            }
+            node.entries = close(append(node.entries, encode(p, literalPrefix)));
+        }
+    }
+
+    /**
+     * Compiles the given Ant patterns. Index order is kept: a path matching several
+     * patterns is reported for the first of them.
+     *
+     * @param patterns the Ant patterns, relative to the directory that is walked
+     * @return the compiled pattern set
+     */
+    static AntPatternSet compile(List<String> patterns) {
+        return new AntPatternSet(patterns);
+    }
+
+    /**
+     * Returns the position at the base directory of the walk.
+     */
+    Position start() {
+        return new Position(root, root.entries);
+    }
+
+    /**
+     * Adds {@code (p, i + 1)} for every {@code (p, i)} waiting on {@code **},
+     * since {@code **} may match no directory at all.
+     */
+    private long[] close(long[] states) {
+        long[] closed = states;
+        for (int k = 0; k < closed.length; k++) {
+            int p = pattern(closed[k]);
+            int i = segment(closed[k]);
+            if (i < segments[p].length && segments[p][i].isDoubleWildcard()) {
+                closed = appendIfAbsent(closed, encode(p, i + 1));
+            }
+        }
+        return closed;
+    }
+
+    private static long encode(int pattern, int segment) {
+        return ((long) pattern << 32) | segment;
+    }
+
+    private static int pattern(long state) {
+        return (int) (state >>> 32);
+    }
+
+    private static int segment(long state) {
+        return (int) state;
+    }
+
+    /**
+     * State sets hold a handful of entries, so they are plain arrays that are copied on change.
+     */
+    private static long[] appendIfAbsent(long[] states, long state) {
+        for (long existing : states) {
+            if (existing == state) {
+                return states;
+            }
+        }
+        return append(states, state);
+    }
+
+    private static long[] append(long[] states, long state) {
+        long[] grown = Arrays.copyOf(states, states.length + 1);
+        grown[states.length] = state;
+        return grown;
+    }
+
+    /**
+     * The matching state at one directory of the walk.
+     */
+    final class Position {
+        private final Node node;
+        private final long[] states;
+
+        private Position(Node node, long[] states) {
+            this.node = node;
+            this.states = states;
+        }
+
+        /**
+         * Returns the position inside the child with the given name.
+         */
+        Position enter(String name) {
+            Node child = node != null ? node.children.get(name) : null;
+            long[] next = child != null ? child.entries : NO_STATES;
+            for (long state : states) {
+                int p = pattern(state);
+                int i = segment(state);
+                if (i == segments[p].length) {
+                    continue;
+                }
+                SegmentMatcher segment = segments[p][i];
+                long advanced;
+                if (segment.isDoubleWildcard()) {
+                    advanced = state;
+                } else if (segment.matches(name)) {
+                    advanced = encode(p, i + 1);
+                } else {
+                    continue;
+                }
+                next = appendIfAbsent(next, advanced);
+            }
+            return new Position(child, close(next));
+        }
+
+        /**
+         * Returns true if no path below this directory can match any pattern.
+         */
+        boolean isDead() {
+            if (node != null && !node.children.isEmpty()) {
+                return false;
+            }
+            for (long state : states) {
+                if (segment(state) < segments[pattern(state)].length) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Returns the index of the first pattern matching the file with the given
+         * name in this directory, or -1 if none does.
+         */
+        int match(String name) {
+            return enter(name).matchedPattern();
+        }
+
+        /**
+         * Returns the index of the first pattern that matches a file at exactly
+         * this position, or -1 if none does.
+         */
+        int matchedPattern() {
+            int first = -1;
+            for (long state : states) {
+                int p = pattern(state);
+                if (segment(state) == segments[p].length && (first < 0 || p < first)) {
+                    first = p;
+                }
+            }
+            return first;
+        }
+
+        /**
+         * Returns the index of the last eligible pattern that matches a file at exactly
+         * this position, or -1 if none does.
+         */
+        int lastMatchedPattern(IntPredicate eligible) {
+            int last = -1;
+            for (long state : states) {
+                int p = pattern(state);
+                if (segment(state) == segments[p].length && p > last && eligible.test(p)) {
+                    last = p;
+                }
+            }
+            return last;
+        }
+    }
+
+    /**
+     * A node of the literal prefix trie. Entries are the closed states of the
+     * patterns whose literal prefix ends at this node.
+     */
+    private static final class Node {
+        private final Map<String, Node> children = new HashMap<>();
+        private long[] entries = NO_STATES;
+    }
+
+    /**
+     * Matches one path segment against one pattern segment, avoiding regular
+     * expressions for the common literal, {@code *}, {@code prefix*} and
+     * {@code *suffix} forms.
+     */
+    private static final class SegmentMatcher {
+        private final String literal;
+        private final String prefix;
+        private final String suffix;
+        private final Pattern pattern;
+        private final boolean doubleWildcard;
+
+        private SegmentMatcher(String literal, String prefix, String suffix, Pattern pattern, boolean doubleWildcard) {
+            this.literal = literal;
+            this.prefix = prefix;
+            this.suffix = suffix;
+            this.pattern = pattern;
+            this.doubleWildcard = doubleWildcard;
+        }
+
+        static SegmentMatcher of(String segment) {
+            if (segment.equals(DOUBLE_WILDCARD)) {
+                return new SegmentMatcher(null, null, null, null, true);
+            }
+            if (segment.indexOf('*') < 0 && segment.indexOf('?') < 0) {
+                return new SegmentMatcher(segment, null, null, null, false);
+            }
+            int star = segment.indexOf('*');
+            if (segment.indexOf('?') < 0 && star == segment.lastIndexOf('*')) {
+                return new SegmentMatcher(null, segment.substring(0, star), segment.substring(star + 1), null, false);
+            }
+            return new SegmentMatcher(null, null, null, toRegex(segment), false);
+        }
+
+        boolean isDoubleWildcard() {
+            return doubleWildcard;
+        }
+
+        boolean matches(String name) {
+            if (literal != null) {
+                return literal.equals(name);
+            }
+            if (pattern != null) {
+                return pattern.matcher(name).matches();
+            }
+            return name.length() >= prefix.length() + suffix.length()
+                && name.startsWith(prefix)
+                && name.endsWith(suffix);
+        }
+
+        private static Pattern toRegex(String segment) {
+            StringBuilder regex = new StringBuilder();
+            for (int i = 0; i < segment.length(); i++) {
+                char c = segment.charAt(i);
+                switch (c) {
+                    case '*':
+                        regex.append(".*");
+                        break;
+                    case '?':
+                        regex.append(".");
+                        break;
+                    default:
+                        if ("\\.[]()^${}+|".indexOf(c) >= 0) {
+                            regex.append('\\');
+                        }
+                        regex.append(c);
+                }
+            }
+            return Pattern.compile(regex.toString());
+        }
+    }
+}
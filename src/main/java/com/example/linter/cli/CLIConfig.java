@@ -5,6 +5,7 @@ import java.nio.file.Paths;
 import java.util.List;
 import java.util.Objects;
 
+import com.example.linter.ResultOrder;
 import com.example.linter.config.Severity;
 
 /**
@@ -19,6 +20,17 @@ public class CLIConfig {
     private final String reportFormat;
     private final Path reportOutput;
     private final Severity failLevel;
+    private final int jobs;
+    private final ResultOrder resultOrder;
+    private final int discoveryThreads;
+    private final List<String> excludePatterns;
+    private final boolean ignoreFilesEnabled;
+    private final String changedSince;
+    private final boolean stagedOnly;
+    private final boolean stagedContent;
+    private final boolean watch;
+    private final boolean includeChecksEnabled;
+    private final Path cacheDirectory;
     
     private CLIConfig(Builder builder) {
         this.inputPatterns = Objects.requireNonNull(builder.inputPatterns, "inputPatterns must not be null");
@@ -31,6 +43,35 @@ public class CLIConfig {
         this.reportFormat = Objects.requireNonNull(builder.reportFormat, "reportFormat must not be null");
         this.reportOutput = builder.reportOutput;
         this.failLevel = Objects.requireNonNull(builder.failLevel, "failLevel must not be null");
+        if (builder.jobs < 1) {
+            throw new IllegalArgumentException("jobs must be positive");
+        }
+        this.jobs = builder.jobs;
+        this.resultOrder = Objects.requireNonNull(builder.resultOrder, "resultOrder must not be null");
+        if (builder.discoveryThreads < 1) {
+            throw new IllegalArgumentException("discoveryThreads must be positive");
+        }
+        this.discoveryThreads = builder.discoveryThreads;
+        this.excludePatterns = Objects.requireNonNull(builder.excludePatterns, "excludePatterns must not be null");
+        this.ignoreFilesEnabled = builder.ignoreFilesEnabled;
+        if (builder.changedSince != null && (builder.changedSince.isBlank() || builder.changedSince.startsWith("-"))) {
+            throw new IllegalArgumentException("changedSince must be a git ref");
+        }
+        if (builder.changedSince != null && builder.stagedOnly) {
+            throw new IllegalArgumentException("changedSince and stagedOnly are mutually exclusive");
+        }
+        this.changedSince = builder.changedSince;
+        this.stagedOnly = builder.stagedOnly;
+        if (builder.stagedContent && !builder.stagedOnly) {
+            throw new IllegalArgumentException("stagedContent requires stagedOnly");
+        }
+        this.stagedContent = builder.stagedContent;
+        if (builder.watch && (builder.changedSince != null || builder.stagedOnly)) {
+            throw new IllegalArgumentException("watch cannot be combined with changed files only");
+        }
+        this.watch = builder.watch;
+        this.includeChecksEnabled = builder.includeChecksEnabled;
+        this.cacheDirectory = builder.cacheDirectory;
     }
     
     public List<String> getInputPatterns() {
@@ -61,6 +102,90 @@ public class CLIConfig {
         return failLevel;
     }
     
+    public int getJobs() {
+        return jobs;
+    }
+    
+    /**
+     * Returns how results of parallel runs are put back into discovery order.
+     */
+    public ResultOrder getResultOrder() {
+        return resultOrder;
+    }
+    
+    /**
+     * Returns the number of directories listed concurrently during file discovery.
+     * With more than one, files are streamed to validation as they are found.
+     */
+    public int getDiscoveryThreads() {
+        return discoveryThreads;
+    }
+    
+    /**
+     * Returns the Ant patterns of files and directories that discovery skips.
+     */
+    public List<String> getExcludePatterns() {
+        return excludePatterns;
+    }
+    
+    /**
+     * Returns true if discovery honours {@code .gitignore} and {@code .lintignore} files.
+     */
+    public boolean isIgnoreFilesEnabled() {
+        return ignoreFilesEnabled;
+    }
+    
+    /**
+     * Returns the git ref whose changes are validated, or null to validate all discovered files.
+     */
+    public String getChangedSince() {
+        return changedSince;
+    }
+    
+    /**
+     * Returns true if only discovered files with staged changes are validated.
+     */
+    public boolean isStagedOnly() {
+        return stagedOnly;
+    }
+    
+    /**
+     * Returns true if staged files are validated with their content in the git index
+     * rather than in the working tree.
+     */
+    public boolean isStagedContent() {
+        return stagedContent;
+    }
+    
+    public boolean isChangedFilesOnly() {
+        return changedSince != null || stagedOnly;
+    }
+    
+    /**
+     * Returns true if the input files are watched and re-validated as they change.
+     */
+    public boolean isWatch() {
+        return watch;
+    }
+    
+    /**
+     * Returns true if include cycles and includes nested too deep are reported.
+     */
+    public boolean isIncludeChecksEnabled() {
+        return includeChecksEnabled;
+    }
+    
+    /**
+     * Returns the result cache directory, or null if caching is disabled.
+     */
+    public Path getCacheDirectory() {
+        return cacheDirectory;
+    }
+    
+    public boolean isCacheEnabled() {
+        return cacheDirectory != null;
+    }
+    
     public boolean isOutputToFile() {
         return reportOutput != null;
     }
@@ -77,6 +202,17 @@ public class CLIConfig {
         private String reportFormat = "console";
         private Path reportOutput;
         private Severity failLevel = Severity.ERROR;
+        private int jobs = 1;
+        private ResultOrder resultOrder = ResultOrder.defaults();
+        private int discoveryThreads = 1;
+        private List<String> excludePatterns = List.of();
+        private boolean ignoreFilesEnabled;
+        private String changedSince;
+        private boolean stagedOnly;
+        private boolean stagedContent;
+        private boolean watch;
+        private boolean includeChecksEnabled;
+        private Path cacheDirectory;
         
         public Builder inputPatterns(List<String> inputPatterns) {
             this.inputPatterns = inputPatterns;
@@ -113,6 +249,61 @@ public class CLIConfig {
             return this;
         }
         
+        public Builder jobs(int jobs) {
+            this.jobs = jobs;
+            return this;
+        }
+        
+        public Builder resultOrder(ResultOrder resultOrder) {
+            this.resultOrder = resultOrder;
+            return this;
+        }
+        
+        public Builder discoveryThreads(int discoveryThreads) {
+            this.discoveryThreads = discoveryThreads;
+            return this;
+        }
+        
+        public Builder excludePatterns(List<String> excludePatterns) {
+            this.excludePatterns = excludePatterns;
+            return this;
+        }
+        
+        public Builder ignoreFilesEnabled(boolean ignoreFilesEnabled) {
+            this.ignoreFilesEnabled = ignoreFilesEnabled;
+            return this;
+        }
+        
+        public Builder changedSince(String changedSince) {
+            this.changedSince = changedSince;
+            return this;
+        }
+        
+        public Builder stagedOnly(boolean stagedOnly) {
+            this.stagedOnly = stagedOnly;
+            return this;
+        }
+        
+        public Builder stagedContent(boolean stagedContent) {
+            this.stagedContent = stagedContent;
+            return this;
+        }
+        
+        public Builder watch(boolean watch) {
+            this.watch = watch;
+            return this;
+        }
+        
+        public Builder includeChecksEnabled(boolean includeChecksEnabled) {
+            this.includeChecksEnabled = includeChecksEnabled;
+            return this;
+        }
+        
+        public Builder cacheDirectory(Path cacheDirectory) {
+            this.cacheDirectory = cacheDirectory;
+            return this;
+        }
+        
         public CLIConfig build() {
             return new CLIConfig(this);
         }
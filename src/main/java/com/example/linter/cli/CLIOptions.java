@@ -24,6 +24,50 @@ public class CLIOptions {
             .desc("Comma-separated Ant file patterns (e.g., '**/*.adoc,docs/**/*.asciidoc')")
             .build());
         
+        options.addOption(Option.builder()
+            .longOpt("exclude")
+            .hasArg()
+            .argName("patterns")
+            .desc("Comma-separated Ant patterns of files and directories to skip (e.g., 'build/**,**/_*.adoc')")
+            .build());
+        
+        options.addOption(Option.builder()
+            .longOpt("ignore-files")
+            .desc("Skip what .gitignore and .lintignore files in the walked directories ignore")
+            .build());
+        
+        // Changed files only
+        options.addOption(Option.builder()
+            .longOpt("changed-since")
+            .hasArg()
+            .argName("ref")
+            .desc("Validate only matching files that changed since the git ref, or include a file that did, "
+                + "counting uncommitted and untracked changes")
+            .build());
+        
+        options.addOption(Option.builder()
+            .longOpt("staged")
+            .desc("Validate only matching files that have staged changes in git, or include a file that has")
+            .build());
+        
+        options.addOption(Option.builder()
+            .longOpt("staged-content")
+            .desc("Validate the content staged in git instead of the working tree, implies --staged")
+            .build());
+        
+        // Watch mode
+        options.addOption(Option.builder()
+            .longOpt("watch")
+            .desc("Keep running and re-validate files as they or the configuration change")
+            .build());
+        
+        // Include checks
+        options.addOption(Option.builder()
+            .longOpt("check-includes")
+            .desc("Report include cycles and includes nested deeper than Asciidoctor's max-include-depth, "
+                + "reading every included file")
+            .build());
+        
         // Configuration file
         options.addOption(Option.builder("c")
             .longOpt("config")
@@ -37,7 +81,7 @@ public class CLIOptions {
             .longOpt("report-format")
             .hasArg()
             .argName("format")
-            .desc("Report format: console, json, json-compact (default: console)")
+            .desc("Report format: console, json, json-compact, jsonl, sarif (default: console)")
             .build());
         
         // Report output
@@ -45,7 +89,7 @@ public class CLIOptions {
             .longOpt("report-output")
             .hasArg()
             .argName("file/directory")
-            .desc("Report output file or directory (default: stdout)")
+            .desc("Report output file or directory, a file ending in .gz is compressed (default: stdout)")
             .build());
         
         // Fail level
@@ -56,6 +100,75 @@ public class CLIOptions {
             .desc("Exit code 1 on: error, warn, info (default: error)")
             .build());
         
+        // Parallel validation
+        options.addOption(Option.builder("j")
+            .longOpt("jobs")
+            .hasArg()
+            .argName("count")
+            .desc("Number of files to validate in parallel (default: 1)")
+            .build());
+        
+        options.addOption(Option.builder()
+            .longOpt("order-window")
+            .hasArg()
+            .argName("count")
+            .desc("Results held back to report parallel runs in discovery order (default: 16 per job)")
+            .build());
+        
+        options.addOption(Option.builder()
+            .longOpt("on-stall")
+            .hasArg()
+            .argName("policy")
+            .desc("When a slow file fills the order window: wait, unordered (default: wait)")
+            .build());
+        
+        options.addOption(Option.builder()
+            .longOpt("discovery-threads")
+            .hasArg()
+            .argName("count")
+            .desc("Directories to list in parallel; above 1, files are validated in sorted order "
+                + "while discovery is still running (default: 1)")
+            .build());
+        
+        // Result cache
+        options.addOption(Option.builder()
+            .longOpt("cache")
+            .desc("Reuse results for unchanged files from the cache directory")
+            .build());
+        
+        options.addOption(Option.builder()
+            .longOpt("cache-location")
+            .hasArg()
+            .argName("directory")
+            .desc("Cache directory, implies --cache (default: .power-adoc-linter-cache)")
+            .build());
+        
+        // Daemon mode
+        options.addOption(Option.builder()
+            .longOpt("daemon")
+            .desc("Run as a warm background daemon serving --use-daemon clients")
+            .build());
+        
+        options.addOption(Option.builder()
+            .longOpt("use-daemon")
+            .desc("Validate on a running daemon, falling back to in-process validation")
+            .build());
+        
+        options.addOption(Option.builder()
+            .longOpt("daemon-socket")
+            .hasArg()
+            .argName("path")
+            .desc("Unix domain socket of the daemon, in a directory only the user can write to "
+                + "(default: daemon.sock in a private directory below XDG_RUNTIME_DIR or the temp directory)")
+            .build());
+        
+        options.addOption(Option.builder()
+            .longOpt("daemon-idle-timeout")
+            .hasArg()
+            .argName("seconds")
+            .desc("Stop the daemon after this many seconds without a request (default: 900)")
+            .build());
+        
         // Output configuration
         options.addOption(Option.builder()
             .longOpt("output-config")
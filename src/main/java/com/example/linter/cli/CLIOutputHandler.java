@@ -1,12 +1,12 @@
 package com.example.linter.cli;
 
-import java.io.FileWriter;
 import java.io.IOException;
 import java.io.PrintWriter;
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.Map;
 
+import com.example.linter.ResultSink;
 import com.example.linter.report.ReportWriter;
 import com.example.linter.validator.ValidationResult;
 
@@ -30,7 +30,7 @@ public class CLIOutputHandler {
             Path outputFile = config.getReportOutput();
             ensureParentDirectoryExists(outputFile);
             
-            try (PrintWriter writer = new PrintWriter(new FileWriter(outputFile.toFile()))) {
+            try (PrintWriter writer = ReportWriter.openFileWriter(outputFile)) {
                 reportWriter.write(result, config.getReportFormat(), writer);
             }
         } else {
@@ -40,46 +40,62 @@ public class CLIOutputHandler {
     }
     
     /**
-     * Writes multiple validation results for directory input.
+     * Opens a sink that writes the results of a multi-file run as they arrive.
+     * Results go to the console or a single report file as one combined report,
+     * or to one report per input file when the output is a directory.
      */
-    public void writeMultipleReports(Map<Path, ValidationResult> results, CLIConfig config, 
-                                   ValidationResult aggregated) throws IOException {
+    public ResultSink openMultipleReports(CLIConfig config) throws IOException {
         if (!config.isOutputToFile()) {
-            // Write aggregated result to console
-            reportWriter.writeToConsole(aggregated, config.getReportFormat());
-            return;
+            // Write combined report to console
+            PrintWriter writer = new PrintWriter(System.out);
+            return reportWriter.openSink(config.getReportFormat(), writer, null);
         }
         
         Path output = config.getReportOutput();
         
         if (Files.isDirectory(output) || output.toString().endsWith("/") || output.toString().endsWith("\\")) {
             // Write individual reports to directory
-            writeIndividualReports(results, config, output);
-        } else {
-            // Write aggregated report to single file
-            writeReport(aggregated, config);
+            return openIndividualReports(config, output);
         }
+        
+        // Write combined report to single file
+        ensureParentDirectoryExists(output);
+        PrintWriter writer = ReportWriter.openFileWriter(output);
+        ResultSink sink = reportWriter.openSink(config.getReportFormat(), writer, null);
+        return new ResultSink() {
+            @Override
+            public void onResult(Path file, ValidationResult result) {
+                sink.onResult(file, result);
+            }
+            
+            @Override
+            public void onComplete() {
+                try {
+                    sink.onComplete();
+                } finally {
+                    writer.close();
+                }
+            }
+        };
     }
     
-    private void writeIndividualReports(Map<Path, ValidationResult> results, CLIConfig config, 
-                                      Path outputDir) throws IOException {
+    private ResultSink openIndividualReports(CLIConfig config, Path outputDir) throws IOException {
         // Ensure output directory exists
         if (!Files.exists(outputDir)) {
             Files.createDirectories(outputDir);
         }
         
-        for (Map.Entry<Path, ValidationResult> entry : results.entrySet()) {
-            Path inputFile = entry.getKey();
-            ValidationResult result = entry.getValue();
-            
+        return (inputFile, result) -> {
             // Generate output filename based on input filename
             String outputFileName = generateOutputFileName(inputFile, config.getReportFormat());
             Path outputFile = outputDir.resolve(outputFileName);
             
-            try (PrintWriter writer = new PrintWriter(new FileWriter(outputFile.toFile()))) {
+            try (PrintWriter writer = ReportWriter.openFileWriter(outputFile)) {
                 reportWriter.write(result, config.getReportFormat(), writer);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
             }
-        }
+        };
     }
     
     private String generateOutputFileName(Path inputFile, String format) {
@@ -91,7 +107,12 @@ public class CLIOutputHandler {
         }
         
         // Add format extension
-        String extension = "json".equals(format) ? ".json" : ".txt";
+        String extension = switch (format) {
+            case "json" -> ".json";
+            case "jsonl" -> ".jsonl";
+            case "sarif" -> ".sarif";
+            default -> ".txt";
+        };
         return baseName + "-report" + extension;
     }
     
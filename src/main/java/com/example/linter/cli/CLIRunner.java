@@ -1,20 +1,31 @@
 package com.example.linter.cli;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
-import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
-import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+import java.util.stream.StreamSupport;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import com.example.linter.AsciidoctorPool;
+import com.example.linter.DocumentSource;
 import com.example.linter.Linter;
+import com.example.linter.ResultSink;
+import com.example.linter.cache.IncludeGraph;
+import com.example.linter.cache.ResultCache;
 import com.example.linter.config.LinterConfiguration;
 import com.example.linter.config.Severity;
-import com.example.linter.config.loader.ConfigurationLoader;
-import com.example.linter.validator.ValidationMessage;
 import com.example.linter.validator.ValidationResult;
 
 /**
@@ -27,14 +38,25 @@ public class CLIRunner {
     
     private final FileDiscoveryService fileDiscoveryService;
     private final CLIOutputHandler outputHandler;
-    private final ConfigurationLoader configurationLoader;
-    private final Linter linter;
+    private final ConfigurationCache configurations;
+    private final AsciidoctorPool sharedPool;
     
     public CLIRunner() {
+        this(null, new ConfigurationCache());
+    }
+    
+    /**
+     * Creates a runner that validates with instances from a long-lived pool and
+     * reuses configurations loaded by earlier runs.
+     * 
+     * @param sharedPool the pool to lease Asciidoctor instances from, or null for a private pool per run
+     * @param configurations the configuration cache
+     */
+    CLIRunner(AsciidoctorPool sharedPool, ConfigurationCache configurations) {
         this.fileDiscoveryService = new FileDiscoveryService();
         this.outputHandler = new CLIOutputHandler();
-        this.configurationLoader = new ConfigurationLoader();
-        this.linter = new Linter();
+        this.configurations = Objects.requireNonNull(configurations, "configurations must not be null");
+        this.sharedPool = sharedPool;
     }
     
     /**
@@ -44,54 +66,116 @@ public class CLIRunner {
      * @return Exit code (0 = success, 1 = violations, 2 = error)
      */
     public int run(CLIConfig config) {
+        ResultCache resultCache = createResultCache(config);
+        // Changed-file runs keep the graph complete for the documents they select
+        boolean trackIncludes = config.isChangedFilesOnly();
+        Linter linter = sharedPool != null
+            ? new Linter(sharedPool, resultCache, trackIncludes, config.isIncludeChecksEnabled())
+            : new Linter(1, resultCache, trackIncludes, config.isIncludeChecksEnabled());
+        GitBlobReader blobReader = null;
         try {
             // Load linter configuration
             LinterConfiguration linterConfig = loadLinterConfiguration(config);
             
-            // Discover files
-            List<Path> filesToValidate = fileDiscoveryService.discoverFiles(config);
+            // Discover files, possibly still running while the first files are validated
+            Iterable<Path> discoveredFiles = fileDiscoveryService.streamFiles(config);
+            DocumentSource source = DocumentSource.FILE_SYSTEM;
+            if (config.isChangedFilesOnly()) {
+                GitChangeSet changes = config.isStagedOnly()
+                    ? GitChangeSet.staged(config.getBaseDirectory())
+                    : GitChangeSet.changedSince(config.getBaseDirectory(), config.getChangedSince());
+                Path root = changes.getRepositoryRoot();
+                if (config.isStagedContent()) {
+                    // Validate what is staged, named by repository path
+                    blobReader = GitBlobReader.open(root);
+                    source = blobReader;
+                }
+                Predicate<Path> affected = affectedDocuments(changes, linter.getIncludeGraph(), source);
+                if (config.isStagedContent()) {
+                    discoveredFiles = selectFiles(discoveredFiles, affected,
+                                                  file -> root.relativize(file.toAbsolutePath().normalize()));
+                } else {
+                    discoveredFiles = selectFiles(discoveredFiles, affected, file -> file);
+                }
+            }
+            Iterator<Path> files = discoveredFiles.iterator();
             
-            if (filesToValidate.isEmpty()) {
+            if (!files.hasNext() && config.isChangedFilesOnly()) {
+                logger.info("No changed files match patterns: {}", String.join(", ", config.getInputPatterns()));
+                return 0;
+            }
+            if (!files.hasNext()) {
                 logger.error("No files found matching patterns: {}", String.join(", ", config.getInputPatterns()));
                 return 2;
             }
+            Path firstFile = files.next();
             
             // Print files being validated
-            if (filesToValidate.size() > 1) {
-                logger.info("Validating {} files...", filesToValidate.size());
+            if (discoveredFiles instanceof Collection<?> collection && collection.size() > 1) {
+                logger.info("Validating {} files...", collection.size());
+            } else if (files.hasNext()) {
+                logger.info("Validating files as they are discovered...");
             }
             
             // Validate files
-            if (filesToValidate.size() == 1) {
+            if (!files.hasNext()) {
                 // Single file validation
-                ValidationResult result = linter.validateFile(filesToValidate.get(0), linterConfig);
+                ValidationResult result = linter.validateFile(firstFile, linterConfig, source);
                 outputHandler.writeReport(result, config);
                 return determineExitCode(result, config.getFailLevel());
             } else {
-                // Multiple file validation
-                Map<Path, ValidationResult> results = linter.validateFiles(filesToValidate, linterConfig);
-                ValidationResult aggregated = aggregateResults(results);
-                outputHandler.writeMultipleReports(results, config, aggregated);
-                return determineExitCode(aggregated, config.getFailLevel());
+                // Multiple file validation, reported as results arrive
+                Iterable<Path> filesToValidate = discoveredFiles instanceof Collection<?>
+                    ? discoveredFiles
+                    : () -> prepend(firstFile, files);
+                SeverityTally tally = new SeverityTally(outputHandler.openMultipleReports(config));
+                linter.validateFiles(filesToValidate, linterConfig, config.getJobs(), config.getResultOrder(), source,
+                                     tally);
+                return determineExitCode(tally.errors, tally.warnings, tally.messages, config.getFailLevel());
             }
             
         } catch (IOException e) {
             logger.error("I/O error: {}", e.getMessage());
             return 2;
+        } catch (UncheckedIOException e) {
+            logger.error("I/O error: {}", e.getCause().getMessage());
+            return 2;
         } catch (Exception e) {
             logger.error("Error: {}", e.getMessage(), e);
             return 2;
         } finally {
+            if (blobReader != null) {
+                blobReader.close();
+            }
             linter.close();
+            if (resultCache != null) {
+                logger.debug("Result cache: {} hits, {} misses", resultCache.getHitCount(), resultCache.getMissCount());
+                resultCache.close();
+            }
         }
     }
     
+    static ResultCache createResultCache(CLIConfig config) {
+        if (!config.isCacheEnabled()) {
+            return null;
+        }
+        return ResultCache.builder()
+            .directory(config.getCacheDirectory())
+            .linterVersion(Linter.VERSION)
+            .build();
+    }
+    
     private LinterConfiguration loadLinterConfiguration(CLIConfig config) throws IOException {
+        return loadLinterConfiguration(config, configurations);
+    }
+    
+    static LinterConfiguration loadLinterConfiguration(CLIConfig config, ConfigurationCache configurations)
+            throws IOException {
         Path configFile = config.getConfigFile();
         
         if (configFile == null) {
-            // Look for default config file in current directory
-            Path defaultConfig = Paths.get(DEFAULT_CONFIG_FILE);
+            // Look for default config file in the working directory
+            Path defaultConfig = defaultConfigFile(config);
             if (Files.exists(defaultConfig)) {
                 configFile = defaultConfig;
             } else {
@@ -104,31 +188,135 @@ public class CLIRunner {
             throw new IOException("Configuration file not found: " + configFile);
         }
         
-        return configurationLoader.loadConfiguration(configFile);
+        return configurations.get(configFile);
+    }
+    
+    /**
+     * Returns the configuration file a run without {@code --config} picks up if it exists.
+     */
+    static Path defaultConfigFile(CLIConfig config) {
+        return config.getBaseDirectory().resolve(DEFAULT_CONFIG_FILE);
+    }
+    
+    /**
+     * Returns which discovered documents a change affects: those that changed and
+     * those that include a changed file, directly or not. The include graph's
+     * record answers for every document it has resolved before, so only documents
+     * new to it are read, from the given source, and their includes followed.
+     */
+    static Predicate<Path> affectedDocuments(GitChangeSet changes, IncludeGraph includes, DocumentSource source) {
+        Set<Path> includingChanges = includes.affectedBy(changes.getFiles());
+        return file -> {
+            if (changes.contains(file)) {
+                return true;
+            }
+            if (includes.isResolved(file)) {
+                return includingChanges.contains(file.toAbsolutePath().normalize());
+            }
+            IncludeGraph.Resolution resolution;
+            if (source == DocumentSource.FILE_SYSTEM) {
+                resolution = includes.resolve(file);
+            } else {
+                try {
+                    resolution = includes.resolve(source.locate(file), source.read(file), false);
+                } catch (NoSuchFileException e) {
+                    // Not in the index, so it has no staged content to validate
+                    return false;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+            return resolution.getDependencies().stream().anyMatch(changes::contains);
+        };
+    }
+    
+    /**
+     * Keeps the discovered files that git reports as changed, renamed as the document
+     * source expects them. Discovery still decides which files are candidates, so
+     * patterns and exclusions apply as in a full run.
+     */
+    private static Iterable<Path> selectFiles(Iterable<Path> discoveredFiles, Predicate<Path> changed,
+                                              UnaryOperator<Path> rename) {
+        if (discoveredFiles instanceof Collection<?>) {
+            List<Path> changedFiles = new ArrayList<>();
+            for (Path file : discoveredFiles) {
+                if (changed.test(file)) {
+                    changedFiles.add(rename.apply(file));
+                }
+            }
+            return changedFiles;
+        }
+        return () -> StreamSupport.stream(discoveredFiles.spliterator(), false)
+            .filter(changed)
+            .map(rename)
+            .iterator();
+    }
+    
+    /**
+     * Puts a file taken from a discovery stream back in front of the rest of it.
+     */
+    private static Iterator<Path> prepend(Path first, Iterator<Path> rest) {
+        return new Iterator<Path>() {
+            private boolean firstReturned;
+            
+            @Override
+            public boolean hasNext() {
+                return !firstReturned || rest.hasNext();
+            }
+            
+            @Override
+            public Path next() {
+                if (!firstReturned) {
+                    firstReturned = true;
+                    return first;
+                }
+                return rest.next();
+            }
+        };
     }
     
     private int determineExitCode(ValidationResult result, Severity failLevel) {
+        return determineExitCode(result.hasErrors(), result.hasWarnings(), result.hasMessages(), failLevel);
+    }
+    
+    static int determineExitCode(boolean hasErrors, boolean hasWarnings, boolean hasMessages, Severity failLevel) {
         switch (failLevel) {
             case ERROR:
-                return result.hasErrors() ? 1 : 0;
+                return hasErrors ? 1 : 0;
             case WARN:
-                return (result.hasErrors() || result.hasWarnings()) ? 1 : 0;
+                return (hasErrors || hasWarnings) ? 1 : 0;
             case INFO:
-                return result.hasMessages() ? 1 : 0;
+                return hasMessages ? 1 : 0;
             default:
                 return 0;
         }
     }
     
-    private ValidationResult aggregateResults(Map<Path, ValidationResult> results) {
-        ValidationResult.Builder aggregated = ValidationResult.builder();
+    /**
+     * Forwards results to the report while remembering which severities occurred,
+     * so the exit code does not require keeping the results.
+     */
+    private static final class SeverityTally implements ResultSink {
+        private final ResultSink delegate;
+        private boolean errors;
+        private boolean warnings;
+        private boolean messages;
         
-        for (Map.Entry<Path, ValidationResult> entry : results.entrySet()) {
-            for (ValidationMessage message : entry.getValue().getMessages()) {
-                aggregated.addMessage(message);
-            }
+        SeverityTally(ResultSink delegate) {
+            this.delegate = delegate;
         }
         
-        return aggregated.complete().build();
+        @Override
+        public void onResult(Path file, ValidationResult result) {
+            errors |= result.hasErrors();
+            warnings |= result.hasWarnings();
+            messages |= result.hasMessages();
+            delegate.onResult(file, result);
+        }
+        
+        @Override
+        public void onComplete() {
+            delegate.onComplete();
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,75 @@
+package com.example.linter.cli;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.example.linter.config.LinterConfiguration;
+import com.example.linter.config.loader.ConfigurationLoader;
+
+/**
+ * Keeps loaded linter configurations until their file changes.
+ * A configuration is reloaded whenever the file's modification time or size
+ * differs from the one it was loaded with, so a long-lived process always
+ * validates against the current rules without re-parsing them on every run.
+ */
+class ConfigurationCache {
+
+    private static final Logger logger = LogManager.getLogger(ConfigurationCache.class);
+
+    private final ConfigurationLoader configurationLoader;
+    private final Map<Path, Entry> entries = new ConcurrentHashMap<>();
+
+    ConfigurationCache() {
+        this(new ConfigurationLoader());
+    }
+
+    ConfigurationCache(ConfigurationLoader configurationLoader) {
+        this.configurationLoader = Objects.requireNonNull(configurationLoader, "configurationLoader must not be null");
+    }
+
+    /**
+     * Returns the configuration stored in the given file, loading it if it is new or has changed.
+     *
+     * @param configFile the configuration file
+     * @return the loaded configuration
+     * @throws IOException if the file cannot be read
+     */
+    LinterConfiguration get(Path configFile) throws IOException {
+        Path key = configFile.toAbsolutePath().normalize();
+        BasicFileAttributes attributes = Files.readAttributes(key, BasicFileAttributes.class);
+        long lastModified = attributes.lastModifiedTime().toMillis();
+        long size = attributes.size();
+
+        Entry entry = entries.get(key);
+        if (entry != null && entry.lastModified == lastModified && entry.size == size) {
+            return entry.configuration;
+        }
+
+        if (entry != null) {
+            logger.info("Configuration {} changed, reloading", key);
+        }
+        LinterConfiguration configuration = configurationLoader.loadConfiguration(key);
+        entries.put(key, new Entry(configuration, lastModified, size));
+        return configuration;
+    }
+
+    private static final class Entry {
+        private final LinterConfiguration configuration;
+        private final long lastModified;
+        private final long size;
+
+        Entry(LinterConfiguration configuration, long lastModified, long size) {
+            this.configuration = configuration;
+            this.lastModified = lastModified;
+            this.size = size;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,93 @@
+package com.example.linter.cli;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.OptionalInt;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Thin client that forwards a command line to a running daemon and relays its output.
+ * Only sockets owned by the user, in a directory no one else can write to, are used.
+ */
+final class DaemonClient {
+
+    private static final Logger logger = LogManager.getLogger(DaemonClient.class);
+
+    private final Path socketPath;
+
+    DaemonClient(Path socketPath) {
+        this.socketPath = Objects.requireNonNull(socketPath, "socketPath must not be null");
+    }
+
+    /**
+     * Runs the command line on the daemon.
+     *
+     * @param args the arguments to forward
+     * @param workingDirectory the directory relative paths are resolved against
+     * @param out receives the daemon's standard output
+     * @param err receives the daemon's standard error
+     * @return the exit code, or empty if no daemon is listening
+     */
+    OptionalInt run(String[] args, Path workingDirectory, PrintStream out, PrintStream err) {
+        if (!Files.exists(socketPath)) {
+            return OptionalInt.empty();
+        }
+        try {
+            // Never hand the command line to a daemon another user may have started
+            DaemonProtocol.checkSocketOwner(socketPath);
+        } catch (IOException e) {
+            logger.warn("Not using the linter daemon on {}: {}", socketPath, e.getMessage());
+            return OptionalInt.empty();
+        }
+
+        SocketChannel channel;
+        try {
+            channel = SocketChannel.open(UnixDomainSocketAddress.of(socketPath));
+        } catch (IOException | UnsupportedOperationException e) {
+            return OptionalInt.empty();
+        }
+
+        try (channel) {
+            DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel)));
+            DaemonProtocol.writeRequest(output, workingDirectory, args);
+
+            DataInputStream input = new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel)));
+            byte[] buffer = new byte[8192];
+            while (true) {
+                byte frameType = input.readByte();
+                if (frameType == DaemonProtocol.FRAME_EXIT) {
+                    out.flush();
+                    err.flush();
+                    return OptionalInt.of(input.readInt());
+                }
+
+                PrintStream target = frameType == DaemonProtocol.FRAME_STDERR ? err : out;
+                int remaining = input.readInt();
+                while (remaining > 0) {
+                    int read = input.read(buffer, 0, Math.min(buffer.length, remaining));
+                    if (read < 0) {
+                        throw new EOFException();
+                    }
+                    target.write(buffer, 0, read);
+                    remaining -= read;
+                }
+            }
+        } catch (IOException e) {
+            err.println("Error: lost connection to linter daemon: " + e.getMessage());
+            return OptionalInt.of(2);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,250 @@
+package com.example.linter.cli;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.nio.file.attribute.UserPrincipal;
+import java.util.Set;
+
+/**
+ * Wire format between the daemon and its clients.
+ *
+ * <p>A request is the protocol magic and version, the client's working directory
+ * and its arguments. The daemon answers with a sequence of frames: output frames
+ * carry a chunk of standard output or standard error, the final exit frame carries
+ * the exit code. Strings are written as a length followed by UTF-8 bytes.</p>
+ */
+final class DaemonProtocol {
+
+    static final int MAGIC = 0x50414C44; // "PALD"
+    static final int VERSION = 1;
+
+    static final byte FRAME_STDOUT = 1;
+    static final byte FRAME_STDERR = 2;
+    static final byte FRAME_EXIT = 3;
+
+    static final String SOCKET_FILE_NAME = "daemon.sock";
+
+    private static final int MAX_STRING_BYTES = 1024 * 1024;
+    private static final int MAX_ARGUMENTS = 4096;
+    static final int MAX_REQUEST_BYTES = 8 * MAX_STRING_BYTES;
+
+    private DaemonProtocol() {
+    }
+
+    /**
+     * Returns the socket path used when none is given: a socket in a directory only
+     * the user can enter, below {@code XDG_RUNTIME_DIR} if it is set, or below the
+     * temporary directory otherwise.
+     */
+    static Path defaultSocketPath() {
+        String runtimeDirectory = System.getenv("XDG_RUNTIME_DIR");
+        if (runtimeDirectory != null && !runtimeDirectory.isEmpty() && Paths.get(runtimeDirectory).isAbsolute()) {
+            return Paths.get(runtimeDirectory, "power-adoc-linter", SOCKET_FILE_NAME);
+        }
+        String user = System.getProperty("user.name", "user").replaceAll("[^A-Za-z0-9._-]", "_");
+        return Paths.get(System.getProperty("java.io.tmpdir"), "power-adoc-linter-" + user, SOCKET_FILE_NAME);
+    }
+
+    /**
+     * Creates the directory of a socket, accessible to the owner only, or checks
+     * that an existing one is private. Other users must not be able to create or
+     * replace a socket the client would then trust.
+     *
+     * @param socketPath the socket the daemon binds
+     * @throws IOException if the directory cannot be created or is not private to the user
+     */
+    static void prepareSocketDirectory(Path socketPath) throws IOException {
+        Path directory = socketPath.toAbsolutePath().getParent();
+        if (!Files.exists(directory, LinkOption.NOFOLLOW_LINKS)) {
+            try {
+                if (isPosix(directory.getParent())) {
+                    Files.createDirectory(directory,
+                        PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rwx------")));
+                } else {
+                    Files.createDirectory(directory);
+                }
+            } catch (FileAlreadyExistsException e) {
+                // Created concurrently, checked below like any existing directory
+            }
+        }
+        checkPrivateDirectory(directory);
+    }
+
+    /**
+     * Checks that a socket belongs to the user and lies in a directory other users
+     * cannot write to, so the daemon behind it is the user's own.
+     *
+     * @param socketPath the socket the client connects to
+     * @throws IOException if the socket or its directory may belong to someone else
+     */
+    static void checkSocketOwner(Path socketPath) throws IOException {
+        Path socket = socketPath.toAbsolutePath();
+        checkOwner(socket);
+        checkPrivateDirectory(socket.getParent());
+    }
+
+    private static void checkPrivateDirectory(Path directory) throws IOException {
+        if (!Files.isDirectory(directory, LinkOption.NOFOLLOW_LINKS)) {
+            throw new IOException("Socket directory " + directory + " is not a directory");
+        }
+        checkOwner(directory);
+        if (isPosix(directory)) {
+            Set<PosixFilePermission> permissions = Files.getPosixFilePermissions(directory, LinkOption.NOFOLLOW_LINKS);
+            if (permissions.contains(PosixFilePermission.GROUP_WRITE)
+                    || permissions.contains(PosixFilePermission.OTHERS_WRITE)) {
+                throw new IOException("Socket directory " + directory + " is writable by other users");
+            }
+        }
+    }
+
+    private static void checkOwner(Path path) throws IOException {
+        UserPrincipal owner = Files.getOwner(path, LinkOption.NOFOLLOW_LINKS);
+        UserPrincipal user = path.getFileSystem().getUserPrincipalLookupService()
+            .lookupPrincipalByName(System.getProperty("user.name"));
+        if (!owner.equals(user)) {
+            throw new IOException(path + " is owned by " + owner.getName() + ", not by " + user.getName());
+        }
+    }
+
+    private static boolean isPosix(Path path) {
+        return path.getFileSystem().supportedFileAttributeViews().contains("posix");
+    }
+
+    static void writeRequest(DataOutputStream output, Path workingDirectory, String[] args) throws IOException {
+        output.writeInt(MAGIC);
+        output.writeInt(VERSION);
+        writeString(output, workingDirectory.toAbsolutePath().toString());
+        output.writeInt(args.length);
+        for (String arg : args) {
+            writeString(output, arg);
+        }
+        output.flush();
+    }
+
+    static Request readRequest(DataInputStream input) throws IOException {
+        if (input.readInt() != MAGIC) {
+            throw new IOException("Not a linter client");
+        }
+        int version = input.readInt();
+        if (version != VERSION) {
+            throw new IOException("Unsupported protocol version " + version + ", expected " + VERSION);
+        }
+        Path workingDirectory = Paths.get(readString(input));
+        int count = input.readInt();
+        if (count < 0 || count > MAX_ARGUMENTS) {
+            throw new IOException("Invalid argument count: " + count);
+        }
+        String[] args = new String[count];
+        for (int i = 0; i < count; i++) {
+            args[i] = readString(input);
+        }
+        return new Request(workingDirectory, args);
+    }
+
+    /**
+     * Reads a request from the bytes received so far.
+     *
+     * @return the request, or null if more bytes are needed
+     * @throws IOException if the bytes cannot start a valid request
+     */
+    static Request parseRequest(byte[] bytes, int length) throws IOException {
+        try {
+            return readRequest(new DataInputStream(new ByteArrayInputStream(bytes, 0, length)));
+        } catch (EOFException e) {
+            return null;
+        }
+    }
+
+    static void writeString(DataOutputStream output, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+    static String readString(DataInputStream input) throws IOException {
+        int length = input.readInt();
+        if (length < 0 || length > MAX_STRING_BYTES) {
+            throw new IOException("Invalid string length: " + length);
+        }
+        byte[] bytes = new byte[length];
+        input.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * A forwarded command line.
+     */
+    static final class Request {
+        private final Path workingDirectory;
+        private final String[] args;
+
+        Request(Path workingDirectory, String[] args) {
+            this.workingDirectory = workingDirectory;
+            this.args = args;
+        }
+
+        Path getWorkingDirectory() {
+            return workingDirectory;
+        }
+
+        String[] getArgs() {
+            return args.clone();
+        }
+    }
+
+    /**
+     * Writes everything it receives as frames of one type. Closing it only flushes,
+     * so code that closes {@code System.out} cannot end the response early.
+     */
+    static final class FrameOutputStream extends OutputStream {
+        private final DataOutputStream output;
+        private final byte frameType;
+
+        FrameOutputStream(DataOutputStream output, byte frameType) {
+            this.output = output;
+            this.frameType = frameType;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[] {(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            if (length == 0) {
+                return;
+            }
+            // Both streams share one connection
+            synchronized (output) {
+                output.writeByte(frameType);
+                output.writeInt(length);
+                output.write(bytes, offset, length);
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            synchronized (output) {
+                output.flush();
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,267 @@
+package com.example.linter.cli;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.time.Duration;
+import java.util.Objects;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.example.linter.AsciidoctorPool;
+
+/**
+ * Long-running linter process that serves forwarded command lines over a Unix domain socket.
+ *
+ * <p>The daemon keeps a warm Asciidoctor pool and the loaded configurations between
+ * requests, so a client pays neither for JRuby startup nor for schema loading.
+ * Requests are handled one at a time because the CLI writes its report to
+ * {@code System.out}, which is redirected to the connected client for the duration
+ * of a request. A client has to send its request within the request timeout, so
+ * a stalled connection only delays the next one. The daemon exits after the idle
+ * timeout passes without a request.</p>
+ *
+ * <p>The socket lives in a directory only the user can write to; the daemon
+ * creates it or refuses to start if it is shared.</p>
+ */
+final class DaemonServer implements AutoCloseable {
+
+    private static final Logger logger = LogManager.getLogger(DaemonServer.class);
+
+    static final Duration DEFAULT_REQUEST_TIMEOUT = Duration.ofSeconds(10);
+
+    private final Path socketPath;
+    private final Duration idleTimeout;
+    private final Duration requestTimeout;
+    private final AsciidoctorPool asciidoctorPool;
+    private final ConfigurationCache configurations;
+    private volatile Selector selector;
+    private volatile boolean stopRequested;
+
+    DaemonServer(Path socketPath, Duration idleTimeout) {
+        this(socketPath, idleTimeout, DEFAULT_REQUEST_TIMEOUT);
+    }
+
+    DaemonServer(Path socketPath, Duration idleTimeout, Duration requestTimeout) {
+        this.socketPath = Objects.requireNonNull(socketPath, "socketPath must not be null");
+        this.idleTimeout = Objects.requireNonNull(idleTimeout, "idleTimeout must not be null");
+        this.requestTimeout = Objects.requireNonNull(requestTimeout, "requestTimeout must not be null");
+        if (idleTimeout.isNegative() || idleTimeout.isZero()) {
+            throw new IllegalArgumentException("idleTimeout must be positive");
+        }
+        if (requestTimeout.isNegative() || requestTimeout.isZero()) {
+            throw new IllegalArgumentException("requestTimeout must be positive");
+        }
+        this.asciidoctorPool = new AsciidoctorPool(1);
+        this.configurations = new ConfigurationCache();
+    }
+
+    /**
+     * Accepts and handles requests until the idle timeout expires.
+     *
+     * @throws IOException if the socket cannot be bound, e.g. because another daemon is running
+     */
+    void serve() throws IOException {
+        DaemonProtocol.prepareSocketDirectory(socketPath);
+        removeStaleSocket();
+
+        try (ServerSocketChannel server = ServerSocketChannel.open(StandardProtocolFamily.UNIX);
+             Selector selector = Selector.open()) {
+            this.selector = selector;
+            server.bind(UnixDomainSocketAddress.of(socketPath));
+            restrictToOwner();
+            server.configureBlocking(false);
+            server.register(selector, SelectionKey.OP_ACCEPT);
+            logger.info("Linter daemon listening on {} (idle timeout {}s)", socketPath, idleTimeout.toSeconds());
+
+            long idleSince = System.nanoTime();
+            while (!stopRequested) {
+                long remainingMillis = idleTimeout.toMillis() - Duration.ofNanos(System.nanoTime() - idleSince).toMillis();
+                if (remainingMillis <= 0) {
+                    logger.info("Linter daemon idle for {}s, shutting down", idleTimeout.toSeconds());
+                    return;
+                }
+                selector.select(remainingMillis);
+                selector.selectedKeys().clear();
+
+                SocketChannel client = server.accept();
+                if (client == null) {
+                    continue;
+                }
+                boolean served;
+                try (client) {
+                    served = handle(client);
+                }
+                // Connections that never sent a request do not keep the daemon alive
+                if (served) {
+                    idleSince = System.nanoTime();
+                }
+            }
+        } finally {
+            this.selector = null;
+            Files.deleteIfExists(socketPath);
+        }
+    }
+
+    /**
+     * Reads and runs one request.
+     *
+     * @return true if a request was received and run
+     */
+    private boolean handle(SocketChannel client) {
+        DaemonProtocol.Request request;
+        try {
+            request = readRequest(client);
+            client.configureBlocking(true);
+        } catch (IOException e) {
+            logger.warn("Rejected daemon request: {}", e.getMessage());
+            sendExitCode(client, null, 2);
+            return false;
+        }
+        logger.debug("Handling request from {}", request.getWorkingDirectory());
+
+        DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(client)));
+        int exitCode;
+
+        PrintStream originalOut = System.out;
+        PrintStream originalErr = System.err;
+        PrintStream clientOut = new PrintStream(new BufferedOutputStream(
+            new DaemonProtocol.FrameOutputStream(output, DaemonProtocol.FRAME_STDOUT)), false, StandardCharsets.UTF_8);
+        PrintStream clientErr = new PrintStream(
+            new DaemonProtocol.FrameOutputStream(output, DaemonProtocol.FRAME_STDERR), true, StandardCharsets.UTF_8);
+        System.setOut(clientOut);
+        System.setErr(clientErr);
+        try {
+            LinterCLI cli = new LinterCLI(() -> new CLIRunner(asciidoctorPool, configurations), true);
+            exitCode = cli.run(request.getArgs(), request.getWorkingDirectory());
+        } catch (RuntimeException e) {
+            clientErr.println("Error: " + e.getMessage());
+            exitCode = 2;
+        } finally {
+            clientOut.flush();
+            clientErr.flush();
+            System.setOut(originalOut);
+            System.setErr(originalErr);
+        }
+
+        sendExitCode(client, output, exitCode);
+        return true;
+    }
+
+    /**
+     * Reads a request without blocking past the request timeout, so a client that
+     * connects and stalls cannot hold up the daemon.
+     */
+    private DaemonProtocol.Request readRequest(SocketChannel client) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(4096);
+        long deadline = System.nanoTime() + requestTimeout.toNanos();
+        client.configureBlocking(false);
+        try (Selector readSelector = Selector.open()) {
+            client.register(readSelector, SelectionKey.OP_READ);
+            while (true) {
+                long remainingMillis = Duration.ofNanos(deadline - System.nanoTime()).toMillis();
+                if (remainingMillis <= 0) {
+                    throw new IOException("No request received within " + requestTimeout.toMillis() + "ms");
+                }
+                readSelector.select(remainingMillis);
+                readSelector.selectedKeys().clear();
+
+                int read = client.read(buffer);
+                if (read < 0) {
+                    throw new EOFException("Client disconnected before sending a request");
+                }
+                if (read > 0) {
+                    DaemonProtocol.Request request = DaemonProtocol.parseRequest(buffer.array(), buffer.position());
+                    if (request != null) {
+                        return request;
+                    }
+                }
+                if (!buffer.hasRemaining()) {
+                    if (buffer.capacity() >= DaemonProtocol.MAX_REQUEST_BYTES) {
+                        throw new IOException("Request exceeds " + DaemonProtocol.MAX_REQUEST_BYTES + " bytes");
+                    }
+                    ByteBuffer larger = ByteBuffer.allocate(Math.min(buffer.capacity() * 2, DaemonProtocol.MAX_REQUEST_BYTES));
+                    buffer.flip();
+                    larger.put(buffer);
+                    buffer = larger;
+                }
+            }
+        }
+    }
+
+    private void sendExitCode(SocketChannel client, DataOutputStream output, int exitCode) {
+        try {
+            if (output == null) {
+                // Closing the read selector deregistered the channel
+                client.configureBlocking(true);
+                output = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(client)));
+            }
+            synchronized (output) {
+                output.writeByte(DaemonProtocol.FRAME_EXIT);
+                output.writeInt(exitCode);
+                output.flush();
+            }
+        } catch (IOException e) {
+            logger.debug("Client disconnected before the exit code was sent: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Deletes a socket file left behind by a daemon that did not shut down cleanly.
+     * A socket that still accepts connections belongs to a running daemon and is kept.
+     */
+    private void removeStaleSocket() throws IOException {
+        if (!Files.exists(socketPath)) {
+            return;
+        }
+        boolean running;
+        try (SocketChannel probe = SocketChannel.open(UnixDomainSocketAddress.of(socketPath))) {
+            running = true;
+        } catch (IOException e) {
+            running = false;
+        }
+        if (running) {
+            throw new IOException("A linter daemon is already listening on " + socketPath);
+        }
+        Files.deleteIfExists(socketPath);
+    }
+
+    private void restrictToOwner() {
+        try {
+            Files.setPosixFilePermissions(socketPath, PosixFilePermissions.fromString("rw-------"));
+        } catch (IOException | UnsupportedOperationException e) {
+            logger.debug("Could not restrict permissions of {}: {}", socketPath, e.getMessage());
+        }
+    }
+
+    /**
+     * Asks a serving daemon to shut down after the current request.
+     */
+    void stop() {
+        stopRequested = true;
+        Selector current = selector;
+        if (current != null) {
+            current.wakeup();
+        }
+    }
+
+    @Override
+    public void close() {
+        asciidoctorPool.close();
+    }
+}
\ No newline at end of file
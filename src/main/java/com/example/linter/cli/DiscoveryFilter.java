@@ -0,0 +1,311 @@
+package com.example.linter.cli;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Decides which entries file discovery skips: entries matching an exclude pattern
+ * and, if enabled, entries ignored by {@code .gitignore} or {@code .lintignore} files.
+ *
+ * <p>The decision is made per directory entry while walking, so an excluded
+ * directory is never listed and nothing below it is looked at. Exclude patterns
+ * are Ant patterns relative to the base directory; a directory they match is
+ * skipped as a whole. Ignore files follow the gitignore rules: patterns are
+ * relative to the directory holding the file, patterns without a slash match at
+ * any depth, a trailing slash only matches directories, {@code !} re-includes,
+ * the last matching pattern wins and deeper files override shallower ones. A
+ * {@code .lintignore} overrides the {@code .gitignore} next to it. A trailing
+ * {@code /**} matches everything inside a directory but not the directory
+ * itself. As in git, nothing below an ignored directory can be re-included, and
+ * {@code .git} directories are always skipped. Character classes are not
+ * supported.</p>
+ *
+ * <p>When the base directory lies inside a git repository, the ignore files of
+ * the repository root and of every directory down to the base directory apply
+ * as well, below the repository's {@code .git/info/exclude}, just as they would
+ * for git itself.</p>
+ */
+final class DiscoveryFilter {
+
+    private static final Logger logger = LogManager.getLogger(DiscoveryFilter.class);
+
+    /**
+     * Ignore files read in every walked directory, later ones take precedence.
+     */
+    static final List<String> IGNORE_FILE_NAMES = List.of(".gitignore", ".lintignore");
+
+    private static final String GIT_DIR = ".git";
+    private static final Path EXCLUDE_FILE = Path.of("info", "exclude");
+
+    static final DiscoveryFilter NONE = new DiscoveryFilter(List.of(), false);
+
+    private final AntPatternSet excludes;
+    private final boolean ignoreFiles;
+
+    DiscoveryFilter(List<String> excludePatterns, boolean ignoreFiles) {
+        Objects.requireNonNull(excludePatterns, "excludePatterns must not be null");
+        this.excludes = excludePatterns.isEmpty() ? null : AntPatternSet.compile(excludePatterns);
+        this.ignoreFiles = ignoreFiles;
+    }
+
+    /**
+     * Returns the scope at the base directory of a walk, reading its ignore files
+     * and those of its ancestors up to the repository root.
+     *
+     * @param baseDir the directory exclude patterns are relative to
+     * @return the scope for the entries of the base directory
+     */
+    Scope root(Path baseDir) {
+        return new Scope(excludes != null ? excludes.start() : null, readAncestorIgnoreFiles(baseDir));
+    }
+
+    /**
+     * Reads the ignore files from the repository root holding the base directory
+     * down to the base directory, each frame advanced to the base directory.
+     */
+    private List<IgnoreFrame> readAncestorIgnoreFiles(Path baseDir) {
+        if (!ignoreFiles) {
+            return List.of();
+        }
+        Path dir = baseDir.toAbsolutePath().normalize();
+        Path repositoryRoot = dir;
+        while (repositoryRoot != null && !Files.exists(repositoryRoot.resolve(GIT_DIR))) {
+            repositoryRoot = repositoryRoot.getParent();
+        }
+        if (repositoryRoot == null) {
+            return readIgnoreFiles(baseDir);
+        }
+
+        List<IgnoreFrame> frames = new ArrayList<>();
+        readIgnoreFile(repositoryRoot.resolve(GIT_DIR).resolve(EXCLUDE_FILE), frames);
+        frames.addAll(readIgnoreFiles(repositoryRoot));
+        Path current = repositoryRoot;
+        for (Path segment : repositoryRoot.relativize(dir)) {
+            String name = segment.toString();
+            if (name.isEmpty()) {
+                continue;
+            }
+            List<IgnoreFrame> advanced = new ArrayList<>(frames.size() + IGNORE_FILE_NAMES.size());
+            for (IgnoreFrame frame : frames) {
+                AntPatternSet.Position position = frame.position.enter(name);
+                if (!position.isDead()) {
+                    advanced.add(new IgnoreFrame(frame.rules, position));
+                }
+            }
+            current = current.resolve(name);
+            advanced.addAll(readIgnoreFiles(current));
+            frames = advanced;
+        }
+        return frames;
+    }
+
+    private List<IgnoreFrame> readIgnoreFiles(Path dir) {
+        if (!ignoreFiles) {
+            return List.of();
+        }
+        List<IgnoreFrame> frames = new ArrayList<>(IGNORE_FILE_NAMES.size());
+        for (String name : IGNORE_FILE_NAMES) {
+            readIgnoreFile(dir.resolve(name), frames);
+        }
+        return frames;
+    }
+
+    private static void readIgnoreFile(Path file, List<IgnoreFrame> frames) {
+        try {
+            IgnoreRules rules = IgnoreRules.parse(Files.readAllLines(file));
+            if (rules != null) {
+                frames.add(new IgnoreFrame(rules, rules.patterns.start()));
+            }
+        } catch (NoSuchFileException e) {
+            // Most directories have none
+        } catch (IOException e) {
+            logger.debug("Skipping ignore file {}: {}", file, e.getMessage());
+        }
+    }
+
+    /**
+     * The rules in effect for the entries of one directory. Scopes are immutable,
+     * so parallel walkers can share them.
+     */
+    final class Scope {
+        private final AntPatternSet.Position excludePosition;
+        private final List<IgnoreFrame> frames;
+
+        private Scope(AntPatternSet.Position excludePosition, List<IgnoreFrame> frames) {
+            this.excludePosition = excludePosition;
+            this.frames = frames;
+        }
+
+        /**
+         * Returns the scope inside a subdirectory, reading its ignore files, or null if
+         * the subdirectory is excluded and must not be walked.
+         *
+         * @param dir a subdirectory of the directory of this scope
+         * @return the scope for the entries of that subdirectory, or null
+         */
+        Scope enter(Path dir) {
+            String name = dir.getFileName().toString();
+            if (ignoreFiles && name.equals(GIT_DIR)) {
+                return null;
+            }
+
+            AntPatternSet.Position childExclude = null;
+            if (excludePosition != null) {
+                childExclude = excludePosition.enter(name);
+                if (childExclude.matchedPattern() >= 0) {
+                    return null;
+                }
+                if (childExclude.isDead()) {
+                    childExclude = null;
+                }
+            }
+
+            List<IgnoreFrame> childFrames = new ArrayList<>(frames.size() + IGNORE_FILE_NAMES.size());
+            boolean decided = false;
+            for (int k = frames.size() - 1; k >= 0; k--) {
+                IgnoreFrame frame = frames.get(k);
+                AntPatternSet.Position position = frame.position.enter(name);
+                if (!decided) {
+                    int rule = position.lastMatchedPattern(r -> true);
+                    if (rule >= 0) {
+                        if (!frame.rules.negated[rule]) {
+                            return null;
+                        }
+                        decided = true;
+                    }
+                }
+                if (!position.isDead()) {
+                    childFrames.add(new IgnoreFrame(frame.rules, position));
+                }
+            }
+            // Collected deepest first, keep them shallowest first like the frames of this scope
+            Collections.reverse(childFrames);
+            childFrames.addAll(readIgnoreFiles(dir));
+            return new Scope(childExclude, childFrames);
+        }
+
+        /**
+         * Returns true if the file with the given name in this directory is excluded.
+         */
+        boolean excludes(String fileName) {
+            if (excludePosition != null && excludePosition.match(fileName) >= 0) {
+                return true;
+            }
+            for (int k = frames.size() - 1; k >= 0; k--) {
+                IgnoreFrame frame = frames.get(k);
+                int rule = frame.position.enter(fileName).lastMatchedPattern(r -> !frame.rules.directoryOnly[r]);
+                if (rule >= 0) {
+                    return !frame.rules.negated[rule];
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * The rules of one ignore file and how far the walk has descended below it.
+     */
+    private static final class IgnoreFrame {
+        private final IgnoreRules rules;
+        private final AntPatternSet.Position position;
+
+        IgnoreFrame(IgnoreRules rules, AntPatternSet.Position position) {
+            this.rules = rules;
+            this.position = position;
+        }
+    }
+
+    /**
+     * The patterns of one ignore file, translated to Ant patterns relative to its directory.
+     */
+    private static final class IgnoreRules {
+        private final AntPatternSet patterns;
+        private final boolean[] negated;
+        private final boolean[] directoryOnly;
+
+        private IgnoreRules(List<String> patterns, boolean[] negated, boolean[] directoryOnly) {
+            this.patterns = AntPatternSet.compile(patterns);
+            this.negated = negated;
+            this.directoryOnly = directoryOnly;
+        }
+
+        /**
+         * Parses the lines of an ignore file.
+         *
+         * @param lines the lines of the file
+         * @return the rules, or null if the file holds no pattern
+         */
+        static IgnoreRules parse(List<String> lines) {
+            List<String> patterns = new ArrayList<>();
+            boolean[] negated = new boolean[lines.size()];
+            boolean[] directoryOnly = new boolean[lines.size()];
+            for (String rawLine : lines) {
+                String line = stripTrailingSpaces(rawLine);
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                boolean negation = line.startsWith("!");
+                if (negation) {
+                    line = line.substring(1);
+                }
+                boolean directory = line.endsWith("/");
+                while (line.endsWith("/")) {
+                    line = line.substring(0, line.length() - 1);
+                }
+                if (line.isEmpty()) {
+                    continue;
+                }
+                // A slash anywhere but at the end anchors the pattern to the ignore file's directory
+                boolean anchored = line.indexOf('/') >= 0;
+                if (line.startsWith("/")) {
+                    line = line.substring(1);
+                }
+                line = unescape(line);
+                // Ant's trailing ** also matches the directory itself, git's only what is inside it
+                if (line.endsWith("/**")) {
+                    line = line + "/*";
+                }
+
+                negated[patterns.size()] = negation;
+                directoryOnly[patterns.size()] = directory;
+                patterns.add(anchored ? line : "**/" + line);
+            }
+            if (patterns.isEmpty()) {
+                return null;
+            }
+            return new IgnoreRules(patterns, negated, directoryOnly);
+        }
+
+        private static String stripTrailingSpaces(String line) {
+            int end = line.length();
+            while (end > 0 && line.charAt(end - 1) == ' ' && (end < 2 || line.charAt(end - 2) != '\\')) {
+                end--;
+            }
+            return line.substring(0, end);
+        }
+
+        private static String unescape(String line) {
+            if (line.indexOf('\\') < 0) {
+                return line;
+            }
+            StringBuilder unescaped = new StringBuilder(line.length());
+            for (int i = 0; i < line.length(); i++) {
+                char c = line.charAt(i);
+                if (c == '\\' && i + 1 < line.length()) {
+                    c = line.charAt(++i);
+                }
+                unescaped.append(c);
+            }
+            return unescaped.toString();
+        }
+    }
+}
@@ -1,20 +1,23 @@
 package com.example.linter.cli;
 
-import java.io.File;
 import java.io.IOException;
+import java.nio.file.DirectoryIteratorException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.regex.Pattern;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
-import org.apache.commons.io.FileUtils;
-import org.apache.commons.io.filefilter.IOFileFilter;
-import org.apache.commons.io.filefilter.TrueFileFilter;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -33,242 +36,201 @@ public class FileDiscoveryService {
      * @throws IOException if an I/O error occurs
      */
     public List<Path> discoverFiles(CLIConfig config) throws IOException {
-        return discoverFiles(config.getInputPatterns(), config.getBaseDirectory());
+        return discoverFiles(config.getInputPatterns(), config.getBaseDirectory(), createFilter(config));
     }
     
     /**
-     * Discovers files matching the given Ant patterns.
+     * Discovers files based on the CLI configuration, walking directories in parallel
+     * and streaming the files as they are found if more than one discovery thread is
+     * configured.
+     * 
+     * @param config The CLI configuration
+     * @return The paths to validate, a list unless discovery runs in parallel
+     * @throws IOException if an I/O error occurs
+     * @see #streamFiles(List, Path, int)
+     */
+    public Iterable<Path> streamFiles(CLIConfig config) throws IOException {
+        if (config.getDiscoveryThreads() <= 1) {
+            return discoverFiles(config);
+        }
+        return streamFiles(config.getInputPatterns(), config.getBaseDirectory(), config.getDiscoveryThreads(),
+                           createFilter(config));
+    }
+    
+    private static DiscoveryFilter createFilter(CLIConfig config) {
+        if (config.getExcludePatterns().isEmpty() && !config.isIgnoreFilesEnabled()) {
+            return DiscoveryFilter.NONE;
+        }
+        return new DiscoveryFilter(config.getExcludePatterns(), config.isIgnoreFilesEnabled());
+    }
+    
+    /**
+     * Discovers files matching the given Ant patterns. Files named directly are
+     * taken as they are; all other patterns are matched in a single walk of the
+     * base directory that skips directories no pattern can match.
      * 
      * @param patterns List of Ant patterns
      * @param baseDir Base directory for relative patterns
-     * @return List of matching file paths (duplicates removed)
+     * @return List of matching file paths, in the order {@link #streamFiles(List, Path, int)}
+     *         returns them (duplicates removed)
      * @throws IOException if an I/O error occurs
      */
     public List<Path> discoverFiles(List<String> patterns, Path baseDir) throws IOException {
+        return discoverFiles(patterns, baseDir, DiscoveryFilter.NONE);
+    }
+    
+    /**
+     * Discovers files matching the given Ant patterns, skipping what the filter
+     * excludes. Files named directly are never excluded.
+     */
+    List<Path> discoverFiles(List<String> patterns, Path baseDir, DiscoveryFilter filter) throws IOException {
         Set<Path> matchedFiles = new LinkedHashSet<>(); // Use LinkedHashSet to maintain order and remove duplicates
+        List<String> antPatterns = new ArrayList<>();
         
         for (String pattern : patterns) {
             logger.debug("Processing pattern: {}", pattern);
             
-            // Handle absolute paths and simple file names
-            Path patternPath = Paths.get(pattern);
-            if (patternPath.isAbsolute() && patternPath.toFile().exists()) {
-                if (patternPath.toFile().isFile()) {
-                    matchedFiles.add(patternPath.normalize());
-                    continue;
-                }
-            }
-            
-            // Check if it's a simple filename in the base directory
-            Path simpleFile = baseDir.resolve(pattern);
-            if (simpleFile.toFile().isFile()) {
-                matchedFiles.add(simpleFile.normalize());
-                continue;
+            Path namedFile = findNamedFile(pattern, baseDir);
+            if (namedFile != null) {
+                matchedFiles.add(namedFile);
+            } else {
+                antPatterns.add(pattern);
             }
-            
-            // Process as Ant pattern
-            matchedFiles.addAll(findFilesMatchingAntPattern(pattern, baseDir));
         }
         
+        matchedFiles.addAll(findFilesMatchingAntPatterns(antPatterns, baseDir, filter));
         return new ArrayList<>(matchedFiles);
     }
     
-    private List<Path> findFilesMatchingAntPattern(String pattern, Path baseDir) throws IOException {
-        List<Path> matchingFiles = new ArrayList<>();
-        
-        // Convert Ant pattern to file filter
-        AntPatternFileFilter antFilter = new AntPatternFileFilter(pattern, baseDir);
-        
-        // Use all directories for traversal
-        IOFileFilter dirFilter = TrueFileFilter.INSTANCE;
-        
-        // Find matching files
-        File baseDirFile = baseDir.toFile();
-        if (baseDirFile.exists() && baseDirFile.isDirectory()) {
-            for (File file : FileUtils.listFiles(baseDirFile, antFilter, dirFilter)) {
-                matchingFiles.add(file.toPath().normalize());
+    /**
+     * Discovers files matching the given Ant patterns, listing directories on the
+     * given number of threads. Files named directly come first in pattern order,
+     * followed by the matches of all other patterns sorted by name within each
+     * directory, so the order is the same on every run.
+     * 
+     * <p>Each iteration starts a new walk. The iterator returns the first files while
+     * the rest of the tree is still being walked and blocks until the next file in
+     * order is found, so validation can start before discovery is complete.</p>
+     * 
+     * @param patterns List of Ant patterns
+     * @param baseDir Base directory for relative patterns
+     * @param threads Number of directories to list concurrently
+     * @return The matching file paths (duplicates removed)
+     * @throws IOException if an I/O error occurs
+     */
+    public Iterable<Path> streamFiles(List<String> patterns, Path baseDir, int threads) throws IOException {
+        return streamFiles(patterns, baseDir, threads, DiscoveryFilter.NONE);
+    }
+    
+    /**
+     * Streams files matching the given Ant patterns with a parallel walk, skipping
+     * what the filter excludes. Files named directly are never excluded.
+     */
+    Iterable<Path> streamFiles(List<String> patterns, Path baseDir, int threads, DiscoveryFilter filter)
+            throws IOException {
+        Set<Path> namedFiles = new LinkedHashSet<>();
+        List<String> antPatterns = new ArrayList<>();
+        for (String pattern : patterns) {
+            logger.debug("Processing pattern: {}", pattern);
+            Path namedFile = findNamedFile(pattern, baseDir);
+            if (namedFile != null) {
+                namedFiles.add(namedFile);
+            } else {
+                antPatterns.add(pattern);
             }
         }
+        if (antPatterns.isEmpty()) {
+            return new ArrayList<>(namedFiles);
+        }
         
-        return matchingFiles;
+        ParallelFileWalker walker = new ParallelFileWalker(AntPatternSet.compile(antPatterns), filter, threads);
+        return () -> Stream.concat(
+                namedFiles.stream(),
+                StreamSupport.stream(Spliterators.spliteratorUnknownSize(walker.walk(baseDir), Spliterator.ORDERED),
+                                     false)
+                    .filter(file -> !namedFiles.contains(file)))
+            .iterator();
     }
     
-    
     /**
-     * Custom file filter for Ant patterns.
+     * Returns the file a pattern names directly, as an absolute path or relative to the
+     * base directory, or null if the pattern does not name an existing file.
      */
-    private static class AntPatternFileFilter implements IOFileFilter {
-        private final String pattern;
-        private final Path baseDir;
-        
-        public AntPatternFileFilter(String pattern, Path baseDir) {
-            this.pattern = pattern;
-            this.baseDir = baseDir;
+    private Path findNamedFile(String pattern, Path baseDir) {
+        // Handle absolute paths and simple file names
+        Path patternPath = Paths.get(pattern);
+        if (patternPath.isAbsolute() && patternPath.toFile().isFile()) {
+            return patternPath.normalize();
         }
         
-        @Override
-        public boolean accept(File file) {
-            if (!file.isFile()) {
-                return false;
-            }
-            
-            Path filePath = file.toPath().normalize();
-            Path relativePath = baseDir.relativize(filePath);
-            String pathStr = relativePath.toString().replace(File.separatorChar, '/');
-            
-            return matchesAntPattern(pathStr, pattern);
-        }
-        
-        @Override
-        public boolean accept(File dir, String name) {
-            return accept(new File(dir, name));
+        // Check if it's a simple filename in the base directory
+        Path simpleFile = baseDir.resolve(pattern);
+        if (simpleFile.toFile().isFile()) {
+            return simpleFile.normalize();
         }
         
-        private boolean matchesAntPattern(String path, String pattern) {
-            boolean result = AntPatternMatcher.match(pattern, path);
-            logger.debug("Matching '{}' against pattern '{}': {}", path, pattern, result);
-            return result;
-        }
+        return null;
     }
     
-    
     /**
-     * Simple Ant pattern matcher implementation with pattern caching.
+     * Walks the base directory once and returns the files matching any of the patterns,
+     * sorted by name within each directory like the {@link ParallelFileWalker} returns them.
      */
-    private static class AntPatternMatcher {
-        // Cache for compiled regex patterns to improve performance
-        private static final Map<String, Pattern> PATTERN_CACHE = new ConcurrentHashMap<>();
+    private List<Path> findFilesMatchingAntPatterns(List<String> patterns, Path baseDir,
+                                                    DiscoveryFilter filter) throws IOException {
+        List<Path> matches = new ArrayList<>();
+        if (patterns.isEmpty() || !Files.isDirectory(baseDir)) {
+            return matches;
+        }
         
-        public static boolean match(String pattern, String path) {
-            // Normalize paths
-            pattern = pattern.replace(File.separatorChar, '/');
-            path = path.replace(File.separatorChar, '/');
-            
-            // Handle ** (matches any number of directories)
-            if (pattern.contains("**")) {
-                return matchWithDoubleWildcard(pattern, path);
-            }
-            
-            // Simple pattern matching
-            return matchSimplePattern(pattern, path);
+        Deque<Object> ancestors = new ArrayDeque<>();
+        ancestors.push(ParallelFileWalker.fileKey(baseDir, Files.readAttributes(baseDir, BasicFileAttributes.class)));
+        walk(baseDir, AntPatternSet.compile(patterns).start(), filter.root(baseDir), ancestors, matches);
+        return matches;
+    }
+    
+    private void walk(Path dir, AntPatternSet.Position position, DiscoveryFilter.Scope scope,
+                      Deque<Object> ancestors, List<Path> matches) {
+        List<Path> children = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(dir)) {
+            stream.forEach(children::add);
+        } catch (IOException | DirectoryIteratorException e) {
+            logger.debug("Skipping {}: {}", dir, e.getMessage());
+            return;
         }
+        children.sort(ParallelFileWalker.BY_NAME);
         
-        private static boolean matchWithDoubleWildcard(String pattern, String path) {
-            String[] patternParts = pattern.split("/");
-            String[] pathParts = path.split("/");
-            
-            int patternIndex = 0;
-            int pathIndex = 0;
+        for (Path child : children) {
+            String name = child.getFileName().toString();
+            AntPatternSet.Position childPosition = position.enter(name);
+            boolean fileMatches = childPosition.matchedPattern() >= 0;
+            if (childPosition.isDead() && !fileMatches) {
+                continue;
+            }
             
-            while (patternIndex < patternParts.length) {
-                if (pathIndex >= pathParts.length) {
-                    // Check if remaining pattern parts are all **
-                    while (patternIndex < patternParts.length) {
-                        if (!patternParts[patternIndex].equals("**")) {
-                            return false;
-                        }
-                        patternIndex++;
-                    }
-                    return true;
-                }
-                
-                String patternPart = patternParts[patternIndex];
-                
-                if (patternPart.equals("**")) {
-                    // Handle **
-                    if (patternIndex == patternParts.length - 1) {
-                        // ** at end matches everything
-                        return true;
+            try {
+                BasicFileAttributes attrs = Files.readAttributes(child, BasicFileAttributes.class);
+                if (attrs.isDirectory()) {
+                    if (childPosition.isDead()) {
+                        continue;
                     }
-                    
-                    // Find next pattern part after **
-                    patternIndex++;
-                    String nextPattern = patternParts[patternIndex];
-                    
-                    // Try to match nextPattern with any remaining path part
-                    boolean found = false;
-                    while (pathIndex < pathParts.length) {
-                        if (matchPart(nextPattern, pathParts[pathIndex])) {
-                            found = true;
-                            pathIndex++;
-                            patternIndex++;
-                            break;
-                        }
-                        pathIndex++;
+                    Object key = ParallelFileWalker.fileKey(child, attrs);
+                    if (ancestors.contains(key)) {
+                        logger.debug("Skipping {}: symbolic link cycle", child);
+                        continue;
                     }
-                    
-                    if (!found) {
-                        return false;
+                    DiscoveryFilter.Scope childScope = scope.enter(child);
+                    if (childScope != null) {
+                        ancestors.push(key);
+                        walk(child, childPosition, childScope, ancestors, matches);
+                        ancestors.pop();
                     }
-                } else {
-                    // Normal part matching
-                    if (pathIndex >= pathParts.length || !matchPart(patternPart, pathParts[pathIndex])) {
-                        return false;
-                    }
-                    patternIndex++;
-                    pathIndex++;
-                }
-            }
-            
-            // All pattern parts consumed, check if all path parts consumed
-            return pathIndex == pathParts.length;
-        }
-        
-        private static boolean matchSimplePattern(String pattern, String path) {
-            String[] patternParts = pattern.split("/");
-            String[] pathParts = path.split("/");
-            
-            if (patternParts.length != pathParts.length) {
-                return false;
-            }
-            
-            for (int i = 0; i < patternParts.length; i++) {
-                if (!matchPart(patternParts[i], pathParts[i])) {
-                    return false;
+                } else if (attrs.isRegularFile() && fileMatches && !scope.excludes(name)) {
+                    matches.add(child.normalize());
                 }
+            } catch (IOException e) {
+                logger.debug("Skipping {}: {}", child, e.getMessage());
             }
-            
-            return true;
-        }
-        
-        private static boolean matchPart(String pattern, String text) {
-            // Use cached pattern if available, otherwise compile and cache it
-            Pattern compiledPattern = PATTERN_CACHE.computeIfAbsent(pattern, p -> {
-                // Convert pattern to regex
-                StringBuilder regex = new StringBuilder("^");
-                for (int i = 0; i < p.length(); i++) {
-                    char c = p.charAt(i);
-                    switch (c) {
-                        case '*':
-                            regex.append(".*");
-                            break;
-                        case '?':
-                            regex.append(".");
-                            break;
-                        case '.':
-                        case '\\':
-                        case '[':
-                        case ']':
-                        case '(':
-                        case ')':
-                        case '^':
-                        case '$':
-                        case '{':
-                        case '}':
-                        case '+':
-                        case '|':
-                            regex.append("\\").append(c);
-                            break;
-                        default:
-                            regex.append(c);
-                    }
-                }
-                regex.append("$");
-                
-                return Pattern.compile(regex.toString());
-            });
-            
-            return compiledPattern.matcher(text).matches();
         }
     }
-}
\ No newline at end of file
+}
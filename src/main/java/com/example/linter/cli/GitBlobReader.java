@@ -0,0 +1,166 @@
+package com.example.linter.cli;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.example.linter.DocumentSource;
+
+/**
+ * Serves the content staged in a git index, read through one long-lived
+ * {@code git cat-file --batch} process instead of one {@code git show} per file.
+ *
+ * <p>Documents are addressed by their path relative to the repository root, which
+ * is also the name reported in validation messages. Includes and directory
+ * attributes still resolve against the working tree. Requests are answered in
+ * order over the process's pipes, so reads are serialized; each one is a round trip
+ * through the already running process rather than a process start.</p>
+ */
+final class GitBlobReader implements DocumentSource, Closeable {
+
+    private static final Logger logger = LogManager.getLogger(GitBlobReader.class);
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Path repositoryRoot;
+    private final Process process;
+    private final OutputStream requests;
+    private final InputStream responses;
+    private boolean closed;
+
+    private GitBlobReader(Path repositoryRoot, Process process) {
+        this.repositoryRoot = repositoryRoot;
+        this.process = process;
+        this.requests = new BufferedOutputStream(process.getOutputStream(), BUFFER_SIZE);
+        this.responses = new BufferedInputStream(process.getInputStream(), BUFFER_SIZE);
+    }
+
+    /**
+     * Starts the batch process for the repository.
+     *
+     * @param repositoryRoot the root of the working tree
+     * @return the reader, to be closed when done
+     * @throws IOException if git cannot be started
+     */
+    static GitBlobReader open(Path repositoryRoot) throws IOException {
+        Process process = new ProcessBuilder("git", "cat-file", "--batch")
+            .directory(repositoryRoot.toFile())
+            .redirectError(ProcessBuilder.Redirect.DISCARD)
+            .start();
+        return new GitBlobReader(repositoryRoot, process);
+    }
+
+    /**
+     * Returns the staged content of the given repository path.
+     *
+     * @throws NoSuchFileException if the path is not in the index
+     */
+    @Override
+    public synchronized String read(Path file) throws IOException {
+        if (closed) {
+            throw new IOException("git cat-file is closed");
+        }
+        String name = toRepositoryPath(file);
+        if (name.indexOf('\n') >= 0) {
+            throw new NoSuchFileException(name, null, "Not addressable by git cat-file");
+        }
+
+        // ":<path>" names the stage 0 entry of the index
+        requests.write((":" + name + "\n").getBytes(StandardCharsets.UTF_8));
+        requests.flush();
+
+        String header = readLine();
+        if (header.endsWith(" missing") || header.endsWith(" ambiguous")) {
+            throw new NoSuchFileException(name, null, "Not staged");
+        }
+        String[] fields = header.split(" ");
+        if (fields.length != 3) {
+            throw new IOException("Unexpected git cat-file response: " + header);
+        }
+        if (!fields[1].equals("blob")) {
+            skip(Long.parseLong(fields[2]) + 1);
+            throw new IOException("Not a file in the index: " + name + " is a " + fields[1]);
+        }
+        int size = Math.toIntExact(Long.parseLong(fields[2]));
+        byte[] content = responses.readNBytes(size);
+        if (content.length < size || responses.read() != '\n') {
+            throw new EOFException("git cat-file ended in the middle of " + name);
+        }
+        return new String(content, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public Path locate(Path file) {
+        return repositoryRoot.resolve(file).toAbsolutePath().normalize();
+    }
+
+    @Override
+    public String describe(Path file) {
+        return toRepositoryPath(file);
+    }
+
+    /**
+     * Stops the batch process. It exits on its own once its input is closed.
+     */
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            requests.close();
+            if (!process.waitFor(5, TimeUnit.SECONDS)) {
+                process.destroy();
+            }
+        } catch (IOException e) {
+            logger.debug("Closing git cat-file failed: {}", e.getMessage());
+            process.destroy();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            process.destroy();
+        }
+    }
+
+    private String toRepositoryPath(Path file) {
+        Path relative = file.isAbsolute() ? repositoryRoot.relativize(file) : file;
+        return relative.normalize().toString().replace(relative.getFileSystem().getSeparator(), "/");
+    }
+
+    private String readLine() throws IOException {
+        ByteArrayOutputStream line = new ByteArrayOutputStream(64);
+        int b;
+        while ((b = responses.read()) != '\n') {
+            if (b < 0) {
+                throw new EOFException("git cat-file exited unexpectedly");
+            }
+            line.write(b);
+        }
+        return line.toString(StandardCharsets.UTF_8);
+    }
+
+    private void skip(long count) throws IOException {
+        long remaining = count;
+        while (remaining > 0) {
+            long skipped = responses.skip(remaining);
+            if (skipped <= 0) {
+                if (responses.read() < 0) {
+                    throw new EOFException("git cat-file exited unexpectedly");
+                }
+                skipped = 1;
+            }
+            remaining -= skipped;
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.example.linter.cli;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * The files of a git working tree that changed, as reported by the local
+ * {@code git} binary. Used to restrict validation to the files a change touches.
+ *
+ * <p>Only local git commands are run, so no network access is needed. Paths are
+ * resolved against the repository root as seen from the given directory, keeping
+ * its spelling, so they compare equal to the paths file discovery returns.
+ * Deleted files are never part of a change set.</p>
+ */
+final class GitChangeSet {
+
+    private static final Logger logger = LogManager.getLogger(GitChangeSet.class);
+    private static final String GIT = "git";
+
+    private final Path repositoryRoot;
+    private final Set<Path> files;
+
+    private GitChangeSet(Path repositoryRoot, Set<Path> files) {
+        this.repositoryRoot = repositoryRoot;
+        this.files = files;
+    }
+
+    /**
+     * Returns the files that differ from the given ref in the working tree, staged
+     * or not, plus untracked files that are not ignored.
+     *
+     * @param directory a directory inside the working tree
+     * @param ref the commit, branch or tag to compare with
+     * @return the changed files
+     * @throws IOException if git cannot be run or fails, e.g. for an unknown ref
+     */
+    static GitChangeSet changedSince(Path directory, String ref) throws IOException {
+        Path root = repositoryRoot(directory);
+        List<String> names = new ArrayList<>(
+            run(root, "diff", "--name-only", "-z", "--diff-filter=ACMR", ref, "--"));
+        names.addAll(run(root, "ls-files", "--others", "--exclude-standard", "-z"));
+        return of(root, names);
+    }
+
+    /**
+     * Returns the files whose changes are staged for the next commit.
+     *
+     * @param directory a directory inside the working tree
+     * @return the staged files
+     * @throws IOException if git cannot be run or fails
+     */
+    static GitChangeSet staged(Path directory) throws IOException {
+        Path root = repositoryRoot(directory);
+        return of(root, run(root, "diff", "--cached", "--name-only", "-z", "--diff-filter=ACMR", "--"));
+    }
+
+    private static GitChangeSet of(Path root, List<String> names) {
+        Set<Path> files = new HashSet<>();
+        for (String name : names) {
+            files.add(root.resolve(name).normalize());
+        }
+        logger.debug("{} changed files in {}", files.size(), root);
+        return new GitChangeSet(root, files);
+    }
+
+    /**
+     * Returns true if the given file is part of the change.
+     */
+    boolean contains(Path file) {
+        return files.contains(file.toAbsolutePath().normalize());
+    }
+
+    /**
+     * Returns the changed files as absolute normalized paths.
+     */
+    Set<Path> getFiles() {
+        return Collections.unmodifiableSet(files);
+    }
+
+    /**
+     * Returns the root of the working tree, spelled like the directory the set was created for.
+     */
+    Path getRepositoryRoot() {
+        return repositoryRoot;
+    }
+
+    int size() {
+        return files.size();
+    }
+
+    /**
+     * Resolves the repository root from the directory's relative path to it, rather
+     * than git's canonical path, so symbolic links in the directory's path survive.
+     */
+    private static Path repositoryRoot(Path directory) throws IOException {
+        Path absolute = directory.toAbsolutePath();
+        List<String> cdUp = run(absolute, "rev-parse", "--show-cdup");
+        String up = cdUp.isEmpty() ? "" : cdUp.get(0).trim();
+        return absolute.resolve(up).normalize();
+    }
+
+    /**
+     * Runs a git command and returns its output split at NUL characters if the
+     * command was given {@code -z}, or at line ends otherwise.
+     */
+    private static List<String> run(Path directory, String... args) throws IOException {
+        List<String> command = new ArrayList<>(args.length + 1);
+        command.add(GIT);
+        command.addAll(List.of(args));
+        Process process = new ProcessBuilder(command)
+            .directory(directory.toFile())
+            .start();
+        process.getOutputStream().close();
+
+        ByteArrayOutputStream stderr = new ByteArrayOutputStream();
+        Thread errorReader = new Thread(() -> drain(process.getErrorStream(), stderr), "git-stderr");
+        errorReader.setDaemon(true);
+        errorReader.start();
+
+        String output;
+        try (InputStream stdout = process.getInputStream()) {
+            output = new String(stdout.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        try {
+            int exitCode = process.waitFor();
+            errorReader.join();
+            if (exitCode != 0) {
+                String message = stderr.toString(StandardCharsets.UTF_8).trim();
+                throw new IOException("git " + args[0] + " failed: "
+                    + (message.isEmpty() ? "exit code " + exitCode : message));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            process.destroy();
+            throw new IOException("Interrupted while running git " + args[0], e);
+        }
+
+        String separator = command.contains("-z") ? "\0" : "\n";
+        List<String> entries = new ArrayList<>();
+        for (String entry : output.split(separator)) {
+            if (!entry.isEmpty()) {
+                entries.add(entry);
+            }
+        }
+        return entries;
+    }
+
+    private static void drain(InputStream in, ByteArrayOutputStream out) {
+        try (in) {
+            in.transferTo(out);
+        } catch (IOException e) {
+            // The exit code still tells whether the command failed
+        }
+    }
+}
@@ -1,8 +1,13 @@
 package com.example.linter.cli;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
+import java.util.OptionalInt;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import org.apache.commons.cli.CommandLine;
@@ -14,6 +19,9 @@ import org.apache.commons.cli.ParseException;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import com.example.linter.Linter;
+import com.example.linter.ResultOrder;
+import com.example.linter.cache.ResultCache;
 import com.example.linter.config.Severity;
 
 /**
@@ -22,8 +30,24 @@ import com.example.linter.config.Severity;
 public class LinterCLI {
     
     private static final Logger logger = LogManager.getLogger(LinterCLI.class);
-    private static final String VERSION = "1.0.0";
     private static final String PROGRAM_NAME = "power-adoc-linter";
+    private static final long DEFAULT_DAEMON_IDLE_TIMEOUT_SECONDS = 900;
+    
+    private final Supplier<CLIRunner> runnerFactory;
+    private final boolean daemonRequest;
+    
+    public LinterCLI() {
+        this(CLIRunner::new, false);
+    }
+    
+    /**
+     * @param runnerFactory creates the runner for a validation run
+     * @param daemonRequest whether this command line was forwarded to a daemon
+     */
+    LinterCLI(Supplier<CLIRunner> runnerFactory, boolean daemonRequest) {
+        this.runnerFactory = runnerFactory;
+        this.daemonRequest = daemonRequest;
+    }
     
     public static void main(String[] args) {
         LinterCLI cli = new LinterCLI();
@@ -32,6 +56,17 @@ public class LinterCLI {
     }
     
     public int run(String[] args) {
+        return run(args, Paths.get(System.getProperty("user.dir")));
+    }
+    
+    /**
+     * Runs a command line as if it was started in the given directory.
+     * 
+     * @param args the command line arguments
+     * @param workingDirectory the directory relative paths are resolved against
+     * @return the exit code
+     */
+    int run(String[] args, Path workingDirectory) {
         CLIOptions cliOptions = new CLIOptions();
         Options options = cliOptions.getOptions();
         
@@ -51,6 +86,15 @@ public class LinterCLI {
                 return 0;
             }
             
+            // Handle daemon mode
+            if (cmd.hasOption("daemon")) {
+                if (daemonRequest) {
+                    System.err.println("Error: --daemon cannot be forwarded to a running daemon");
+                    return 2;
+                }
+                return runDaemon(cmd, workingDirectory);
+            }
+            
             // Handle documentation generation
             if (cmd.hasOption("generate-docs")) {
                 // Input is not required for doc generation
@@ -71,10 +115,29 @@ public class LinterCLI {
             }
             
             // Parse configuration
-            CLIConfig config = parseConfiguration(cmd);
+            CLIConfig config = parseConfiguration(cmd, workingDirectory);
+            
+            // Watch mode keeps its own warm linter
+            if (config.isWatch()) {
+                if (daemonRequest) {
+                    System.err.println("Error: --watch cannot be forwarded to a running daemon");
+                    return 2;
+                }
+                return runWatch(config);
+            }
+            
+            // Forward to a warm daemon if one is running
+            if (cmd.hasOption("use-daemon") && !daemonRequest) {
+                Path socketPath = daemonSocketPath(cmd, workingDirectory);
+                OptionalInt exitCode = new DaemonClient(socketPath).run(args, workingDirectory, System.out, System.err);
+                if (exitCode.isPresent()) {
+                    return exitCode.getAsInt();
+                }
+                logger.debug("No linter daemon listening on {}, validating in process", socketPath);
+            }
             
             // Run linter
-            CLIRunner runner = new CLIRunner();
+            CLIRunner runner = runnerFactory.get();
             return runner.run(config);
             
         } catch (ParseException e) {
@@ -90,8 +153,54 @@ public class LinterCLI {
         }
     }
     
-    private CLIConfig parseConfiguration(CommandLine cmd) {
+    private int runDaemon(CommandLine cmd, Path workingDirectory) {
+        long idleTimeoutSeconds = DEFAULT_DAEMON_IDLE_TIMEOUT_SECONDS;
+        if (cmd.hasOption("daemon-idle-timeout")) {
+            String value = cmd.getOptionValue("daemon-idle-timeout");
+            try {
+                idleTimeoutSeconds = Long.parseLong(value.trim());
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid daemon idle timeout: " + value + 
+                    ". Expected a positive number of seconds");
+            }
+            if (idleTimeoutSeconds < 1) {
+                throw new IllegalArgumentException("Invalid daemon idle timeout: " + value + 
+                    ". Expected a positive number of seconds");
+            }
+        }
+        
+        Path socketPath = daemonSocketPath(cmd, workingDirectory);
+        try (DaemonServer server = new DaemonServer(socketPath, Duration.ofSeconds(idleTimeoutSeconds))) {
+            server.serve();
+            return 0;
+        } catch (IOException e) {
+            logger.error("Error: {}", e.getMessage());
+            System.err.println("Error: " + e.getMessage());
+            return 2;
+        }
+    }
+    
+    private int runWatch(CLIConfig config) {
+        try (WatchSession session = new WatchSession(config, System.err, WatchSession.DEFAULT_DEBOUNCE)) {
+            Runtime.getRuntime().addShutdownHook(new Thread(session::close, "linter-watch-shutdown"));
+            return session.run();
+        } catch (IOException e) {
+            logger.error("Error: {}", e.getMessage());
+            System.err.println("Error: " + e.getMessage());
+            return 2;
+        }
+    }
+    
+    private Path daemonSocketPath(CommandLine cmd, Path workingDirectory) {
+        if (cmd.hasOption("daemon-socket")) {
+            return workingDirectory.resolve(cmd.getOptionValue("daemon-socket"));
+        }
+        return DaemonProtocol.defaultSocketPath();
+    }
+    
+    private CLIConfig parseConfiguration(CommandLine cmd, Path workingDirectory) {
         CLIConfig.Builder builder = CLIConfig.builder();
+        builder.baseDirectory(workingDirectory);
         
         // Input patterns (required)
         String inputValue = cmd.getOptionValue("input");
@@ -106,29 +215,62 @@ public class LinterCLI {
         
         builder.inputPatterns(patterns);
         
+        // Exclusions
+        if (cmd.hasOption("exclude")) {
+            builder.excludePatterns(Arrays.stream(cmd.getOptionValue("exclude").split(","))
+                .map(String::trim)
+                .filter(s -> !s.isEmpty())
+                .collect(Collectors.toList()));
+        }
+        builder.ignoreFilesEnabled(cmd.hasOption("ignore-files"));
+        
+        // Changed files only
+        boolean staged = cmd.hasOption("staged") || cmd.hasOption("staged-content");
+        if (cmd.hasOption("changed-since") && staged) {
+            throw new IllegalArgumentException("--changed-since and --staged cannot be combined");
+        }
+        if (cmd.hasOption("changed-since")) {
+            String ref = cmd.getOptionValue("changed-since").trim();
+            if (ref.isEmpty() || ref.startsWith("-")) {
+                throw new IllegalArgumentException("Invalid changed-since value: " + ref + 
+                    ". Expected a git ref");
+            }
+            builder.changedSince(ref);
+        }
+        builder.stagedOnly(staged);
+        builder.stagedContent(cmd.hasOption("staged-content"));
+        
+        // Watch mode
+        if (cmd.hasOption("watch") && (cmd.hasOption("changed-since") || staged)) {
+            throw new IllegalArgumentException("--watch cannot be combined with --changed-since or --staged");
+        }
+        builder.watch(cmd.hasOption("watch"));
+        builder.includeChecksEnabled(cmd.hasOption("check-includes"));
+        
         // Config file
         if (cmd.hasOption("config")) {
-            builder.configFile(Paths.get(cmd.getOptionValue("config")));
+            builder.configFile(workingDirectory.resolve(cmd.getOptionValue("config")));
         }
         
         // Output config file
         if (cmd.hasOption("output-config")) {
-            builder.outputConfigFile(Paths.get(cmd.getOptionValue("output-config")));
+            builder.outputConfigFile(workingDirectory.resolve(cmd.getOptionValue("output-config")));
         }
         
         // Report format
         if (cmd.hasOption("report-format")) {
             String format = cmd.getOptionValue("report-format");
-            if (!format.equals("console") && !format.equals("json") && !format.equals("json-compact")) {
+            if (!format.equals("console") && !format.equals("json") && !format.equals("json-compact")
+                    && !format.equals("jsonl") && !format.equals("sarif")) {
                 throw new IllegalArgumentException("Invalid report format: " + format + 
-                    ". Valid values are: console, json, json-compact");
+                    ". Valid values are: console, json, json-compact, jsonl, sarif");
             }
             builder.reportFormat(format);
         }
         
         // Report output
         if (cmd.hasOption("report-output")) {
-            builder.reportOutput(Paths.get(cmd.getOptionValue("report-output")));
+            builder.reportOutput(workingDirectory.resolve(cmd.getOptionValue("report-output")));
         }
         
         // Fail level
@@ -142,6 +284,64 @@ public class LinterCLI {
             }
         }
         
+        // Parallel jobs
+        if (cmd.hasOption("jobs")) {
+            String jobs = cmd.getOptionValue("jobs");
+            try {
+                builder.jobs(Integer.parseInt(jobs.trim()));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid jobs value: " + jobs + 
+                    ". Expected a positive number");
+            }
+        }
+        
+        // Parallel discovery
+        if (cmd.hasOption("discovery-threads")) {
+            String threads = cmd.getOptionValue("discovery-threads");
+            try {
+                builder.discoveryThreads(Integer.parseInt(threads.trim()));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid discovery threads value: " + threads + 
+                    ". Expected a positive number");
+            }
+        }
+        
+        // Result order of parallel runs
+        if (cmd.hasOption("order-window") || cmd.hasOption("on-stall")) {
+            ResultOrder.Builder order = ResultOrder.builder();
+            if (cmd.hasOption("order-window")) {
+                String window = cmd.getOptionValue("order-window");
+                int size;
+                try {
+                    size = Integer.parseInt(window.trim());
+                } catch (NumberFormatException e) {
+                    size = 0;
+                }
+                if (size < 1) {
+                    throw new IllegalArgumentException("Invalid order window: " + window + 
+                        ". Expected a positive number");
+                }
+                order.window(size);
+            }
+            if (cmd.hasOption("on-stall")) {
+                String policy = cmd.getOptionValue("on-stall").toUpperCase();
+                try {
+                    order.stallPolicy(ResultOrder.StallPolicy.valueOf(policy));
+                } catch (IllegalArgumentException e) {
+                    throw new IllegalArgumentException("Invalid stall policy: " + policy + 
+                        ". Valid values are: wait, unordered");
+                }
+            }
+            builder.resultOrder(order.build());
+        }
+        
+        // Result cache
+        if (cmd.hasOption("cache-location")) {
+            builder.cacheDirectory(workingDirectory.resolve(cmd.getOptionValue("cache-location")));
+        } else if (cmd.hasOption("cache")) {
+            builder.cacheDirectory(workingDirectory.resolve(ResultCache.DEFAULT_DIRECTORY_NAME));
+        }
+        
         return builder.build();
     }
     
@@ -154,7 +354,15 @@ public class LinterCLI {
             "  " + PROGRAM_NAME + " -i \"**/*.adoc\"\n" +
             "  " + PROGRAM_NAME + " -i \"docs/**/*.adoc,examples/**/*.asciidoc\" -f json -o report.json\n" +
             "  " + PROGRAM_NAME + " --input \"src/*/docs/**/*.adoc,README.adoc\" --config strict.yaml --fail-level warn\n" +
+            "  " + PROGRAM_NAME + " -i \"**/*.adoc\" --exclude \"build/**,**/_*.adoc\" --ignore-files\n" +
+            "  " + PROGRAM_NAME + " -i \"**/*.adoc\" --changed-since origin/main\n" +
+            "  " + PROGRAM_NAME + " -i \"**/*.adoc\" --staged-content\n" +
             "  " + PROGRAM_NAME + " -i \"**/*.adoc\" --output-config enhanced-output.yaml\n" +
+            "  " + PROGRAM_NAME + " -i \"**/*.adoc\" --jobs 8\n" +
+            "  " + PROGRAM_NAME + " -i \"**/*.adoc\" --jobs 8 --order-window 64 --on-stall unordered\n" +
+            "  " + PROGRAM_NAME + " -i \"**/*.adoc\" --cache\n" +
+            "  " + PROGRAM_NAME + " -i \"docs/**/*.adoc\" --watch\n" +
+            "  " + PROGRAM_NAME + " --daemon &  " + PROGRAM_NAME + " -i \"**/*.adoc\" --use-daemon\n" +
             "\nAnt Pattern Syntax:\n" +
             "  **  - matches any number of directories\n" +
             "  *   - matches any number of characters (except /)\n" +
@@ -169,6 +377,6 @@ public class LinterCLI {
     }
     
     private void printVersion() {
-        System.out.println(PROGRAM_NAME + " version " + VERSION);
+        System.out.println(PROGRAM_NAME + " version " + Linter.VERSION);
     }
 }
\ No newline at end of file
@@ -0,0 +1,223 @@
+package com.example.linter.cli;
+
+import java.io.IOException;
+import java.nio.file.DirectoryIteratorException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Walks a directory tree with one fork/join task per directory and streams the
+ * files matching an {@link AntPatternSet} in a deterministic order.
+ *
+ * <p>Sibling directories are listed concurrently, so their {@code stat} calls
+ * overlap instead of queuing up on one thread, which is what dominates discovery
+ * on network file systems. Entries are only stat'ed if their name can still
+ * match a pattern. Files are returned sorted by name within every directory, and
+ * a subdirectory's files are returned at its place among its siblings, so the
+ * order does not depend on which task finishes first. The iterator hands out the
+ * first files while the rest of the tree is still being walked.</p>
+ *
+ * <p>Entries excluded by the {@link DiscoveryFilter} are skipped, excluded directories
+ * without being listed. Symbolic links are followed. A directory that is one of its own ancestors,
+ * recognized by its file key, is skipped, so link cycles cannot recurse forever.</p>
+ */
+final class ParallelFileWalker {
+
+    private static final Logger logger = LogManager.getLogger(ParallelFileWalker.class);
+    static final Comparator<Path> BY_NAME = Comparator.comparing(path -> path.getFileName().toString());
+
+    private final AntPatternSet patterns;
+    private final DiscoveryFilter filter;
+    private final int parallelism;
+
+    ParallelFileWalker(AntPatternSet patterns, DiscoveryFilter filter, int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism must be positive");
+        }
+        this.patterns = patterns;
+        this.filter = filter;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Starts walking the base directory and returns the matching files in walk order.
+     * The iterator blocks while the next file in that order is still being discovered.
+     *
+     * @param baseDir the directory the patterns are relative to
+     * @return the matching files
+     */
+    Iterator<Path> walk(Path baseDir) {
+        Object rootKey;
+        try {
+            BasicFileAttributes attrs = Files.readAttributes(baseDir, BasicFileAttributes.class);
+            if (!attrs.isDirectory()) {
+                return new WalkIterator(null, List.of());
+            }
+            rootKey = fileKey(baseDir, attrs);
+        } catch (IOException e) {
+            logger.debug("Skipping {}: {}", baseDir, e.getMessage());
+            return new WalkIterator(null, List.of());
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        DirectoryTask root = new DirectoryTask(baseDir, patterns.start(), filter.root(baseDir),
+            new Ancestors(rootKey, null));
+        pool.execute(root);
+        return new WalkIterator(pool, List.of(root));
+    }
+
+    static Object fileKey(Path dir, BasicFileAttributes attrs) throws IOException {
+        // File systems without inode-like keys fall back to the canonical path
+        return attrs.fileKey() != null ? attrs.fileKey() : dir.toRealPath();
+    }
+
+    /**
+     * Lists one directory. The result holds the matching files and the forked
+     * tasks of the subdirectories worth descending into, sorted by name.
+     */
+    private static final class DirectoryTask extends RecursiveTask<List<Object>> {
+        private final Path dir;
+        private final AntPatternSet.Position position;
+        private final DiscoveryFilter.Scope scope;
+        private final Ancestors ancestors;
+
+        DirectoryTask(Path dir, AntPatternSet.Position position, DiscoveryFilter.Scope scope, Ancestors ancestors) {
+            this.dir = dir;
+            this.position = position;
+            this.scope = scope;
+            this.ancestors = ancestors;
+        }
+
+        @Override
+        protected List<Object> compute() {
+            List<Path> children = new ArrayList<>();
+            try (DirectoryStream<Path> stream = Files.newDirectoryStream(dir)) {
+                stream.forEach(children::add);
+            } catch (IOException | DirectoryIteratorException e) {
+                logger.debug("Skipping {}: {}", dir, e.getMessage());
+                return List.of();
+            }
+            children.sort(BY_NAME);
+
+            List<Object> entries = new ArrayList<>();
+            for (Path child : children) {
+                String name = child.getFileName().toString();
+                AntPatternSet.Position childPosition = position.enter(name);
+                boolean fileMatches = childPosition.matchedPattern() >= 0;
+                if (childPosition.isDead() && !fileMatches) {
+                    // Neither a matching file nor a directory worth entering, no need to stat it
+                    continue;
+                }
+
+                try {
+                    BasicFileAttributes attrs = Files.readAttributes(child, BasicFileAttributes.class);
+                    if (attrs.isDirectory()) {
+                        if (childPosition.isDead()) {
+                            continue;
+                        }
+                        Object key = fileKey(child, attrs);
+                        if (ancestors.contains(key)) {
+                            logger.debug("Skipping {}: symbolic link cycle", child);
+                            continue;
+                        }
+                        DiscoveryFilter.Scope childScope = scope.enter(child);
+                        if (childScope == null) {
+                            continue;
+                        }
+                        DirectoryTask task = new DirectoryTask(child, childPosition, childScope,
+                            new Ancestors(key, ancestors));
+                        task.fork();
+                        entries.add(task);
+                    } else if (attrs.isRegularFile() && fileMatches && !scope.excludes(name)) {
+                        entries.add(child.normalize());
+                    }
+                } catch (IOException e) {
+                    logger.debug("Skipping {}: {}", child, e.getMessage());
+                }
+            }
+            return entries;
+        }
+    }
+
+    /**
+     * The file keys of the directories above a task, innermost first.
+     */
+    private static final class Ancestors {
+        private final Object key;
+        private final Ancestors parent;
+
+        Ancestors(Object key, Ancestors parent) {
+            this.key = key;
+            this.parent = parent;
+        }
+
+        boolean contains(Object candidate) {
+            for (Ancestors ancestor = this; ancestor != null; ancestor = ancestor.parent) {
+                if (ancestor.key.equals(candidate)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Visits the task results depth first, waiting for a directory only when its
+     * files are next in order. Shuts the pool down once the walk is exhausted.
+     */
+    private static final class WalkIterator implements Iterator<Path> {
+        private final ForkJoinPool pool;
+        private final Deque<Iterator<?>> stack = new ArrayDeque<>();
+        private Path next;
+
+        WalkIterator(ForkJoinPool pool, List<?> roots) {
+            this.pool = pool;
+            stack.push(roots.iterator());
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (next == null && !stack.isEmpty()) {
+                Iterator<?> entries = stack.peek();
+                if (!entries.hasNext()) {
+                    stack.pop();
+                    continue;
+                }
+                Object entry = entries.next();
+                if (entry instanceof DirectoryTask task) {
+                    stack.push(task.join().iterator());
+                } else {
+                    next = (Path) entry;
+                }
+            }
+            if (next == null && pool != null) {
+                pool.shutdown();
+            }
+            return next != null;
+        }
+
+        @Override
+        public Path next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Path result = next;
+            next = null;
+            return result;
+        }
+    }
+}
@@ -0,0 +1,352 @@
+package com.example.linter.cli;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.example.linter.Linter;
+import com.example.linter.ResultSink;
+import com.example.linter.cache.ResultCache;
+import com.example.linter.config.LinterConfiguration;
+import com.example.linter.validator.ValidationResult;
+
+/**
+ * Watches the input files and re-validates them as they change, keeping a warm
+ * {@link Linter} and the compiled configuration between runs.
+ *
+ * <p>Only directories an input pattern can reach are watched, plus the directories
+ * of the configuration file and of files named directly. Events are collected
+ * until none arrived for the debounce interval, so an editor's save burst causes
+ * a single run. Discovery is repeated for every burst, which is a cheap pruned
+ * walk, and only files that changed or appeared are validated again, together
+ * with the documents that include a changed file. The directories of included
+ * files are watched as well. A change to the configuration file reloads it and
+ * re-validates everything.</p>
+ *
+ * <p>On the console only the reports of the re-validated files are printed,
+ * followed by the totals over all watched files on the status stream. A report
+ * file is rewritten in full from the kept results instead.</p>
+ */
+final class WatchSession implements AutoCloseable {
+
+    static final Duration DEFAULT_DEBOUNCE = Duration.ofMillis(200);
+
+    private static final Logger logger = LogManager.getLogger(WatchSession.class);
+
+    private final CLIConfig config;
+    private final PrintStream status;
+    private final Duration debounce;
+    private final FileDiscoveryService fileDiscoveryService = new FileDiscoveryService();
+    private final CLIOutputHandler outputHandler = new CLIOutputHandler();
+    private final ConfigurationCache configurations = new ConfigurationCache();
+    private final ResultCache resultCache;
+    private final Linter linter;
+    private final WatchService watchService;
+    private final AntPatternSet patterns;
+    private final Map<WatchKey, Path> watchedDirectories = new HashMap<>();
+    private final Map<Path, AntPatternSet.Position> positions = new HashMap<>();
+    private final Map<Path, ValidationResult> results = new LinkedHashMap<>();
+    private LinterConfiguration linterConfig;
+
+    WatchSession(CLIConfig config, PrintStream status, Duration debounce) throws IOException {
+        this.config = Objects.requireNonNull(config, "config must not be null");
+        this.status = Objects.requireNonNull(status, "status must not be null");
+        this.debounce = Objects.requireNonNull(debounce, "debounce must not be null");
+        this.patterns = AntPatternSet.compile(config.getInputPatterns());
+        this.watchService = config.getBaseDirectory().getFileSystem().newWatchService();
+        this.resultCache = CLIRunner.createResultCache(config);
+        // Changed fragments are traced to the documents including them
+        this.linter = new Linter(1, resultCache, true, config.isIncludeChecksEnabled());
+    }
+
+    /**
+     * Validates all input files, then re-validates changes until the session is closed.
+     *
+     * @return the exit code for the results of the last run
+     * @throws IOException if the initial discovery or configuration fails
+     */
+    int run() throws IOException {
+        linterConfig = CLIRunner.loadLinterConfiguration(config, configurations);
+        registerTree(config.getBaseDirectory(), patterns.start());
+        watchConfigurationFile();
+
+        List<Path> files = discover();
+        validate(files, files);
+        status.printf("Watching %d files for changes, press Ctrl+C to stop%n", files.size());
+        printTotals();
+
+        try {
+            while (true) {
+                Set<Path> touched = new HashSet<>();
+                boolean overflow = awaitBurst(touched);
+                try {
+                    revalidate(touched, overflow);
+                } catch (IOException | UncheckedIOException e) {
+                    // Files may be halfway through being moved around, the next burst catches up
+                    status.println("Re-validation failed: " + e.getMessage());
+                }
+            }
+        } catch (ClosedWatchServiceException e) {
+            logger.debug("Watch session closed");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            linter.close();
+            if (resultCache != null) {
+                resultCache.close();
+            }
+        }
+        return exitCode();
+    }
+
+    /**
+     * Stops the session. A running {@link #run()} returns once it notices.
+     */
+    @Override
+    public void close() {
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            logger.debug("Closing the watch service failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Waits for the first event, then collects events until the debounce interval
+     * passes quietly.
+     *
+     * @return true if events were lost and everything has to be looked at again
+     */
+    private boolean awaitBurst(Set<Path> touched) throws InterruptedException {
+        boolean overflow = collect(watchService.take(), touched);
+        WatchKey key;
+        while ((key = watchService.poll(debounce.toMillis(), TimeUnit.MILLISECONDS)) != null) {
+            overflow |= collect(key, touched);
+        }
+        return overflow;
+    }
+
+    private boolean collect(WatchKey key, Set<Path> touched) {
+        Path dir = watchedDirectories.get(key);
+        if (dir == null) {
+            key.cancel();
+            return false;
+        }
+        boolean overflow = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == OVERFLOW) {
+                overflow = true;
+                continue;
+            }
+            Path child = dir.resolve((Path) event.context()).normalize();
+            touched.add(child);
+            AntPatternSet.Position position = positions.get(dir);
+            if (event.kind() == ENTRY_CREATE && position != null && Files.isDirectory(child)) {
+                registerTree(child, position.enter(child.getFileName().toString()));
+            }
+        }
+        if (!key.reset()) {
+            watchedDirectories.remove(key);
+            positions.remove(dir);
+        }
+        return overflow;
+    }
+
+    private void revalidate(Set<Path> touched, boolean overflow) throws IOException {
+        boolean configChanged = touched.contains(configurationFile());
+        if (configChanged) {
+            try {
+                linterConfig = CLIRunner.loadLinterConfiguration(config, configurations);
+                status.println("Configuration changed, re-validating all files");
+            } catch (IOException | RuntimeException e) {
+                status.println("Configuration is invalid, keeping the previous one: " + e.getMessage());
+                configChanged = false;
+            }
+        }
+
+        List<Path> files = discover();
+        Set<Path> current = new HashSet<>(files);
+        List<Path> removed = new ArrayList<>();
+        for (Path file : new ArrayList<>(results.keySet())) {
+            if (!current.contains(file)) {
+                results.remove(file);
+                removed.add(file);
+            }
+        }
+
+        Set<Path> affected = linter.getIncludeGraph().affectedBy(touched);
+        List<Path> changed = new ArrayList<>();
+        for (Path file : files) {
+            if (configChanged || overflow || touched.contains(file) || !results.containsKey(file)
+                    || affected.contains(file.toAbsolutePath().normalize())) {
+                changed.add(file);
+            }
+        }
+        if (changed.isEmpty() && removed.isEmpty()) {
+            return;
+        }
+
+        for (Path file : removed) {
+            status.println("Removed " + file);
+        }
+        validate(changed, files);
+        if (!changed.isEmpty()) {
+            status.printf("Re-validated %d of %d files%n", changed.size(), results.size());
+        }
+        printTotals();
+    }
+
+    private List<Path> discover() throws IOException {
+        List<Path> files = new ArrayList<>();
+        for (Path file : fileDiscoveryService.discoverFiles(config)) {
+            Path normalized = file.normalize();
+            files.add(normalized);
+            Path parent = normalized.getParent();
+            if (parent != null && !positions.containsKey(parent)) {
+                // A file named directly, possibly outside the base directory
+                register(parent, null);
+            }
+        }
+        return files;
+    }
+
+    /**
+     * Validates the given files, merges their results in discovery order and reports them.
+     *
+     * @param files the files to validate
+     * @param discovered all discovered files, in discovery order
+     */
+    private void validate(List<Path> files, List<Path> discovered) throws IOException {
+        if (files.isEmpty()) {
+            return;
+        }
+        Map<Path, ValidationResult> validated = new LinkedHashMap<>();
+        linter.validateFiles(files, linterConfig, config.getJobs(), config.getResultOrder(), validated::put);
+
+        // Keep discovery order so a rewritten report file stays stable
+        Map<Path, ValidationResult> merged = new LinkedHashMap<>();
+        for (Path file : discovered) {
+            ValidationResult result = validated.containsKey(file) ? validated.get(file) : results.get(file);
+            if (result != null) {
+                merged.put(file, result);
+            }
+        }
+        results.clear();
+        results.putAll(merged);
+        watchIncludes(validated.keySet());
+
+        report(config.isOutputToFile() ? results : validated);
+    }
+
+    private void report(Map<Path, ValidationResult> toReport) throws IOException {
+        ResultSink sink = outputHandler.openMultipleReports(config);
+        toReport.forEach(sink::onResult);
+        sink.onComplete();
+    }
+
+    private void printTotals() {
+        int errors = 0;
+        int warnings = 0;
+        int infos = 0;
+        for (ValidationResult result : results.values()) {
+            errors += result.getErrorCount();
+            warnings += result.getWarningCount();
+            infos += result.getInfoCount();
+        }
+        status.printf("%d errors, %d warnings, %d infos in %d files%n", errors, warnings, infos, results.size());
+    }
+
+    private int exitCode() {
+        boolean errors = results.values().stream().anyMatch(ValidationResult::hasErrors);
+        boolean warnings = results.values().stream().anyMatch(ValidationResult::hasWarnings);
+        boolean messages = results.values().stream().anyMatch(ValidationResult::hasMessages);
+        return CLIRunner.determineExitCode(errors, warnings, messages, config.getFailLevel());
+    }
+
+    private Path configurationFile() {
+        Path configFile = config.getConfigFile() != null ? config.getConfigFile() : CLIRunner.defaultConfigFile(config);
+        return configFile.normalize();
+    }
+
+    /**
+     * Watches the directories of files the given documents include.
+     */
+    private void watchIncludes(Set<Path> documents) {
+        for (Path document : documents) {
+            for (Path dependency : linter.getIncludeGraph().dependenciesOf(document)) {
+                Path parent = dependency.getParent();
+                if (parent != null && !positions.containsKey(parent) && Files.isDirectory(parent)) {
+                    register(parent, null);
+                }
+            }
+        }
+    }
+
+    private void watchConfigurationFile() throws IOException {
+        Path parent = configurationFile().getParent();
+        if (parent != null && !positions.containsKey(parent)) {
+            register(parent, null);
+        }
+    }
+
+    /**
+     * Watches a directory and every subdirectory a pattern can still reach.
+     */
+    private void registerTree(Path dir, AntPatternSet.Position position) {
+        if (position.isDead() || !register(dir, position)) {
+            return;
+        }
+        try (DirectoryStream<Path> children = Files.newDirectoryStream(dir, Files::isDirectory)) {
+            for (Path child : children) {
+                registerTree(child, position.enter(child.getFileName().toString()));
+            }
+        } catch (IOException e) {
+            logger.debug("Not watching below {}: {}", dir, e.getMessage());
+        }
+    }
+
+    /**
+     * Watches a single directory. Directories watched without a position only
+     * report their own entries and are not descended into on creation.
+     */
+    private boolean register(Path dir, AntPatternSet.Position position) {
+        Path normalized = dir.normalize();
+        if (positions.containsKey(normalized) && (position == null || positions.get(normalized) != null)) {
+            return false;
+        }
+        try {
+            WatchKey key = normalized.register(watchService, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE);
+            watchedDirectories.put(key, normalized);
+            positions.put(normalized, position);
+            return true;
+        } catch (IOException e) {
+            logger.debug("Cannot watch {}: {}", normalized, e.getMessage());
+            return false;
+        }
+    }
+}
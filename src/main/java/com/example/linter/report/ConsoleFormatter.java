@@ -1,12 +1,14 @@
 package com.example.linter.report;
 
 import java.io.PrintWriter;
+import java.nio.file.Path;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.stream.Collectors;
 
+import com.example.linter.ResultSink;
 import com.example.linter.config.output.OutputConfiguration;
 import com.example.linter.config.output.OutputFormat;
 import com.example.linter.report.console.GroupingEngine;
@@ -14,6 +16,7 @@ import com.example.linter.report.console.MessageGroup;
 import com.example.linter.report.console.MessageGroups;
 import com.example.linter.report.console.MessageRenderer;
 import com.example.linter.report.console.SummaryRenderer;
+import com.example.linter.report.console.SummaryStatistics;
 import com.example.linter.validator.ValidationMessage;
 import com.example.linter.validator.ValidationResult;
 
@@ -66,6 +69,23 @@ public class ConsoleFormatter implements ReportFormatter {
         }
     }
     
+    /**
+     * Opens a sink that prints each file's messages as soon as its result arrives.
+     * Error grouping needs every message up front, so it falls back to
+     * formatting the complete report at the end.
+     */
+    @Override
+    public ResultSink openSink(PrintWriter writer) {
+        if (isGroupingEnabled()) {
+            return ReportFormatter.super.openSink(writer);
+        }
+        return new StreamingSink(writer);
+    }
+    
+    private boolean isGroupingEnabled() {
+        return config.getErrorGrouping().isEnabled() && config.getFormat() != OutputFormat.COMPACT;
+    }
+    
     private void renderHeader(PrintWriter writer) {
         if (config.getFormat() != OutputFormat.COMPACT) {
             writer.println("Validation Report");
@@ -78,7 +98,7 @@ public class ConsoleFormatter implements ReportFormatter {
         List<ValidationMessage> messages = result.getMessages();
         
         // Grouping if enabled
-        if (config.getErrorGrouping().isEnabled() && config.getFormat() != OutputFormat.COMPACT) {
+        if (isGroupingEnabled()) {
             MessageGroups groups = groupingEngine.group(messages);
             
             // Ungrouped messages first
@@ -98,10 +118,7 @@ public class ConsoleFormatter implements ReportFormatter {
                 renderCompactMessages(messages, writer);
             } else {
                 // Standard format: group by file
-                Map<String, List<ValidationMessage>> byFile = groupByFile(messages);
-                for (Map.Entry<String, List<ValidationMessage>> entry : byFile.entrySet()) {
-                    renderFileMessages(entry.getKey(), entry.getValue(), writer);
-                }
+                renderUngroupedMessages(messages, writer);
             }
         }
     }
@@ -183,6 +200,55 @@ public class ConsoleFormatter implements ReportFormatter {
         }
     }
     
+    /**
+     * Renders results file by file and keeps only summary counters between files.
+     */
+    private final class StreamingSink implements ResultSink {
+        private final PrintWriter writer;
+        private final SummaryStatistics statistics;
+        private boolean messagesRendered;
+        
+        StreamingSink(PrintWriter writer) {
+            this.writer = Objects.requireNonNull(writer, "writer must not be null");
+            this.statistics = new SummaryStatistics();
+            if (config.getDisplay().isShowHeader()) {
+                renderHeader(writer);
+            }
+        }
+        
+        @Override
+        public void onResult(Path file, ValidationResult result) {
+            List<ValidationMessage> messages = result.getMessages();
+            if (messages.isEmpty()) {
+                return;
+            }
+            
+            statistics.addAll(result);
+            if (config.getFormat() == OutputFormat.COMPACT) {
+                renderCompactMessages(messages, writer);
+            } else {
+                renderUngroupedMessages(messages, writer);
+            }
+            messagesRendered = true;
+            
+            // Source lines of this file are not needed again
+            messageRenderer.clearCache();
+            writer.flush();
+        }
+        
+        @Override
+        public void onComplete() {
+            statistics.complete();
+            if (!messagesRendered) {
+                renderNoIssuesFound(writer);
+            }
+            if (config.getSummary().isEnabled()) {
+                summaryRenderer.render(statistics, writer);
+            }
+            writer.flush();
+        }
+    }
+    
     @Override
     public String getName() {
         return "console";
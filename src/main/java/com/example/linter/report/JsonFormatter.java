@@ -2,30 +2,35 @@ package com.example.linter.report;
 
 import java.io.IOException;
 import java.io.PrintWriter;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
 import java.time.Instant;
 import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
-import java.util.LinkedHashMap;
-import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.Objects;
+import java.util.Optional;
 
+import com.example.linter.ResultSink;
 import com.example.linter.validator.ValidationMessage;
 import com.example.linter.validator.ValidationResult;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 
 /**
  * Formats validation results as JSON using Jackson.
  * Supports both pretty-printed and compact (single-line) output formats.
+ * Messages are written straight through a {@link JsonGenerator}, without
+ * building a tree of the report first.
  */
 public class JsonFormatter implements ReportFormatter {
     
-    private static final DateTimeFormatter ISO_FORMATTER = 
+    static final DateTimeFormatter ISO_FORMATTER = 
         DateTimeFormatter.ISO_INSTANT.withZone(ZoneOffset.UTC);
     
     private final String name;
-    private final ObjectMapper objectMapper;
+    private final ObjectWriter objectWriter;
     
     /**
      * Creates a JSON formatter with the specified name and pretty-print setting.
@@ -35,13 +40,14 @@ public class JsonFormatter implements ReportFormatter {
      */
     public JsonFormatter(String name, boolean prettyPrint) {
         this.name = name;
-        this.objectMapper = new ObjectMapper();
+        ObjectMapper objectMapper = new ObjectMapper();
         
         if (prettyPrint) {
-            this.objectMapper.enable(SerializationFeature.INDENT_OUTPUT);
+            objectMapper.enable(SerializationFeature.INDENT_OUTPUT);
         } else {
-            this.objectMapper.disable(SerializationFeature.INDENT_OUTPUT);
+            objectMapper.disable(SerializationFeature.INDENT_OUTPUT);
         }
+        this.objectWriter = objectMapper.writer();
     }
     
     /**
@@ -64,65 +70,88 @@ public class JsonFormatter implements ReportFormatter {
     
     @Override
     public void format(ValidationResult result, PrintWriter writer) {
-        Map<String, Object> root = new LinkedHashMap<>();
-        
-        // Timestamp
-        root.put("timestamp", ISO_FORMATTER.format(Instant.now()));
-        
-        // Duration
-        root.put("duration", formatDuration(result.getValidationTimeMillis()));
-        
-        // Summary
-        Map<String, Object> summary = new LinkedHashMap<>();
-        summary.put("totalMessages", result.getMessages().size());
-        summary.put("errors", result.getErrorCount());
-        summary.put("warnings", result.getWarningCount());
-        summary.put("infos", result.getInfoCount());
-        root.put("summary", summary);
-        
-        // Messages
-        List<Map<String, Object>> messages = result.getMessages().stream()
-            .map(this::formatMessage)
-            .collect(Collectors.toList());
-        root.put("messages", messages);
-        
-        // Write JSON to PrintWriter
-        try {
-            objectMapper.writeValue(writer, root);
-            writer.flush();
+        try (JsonGenerator generator = createGenerator(writer)) {
+            generator.writeStartObject();
+            generator.writeStringField("timestamp", ISO_FORMATTER.format(Instant.now()));
+            generator.writeStringField("duration", formatDuration(result.getValidationTimeMillis()));
+            writeSummary(generator, result.getMessages().size(),
+                result.getErrorCount(), result.getWarningCount(), result.getInfoCount());
+            
+            generator.writeArrayFieldStart("messages");
+            for (ValidationMessage message : result.getMessages()) {
+                writeMessage(generator, message);
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
         } catch (IOException e) {
             throw new RuntimeException("Failed to write JSON output", e);
         }
+        writer.flush();
     }
     
-    private Map<String, Object> formatMessage(ValidationMessage msg) {
-        Map<String, Object> msgMap = new LinkedHashMap<>();
-        
-        msgMap.put("file", msg.getLocation().getFilename());
-        msgMap.put("line", msg.getLocation().getStartLine());
+    /**
+     * Opens a sink that writes each file's messages as soon as its result arrives.
+     * The duration and summary are only known at the end, so a streamed report
+     * lists them after the messages. Only the counters are kept between files.
+     */
+    @Override
+    public ResultSink openSink(PrintWriter writer) {
+        return new StreamingSink(writer);
+    }
+    
+    private JsonGenerator createGenerator(PrintWriter writer) throws IOException {
+        // The caller owns the writer, closing the generator only flushes it
+        return objectWriter.createGenerator(writer)
+            .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    }
+    
+    private void writeSummary(JsonGenerator generator, int total, int errors, int warnings, int infos)
+            throws IOException {
+        generator.writeObjectFieldStart("summary");
+        generator.writeNumberField("totalMessages", total);
+        generator.writeNumberField("errors", errors);
+        generator.writeNumberField("warnings", warnings);
+        generator.writeNumberField("infos", infos);
+        generator.writeEndObject();
+    }
+    
+    private void writeMessage(JsonGenerator generator, ValidationMessage msg) throws IOException {
+        generator.writeStartObject();
+        writeMessageFields(generator, msg);
+        generator.writeEndObject();
+    }
+    
+    /**
+     * Writes the fields of a message into the current object.
+     */
+    static void writeMessageFields(JsonGenerator generator, ValidationMessage msg) throws IOException {
+        generator.writeStringField("file", msg.getLocation().getFilename());
+        generator.writeNumberField("line", msg.getLocation().getStartLine());
         
         if (msg.getLocation().getStartColumn() > 1) {
-            msgMap.put("column", msg.getLocation().getStartColumn());
+            generator.writeNumberField("column", msg.getLocation().getStartColumn());
         }
         
-        msgMap.put("severity", msg.getSeverity().toString());
-        msgMap.put("message", msg.getMessage());
+        generator.writeStringField("severity", msg.getSeverity().toString());
+        generator.writeStringField("message", msg.getMessage());
         
         // Optional fields
         if (msg.getRuleId() != null) {
-            msgMap.put("ruleId", msg.getRuleId());
+            generator.writeStringField("ruleId", msg.getRuleId());
         }
         
-        msg.getActualValue().ifPresent(value -> 
-            msgMap.put("actualValue", value));
-        
-        msg.getExpectedValue().ifPresent(value -> 
-            msgMap.put("expectedValue", value));
+        Optional<String> actualValue = msg.getActualValue();
+        if (actualValue.isPresent()) {
+            generator.writeStringField("actualValue", actualValue.get());
+        }
         
-        return msgMap;
+        Optional<String> expectedValue = msg.getExpectedValue();
+        if (expectedValue.isPresent()) {
+            generator.writeStringField("expectedValue", expectedValue.get());
+        }
     }
     
-    private String formatDuration(long millis) {
+    static String formatDuration(long millis) {
         if (millis < 1000) {
             return millis + "ms";
         } else {
@@ -130,6 +159,60 @@ public class JsonFormatter implements ReportFormatter {
         }
     }
     
+    /**
+     * Writes messages through the generator as results arrive and keeps only the counts.
+     */
+    private final class StreamingSink implements ResultSink {
+        private final PrintWriter writer;
+        private final JsonGenerator generator;
+        private final long startTime = System.currentTimeMillis();
+        private int totalCount;
+        private int errorCount;
+        private int warningCount;
+        private int infoCount;
+        
+        StreamingSink(PrintWriter writer) {
+            this.writer = Objects.requireNonNull(writer, "writer must not be null");
+            try {
+                this.generator = createGenerator(writer);
+                generator.writeStartObject();
+                generator.writeStringField("timestamp", ISO_FORMATTER.format(Instant.now()));
+                generator.writeArrayFieldStart("messages");
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to write JSON output", e);
+            }
+        }
+        
+        @Override
+        public void onResult(Path file, ValidationResult result) {
+            totalCount += result.getMessages().size();
+            errorCount += result.getErrorCount();
+            warningCount += result.getWarningCount();
+            infoCount += result.getInfoCount();
+            try {
+                for (ValidationMessage message : result.getMessages()) {
+                    writeMessage(generator, message);
+                }
+                generator.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to write JSON output", e);
+            }
+        }
+        
+        @Override
+        public void onComplete() {
+            try (generator) {
+                generator.writeEndArray();
+                generator.writeStringField("duration", formatDuration(System.currentTimeMillis() - startTime));
+                writeSummary(generator, totalCount, errorCount, warningCount, infoCount);
+                generator.writeEndObject();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to write JSON output", e);
+            }
+            writer.flush();
+        }
+    }
+    
     @Override
     public String getName() {
         return name;
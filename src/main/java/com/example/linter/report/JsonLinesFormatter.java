@@ -0,0 +1,115 @@
+package com.example.linter.report;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Objects;
+
+import com.example.linter.ResultSink;
+import com.example.linter.validator.ValidationMessage;
+import com.example.linter.validator.ValidationResult;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+/**
+ * Formats validation results as JSON Lines: one self-contained JSON object per
+ * message and a final summary record, each on its own line.
+ *
+ * <p>Records carry a {@code type} of {@code message} or {@code summary}, so
+ * line-oriented tools can tell them apart. Message records have the fields of
+ * the messages in the {@code json} format. A streamed report is flushed after
+ * every file and keeps only its counters between files.</p>
+ */
+public class JsonLinesFormatter implements ReportFormatter {
+
+    private static final char RECORD_SEPARATOR = '\n';
+
+    private final JsonFactory jsonFactory = new JsonFactory();
+
+    @Override
+    public void format(ValidationResult result, PrintWriter writer) {
+        StreamingSink sink = new StreamingSink(writer);
+        sink.onResult(null, result);
+        sink.complete(result.getValidationTimeMillis());
+    }
+
+    @Override
+    public ResultSink openSink(PrintWriter writer) {
+        return new StreamingSink(writer);
+    }
+
+    @Override
+    public String getName() {
+        return "jsonl";
+    }
+
+    /**
+     * Writes one record per message as results arrive and the summary record at the end.
+     */
+    private final class StreamingSink implements ResultSink {
+        private final PrintWriter writer;
+        private final JsonGenerator generator;
+        private final long startTime = System.currentTimeMillis();
+        private int totalCount;
+        private int errorCount;
+        private int warningCount;
+        private int infoCount;
+
+        StreamingSink(PrintWriter writer) {
+            this.writer = Objects.requireNonNull(writer, "writer must not be null");
+            try {
+                // Records end with a line break of their own instead of being separated by spaces
+                this.generator = jsonFactory.createGenerator(writer)
+                    .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                    .setRootValueSeparator(null);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to write JSON Lines output", e);
+            }
+        }
+
+        @Override
+        public void onResult(Path file, ValidationResult result) {
+            totalCount += result.getMessages().size();
+            errorCount += result.getErrorCount();
+            warningCount += result.getWarningCount();
+            infoCount += result.getInfoCount();
+            try {
+                for (ValidationMessage message : result.getMessages()) {
+                    generator.writeStartObject();
+                    generator.writeStringField("type", "message");
+                    JsonFormatter.writeMessageFields(generator, message);
+                    generator.writeEndObject();
+                    generator.writeRaw(RECORD_SEPARATOR);
+                }
+                generator.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to write JSON Lines output", e);
+            }
+        }
+
+        @Override
+        public void onComplete() {
+            complete(System.currentTimeMillis() - startTime);
+        }
+
+        void complete(long durationMillis) {
+            try (generator) {
+                generator.writeStartObject();
+                generator.writeStringField("type", "summary");
+                generator.writeStringField("timestamp", JsonFormatter.ISO_FORMATTER.format(Instant.now()));
+                generator.writeStringField("duration", JsonFormatter.formatDuration(durationMillis));
+                generator.writeNumberField("totalMessages", totalCount);
+                generator.writeNumberField("errors", errorCount);
+                generator.writeNumberField("warnings", warningCount);
+                generator.writeNumberField("infos", infoCount);
+                generator.writeEndObject();
+                generator.writeRaw(RECORD_SEPARATOR);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to write JSON Lines output", e);
+            }
+            writer.flush();
+        }
+    }
+}
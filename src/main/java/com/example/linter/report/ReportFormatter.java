@@ -1,7 +1,11 @@
 package com.example.linter.report;
 
 import java.io.PrintWriter;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 
+import com.example.linter.ResultSink;
 import com.example.linter.validator.ValidationResult;
 
 /**
@@ -17,6 +21,32 @@ public interface ReportFormatter {
      */
     void format(ValidationResult result, PrintWriter writer);
     
+    /**
+     * Opens a sink that writes a report covering all results it receives.
+     * The default implementation keeps every result and formats them as one
+     * composed result once the sink is completed; formatters that can write
+     * results as they arrive should override this.
+     * 
+     * @param writer the writer to output the formatted report
+     * @return a sink that must be completed to finish the report
+     */
+    default ResultSink openSink(PrintWriter writer) {
+        long startTime = System.currentTimeMillis();
+        List<ValidationResult> results = new ArrayList<>();
+        return new ResultSink() {
+            @Override
+            public void onResult(Path file, ValidationResult result) {
+                results.add(result);
+            }
+            
+            @Override
+            public void onComplete() {
+                format(ValidationResult.compose(results, startTime, System.currentTimeMillis()), writer);
+                writer.flush();
+            }
+        };
+    }
+    
     /**
      * Returns the name of this formatter (e.g., "console", "json").
      * 
@@ -1,15 +1,20 @@
 package com.example.linter.report;
 
-import java.io.FileWriter;
+import java.io.BufferedWriter;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
 import java.io.PrintWriter;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.zip.GZIPOutputStream;
 
+import com.example.linter.ResultSink;
 import com.example.linter.config.output.OutputConfiguration;
 import com.example.linter.validator.ValidationResult;
 
@@ -19,6 +24,8 @@ import com.example.linter.validator.ValidationResult;
  */
 public class ReportWriter {
     
+    private static final String GZIP_EXTENSION = ".gz";
+    
     private final Map<String, ReportFormatter> formatters;
     
     public ReportWriter() {
@@ -30,6 +37,8 @@ public class ReportWriter {
         // Console formatter will be created dynamically with output config
         registerFormatter(JsonFormatter.pretty());
         registerFormatter(JsonFormatter.compact());
+        registerFormatter(new JsonLinesFormatter());
+        registerFormatter(new SarifFormatter());
     }
     
     /**
@@ -118,6 +127,22 @@ public class ReportWriter {
         writer.flush();
     }
     
+    /**
+     * Opens a sink that writes a report for all results it receives to a PrintWriter.
+     * The writer is flushed but not closed when the sink completes.
+     * 
+     * @param format the output format
+     * @param writer the writer to write to
+     * @param outputConfig the output configuration for console format, or null for default
+     * @return a sink that must be completed to finish the report
+     */
+    public ResultSink openSink(String format, PrintWriter writer, OutputConfiguration outputConfig) {
+        Objects.requireNonNull(writer, "writer must not be null");
+        
+        ReportFormatter formatter = getFormatter(format, outputConfig);
+        return formatter.openSink(writer);
+    }
+    
     /**
      * Writes the validation result to the console using the specified format.
      * 
@@ -151,12 +176,29 @@ public class ReportWriter {
     
     private void writeToFile(ValidationResult result, ReportFormatter formatter, String outputPath) 
             throws IOException {
-        try (PrintWriter writer = new PrintWriter(
-                new FileWriter(outputPath, StandardCharsets.UTF_8))) {
+        try (PrintWriter writer = openFileWriter(Path.of(outputPath))) {
             formatter.format(result, writer);
         }
     }
     
+    /**
+     * Opens a UTF-8 writer for a report file. Files named with a {@code .gz}
+     * extension are gzip compressed; every flush of the writer completes a
+     * compressed block, so a report flushed per file can be read while it grows.
+     * 
+     * @param file the report file
+     * @return the writer, which must be closed to finish the file
+     * @throws IOException if the file cannot be created
+     */
+    public static PrintWriter openFileWriter(Path file) throws IOException {
+        Objects.requireNonNull(file, "file must not be null");
+        OutputStream out = Files.newOutputStream(file);
+        if (file.getFileName().toString().endsWith(GZIP_EXTENSION)) {
+            out = new GZIPOutputStream(out, true);
+        }
+        return new PrintWriter(new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8)));
+    }
+    
     private ReportFormatter getFormatter(String format, OutputConfiguration outputConfig) {
         String formatName = format != null ? format.toLowerCase() : "console";
         
@@ -0,0 +1,339 @@
+package com.example.linter.report;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import com.example.linter.Linter;
+import com.example.linter.ResultSink;
+import com.example.linter.config.Severity;
+import com.example.linter.validator.SourceLocation;
+import com.example.linter.validator.Suggestion;
+import com.example.linter.validator.ValidationMessage;
+import com.example.linter.validator.ValidationResult;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+/**
+ * Formats validation results as a SARIF 2.1.0 log with a single run, for
+ * code-scanning tools.
+ *
+ * <p>Results are written as they arrive. Every rule is described once in the
+ * {@code tool.driver.rules} table, and results refer to it by index. The table
+ * is only complete at the end, so the run lists its results before its tool,
+ * which SARIF permits. Only the table is kept between files.</p>
+ *
+ * <p>Rules are described by their ID alone: the severity of a rule is configured
+ * per attribute or block, so there is no single default level, and every result
+ * carries the level its configuration gave it.</p>
+ *
+ * <p>Suggestions with a fixed value become fixes replacing the columns the
+ * message points at. Messages about a whole line get a fix replacing that line
+ * if its source holds the actual value exactly once. Every other suggestion is
+ * kept in the result's {@code properties}.</p>
+ */
+public class SarifFormatter implements ReportFormatter {
+
+    static final String SCHEMA = "https://json.schemastore.org/sarif-2.1.0.json";
+    static final String VERSION = "2.1.0";
+    static final String TOOL_NAME = "Power AsciiDoc Linter";
+
+    private final JsonFactory jsonFactory = new JsonFactory();
+
+    @Override
+    public void format(ValidationResult result, PrintWriter writer) {
+        ResultSink sink = openSink(writer);
+        sink.onResult(null, result);
+        sink.onComplete();
+    }
+
+    @Override
+    public ResultSink openSink(PrintWriter writer) {
+        return new StreamingSink(writer);
+    }
+
+    @Override
+    public String getName() {
+        return "sarif";
+    }
+
+    /**
+     * Returns the SARIF level of a severity.
+     */
+    static String level(Severity severity) {
+        return switch (severity) {
+            case ERROR -> "error";
+            case WARN -> "warning";
+            case INFO -> "note";
+        };
+    }
+
+    /**
+     * Returns the URI of a file: a {@code file} URI for absolute paths, a
+     * relative reference with forward slashes otherwise.
+     */
+    static String toUri(String filename) {
+        try {
+            Path path = Path.of(filename);
+            if (path.isAbsolute()) {
+                return path.toUri().toASCIIString();
+            }
+        } catch (InvalidPathException e) {
+            // Not a path of this file system, encode it as it is
+        }
+        String reference = filename.replace('\\', '/');
+        try {
+            return new URI(null, null, reference, null).toASCIIString();
+        } catch (URISyntaxException e) {
+            return reference;
+        }
+    }
+
+    /**
+     * Describes a rule by its ID, which names what is checked from the general to
+     * the specific: {@code table.caption.maxLength} becomes "Table caption max length".
+     */
+    static String describe(String ruleId) {
+        StringBuilder description = new StringBuilder(ruleId.length() + 8);
+        for (int i = 0; i < ruleId.length(); i++) {
+            char c = ruleId.charAt(i);
+            if (c == '.' || c == '-' || c == '_') {
+                description.append(' ');
+            } else if (Character.isUpperCase(c)) {
+                description.append(' ').append(Character.toLowerCase(c));
+            } else {
+                description.append(c);
+            }
+        }
+        if (description.length() > 0) {
+            description.setCharAt(0, Character.toUpperCase(description.charAt(0)));
+        }
+        return description.toString();
+    }
+
+    /**
+     * Returns the line that results from applying a fixed value to a message about a
+     * whole line, or null if the line's source does not hold the actual value exactly once.
+     */
+    static String fixedLine(ValidationMessage message, Suggestion suggestion) {
+        SourceLocation location = message.getLocation();
+        String sourceLine = location.getSourceLine();
+        String actual = message.getActualValue().orElse(null);
+        if (sourceLine == null || actual == null || actual.isEmpty() || location.isMultiLine()) {
+            return null;
+        }
+        int start = sourceLine.indexOf(actual);
+        if (start < 0 || start != sourceLine.lastIndexOf(actual)) {
+            return null;
+        }
+        return sourceLine.substring(0, start) + suggestion.getFixedValue() + sourceLine.substring(start + actual.length());
+    }
+
+    /**
+     * Writes results as they arrive and the tool with its rule table at the end.
+     */
+    private final class StreamingSink implements ResultSink {
+        private final PrintWriter writer;
+        private final JsonGenerator generator;
+        private final Map<String, Integer> ruleIndexes = new HashMap<>();
+        private final List<String> rules = new ArrayList<>();
+
+        StreamingSink(PrintWriter writer) {
+            this.writer = Objects.requireNonNull(writer, "writer must not be null");
+            try {
+                this.generator = jsonFactory.createGenerator(writer)
+                    .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                generator.writeStartObject();
+                generator.writeStringField("$schema", SCHEMA);
+                generator.writeStringField("version", VERSION);
+                generator.writeArrayFieldStart("runs");
+                generator.writeStartObject();
+                generator.writeArrayFieldStart("results");
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to write SARIF output", e);
+            }
+        }
+
+        @Override
+        public void onResult(Path file, ValidationResult result) {
+            try {
+                for (ValidationMessage message : result.getMessages()) {
+                    writeResult(message);
+                }
+                generator.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to write SARIF output", e);
+            }
+        }
+
+        @Override
+        public void onComplete() {
+            try (generator) {
+                generator.writeEndArray();
+                writeTool();
+                generator.writeEndObject();
+                generator.writeEndArray();
+                generator.writeEndObject();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to write SARIF output", e);
+            }
+            writer.flush();
+        }
+
+        private int ruleIndex(String ruleId) {
+            Integer index = ruleIndexes.get(ruleId);
+            if (index == null) {
+                index = rules.size();
+                ruleIndexes.put(ruleId, index);
+                rules.add(ruleId);
+            }
+            return index;
+        }
+
+        private void writeResult(ValidationMessage message) throws IOException {
+            SourceLocation location = message.getLocation();
+            String uri = toUri(location.getFilename());
+            boolean hasColumns = location.getStartColumn() > 1 && location.getEndColumn() >= location.getStartColumn();
+
+            generator.writeStartObject();
+            generator.writeStringField("ruleId", message.getRuleId());
+            generator.writeNumberField("ruleIndex", ruleIndex(message.getRuleId()));
+            generator.writeStringField("level", level(message.getSeverity()));
+            generator.writeObjectFieldStart("message");
+            generator.writeStringField("text", message.getMessage());
+            generator.writeEndObject();
+
+            generator.writeArrayFieldStart("locations");
+            generator.writeStartObject();
+            generator.writeObjectFieldStart("physicalLocation");
+            writeArtifactLocation(uri);
+            writeRegion("region", location, hasColumns);
+            generator.writeEndObject();
+            generator.writeEndObject();
+            generator.writeEndArray();
+
+            List<Suggestion> unfixed = writeFixes(message, uri, hasColumns);
+            if (!unfixed.isEmpty()) {
+                writeSuggestionProperties(unfixed);
+            }
+            generator.writeEndObject();
+        }
+
+        /**
+         * Writes the suggestions that can be applied as fixes and returns the others.
+         */
+        private List<Suggestion> writeFixes(ValidationMessage message, String uri, boolean hasColumns)
+                throws IOException {
+            List<Suggestion> unfixed = new ArrayList<>();
+            boolean started = false;
+            for (Suggestion suggestion : message.getSuggestions()) {
+                String inserted = null;
+                if (suggestion.hasFixedValue()) {
+                    inserted = hasColumns ? suggestion.getFixedValue() : fixedLine(message, suggestion);
+                }
+                if (inserted == null) {
+                    unfixed.add(suggestion);
+                    continue;
+                }
+                if (!started) {
+                    generator.writeArrayFieldStart("fixes");
+                    started = true;
+                }
+                generator.writeStartObject();
+                generator.writeObjectFieldStart("description");
+                generator.writeStringField("text", suggestion.getDescription());
+                generator.writeEndObject();
+                generator.writeArrayFieldStart("artifactChanges");
+                generator.writeStartObject();
+                writeArtifactLocation(uri);
+                generator.writeArrayFieldStart("replacements");
+                generator.writeStartObject();
+                // Without columns the region covers the whole line, its line break excluded
+                writeRegion("deletedRegion", message.getLocation(), hasColumns);
+                generator.writeObjectFieldStart("insertedContent");
+                generator.writeStringField("text", inserted);
+                generator.writeEndObject();
+                generator.writeEndObject();
+                generator.writeEndArray();
+                generator.writeEndObject();
+                generator.writeEndArray();
+                generator.writeEndObject();
+            }
+            if (started) {
+                generator.writeEndArray();
+            }
+            return unfixed;
+        }
+
+        private void writeSuggestionProperties(List<Suggestion> suggestions) throws IOException {
+            generator.writeObjectFieldStart("properties");
+            generator.writeArrayFieldStart("suggestions");
+            for (Suggestion suggestion : suggestions) {
+                generator.writeStartObject();
+                generator.writeStringField("description", suggestion.getDescription());
+                if (suggestion.hasFixedValue()) {
+                    generator.writeStringField("fixedValue", suggestion.getFixedValue());
+                }
+                if (suggestion.getExplanation() != null) {
+                    generator.writeStringField("explanation", suggestion.getExplanation());
+                }
+                generator.writeEndObject();
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+
+        private void writeArtifactLocation(String uri) throws IOException {
+            generator.writeObjectFieldStart("artifactLocation");
+            generator.writeStringField("uri", uri);
+            generator.writeEndObject();
+        }
+
+        /**
+         * Writes a region. Source locations end at an inclusive column, SARIF regions
+         * at an exclusive one.
+         */
+        private void writeRegion(String name, SourceLocation location, boolean withColumns) throws IOException {
+            generator.writeObjectFieldStart(name);
+            generator.writeNumberField("startLine", location.getStartLine());
+            if (withColumns) {
+                generator.writeNumberField("startColumn", location.getStartColumn());
+            }
+            if (location.getEndLine() > location.getStartLine()) {
+                generator.writeNumberField("endLine", location.getEndLine());
+            }
+            if (withColumns) {
+                generator.writeNumberField("endColumn", location.getEndColumn() + 1);
+            }
+            generator.writeEndObject();
+        }
+
+        private void writeTool() throws IOException {
+            generator.writeObjectFieldStart("tool");
+            generator.writeObjectFieldStart("driver");
+            generator.writeStringField("name", TOOL_NAME);
+            generator.writeStringField("version", Linter.VERSION);
+            generator.writeArrayFieldStart("rules");
+            for (String rule : rules) {
+                generator.writeStartObject();
+                generator.writeStringField("id", rule);
+                generator.writeObjectFieldStart("shortDescription");
+                generator.writeStringField("text", describe(rule));
+                generator.writeEndObject();
+                generator.writeEndObject();
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+            generator.writeEndObject();
+        }
+    }
+}
@@ -33,6 +33,13 @@ public class MessageRenderer {
         }
     }
     
+    /**
+     * Releases source lines cached for context display.
+     */
+    public void clearCache() {
+        contextRenderer.clearCache();
+    }
+    
     private void renderEnhanced(ValidationMessage message, PrintWriter writer) {
         // Header with severity and message
         String severityLabel = formatSeverity(message);
@@ -1,15 +1,11 @@
 package com.example.linter.report.console;
 
 import java.io.PrintWriter;
-import java.util.LinkedHashMap;
-import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.stream.Collectors;
 
 import com.example.linter.config.output.DisplayConfig;
 import com.example.linter.config.output.SummaryConfig;
-import com.example.linter.validator.ValidationMessage;
 import com.example.linter.validator.ValidationResult;
 
 /**
@@ -31,6 +27,13 @@ public class SummaryRenderer {
      * Renders the validation summary.
      */
     public void render(ValidationResult result, PrintWriter writer) {
+        render(SummaryStatistics.of(result), writer);
+    }
+    
+    /**
+     * Renders the validation summary from precomputed statistics.
+     */
+    public void render(SummaryStatistics statistics, PrintWriter writer) {
         if (!config.isEnabled()) {
             return;
         }
@@ -41,35 +44,42 @@ public class SummaryRenderer {
         writer.println(colorScheme.separator("═".repeat(65)));
         
         if (config.isShowStatistics()) {
-            renderStatistics(result, writer);
+            renderStatistics(statistics, writer);
         }
         
         if (config.isShowMostCommon()) {
-            renderMostCommonIssues(result, writer);
+            renderMostCommonIssues(statistics, writer);
         }
         
         if (config.isShowFileList()) {
-            renderFileList(result, writer);
+            renderFileList(statistics, writer);
         }
         
-        renderSummaryLine(result, writer);
+        renderSummaryLine(statistics, writer);
         
         writer.println(colorScheme.separator("═".repeat(65)));
     }
     
-    private void renderStatistics(ValidationResult result, PrintWriter writer) {
+    private void renderStatistics(SummaryStatistics statistics, PrintWriter writer) {
         // File statistics
-        int totalFiles = getUniqueFileCount(result);
-        int filesWithErrors = getFilesWithErrorCount(result);
+        int totalFiles = statistics.getFileCount();
+        int filesWithErrors = statistics.getFilesWithErrorCount();
         
         writer.println("  Total files scanned:     " + totalFiles);
         writer.println("  Files with errors:       " + filesWithErrors);
+        
+        // Result cache, only when it was used
+        int cacheLookups = statistics.getCacheHits() + statistics.getCacheMisses();
+        if (cacheLookups > 0) {
+            writer.println("  Cache hits:              " + statistics.getCacheHits() + " of " + cacheLookups
+                + " (" + statistics.getCacheMisses() + " miss" + (statistics.getCacheMisses() == 1 ? "" : "es") + ")");
+        }
         writer.println();
         
         // Error counts with visual bars
-        int errors = result.getErrorCount();
-        int warnings = result.getWarningCount();
-        int infos = result.getInfoCount();
+        int errors = statistics.getErrorCount();
+        int warnings = statistics.getWarningCount();
+        int infos = statistics.getInfoCount();
         int total = errors + warnings + infos;
         
         if (total > 0) {
@@ -80,13 +90,8 @@ public class SummaryRenderer {
         }
     }
     
-    private void renderMostCommonIssues(ValidationResult result, PrintWriter writer) {
-        Map<String, Long> issueFrequency = result.getMessages().stream()
-            .collect(Collectors.groupingBy(
-                ValidationMessage::getRuleId,
-                LinkedHashMap::new,
-                Collectors.counting()
-            ));
+    private void renderMostCommonIssues(SummaryStatistics statistics, PrintWriter writer) {
+        Map<String, Long> issueFrequency = statistics.getRuleCounts();
         
         if (issueFrequency.isEmpty()) {
             return;
@@ -102,12 +107,8 @@ public class SummaryRenderer {
                 String ruleId = entry.getKey();
                 long count = entry.getValue();
                 
-                // Try to get a description from the first message with this rule
-                String description = result.getMessages().stream()
-                    .filter(msg -> msg.getRuleId().equals(ruleId))
-                    .findFirst()
-                    .map(msg -> extractShortDescription(msg.getMessage()))
-                    .orElse(ruleId);
+                // Use the description of the first message with this rule
+                String description = extractShortDescription(statistics.getRuleDescription(ruleId));
                 
                 writer.printf("  • %s (%d occurrence%s)%n",
                     description,
@@ -119,9 +120,7 @@ public class SummaryRenderer {
         writer.println();
         
         // Auto-fix hint
-        long autoFixableCount = result.getMessages().stream()
-            .filter(ValidationMessage::hasAutoFixableSuggestions)
-            .count();
+        long autoFixableCount = statistics.getAutoFixableCount();
         
         if (autoFixableCount > 0) {
             writer.println(colorScheme.suggestionIcon("  💡 ") + 
@@ -131,46 +130,37 @@ public class SummaryRenderer {
         }
     }
     
-    private void renderFileList(ValidationResult result, PrintWriter writer) {
-        Map<String, List<ValidationMessage>> byFile = result.getMessagesByFile();
+    private void renderFileList(SummaryStatistics statistics, PrintWriter writer) {
+        Map<String, SummaryStatistics.FileCounts> byFile = statistics.getFileCounts();
         
         if (byFile.isEmpty()) {
             return;
         }
         
         writer.println("  Files with issues:");
-        byFile.entrySet().stream()
-            .sorted(Map.Entry.comparingByKey())
-            .forEach(entry -> {
-                String filename = entry.getKey();
-                List<ValidationMessage> messages = entry.getValue();
-                
-                long errorCount = messages.stream()
-                    .filter(msg -> msg.getSeverity() == com.example.linter.config.Severity.ERROR)
-                    .count();
-                long warnCount = messages.stream()
-                    .filter(msg -> msg.getSeverity() == com.example.linter.config.Severity.WARN)
-                    .count();
-                
-                writer.printf("  - %s: ", filename);
-                if (errorCount > 0) {
-                    writer.print(colorScheme.error(errorCount + " error" + (errorCount == 1 ? "" : "s")));
-                    if (warnCount > 0) {
-                        writer.print(", ");
-                    }
-                }
+        byFile.forEach((filename, counts) -> {
+            long errorCount = counts.getErrorCount();
+            long warnCount = counts.getWarningCount();
+            
+            writer.printf("  - %s: ", filename);
+            if (errorCount > 0) {
+                writer.print(colorScheme.error(errorCount + " error" + (errorCount == 1 ? "" : "s")));
                 if (warnCount > 0) {
-                    writer.print(colorScheme.warning(warnCount + " warning" + (warnCount == 1 ? "" : "s")));
+                    writer.print(", ");
                 }
-                writer.println();
-            });
+            }
+            if (warnCount > 0) {
+                writer.print(colorScheme.warning(warnCount + " warning" + (warnCount == 1 ? "" : "s")));
+            }
+            writer.println();
+        });
         writer.println();
     }
     
-    private void renderSummaryLine(ValidationResult result, PrintWriter writer) {
-        int errors = result.getErrorCount();
-        int warnings = result.getWarningCount();
-        int infos = result.getInfoCount();
+    private void renderSummaryLine(SummaryStatistics statistics, PrintWriter writer) {
+        int errors = statistics.getErrorCount();
+        int warnings = statistics.getWarningCount();
+        int infos = statistics.getInfoCount();
         
         String summary = String.format("Summary: %d error%s, %d warning%s, %d info message%s",
             errors, errors == 1 ? "" : "s",
@@ -188,7 +178,7 @@ public class SummaryRenderer {
         
         writer.println();
         writer.println(summary);
-        writer.println("Validation completed in " + result.getValidationTimeMillis() + "ms");
+        writer.println("Validation completed in " + statistics.getValidationTimeMillis() + "ms");
     }
     
     private String formatCountWithBar(String label, int count, int total, 
@@ -201,21 +191,6 @@ public class SummaryRenderer {
         return String.format("%-9s %3d %s", label + ":", count, colorizer.apply(bar));
     }
     
-    private int getUniqueFileCount(ValidationResult result) {
-        return (int) result.getMessages().stream()
-            .map(msg -> msg.getLocation().getFilename())
-            .distinct()
-            .count();
-    }
-    
-    private int getFilesWithErrorCount(ValidationResult result) {
-        return (int) result.getMessages().stream()
-            .filter(msg -> msg.getSeverity() == com.example.linter.config.Severity.ERROR)
-            .map(msg -> msg.getLocation().getFilename())
-            .distinct()
-            .count();
-    }
-    
     private String extractShortDescription(String message) {
         // Try to shorten long messages
         if (message.length() > 50) {
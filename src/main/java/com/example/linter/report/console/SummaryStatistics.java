@@ -0,0 +1,173 @@
+package com.example.linter.report.console;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.example.linter.config.Severity;
+import com.example.linter.validator.ValidationMessage;
+import com.example.linter.validator.ValidationResult;
+
+/**
+ * Running totals needed to render the validation summary.
+ * Messages are counted as they arrive and not retained, so a summary
+ * can be rendered at the end of a streamed report.
+ */
+public final class SummaryStatistics {
+    private final long startTime;
+    private long validationTimeMillis;
+    private int errorCount;
+    private int warningCount;
+    private int infoCount;
+    private long autoFixableCount;
+    private int cacheHits;
+    private int cacheMisses;
+    private final Map<String, Long> ruleCounts = new LinkedHashMap<>();
+    private final Map<String, String> ruleDescriptions = new LinkedHashMap<>();
+    private final Map<String, FileCounts> fileCounts = new TreeMap<>();
+
+    public SummaryStatistics() {
+        this(System.currentTimeMillis());
+    }
+
+    public SummaryStatistics(long startTime) {
+        this.startTime = startTime;
+    }
+
+    /**
+     * Creates statistics covering every message of the given result.
+     */
+    public static SummaryStatistics of(ValidationResult result) {
+        SummaryStatistics statistics = new SummaryStatistics(0);
+        statistics.addAll(result);
+        statistics.validationTimeMillis = result.getValidationTimeMillis();
+        return statistics;
+    }
+
+    /**
+     * Adds all messages of a result.
+     */
+    public void addAll(ValidationResult result) {
+        cacheHits += result.getCacheHits();
+        cacheMisses += result.getCacheMisses();
+        for (ValidationMessage message : result.getMessages()) {
+            add(message);
+        }
+    }
+
+    /**
+     * Adds a single message.
+     */
+    public void add(ValidationMessage message) {
+        switch (message.getSeverity()) {
+            case ERROR -> errorCount++;
+            case WARN -> warningCount++;
+            case INFO -> infoCount++;
+        }
+
+        ruleCounts.merge(message.getRuleId(), 1L, Long::sum);
+        ruleDescriptions.putIfAbsent(message.getRuleId(), message.getMessage());
+
+        if (message.hasAutoFixableSuggestions()) {
+            autoFixableCount++;
+        }
+
+        fileCounts.computeIfAbsent(message.getLocation().getFilename(), filename -> new FileCounts())
+            .add(message.getSeverity());
+    }
+
+    /**
+     * Marks the end of the measured validation run.
+     */
+    public void complete() {
+        this.validationTimeMillis = System.currentTimeMillis() - startTime;
+    }
+
+    public int getErrorCount() {
+        return errorCount;
+    }
+
+    public int getWarningCount() {
+        return warningCount;
+    }
+
+    public int getInfoCount() {
+        return infoCount;
+    }
+
+    public int getTotalCount() {
+        return errorCount + warningCount + infoCount;
+    }
+
+    public long getAutoFixableCount() {
+        return autoFixableCount;
+    }
+
+    public int getCacheHits() {
+        return cacheHits;
+    }
+
+    public int getCacheMisses() {
+        return cacheMisses;
+    }
+
+    /**
+     * Returns message counts per rule ID in order of first occurrence.
+     */
+    public Map<String, Long> getRuleCounts() {
+        return Collections.unmodifiableMap(ruleCounts);
+    }
+
+    /**
+     * Returns the message text of the first message reported for a rule.
+     */
+    public String getRuleDescription(String ruleId) {
+        return ruleDescriptions.getOrDefault(ruleId, ruleId);
+    }
+
+    /**
+     * Returns message counts per file, sorted by filename.
+     */
+    public Map<String, FileCounts> getFileCounts() {
+        return Collections.unmodifiableMap(fileCounts);
+    }
+
+    public int getFileCount() {
+        return fileCounts.size();
+    }
+
+    public int getFilesWithErrorCount() {
+        return (int) fileCounts.values().stream()
+            .filter(counts -> counts.getErrorCount() > 0)
+            .count();
+    }
+
+    public long getValidationTimeMillis() {
+        return validationTimeMillis;
+    }
+
+    /**
+     * Message counts for a single file.
+     */
+    public static final class FileCounts {
+        private int errorCount;
+        private int warningCount;
+
+        void add(Severity severity) {
+            if (severity == Severity.ERROR) {
+                errorCount++;
+            } else if (severity == Severity.WARN) {
+                warningCount++;
+            }
+        }
+
+        public int getErrorCount() {
+            return errorCount;
+        }
+
+        public int getWarningCount() {
+            return warningCount;
+        }
+    }
+}
\ No newline at end of file
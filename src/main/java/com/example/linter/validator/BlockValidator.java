@@ -4,13 +4,12 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 
-import org.asciidoctor.ast.Section;
-import org.asciidoctor.ast.StructuralNode;
-
+import com.example.linter.ast.AstNode;
 import com.example.linter.config.BlockType;
 import com.example.linter.config.Severity;
 import com.example.linter.config.blocks.Block;
 import com.example.linter.config.rule.SectionConfig;
+import com.example.linter.validator.block.BlockConfigIndex;
 import com.example.linter.validator.block.BlockOccurrenceValidator;
 import com.example.linter.validator.block.BlockTypeDetector;
 import com.example.linter.validator.block.BlockTypeValidator;
@@ -20,6 +19,8 @@ import com.example.linter.validator.block.BlockValidatorFactory;
 /**
  * Main validator for blocks within sections.
  * Orchestrates block type validation and occurrence validation.
+ * Per-section state lives in a {@link BlockValidationContext} created for each call,
+ * so one instance can be shared between threads.
  */
 public final class BlockValidator {
     
@@ -41,11 +42,34 @@ public final class BlockValidator {
      * @param filename the filename for error reporting
      * @return validation result containing all messages
      */
-    public ValidationResult validate(Section section, 
+    public ValidationResult validate(AstNode section, 
                                    SectionConfig config,
                                    String filename) {
-        Objects.requireNonNull(section, "section must not be null");
         Objects.requireNonNull(config, "config must not be null");
+        return validate(section, config, BlockConfigIndex.of(config.allowedBlocks()), filename);
+    }
+    
+    /**
+     * Validates all blocks within a section against a compiled section configuration,
+     * reusing its prebuilt block lookup table.
+     * 
+     * @param section the AsciiDoc section to validate
+     * @param config the compiled section configuration
+     * @param filename the filename for error reporting
+     * @return validation result containing all messages
+     */
+    public ValidationResult validate(AstNode section, 
+                                   CompiledSection config,
+                                   String filename) {
+        Objects.requireNonNull(config, "config must not be null");
+        return validate(section, config.getConfig(), config.getBlocks(), filename);
+    }
+    
+    private ValidationResult validate(AstNode section, 
+                                    SectionConfig config,
+                                    BlockConfigIndex blockConfigs,
+                                    String filename) {
+        Objects.requireNonNull(section, "section must not be null");
         Objects.requireNonNull(filename, "filename must not be null");
         
         List<ValidationMessage> messages = new ArrayList<>();
@@ -61,10 +85,10 @@ public final class BlockValidator {
         BlockValidationContext context = new BlockValidationContext(section, filename);
         
         // First pass: validate individual blocks and track occurrences
-        validateBlocks(section, config, context, messages);
+        validateBlocks(section, blockConfigs, context, messages);
         
         // Second pass: validate occurrences
-        messages.addAll(occurrenceValidator.validate(context, config.allowedBlocks()));
+        validateOccurrences(context, config, messages);
         
         // Order validation would go here once OrderConfig is implemented
         
@@ -76,20 +100,31 @@ public final class BlockValidator {
     /**
      * Validates individual blocks and tracks them in the context.
      */
-    private void validateBlocks(Section section,
-                              SectionConfig config,
+    private void validateBlocks(AstNode section,
+                              BlockConfigIndex blockConfigs,
                               BlockValidationContext context,
                               List<ValidationMessage> messages) {
         
         // Get all blocks from the section
-        List<StructuralNode> blocks = section.getBlocks();
+        List<AstNode> blocks = section.getBlocks();
         
         if (blocks == null || blocks.isEmpty()) {
             return;
         }
         
-        for (StructuralNode block : blocks) {
-            try {
+        for (AstNode block : blocks) {
+            validateBlock(block, blockConfigs, context, messages);
+        }
+    }
+    
+    /**
+     * Validates a direct child block of a section and tracks it for the occurrence rules.
+     */
+    void validateBlock(AstNode block,
+                       BlockConfigIndex blockConfigs,
+                       BlockValidationContext context,
+                       List<ValidationMessage> messages) {
+        try {
             // Detect block type
             BlockType actualType = typeDetector.detectType(block);
             
@@ -101,58 +136,81 @@ public final class BlockValidator {
                     .location(context.createLocation(block))
                     .message("Unknown block type: " + block.getContext())
                     .build());
-                continue;
+                return;
             }
             
             // Find matching configuration
-            Block blockConfig = findBlockConfig(actualType, block, config.allowedBlocks());
+            Block blockConfig = findBlockConfig(actualType, block, blockConfigs);
             
             if (blockConfig != null) {
                 // Track the block
                 context.trackBlock(blockConfig, block);
-                
-                // Validate if we have a validator for this type
-                BlockTypeValidator validator = validatorFactory.getValidator(actualType);
-                if (validator != null) {
-                    messages.addAll(validator.validate(block, blockConfig, context));
-                }
+                validateType(actualType, block, blockConfig, context, messages);
             }
-            } catch (Exception e) {
-                // Handle validation exceptions gracefully
-                messages.add(ValidationMessage.builder()
-                    .severity(Severity.ERROR)
-                    .ruleId("block.validation.error")
-                    .location(context.createLocation(block))
-                    .message("Error validating block: " + e.getMessage())
-                    .build());
+        } catch (Exception e) {
+            messages.add(createErrorMessage(block, context, e));
+        }
+    }
+    
+    /**
+     * Validates a block nested in a compound block, e.g. a listing inside an example.
+     * Nested blocks are checked against the section's block rules but are not counted
+     * as occurrences, and nested content without a block rule is not reported.
+     */
+    void validateNestedBlock(AstNode block,
+                             BlockConfigIndex blockConfigs,
+                             BlockValidationContext context,
+                             List<ValidationMessage> messages) {
+        try {
+            BlockType actualType = typeDetector.detectType(block);
+            if (actualType == null) {
+                return;
             }
+            
+            Block blockConfig = findBlockConfig(actualType, block, blockConfigs);
+            if (blockConfig != null) {
+                validateType(actualType, block, blockConfig, context, messages);
+            }
+        } catch (Exception e) {
+            messages.add(createErrorMessage(block, context, e));
+        }
+    }
+    
+    /**
+     * Validates the occurrence rules of a section once all its blocks have been tracked.
+     */
+    void validateOccurrences(BlockValidationContext context, SectionConfig config, 
+                             List<ValidationMessage> messages) {
+        messages.addAll(occurrenceValidator.validate(context, config.allowedBlocks()));
+    }
+    
+    private void validateType(BlockType actualType, AstNode block, Block blockConfig,
+                              BlockValidationContext context, List<ValidationMessage> messages) {
+        // Validate if we have a validator for this type
+        BlockTypeValidator validator = validatorFactory.getValidator(actualType);
+        if (validator != null) {
+            messages.addAll(validator.validate(block, blockConfig, context));
         }
     }
     
+    private ValidationMessage createErrorMessage(AstNode block, BlockValidationContext context, Exception e) {
+        // Handle validation exceptions gracefully
+        return ValidationMessage.builder()
+            .severity(Severity.ERROR)
+            .ruleId("block.validation.error")
+            .location(context.createLocation(block))
+            .message("Error validating block: " + e.getMessage())
+            .build();
+    }
+    
     /**
      * Finds the configuration for a specific block.
      */
     private Block findBlockConfig(BlockType type, 
-                                        StructuralNode block,
-                                        List<Block> configs) {
-        // First try to match by name attribute
+                                        AstNode block,
+                                        BlockConfigIndex configs) {
+        // A configuration matching the name attribute wins over the type-only one
         Object nameAttr = block.getAttribute("name");
-        if (nameAttr != null) {
-            String name = nameAttr.toString();
-            for (Block config : configs) {
-                if (config.getType() == type && name.equals(config.getName())) {
-                    return config;
-                }
-            }
-        }
-        
-        // Then match by type only
-        for (Block config : configs) {
-            if (config.getType() == type && config.getName() == null) {
-                return config;
-            }
-        }
-        
-        return null;
+        return configs.find(type, nameAttr != null ? nameAttr.toString() : null);
     }
 }
\ No newline at end of file
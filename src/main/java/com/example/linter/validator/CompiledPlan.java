@@ -0,0 +1,139 @@
+package com.example.linter.validator;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import com.example.linter.config.DocumentConfiguration;
+import com.example.linter.config.LinterConfiguration;
+import com.example.linter.config.MetadataConfiguration;
+
+/**
+ * A {@link LinterConfiguration} compiled for repeated validation.
+ *
+ * <p>Compiling resolves everything that does not depend on the document: title
+ * patterns are compiled, section titles are indexed per position and level,
+ * allowed blocks are indexed by type and name, the ordered root sections are
+ * sorted, and every section configuration gets a dense integer ID so that
+ * per-document counters can live in plain arrays. A plan is immutable
+ * and can be shared by any number of threads.</p>
+ */
+public final class CompiledPlan {
+    private final LinterConfiguration configuration;
+    private final List<CompiledSection> rootSections;
+    private final SectionTitleIndex rootIndex;
+    private final List<CompiledSection> orderedRootSections;
+    private final List<CompiledSection> sections;
+    private final int occurrenceCounterCount;
+
+    private CompiledPlan(LinterConfiguration configuration) {
+        this.configuration = configuration;
+
+        DocumentConfiguration document = configuration.document();
+        List<CompiledSection> registry = new ArrayList<>();
+        Map<String, Integer> occurrenceIds = new HashMap<>();
+        if (document != null && document.sections() != null) {
+            this.rootSections = Collections.unmodifiableList(
+                CompiledSection.compile(document.sections(), registry, occurrenceIds));
+        } else {
+            this.rootSections = Collections.emptyList();
+        }
+        this.rootIndex = SectionTitleIndex.of(rootSections);
+        this.sections = Collections.unmodifiableList(registry);
+        this.occurrenceCounterCount = occurrenceIds.size();
+        this.orderedRootSections = rootSections.stream()
+            .filter(section -> section.getConfig().order() != null)
+            .sorted(Comparator.comparing(section -> section.getConfig().order()))
+            .collect(Collectors.toUnmodifiableList());
+    }
+
+    /**
+     * Compiles a configuration.
+     *
+     * @param configuration the linter configuration
+     * @return the compiled plan
+     * @throws java.util.regex.PatternSyntaxException if a title pattern is invalid
+     */
+    public static CompiledPlan compile(LinterConfiguration configuration) {
+        Objects.requireNonNull(configuration, "configuration must not be null");
+        return new CompiledPlan(configuration);
+    }
+
+    /**
+     * Compiles the document part of a configuration.
+     *
+     * @param document the document configuration
+     * @return the compiled plan
+     */
+    public static CompiledPlan compile(DocumentConfiguration document) {
+        Objects.requireNonNull(document, "document must not be null");
+        return new CompiledPlan(LinterConfiguration.builder().document(document).build());
+    }
+
+    public LinterConfiguration getConfiguration() {
+        return configuration;
+    }
+
+    /**
+     * Returns the metadata rules, or null if the configuration has none.
+     */
+    public MetadataConfiguration getMetadata() {
+        return configuration.document() != null ? configuration.document().metadata() : null;
+    }
+
+    /**
+     * Returns true if the configuration declares a sections list, even an empty one.
+     */
+    public boolean hasSectionRules() {
+        return configuration.document() != null && configuration.document().sections() != null;
+    }
+
+    /**
+     * Returns true if validating needs the document body. Without section rules
+     * only the title and header attributes are checked, so parsing the header suffices.
+     */
+    public boolean needsDocumentBody() {
+        return !rootSections.isEmpty();
+    }
+
+    public List<CompiledSection> getRootSections() {
+        return rootSections;
+    }
+
+    /**
+     * Returns the title index over the root sections, used to match top-level sections.
+     */
+    SectionTitleIndex getRootIndex() {
+        return rootIndex;
+    }
+
+    /**
+     * Returns the root sections that declare an order, sorted by that order.
+     */
+    public List<CompiledSection> getOrderedRootSections() {
+        return orderedRootSections;
+    }
+
+    /**
+     * Returns the number of compiled sections at all levels; IDs range from 0 to this count.
+     */
+    public int getSectionCount() {
+        return sections.size();
+    }
+
+    /**
+     * Returns the number of distinct section occurrence counters a document needs.
+     */
+    public int getOccurrenceCounterCount() {
+        return occurrenceCounterCount;
+    }
+
+    public CompiledSection getSection(int id) {
+        return sections.get(id);
+    }
+}
@@ -0,0 +1,131 @@
+package com.example.linter.validator;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import com.example.linter.config.Severity;
+import com.example.linter.config.rule.SectionConfig;
+import com.example.linter.config.rule.TitleConfig;
+import com.example.linter.validator.block.BlockConfigIndex;
+
+/**
+ * A section configuration prepared for validation: its title pattern is compiled,
+ * its allowed blocks and subsection titles are indexed and it carries a dense ID
+ * within its {@link CompiledPlan}.
+ */
+public final class CompiledSection {
+    private final int id;
+    private final int occurrenceId;
+    private final SectionConfig config;
+    private final Pattern titlePattern;
+    private final BlockConfigIndex blocks;
+    private final List<CompiledSection> subsections;
+    private final SectionTitleIndex subsectionIndex;
+
+    private CompiledSection(int id, int occurrenceId, SectionConfig config, List<CompiledSection> subsections) {
+        this.id = id;
+        this.occurrenceId = occurrenceId;
+        this.config = config;
+        this.titlePattern = config.title() != null && config.title().pattern() != null
+            ? Pattern.compile(config.title().pattern())
+            : null;
+        this.blocks = BlockConfigIndex.of(config.allowedBlocks());
+        this.subsections = Collections.unmodifiableList(subsections);
+        this.subsectionIndex = SectionTitleIndex.of(this.subsections);
+    }
+
+    /**
+     * Compiles a list of section configurations and their subsections depth-first,
+     * numbering every compiled section with its index in {@code registry}.
+     * Sections with the same name and level share one occurrence counter.
+     */
+    static List<CompiledSection> compile(List<SectionConfig> configs, List<CompiledSection> registry,
+                                         Map<String, Integer> occurrenceIds) {
+        List<CompiledSection> compiled = new ArrayList<>(configs.size());
+        for (SectionConfig config : configs) {
+            int id = registry.size();
+            int occurrenceId = occurrenceIds.computeIfAbsent(config.name() + "_" + config.level(),
+                key -> occurrenceIds.size());
+            // Reserve the ID before the subsections take theirs
+            registry.add(null);
+            CompiledSection section = new CompiledSection(id, occurrenceId, config,
+                compile(config.subsections(), registry, occurrenceIds));
+            registry.set(id, section);
+            compiled.add(section);
+        }
+        return compiled;
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * Returns the index of the counter that tracks how often this section occurs.
+     */
+    public int getOccurrenceId() {
+        return occurrenceId;
+    }
+
+    public SectionConfig getConfig() {
+        return config;
+    }
+
+    public String getName() {
+        return config.name();
+    }
+
+    public int getLevel() {
+        return config.level();
+    }
+
+    public TitleConfig getTitleConfig() {
+        return config.title();
+    }
+
+    /**
+     * Returns the compiled title pattern, or null if the title is not matched by pattern.
+     */
+    public Pattern getTitlePattern() {
+        return titlePattern;
+    }
+
+    public Severity getTitleSeverity() {
+        return config.title() != null ? config.title().severity() : Severity.ERROR;
+    }
+
+    public BlockConfigIndex getBlocks() {
+        return blocks;
+    }
+
+    public List<CompiledSection> getSubsections() {
+        return subsections;
+    }
+
+    /**
+     * Returns the title index over the subsections, used to match nested sections.
+     */
+    SectionTitleIndex getSubsectionIndex() {
+        return subsectionIndex;
+    }
+
+    /**
+     * Checks whether a section with the given title and level is an occurrence of this one.
+     */
+    boolean matches(String title, int level) {
+        if (config.level() != level) {
+            return false;
+        }
+        TitleConfig titleConfig = config.title();
+        if (titleConfig == null) {
+            return config.name() != null;
+        }
+        if (titleConfig.exactMatch() != null && titleConfig.exactMatch().equals(title)) {
+            return true;
+        }
+        return titlePattern != null && titlePattern.matcher(title).matches();
+    }
+}
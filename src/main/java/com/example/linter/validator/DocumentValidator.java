@@ -0,0 +1,149 @@
+package com.example.linter.validator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import com.example.linter.ast.AstDocument;
+import com.example.linter.ast.AstNode;
+import com.example.linter.validator.block.BlockValidationContext;
+
+/**
+ * Validates a document against every rule set of a {@link CompiledPlan} in a single traversal.
+ *
+ * <p>Each node is visited once. A section is matched against the configurations
+ * allowed at its position, checked by the section rules and then walked: nested
+ * sections are matched against the subsections of its configuration, and blocks
+ * are checked by the block rules of that configuration, including blocks nested
+ * in compound blocks such as examples or sidebars. Checks that need the whole
+ * document, like occurrence counts and section order, run after the walk.</p>
+ *
+ * <p>Messages are reported in the same order as running the metadata, section
+ * and block validators one after another. The validator keeps no per-document
+ * state, so one instance can validate any number of documents, also concurrently.</p>
+ */
+public final class DocumentValidator {
+    private final CompiledPlan plan;
+    private final MetadataValidator metadataValidator;
+    private final SectionValidator sectionValidator;
+    private final BlockValidator blockValidator;
+
+    private DocumentValidator(Builder builder) {
+        this.plan = Objects.requireNonNull(builder.plan, "plan must not be null");
+        this.metadataValidator = plan.getMetadata() != null
+            ? MetadataValidator.fromConfiguration(plan.getMetadata()).build()
+            : null;
+        this.sectionValidator = SectionValidator.builder().plan(plan).build();
+        this.blockValidator = new BlockValidator();
+    }
+
+    public CompiledPlan getPlan() {
+        return plan;
+    }
+
+    public ValidationResult validate(AstDocument document) {
+        Objects.requireNonNull(document, "document must not be null");
+        long startTime = System.currentTimeMillis();
+        ValidationResult.Builder resultBuilder = ValidationResult.builder().startTime(startTime);
+
+        if (metadataValidator != null) {
+            resultBuilder.addMessages(metadataValidator.validate(document).getMessages());
+        }
+
+        if (plan.hasSectionRules()) {
+            Walk walk = new Walk(extractFilename(document));
+            walk.visitDocument(document);
+            resultBuilder.addMessages(walk.sectionResult.build().getMessages());
+            resultBuilder.addMessages(walk.blockMessages);
+        }
+
+        return resultBuilder.complete().build();
+    }
+
+    private String extractFilename(AstDocument document) {
+        Map<String, Object> attrs = document.getAttributes();
+        if (attrs.containsKey("docfile")) {
+            return attrs.get("docfile").toString();
+        }
+        return "unknown";
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static final class Builder {
+        private CompiledPlan plan;
+
+        private Builder() {
+        }
+
+        public Builder plan(CompiledPlan plan) {
+            this.plan = plan;
+            return this;
+        }
+
+        public DocumentValidator build() {
+            return new DocumentValidator(this);
+        }
+    }
+
+    /**
+     * State of one traversal. Section and block messages are collected apart so they
+     * can be reported in the established order.
+     */
+    private final class Walk {
+        private final String filename;
+        private final int[] sectionOccurrences = sectionValidator.newOccurrenceCounters();
+        private final List<CompiledSection> rootMatches = new ArrayList<>();
+        private final ValidationResult.Builder sectionResult = ValidationResult.builder();
+        private final List<ValidationMessage> blockMessages = new ArrayList<>();
+
+        Walk(String filename) {
+            this.filename = filename;
+        }
+
+        void visitDocument(AstDocument document) {
+            for (AstNode node : document.getBlocks()) {
+                if (node.isSection()) {
+                    rootMatches.add(visitSection(node, plan.getRootIndex()));
+                }
+            }
+            sectionValidator.finish(rootMatches, filename, sectionOccurrences, sectionResult);
+        }
+
+        private CompiledSection visitSection(AstNode section, SectionTitleIndex allowedConfigs) {
+            CompiledSection match = sectionValidator.visitSection(section, allowedConfigs, filename,
+                                                                  sectionOccurrences, sectionResult);
+            if (match == null) {
+                return null;
+            }
+
+            boolean hasBlockRules = match.getConfig().allowedBlocks() != null
+                && !match.getConfig().allowedBlocks().isEmpty();
+            BlockValidationContext blockContext = hasBlockRules ? new BlockValidationContext(section, filename) : null;
+
+            for (AstNode child : section.getBlocks()) {
+                if (child.isSection()) {
+                    visitSection(child, match.getSubsectionIndex());
+                } else if (blockContext != null) {
+                    blockValidator.validateBlock(child, match.getBlocks(), blockContext, blockMessages);
+                    visitNestedBlocks(child, match, blockContext);
+                }
+            }
+
+            if (blockContext != null) {
+                blockValidator.validateOccurrences(blockContext, match.getConfig(), blockMessages);
+            }
+            return match;
+        }
+
+        private void visitNestedBlocks(AstNode block, CompiledSection section, BlockValidationContext blockContext) {
+            for (AstNode nested : block.getBlocks()) {
+                blockValidator.validateNestedBlock(nested, section.getBlocks(), blockContext, blockMessages);
+                visitNestedBlocks(nested, section, blockContext);
+            }
+        }
+    }
+}
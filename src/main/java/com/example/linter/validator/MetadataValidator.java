@@ -9,16 +9,21 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 
-import org.asciidoctor.ast.Document;
-
+import com.example.linter.ast.AstDocument;
 import com.example.linter.config.MetadataConfiguration;
 import com.example.linter.config.rule.AttributeConfig;
 import com.example.linter.validator.rules.AttributeRule;
+import com.example.linter.validator.rules.AttributeValidationContext;
 import com.example.linter.validator.rules.LengthRule;
 import com.example.linter.validator.rules.OrderRule;
 import com.example.linter.validator.rules.PatternRule;
 import com.example.linter.validator.rules.RequiredRule;
 
+/**
+ * Validates the document title and header attributes against the metadata rules.
+ * Rules are immutable and per-document state lives in an {@link AttributeValidationContext}
+ * created for each call, so one instance can validate any number of documents, also concurrently.
+ */
 public final class MetadataValidator {
     private final List<AttributeRule> rules;
 
@@ -26,7 +31,7 @@ public final class MetadataValidator {
         this.rules = Collections.unmodifiableList(new ArrayList<>(builder.rules));
     }
 
-    public ValidationResult validate(Document document) {
+    public ValidationResult validate(AstDocument document) {
         long startTime = System.currentTimeMillis();
         ValidationResult.Builder resultBuilder = ValidationResult.builder().startTime(startTime);
         
@@ -40,10 +45,11 @@ public final class MetadataValidator {
         SourceLocation titleLocation = extractTitleLocation(document, filename);
         
         Map<String, AttributeWithLocation> attributes = extractAttributesWithLocation(document, filename);
+        AttributeValidationContext context = new AttributeValidationContext();
         
-        validateTitle(title, titleLocation, resultBuilder);
+        validateTitle(title, titleLocation, context, resultBuilder);
         
-        validateAttributes(attributes, resultBuilder);
+        validateAttributes(attributes, context, resultBuilder);
         
         RequiredRule requiredRule = findRequiredRule();
         if (requiredRule != null) {
@@ -61,48 +67,49 @@ public final class MetadataValidator {
         
         OrderRule orderRule = findOrderRule();
         if (orderRule != null) {
-            List<ValidationMessage> orderMessages = orderRule.validateOrder();
+            List<ValidationMessage> orderMessages = orderRule.validateOrder(context);
             orderMessages.forEach(resultBuilder::addMessage);
         }
         
         return resultBuilder.complete().build();
     }
 
-    private void validateTitle(String title, SourceLocation location, ValidationResult.Builder resultBuilder) {
+    private void validateTitle(String title, SourceLocation location, AttributeValidationContext context,
+                               ValidationResult.Builder resultBuilder) {
         for (AttributeRule rule : rules) {
             if (rule.isApplicable("title")) {
-                List<ValidationMessage> messages = rule.validate("title", title, location);
+                List<ValidationMessage> messages = rule.validate("title", title, location, context);
                 messages.forEach(resultBuilder::addMessage);
             }
         }
     }
 
-    private void validateAttributes(Map<String, AttributeWithLocation> attributes, ValidationResult.Builder resultBuilder) {
+    private void validateAttributes(Map<String, AttributeWithLocation> attributes, AttributeValidationContext context,
+                                    ValidationResult.Builder resultBuilder) {
         for (Map.Entry<String, AttributeWithLocation> entry : attributes.entrySet()) {
             String attrName = entry.getKey();
             AttributeWithLocation attrWithLoc = entry.getValue();
             
             for (AttributeRule rule : rules) {
                 if (rule.isApplicable(attrName)) {
-                    List<ValidationMessage> messages = rule.validate(attrName, attrWithLoc.value, attrWithLoc.location);
+                    List<ValidationMessage> messages = rule.validate(attrName, attrWithLoc.value, attrWithLoc.location, context);
                     messages.forEach(resultBuilder::addMessage);
                 }
             }
         }
     }
 
-    private SourceLocation extractTitleLocation(Document document, String filename) {
+    private SourceLocation extractTitleLocation(AstDocument document, String filename) {
         return SourceLocation.builder()
             .filename(filename)
-            .line(1)
+            .line(lineOrFirst(document.getTitleLine()))
             .build();
     }
 
-    private Map<String, AttributeWithLocation> extractAttributesWithLocation(Document document, String filename) {
+    private Map<String, AttributeWithLocation> extractAttributesWithLocation(AstDocument document, String filename) {
         Map<String, AttributeWithLocation> result = new LinkedHashMap<>();
         
         Map<String, Object> attributes = document.getAttributes();
-        int lineNumber = 2;
         
         for (Map.Entry<String, Object> entry : attributes.entrySet()) {
             String key = entry.getKey();
@@ -111,7 +118,7 @@ public final class MetadataValidator {
             if (isUserAttribute(key)) {
                 SourceLocation location = SourceLocation.builder()
                     .filename(filename)
-                    .line(lineNumber++)
+                    .line(lineOrFirst(document.getAttributeLine(key)))
                     .build();
                 
                 String stringValue = value != null ? value.toString() : "";
@@ -122,6 +129,13 @@ public final class MetadataValidator {
         return result;
     }
 
+    /**
+     * Attributes set outside the header, e.g. by the API, are reported on the first line.
+     */
+    private int lineOrFirst(int line) {
+        return line > 0 ? line : 1;
+    }
+
     private boolean isUserAttribute(String key) {
         return !key.startsWith("asciidoctor") && 
                !key.equals("doctype") && 
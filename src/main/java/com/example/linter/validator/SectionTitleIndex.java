@@ -0,0 +1,198 @@
+package com.example.linter.validator;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import com.example.linter.config.rule.TitleConfig;
+
+/**
+ * Finds the section configuration a section title belongs to among the
+ * configurations allowed at one position, i.e. the root sections or the
+ * subsections of one section.
+ *
+ * <p>Configurations are grouped by level. Per level, exact titles are looked up
+ * in a hash map and all title patterns are joined into one alternation whose
+ * branches are tried in declaration order, so a title is scanned by a single
+ * regex run instead of one run per configuration. Patterns that cannot be
+ * joined without changing their meaning, because of numbered backreferences,
+ * quoting or comments, are tried one by one.
+ * The result is the first configuration in declaration order that
+ * {@link CompiledSection#matches(String, int) matches}.</p>
+ */
+final class SectionTitleIndex {
+
+    private static final SectionTitleIndex EMPTY = new SectionTitleIndex(Collections.emptyMap());
+    private static final Pattern BACKREFERENCE_PATTERN = Pattern.compile("(?<!\\\\)(?:\\\\\\\\)*\\\\[1-9]");
+    private static final Pattern COMMENTS_FLAG_PATTERN = Pattern.compile("\\(\\?[a-zA-Z-]*x");
+
+    private final Map<Integer, LevelIndex> levels;
+
+    private SectionTitleIndex(Map<Integer, LevelIndex> levels) {
+        this.levels = levels;
+    }
+
+    /**
+     * Indexes the configurations allowed at one position.
+     *
+     * @param sections the configurations in declaration order
+     * @return the index
+     */
+    static SectionTitleIndex of(List<CompiledSection> sections) {
+        if (sections.isEmpty()) {
+            return EMPTY;
+        }
+        Map<Integer, List<CompiledSection>> byLevel = new HashMap<>();
+        for (CompiledSection section : sections) {
+            byLevel.computeIfAbsent(section.getLevel(), level -> new ArrayList<>()).add(section);
+        }
+        Map<Integer, LevelIndex> levels = new HashMap<>();
+        byLevel.forEach((level, configs) -> levels.put(level, new LevelIndex(configs)));
+        return new SectionTitleIndex(levels);
+    }
+
+    boolean isEmpty() {
+        return levels.isEmpty();
+    }
+
+    /**
+     * Returns the first configuration matching a section, or null if none does.
+     *
+     * @param title the section title
+     * @param level the section level
+     * @return the matching configuration or null
+     */
+    CompiledSection find(String title, int level) {
+        LevelIndex index = levels.get(level);
+        return index != null ? index.find(title) : null;
+    }
+
+    /**
+     * Returns false for patterns that would mean something else inside an alternation:
+     * numbered backreferences would be renumbered, and an unterminated quote or a
+     * comment would swallow the rest of the alternation.
+     */
+    private static boolean isJoinable(String pattern) {
+        return !BACKREFERENCE_PATTERN.matcher(pattern).find()
+            && !pattern.contains("\\Q")
+            && !COMMENTS_FLAG_PATTERN.matcher(pattern).find();
+    }
+
+    /**
+     * The configurations of one level, numbered by declaration order.
+     */
+    private static final class LevelIndex {
+        private final List<CompiledSection> configs;
+        private final Map<String, Integer> exactTitles = new HashMap<>();
+        private final int firstUntitled;
+        private final Pattern joinedPatterns;
+        private final int[] joinedGroups;
+        private final int[] joinedConfigs;
+        private final int[] separateConfigs;
+
+        LevelIndex(List<CompiledSection> configs) {
+            this.configs = configs;
+
+            int untitled = Integer.MAX_VALUE;
+            List<Integer> joinable = new ArrayList<>();
+            List<Integer> separate = new ArrayList<>();
+            for (int i = 0; i < configs.size(); i++) {
+                CompiledSection section = configs.get(i);
+                TitleConfig title = section.getTitleConfig();
+                if (title == null) {
+                    if (section.getName() != null) {
+                        untitled = Math.min(untitled, i);
+                    }
+                    continue;
+                }
+                if (title.exactMatch() != null) {
+                    exactTitles.putIfAbsent(title.exactMatch(), i);
+                }
+                if (section.getTitlePattern() != null) {
+                    if (isJoinable(section.getTitlePattern().pattern())) {
+                        joinable.add(i);
+                    } else {
+                        separate.add(i);
+                    }
+                }
+            }
+            this.firstUntitled = untitled;
+
+            Pattern joined = null;
+            int[] groups = new int[joinable.size()];
+            if (!joinable.isEmpty()) {
+                StringBuilder alternation = new StringBuilder();
+                int group = 1;
+                for (int k = 0; k < joinable.size(); k++) {
+                    Pattern pattern = configs.get(joinable.get(k)).getTitlePattern();
+                    if (k > 0) {
+                        alternation.append('|');
+                    }
+                    alternation.append('(').append(pattern.pattern()).append(')');
+                    groups[k] = group;
+                    group += 1 + pattern.matcher("").groupCount();
+                }
+                try {
+                    joined = Pattern.compile(alternation.toString());
+                } catch (PatternSyntaxException e) {
+                    // E.g. two patterns declaring the same named group; fall back to separate runs
+                    separate.addAll(joinable);
+                    separate.sort(null);
+                    joinable.clear();
+                    groups = new int[0];
+                }
+            }
+            this.joinedPatterns = joined;
+            this.joinedGroups = groups;
+            this.joinedConfigs = joinable.stream().mapToInt(Integer::intValue).toArray();
+            this.separateConfigs = separate.stream().mapToInt(Integer::intValue).toArray();
+        }
+
+        CompiledSection find(String title) {
+            int best = firstUntitled;
+            if (title != null) {
+                Integer exact = exactTitles.get(title);
+                if (exact != null && exact < best) {
+                    best = exact;
+                }
+                best = findJoined(title, best);
+                best = findSeparate(title, best);
+            }
+            return best != Integer.MAX_VALUE ? configs.get(best) : null;
+        }
+
+        private int findJoined(String title, int best) {
+            if (joinedPatterns == null || joinedConfigs[0] >= best) {
+                return best;
+            }
+            Matcher matcher = joinedPatterns.matcher(title);
+            if (!matcher.matches()) {
+                return best;
+            }
+            // Branches are tried in order, so the first participating group is the earliest match
+            for (int k = 0; k < joinedGroups.length; k++) {
+                if (matcher.start(joinedGroups[k]) >= 0) {
+                    return Math.min(best, joinedConfigs[k]);
+                }
+            }
+            return best;
+        }
+
+        private int findSeparate(String title, int best) {
+            for (int index : separateConfigs) {
+                if (index >= best) {
+                    break;
+                }
+                if (configs.get(index).getTitlePattern().matcher(title).matches()) {
+                    return index;
+                }
+            }
+            return best;
+        }
+    }
+}
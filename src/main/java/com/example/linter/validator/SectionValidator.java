@@ -1,105 +1,135 @@
 package com.example.linter.validator;
 
-import java.util.Collections;
-import java.util.Comparator;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.regex.Pattern;
-import java.util.stream.Collectors;
-
-import org.asciidoctor.ast.Document;
-import org.asciidoctor.ast.Section;
-import org.asciidoctor.ast.StructuralNode;
 
+import com.example.linter.ast.AstDocument;
+import com.example.linter.ast.AstNode;
 import com.example.linter.config.DocumentConfiguration;
 import com.example.linter.config.Severity;
 import com.example.linter.config.rule.SectionConfig;
 import com.example.linter.config.rule.TitleConfig;
 
+/**
+ * Validates the section structure of a document against a {@link CompiledPlan}.
+ * The validator keeps no per-document state, so one instance can validate any
+ * number of documents, also concurrently.
+ */
 public final class SectionValidator {
-    private final DocumentConfiguration configuration;
-    private final Map<String, Integer> sectionOccurrences;
-    private final List<SectionConfig> rootSections;
+    private final CompiledPlan plan;
 
     private SectionValidator(Builder builder) {
-        this.configuration = Objects.requireNonNull(builder.configuration, "configuration must not be null");
-        this.sectionOccurrences = new HashMap<>();
-        this.rootSections = configuration.sections() != null ? configuration.sections() : Collections.emptyList();
+        if (builder.plan != null) {
+            this.plan = builder.plan;
+        } else {
+            this.plan = CompiledPlan.compile(
+                Objects.requireNonNull(builder.configuration, "configuration must not be null"));
+        }
     }
 
-    public ValidationResult validate(Document document) {
+    public ValidationResult validate(AstDocument document) {
         long startTime = System.currentTimeMillis();
         ValidationResult.Builder resultBuilder = ValidationResult.builder().startTime(startTime);
         
         String filename = extractFilename(document);
+        int[] sectionOccurrences = newOccurrenceCounters();
+        List<CompiledSection> rootMatches = new ArrayList<>();
         
-        List<StructuralNode> sections = document.getBlocks().stream()
-            .filter(block -> block instanceof Section)
-            .collect(Collectors.toList());
-        
-        validateRootSections(sections, filename, resultBuilder);
-        
-        validateMinMaxOccurrences(filename, resultBuilder);
+        for (AstNode node : document.getBlocks()) {
+            if (node.isSection()) {
+                CompiledSection match = visitSection(node, plan.getRootIndex(), filename,
+                                                     sectionOccurrences, resultBuilder);
+                rootMatches.add(match);
+                validateSubsections(node, match, filename, sectionOccurrences, resultBuilder);
+            }
+        }
         
-        validateSectionOrder(sections, filename, resultBuilder);
+        finish(rootMatches, filename, sectionOccurrences, resultBuilder);
         
         return resultBuilder.complete().build();
     }
 
-    private void validateRootSections(List<StructuralNode> sections, String filename, ValidationResult.Builder resultBuilder) {
-        for (StructuralNode node : sections) {
-            if (node instanceof Section) {
-                Section section = (Section) node;
-                validateSection(section, rootSections, filename, resultBuilder, null);
-            }
-        }
+    /**
+     * Returns fresh per-document occurrence counters, indexed by {@link CompiledSection#getOccurrenceId()}.
+     */
+    int[] newOccurrenceCounters() {
+        return new int[plan.getOccurrenceCounterCount()];
     }
 
-    private void validateSection(Section section, List<SectionConfig> allowedConfigs, 
-                                String filename, ValidationResult.Builder resultBuilder, 
-                                SectionConfig parentConfig) {
+    /**
+     * Checks one section against the configurations allowed at its position and counts
+     * its occurrence. Subsections are left to the caller, so a document walk can combine
+     * this with other rules.
+     *
+     * @return the matching configuration, or null if the section matches none
+     */
+    CompiledSection visitSection(AstNode section, SectionTitleIndex allowedConfigs, 
+                                 String filename, int[] sectionOccurrences,
+                                 ValidationResult.Builder resultBuilder) {
         
         int level = section.getLevel();
         String title = section.getTitle();
         
-        SectionConfig matchingConfig = findMatchingConfig(section, allowedConfigs);
+        CompiledSection matchingConfig = allowedConfigs.find(title, level);
         
-        if (matchingConfig == null && !allowedConfigs.isEmpty()) {
-            SourceLocation location = createLocation(filename, section);
-            ValidationMessage message = ValidationMessage.builder()
-                .severity(Severity.ERROR)
-                .ruleId("section.unexpected")
-                .location(location)
-                .message("Unexpected section at level " + level + ": '" + title + "'")
-                .actualValue(title)
-                .expectedValue("One of configured sections")
-                .build();
-            resultBuilder.addMessage(message);
-            return;
+        if (matchingConfig == null) {
+            if (!allowedConfigs.isEmpty()) {
+                SourceLocation location = createLocation(filename, section);
+                ValidationMessage message = ValidationMessage.builder()
+                    .severity(Severity.ERROR)
+                    .ruleId("section.unexpected")
+                    .location(location)
+                    .message("Unexpected section at level " + level + ": '" + title + "'")
+                    .actualValue(title)
+                    .expectedValue("One of configured sections")
+                    .build();
+                resultBuilder.addMessage(message);
+            }
+            return null;
         }
         
-        if (matchingConfig != null) {
-            trackOccurrence(matchingConfig);
-            
-            validateTitle(section, matchingConfig.title(), filename, resultBuilder);
-            
-            validateLevel(section, matchingConfig, filename, resultBuilder);
-            
-            List<StructuralNode> subsections = section.getBlocks().stream()
-                .filter(block -> block instanceof Section)
-                .collect(Collectors.toList());
-            
-            for (StructuralNode subsection : subsections) {
-                validateSection((Section) subsection, matchingConfig.subsections(), 
-                               filename, resultBuilder, matchingConfig);
+        sectionOccurrences[matchingConfig.getOccurrenceId()]++;
+        
+        validateTitle(section, matchingConfig, filename, resultBuilder);
+        
+        validateLevel(section, matchingConfig.getConfig(), filename, resultBuilder);
+        
+        return matchingConfig;
+    }
+
+    /**
+     * Runs the checks that need the whole document: occurrence counts and root section order.
+     *
+     * @param rootMatches the matching configuration of each root section in document order,
+     *                    null where none matched
+     */
+    void finish(List<CompiledSection> rootMatches, String filename, int[] sectionOccurrences,
+                ValidationResult.Builder resultBuilder) {
+        validateMinMaxOccurrences(filename, sectionOccurrences, resultBuilder);
+        
+        validateSectionOrder(rootMatches, filename, resultBuilder);
+    }
+
+    private void validateSubsections(AstNode section, CompiledSection matchingConfig, String filename,
+                                     int[] sectionOccurrences, ValidationResult.Builder resultBuilder) {
+        if (matchingConfig == null) {
+            return;
+        }
+        for (AstNode subsection : section.getBlocks()) {
+            if (subsection.isSection()) {
+                CompiledSection match = visitSection(subsection, matchingConfig.getSubsectionIndex(), 
+                                                     filename, sectionOccurrences, resultBuilder);
+                validateSubsections(subsection, match, filename, sectionOccurrences, resultBuilder);
             }
         }
     }
 
-    private void validateTitle(Section section, TitleConfig titleConfig, 
+    private void validateTitle(AstNode section, CompiledSection config, 
                               String filename, ValidationResult.Builder resultBuilder) {
+        TitleConfig titleConfig = config.getTitleConfig();
         if (titleConfig == null) {
             return;
         }
@@ -107,11 +137,10 @@ public final class SectionValidator {
         String title = section.getTitle();
         SourceLocation location = createLocation(filename, section);
         
-        if (titleConfig.pattern() != null) {
-            Pattern pattern = Pattern.compile(titleConfig.pattern());
-            if (!pattern.matcher(title).matches()) {
+        if (config.getTitlePattern() != null) {
+            if (!config.getTitlePattern().matcher(title).matches()) {
                 ValidationMessage message = ValidationMessage.builder()
-                    .severity(titleConfig.severity())
+                    .severity(config.getTitleSeverity())
                     .ruleId("section.title.pattern")
                     .location(location)
                     .message("Section title does not match required pattern")
@@ -124,7 +153,7 @@ public final class SectionValidator {
         
         if (titleConfig.exactMatch() != null && !title.equals(titleConfig.exactMatch())) {
             ValidationMessage message = ValidationMessage.builder()
-                .severity(titleConfig.severity())
+                .severity(config.getTitleSeverity())
                 .ruleId("section.title.exact")
                 .location(location)
                 .message("Section title does not match expected value")
@@ -135,7 +164,7 @@ public final class SectionValidator {
         }
     }
 
-    private void validateLevel(Section section, SectionConfig config, 
+    private void validateLevel(AstNode section, SectionConfig config, 
                               String filename, ValidationResult.Builder resultBuilder) {
         int actualLevel = section.getLevel();
         int expectedLevel = config.level();
@@ -154,16 +183,17 @@ public final class SectionValidator {
         }
     }
 
-    private void validateMinMaxOccurrences(String filename, ValidationResult.Builder resultBuilder) {
-        for (SectionConfig config : rootSections) {
-            validateOccurrenceForConfig(config, filename, resultBuilder);
+    private void validateMinMaxOccurrences(String filename, int[] sectionOccurrences,
+                                           ValidationResult.Builder resultBuilder) {
+        for (CompiledSection config : plan.getRootSections()) {
+            validateOccurrenceForConfig(config, filename, sectionOccurrences, resultBuilder);
         }
     }
 
-    private void validateOccurrenceForConfig(SectionConfig config, String filename, 
+    private void validateOccurrenceForConfig(CompiledSection compiled, String filename, int[] sectionOccurrences,
                                             ValidationResult.Builder resultBuilder) {
-        String key = createOccurrenceKey(config);
-        int occurrences = sectionOccurrences.getOrDefault(key, 0);
+        SectionConfig config = compiled.getConfig();
+        int occurrences = sectionOccurrences[compiled.getOccurrenceId()];
         
         if (occurrences < config.min()) {
             SourceLocation location = SourceLocation.builder()
@@ -199,36 +229,30 @@ public final class SectionValidator {
             resultBuilder.addMessage(message);
         }
         
-        for (SectionConfig subsection : config.subsections()) {
-            validateOccurrenceForConfig(subsection, filename, resultBuilder);
+        for (CompiledSection subsection : compiled.getSubsections()) {
+            validateOccurrenceForConfig(subsection, filename, sectionOccurrences, resultBuilder);
         }
     }
 
-    private void validateSectionOrder(List<StructuralNode> sections, String filename, 
+    private void validateSectionOrder(List<CompiledSection> rootMatches, String filename, 
                                      ValidationResult.Builder resultBuilder) {
-        List<SectionConfig> orderedConfigs = rootSections.stream()
-            .filter(config -> config.order() != null)
-            .sorted(Comparator.comparing(SectionConfig::order))
-            .collect(Collectors.toList());
+        List<CompiledSection> orderedConfigs = plan.getOrderedRootSections();
         
         if (orderedConfigs.isEmpty()) {
             return;
         }
         
         Map<String, Integer> actualOrder = new HashMap<>();
-        for (int i = 0; i < sections.size(); i++) {
-            if (sections.get(i) instanceof Section) {
-                Section section = (Section) sections.get(i);
-                SectionConfig config = findMatchingConfig(section, rootSections);
-                if (config != null && config.order() != null) {
-                    actualOrder.put(config.name(), i);
-                }
+        for (int i = 0; i < rootMatches.size(); i++) {
+            CompiledSection config = rootMatches.get(i);
+            if (config != null && config.getConfig().order() != null) {
+                actualOrder.put(config.getName(), i);
             }
         }
         
         for (int i = 0; i < orderedConfigs.size() - 1; i++) {
-            SectionConfig current = orderedConfigs.get(i);
-            SectionConfig next = orderedConfigs.get(i + 1);
+            SectionConfig current = orderedConfigs.get(i).getConfig();
+            SectionConfig next = orderedConfigs.get(i + 1).getConfig();
             
             Integer currentPos = actualOrder.get(current.name());
             Integer nextPos = actualOrder.get(next.name());
@@ -252,45 +276,7 @@ public final class SectionValidator {
         }
     }
 
-    private SectionConfig findMatchingConfig(Section section, List<SectionConfig> configs) {
-        String title = section.getTitle();
-        int level = section.getLevel();
-        
-        for (SectionConfig config : configs) {
-            if (config.level() != level) {
-                continue;
-            }
-            
-            if (config.title() != null) {
-                if (config.title().exactMatch() != null && 
-                    config.title().exactMatch().equals(title)) {
-                    return config;
-                }
-                
-                if (config.title().pattern() != null) {
-                    Pattern pattern = Pattern.compile(config.title().pattern());
-                    if (pattern.matcher(title).matches()) {
-                        return config;
-                    }
-                }
-            } else if (config.name() != null) {
-                return config;
-            }
-        }
-        
-        return null;
-    }
-
-    private void trackOccurrence(SectionConfig config) {
-        String key = createOccurrenceKey(config);
-        sectionOccurrences.merge(key, 1, Integer::sum);
-    }
-
-    private String createOccurrenceKey(SectionConfig config) {
-        return config.name() + "_" + config.level();
-    }
-
-    private String extractFilename(Document document) {
+    private String extractFilename(AstDocument document) {
         Map<String, Object> attrs = document.getAttributes();
         if (attrs.containsKey("docfile")) {
             return attrs.get("docfile").toString();
@@ -298,10 +284,10 @@ public final class SectionValidator {
         return "unknown";
     }
 
-    private SourceLocation createLocation(String filename, Section section) {
+    private SourceLocation createLocation(String filename, AstNode section) {
         return SourceLocation.builder()
             .filename(filename)
-            .line(section.getSourceLocation() != null ? section.getSourceLocation().getLineNumber() : 1)
+            .line(section.getLineNumber() > 0 ? section.getLineNumber() : 1)
             .build();
     }
 
@@ -315,6 +301,7 @@ public final class SectionValidator {
 
     public static final class Builder {
         private DocumentConfiguration configuration;
+        private CompiledPlan plan;
 
         private Builder() {
         }
@@ -324,6 +311,14 @@ public final class SectionValidator {
             return this;
         }
 
+        /**
+         * Uses an already compiled plan instead of compiling the configuration.
+         */
+        public Builder plan(CompiledPlan plan) {
+            this.plan = plan;
+            return this;
+        }
+
         public SectionValidator build() {
             return new SectionValidator(this);
         }
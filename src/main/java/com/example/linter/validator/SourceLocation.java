@@ -1,8 +1,25 @@
 package com.example.linter.validator;
 
 import java.util.Objects;
-
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Where in a file a validation message points.
+ *
+ * <p>Locations are flyweights: file names are interned, and {@link Builder#build()}
+ * returns a recently built equal location instead of the new one, so the many
+ * messages a document gets on the same line share one instance.</p>
+ */
 public final class SourceLocation {
+
+    /**
+     * Recently built locations by hash. Slots are overwritten without locking; a lost
+     * race only costs a duplicate instance, since locations are immutable.
+     */
+    private static final int FLYWEIGHT_SLOTS = 1024;
+    private static final AtomicReferenceArray<SourceLocation> FLYWEIGHTS = new AtomicReferenceArray<>(FLYWEIGHT_SLOTS);
+
+
     private final String filename;
     private final int startLine;
     private final int startColumn;
@@ -11,7 +28,7 @@ public final class SourceLocation {
     private final String sourceLine;
 
     private SourceLocation(Builder builder) {
-        this.filename = Objects.requireNonNull(builder.filename, "filename must not be null");
+        this.filename = Objects.requireNonNull(builder.filename, "filename must not be null").intern();
         this.startLine = builder.startLine;
         this.startColumn = builder.startColumn;
         this.endLine = builder.endLine;
@@ -74,7 +91,13 @@ public final class SourceLocation {
 
     @Override
     public int hashCode() {
-        return Objects.hash(filename, startLine, startColumn, endLine, endColumn, sourceLine);
+        // Spelled out rather than Objects.hash, which boxes on every flyweight lookup
+        int result = filename.hashCode();
+        result = 31 * result + startLine;
+        result = 31 * result + startColumn;
+        result = 31 * result + endLine;
+        result = 31 * result + endColumn;
+        return 31 * result + Objects.hashCode(sourceLine);
     }
 
     @Override
@@ -140,7 +163,14 @@ public final class SourceLocation {
         }
 
         public SourceLocation build() {
-            return new SourceLocation(this);
+            SourceLocation location = new SourceLocation(this);
+            int slot = location.hashCode() & (FLYWEIGHT_SLOTS - 1);
+            SourceLocation shared = FLYWEIGHTS.get(slot);
+            if (location.equals(shared)) {
+                return shared;
+            }
+            FLYWEIGHTS.set(slot, location);
+            return location;
         }
     }
 }
\ No newline at end of file
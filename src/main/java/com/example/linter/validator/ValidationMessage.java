@@ -7,6 +7,14 @@ import java.util.Optional;
 
 import com.example.linter.config.Severity;
 
+/**
+ * A single finding of a validator.
+ *
+ * <p>Runs over legacy corpora keep millions of messages, so the layout is kept
+ * small: rule IDs and attribute names are interned, lists are stored as
+ * immutable copies that are returned as they are, empty lists are the shared
+ * empty instance, and locations come from the {@link SourceLocation} flyweight.</p>
+ */
 public final class ValidationMessage {
     private final Severity severity;
     private final String ruleId;
@@ -24,16 +32,16 @@ public final class ValidationMessage {
 
     private ValidationMessage(Builder builder) {
         this.severity = Objects.requireNonNull(builder.severity, "severity must not be null");
-        this.ruleId = Objects.requireNonNull(builder.ruleId, "ruleId must not be null");
+        this.ruleId = Objects.requireNonNull(builder.ruleId, "ruleId must not be null").intern();
         this.message = Objects.requireNonNull(builder.message, "message must not be null");
         this.location = Objects.requireNonNull(builder.location, "location must not be null");
-        this.attributeName = builder.attributeName;
+        this.attributeName = builder.attributeName != null ? builder.attributeName.intern() : null;
         this.actualValue = builder.actualValue;
         this.expectedValue = builder.expectedValue;
         this.errorType = builder.errorType != null ? builder.errorType : ErrorType.GENERIC;
         this.missingValueHint = builder.missingValueHint;
-        this.suggestions = new ArrayList<>(builder.suggestions);
-        this.contextLines = new ArrayList<>(builder.contextLines);
+        this.suggestions = List.copyOf(builder.suggestions);
+        this.contextLines = List.copyOf(builder.contextLines);
     }
 
     public Severity getSeverity() {
@@ -72,8 +80,11 @@ public final class ValidationMessage {
         return missingValueHint;
     }
     
+    /**
+     * Returns the suggestions as an unmodifiable list.
+     */
     public List<Suggestion> getSuggestions() {
-        return new ArrayList<>(suggestions);
+        return suggestions;
     }
     
     public boolean hasSuggestions() {
@@ -84,8 +95,11 @@ public final class ValidationMessage {
         return suggestions.stream().anyMatch(Suggestion::isAutoFixable);
     }
     
+    /**
+     * Returns the context lines as an unmodifiable list.
+     */
     public List<String> getContextLines() {
-        return new ArrayList<>(contextLines);
+        return contextLines;
     }
 
     public String format() {
@@ -216,7 +230,7 @@ public final class ValidationMessage {
         public Builder suggestions(List<Suggestion> suggestions) {
             this.suggestions.clear();
             if (suggestions != null) {
-                this.suggestions.addAll(suggestions);
+                suggestions.forEach(this::addSuggestion);
             }
             return this;
         }
@@ -231,7 +245,7 @@ public final class ValidationMessage {
         public Builder contextLines(List<String> contextLines) {
             this.contextLines.clear();
             if (contextLines != null) {
-                this.contextLines.addAll(contextLines);
+                contextLines.forEach(this::addContextLine);
             }
             return this;
         }
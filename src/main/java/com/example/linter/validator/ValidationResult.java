@@ -1,26 +1,109 @@
 package com.example.linter.validator;
 
+import java.util.AbstractList;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.RandomAccess;
 import java.util.TreeMap;
-import java.util.stream.Collectors;
 
 import com.example.linter.config.Severity;
 
+/**
+ * The messages of a validation run with their counters.
+ *
+ * <p>Severity and rule counters are computed once when the result is built, so
+ * status checks and counts do not look at the messages again. The groupings by
+ * severity, file and line are built together on first use and shared by later
+ * calls. A result {@linkplain #compose(List, long, long) composed} of other
+ * results presents their messages as one list without copying them.</p>
+ */
 public final class ValidationResult {
     private final List<ValidationMessage> messages;
     private final long startTime;
     private final long endTime;
+    private final int cacheHits;
+    private final int cacheMisses;
+    private final int errorCount;
+    private final int warningCount;
+    private final int infoCount;
+    private final Map<String, Integer> ruleCounts;
+    private volatile Index index;
 
     private ValidationResult(Builder builder) {
         this.messages = Collections.unmodifiableList(new ArrayList<>(builder.messages));
         this.startTime = builder.startTime;
         this.endTime = builder.endTime;
+        this.cacheHits = builder.cacheHits;
+        this.cacheMisses = builder.cacheMisses;
+
+        int errors = 0;
+        int warnings = 0;
+        int infos = 0;
+        Map<String, Integer> rules = new LinkedHashMap<>();
+        for (ValidationMessage message : messages) {
+            switch (message.getSeverity()) {
+                case ERROR -> errors++;
+                case WARN -> warnings++;
+                case INFO -> infos++;
+            }
+            rules.merge(message.getRuleId(), 1, Integer::sum);
+        }
+        this.errorCount = errors;
+        this.warningCount = warnings;
+        this.infoCount = infos;
+        this.ruleCounts = Collections.unmodifiableMap(rules);
+    }
+
+    private ValidationResult(List<ValidationResult> results, long startTime, long endTime) {
+        this.messages = new ConcatenatedMessages(results);
+        this.startTime = startTime;
+        this.endTime = endTime;
+
+        int hits = 0;
+        int misses = 0;
+        int errors = 0;
+        int warnings = 0;
+        int infos = 0;
+        Map<String, Integer> rules = new LinkedHashMap<>();
+        for (ValidationResult result : results) {
+            hits += result.cacheHits;
+            misses += result.cacheMisses;
+            errors += result.errorCount;
+            warnings += result.warningCount;
+            infos += result.infoCount;
+            result.ruleCounts.forEach((ruleId, count) -> rules.merge(ruleId, count, Integer::sum));
+        }
+        this.cacheHits = hits;
+        this.cacheMisses = misses;
+        this.errorCount = errors;
+        this.warningCount = warnings;
+        this.infoCount = infos;
+        this.ruleCounts = Collections.unmodifiableMap(rules);
+    }
+
+    /**
+     * Presents several results as one, e.g. the per-file results of a run as a
+     * single report. The messages are not copied: the composed result reads them
+     * from the given results in order, and its counters are the sums of theirs.
+     *
+     * @param results the results to compose
+     * @param startTime the start of the run the composed result covers
+     * @param endTime the end of the run the composed result covers
+     * @return the composed result
+     */
+    public static ValidationResult compose(List<ValidationResult> results, long startTime, long endTime) {
+        Objects.requireNonNull(results, "results must not be null");
+        return new ValidationResult(List.copyOf(results), startTime, endTime);
     }
 
     public List<ValidationMessage> getMessages() {
@@ -28,28 +111,30 @@ public final class ValidationResult {
     }
 
     public List<ValidationMessage> getMessagesBySeverity(Severity severity) {
-        return messages.stream()
-                .filter(msg -> msg.getSeverity() == severity)
-                .collect(Collectors.toList());
+        return index().bySeverity.getOrDefault(severity, Collections.emptyList());
     }
 
+    /**
+     * Returns the messages grouped by filename, sorted by filename. The map and
+     * its lists are unmodifiable.
+     */
     public Map<String, List<ValidationMessage>> getMessagesByFile() {
-        return messages.stream()
-                .collect(Collectors.groupingBy(
-                    msg -> msg.getLocation().getFilename(),
-                    TreeMap::new,
-                    Collectors.toList()
-                ));
+        return index().byFile;
     }
 
+    /**
+     * Returns the messages of a file grouped by start line, sorted by line. The map
+     * and its lists are unmodifiable.
+     */
     public Map<Integer, List<ValidationMessage>> getMessagesByLine(String filename) {
-        return messages.stream()
-                .filter(msg -> msg.getLocation().getFilename().equals(filename))
-                .collect(Collectors.groupingBy(
-                    msg -> msg.getLocation().getStartLine(),
-                    TreeMap::new,
-                    Collectors.toList()
-                ));
+        return index().byLine.getOrDefault(filename, Collections.emptyMap());
+    }
+
+    /**
+     * Returns message counts per rule ID in order of first occurrence.
+     */
+    public Map<String, Integer> getRuleCounts() {
+        return ruleCounts;
     }
 
     public boolean isValid() {
@@ -57,11 +142,11 @@ public final class ValidationResult {
     }
 
     public boolean hasErrors() {
-        return messages.stream().anyMatch(msg -> msg.getSeverity() == Severity.ERROR);
+        return errorCount > 0;
     }
 
     public boolean hasWarnings() {
-        return messages.stream().anyMatch(msg -> msg.getSeverity() == Severity.WARN);
+        return warningCount > 0;
     }
     
     public boolean hasMessages() {
@@ -69,27 +154,35 @@ public final class ValidationResult {
     }
 
     public int getErrorCount() {
-        return (int) messages.stream()
-                .filter(msg -> msg.getSeverity() == Severity.ERROR)
-                .count();
+        return errorCount;
     }
 
     public int getWarningCount() {
-        return (int) messages.stream()
-                .filter(msg -> msg.getSeverity() == Severity.WARN)
-                .count();
+        return warningCount;
     }
 
     public int getInfoCount() {
-        return (int) messages.stream()
-                .filter(msg -> msg.getSeverity() == Severity.INFO)
-                .count();
+        return infoCount;
     }
 
     public long getValidationTimeMillis() {
         return endTime - startTime;
     }
 
+    /**
+     * Returns the number of files whose messages were taken from the result cache.
+     */
+    public int getCacheHits() {
+        return cacheHits;
+    }
+
+    /**
+     * Returns the number of files validated and then stored in the result cache.
+     */
+    public int getCacheMisses() {
+        return cacheMisses;
+    }
+
     public void printReport() {
         System.out.println("Validation Report");
         System.out.println("=================");
@@ -101,7 +194,7 @@ public final class ValidationResult {
             Map<String, List<ValidationMessage>> messagesByFile = getMessagesByFile();
             
             for (Map.Entry<String, List<ValidationMessage>> entry : messagesByFile.entrySet()) {
-                List<ValidationMessage> fileMessages = entry.getValue();
+                List<ValidationMessage> fileMessages = new ArrayList<>(entry.getValue());
                 fileMessages.sort(Comparator
                     .comparing((ValidationMessage msg) -> msg.getLocation().getStartLine())
                     .thenComparing(msg -> msg.getLocation().getStartColumn()));
@@ -119,6 +212,94 @@ public final class ValidationResult {
         System.out.println("Validation completed in " + getValidationTimeMillis() + "ms");
     }
 
+    private Index index() {
+        Index current = index;
+        if (current == null) {
+            // Building twice on a race is harmless, both indexes are equal
+            current = new Index(messages);
+            index = current;
+        }
+        return current;
+    }
+
+    /**
+     * The groupings of the messages, built in a single pass.
+     */
+    private static final class Index {
+        private final Map<Severity, List<ValidationMessage>> bySeverity = new EnumMap<>(Severity.class);
+        private final Map<String, List<ValidationMessage>> byFile;
+        private final Map<String, Map<Integer, List<ValidationMessage>>> byLine = new HashMap<>();
+
+        Index(List<ValidationMessage> messages) {
+            Map<String, List<ValidationMessage>> files = new TreeMap<>();
+            Map<String, TreeMap<Integer, List<ValidationMessage>>> lines = new HashMap<>();
+            for (ValidationMessage message : messages) {
+                String filename = message.getLocation().getFilename();
+                bySeverity.computeIfAbsent(message.getSeverity(), severity -> new ArrayList<>()).add(message);
+                files.computeIfAbsent(filename, file -> new ArrayList<>()).add(message);
+                lines.computeIfAbsent(filename, file -> new TreeMap<>())
+                    .computeIfAbsent(message.getLocation().getStartLine(), line -> new ArrayList<>())
+                    .add(message);
+            }
+
+            bySeverity.replaceAll((severity, list) -> Collections.unmodifiableList(list));
+            files.replaceAll((filename, list) -> Collections.unmodifiableList(list));
+            this.byFile = Collections.unmodifiableMap(files);
+            lines.forEach((filename, byStartLine) -> {
+                byStartLine.replaceAll((line, list) -> Collections.unmodifiableList(list));
+                byLine.put(filename, Collections.unmodifiableMap(byStartLine));
+            });
+        }
+    }
+
+    /**
+     * The messages of several results read through in order, located by binary
+     * search over the offsets at which each result's messages begin.
+     */
+    private static final class ConcatenatedMessages extends AbstractList<ValidationMessage> implements RandomAccess {
+        private final List<List<ValidationMessage>> parts;
+        private final int[] offsets;
+        private final int size;
+
+        ConcatenatedMessages(List<ValidationResult> results) {
+            this.parts = new ArrayList<>(results.size());
+            this.offsets = new int[results.size()];
+            int total = 0;
+            for (int i = 0; i < results.size(); i++) {
+                List<ValidationMessage> part = results.get(i).messages;
+                parts.add(part);
+                offsets[i] = total;
+                total += part.size();
+            }
+            this.size = total;
+        }
+
+        @Override
+        public ValidationMessage get(int index) {
+            Objects.checkIndex(index, size);
+            int part = Arrays.binarySearch(offsets, index);
+            if (part < 0) {
+                part = -part - 2;
+            } else {
+                // Empty parts share their offset with the next one, take the last of them
+                while (part + 1 < offsets.length && offsets[part + 1] == index) {
+                    part++;
+                }
+            }
+            return parts.get(part).get(index - offsets[part]);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public Iterator<ValidationMessage> iterator() {
+            return parts.stream().flatMap(List::stream).iterator();
+        }
+    }
+
     public static Builder builder() {
         return new Builder();
     }
@@ -127,6 +308,8 @@ public final class ValidationResult {
         private final List<ValidationMessage> messages = new ArrayList<>();
         private long startTime = System.currentTimeMillis();
         private long endTime;
+        private int cacheHits;
+        private int cacheMisses;
 
         private Builder() {
         }
@@ -153,6 +336,16 @@ public final class ValidationResult {
             return this;
         }
 
+        public Builder cacheHits(int cacheHits) {
+            this.cacheHits = cacheHits;
+            return this;
+        }
+
+        public Builder cacheMisses(int cacheMisses) {
+            this.cacheMisses = cacheMisses;
+            return this;
+        }
+
         public Builder complete() {
             this.endTime = System.currentTimeMillis();
             return this;
@@ -2,11 +2,12 @@ package com.example.linter.validator.block;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
 
-import org.asciidoctor.ast.StructuralNode;
-
+import com.example.linter.ast.AstNode;
 import com.example.linter.config.BlockType;
 import com.example.linter.config.Severity;
 import com.example.linter.config.blocks.Block;
@@ -20,6 +21,9 @@ import com.example.linter.validator.ValidationMessage;
  */
 public abstract class AbstractBlockValidator<T extends Block> implements BlockTypeValidator {
     
+    // Patterns come from the configuration, so the set of distinct patterns is small
+    private static final Map<String, Pattern> PATTERN_CACHE = new ConcurrentHashMap<>();
+    
     /**
      * Returns the specific block configuration class type.
      * Used for safe casting of the generic Block to the specific type.
@@ -38,10 +42,10 @@ public abstract class AbstractBlockValidator<T extends Block> implements BlockTy
      * @return list of validation messages
      */
     protected abstract List<ValidationMessage> performSpecificValidations(
-            StructuralNode node, T config, BlockValidationContext context);
+            AstNode node, T config, BlockValidationContext context);
     
     @Override
-    public final List<ValidationMessage> validate(StructuralNode node, Block config, 
+    public final List<ValidationMessage> validate(AstNode node, Block config, 
                                                  BlockValidationContext context) {
         List<ValidationMessage> messages = new ArrayList<>();
         
@@ -61,34 +65,38 @@ public abstract class AbstractBlockValidator<T extends Block> implements BlockTy
     // Common helper methods
     
     /**
-     * Extracts text content from a structural node.
-     * Handles both direct content and nested blocks.
+     * Returns the raw source text of a node, without substitutions or conversion.
+     * Compound blocks have no lines of their own, so the sources of their
+     * nested blocks are joined instead.
      *
      * @param node the node to extract content from
-     * @return the text content or empty string if none
+     * @return the source text or empty string if none
      */
-    protected String getBlockContent(StructuralNode node) {
-        if (node.getContent() instanceof String) {
-            return (String) node.getContent();
+    protected String getBlockContent(AstNode node) {
+        if (node.getSource() != null) {
+            return node.getSource();
         }
         
         // Handle nested blocks
         if (node.getBlocks() != null && !node.getBlocks().isEmpty()) {
             StringBuilder content = new StringBuilder();
-            for (Object block : node.getBlocks()) {
-                if (block instanceof StructuralNode) {
-                    StructuralNode childNode = (StructuralNode) block;
-                    if (childNode.getContent() instanceof String) {
-                        content.append(childNode.getContent()).append("\n");
-                    }
-                }
-            }
+            appendNestedSources(node, content);
             return content.toString().trim();
         }
         
         return "";
     }
     
+    private void appendNestedSources(AstNode node, StringBuilder content) {
+        for (AstNode childNode : node.getBlocks()) {
+            if (childNode.getSource() != null) {
+                content.append(childNode.getSource()).append("\n");
+            } else {
+                appendNestedSources(childNode, content);
+            }
+        }
+    }
+    
     /**
      * Counts lines in text content.
      *
@@ -125,7 +133,7 @@ public abstract class AbstractBlockValidator<T extends Block> implements BlockTy
      */
     protected ValidationMessage createRequiredFieldMessage(String fieldName, Severity severity,
                                                          BlockValidationContext context, 
-                                                         StructuralNode node) {
+                                                         AstNode node) {
         return ValidationMessage.builder()
             .severity(severity)
             .ruleId(getSupportedType().toValue() + "." + fieldName + ".required")
@@ -150,7 +158,7 @@ public abstract class AbstractBlockValidator<T extends Block> implements BlockTy
     protected ValidationMessage createPatternViolationMessage(String fieldName, String value, 
                                                             String pattern, Severity severity,
                                                             BlockValidationContext context, 
-                                                            StructuralNode node) {
+                                                            AstNode node) {
         return ValidationMessage.builder()
             .severity(severity)
             .ruleId(getSupportedType().toValue() + "." + fieldName + ".pattern")
@@ -176,7 +184,7 @@ public abstract class AbstractBlockValidator<T extends Block> implements BlockTy
                                                            Integer minLength, Integer maxLength, 
                                                            Severity severity,
                                                            BlockValidationContext context, 
-                                                           StructuralNode node) {
+                                                           AstNode node) {
         StringBuilder message = new StringBuilder(fieldName);
         String ruleIdSuffix;
         String expectedValue;
@@ -219,7 +227,7 @@ public abstract class AbstractBlockValidator<T extends Block> implements BlockTy
     protected ValidationMessage validateRequired(String value, String fieldName, 
                                                boolean required, Severity severity,
                                                BlockValidationContext context, 
-                                               StructuralNode node) {
+                                               AstNode node) {
         if (required && (value == null || value.trim().isEmpty())) {
             return createRequiredFieldMessage(fieldName, severity, context, node);
         }
@@ -240,10 +248,10 @@ public abstract class AbstractBlockValidator<T extends Block> implements BlockTy
     protected ValidationMessage validatePattern(String value, String patternStr, 
                                               String fieldName, Severity severity,
                                               BlockValidationContext context, 
-                                              StructuralNode node) {
+                                              AstNode node) {
         if (value != null && patternStr != null) {
             try {
-                Pattern pattern = Pattern.compile(patternStr);
+                Pattern pattern = PATTERN_CACHE.computeIfAbsent(patternStr, Pattern::compile);
                 if (!pattern.matcher(value).matches()) {
                     return createPatternViolationMessage(fieldName, value, patternStr, 
                                                        severity, context, node);
@@ -275,7 +283,7 @@ public abstract class AbstractBlockValidator<T extends Block> implements BlockTy
     protected ValidationMessage validateLength(String value, Integer minLength, Integer maxLength,
                                              String fieldName, Severity severity,
                                              BlockValidationContext context, 
-                                             StructuralNode node) {
+                                             AstNode node) {
         if (value != null && (minLength != null || maxLength != null)) {
             int length = value.length();
             if ((minLength != null && length < minLength) || 
@@ -302,7 +310,7 @@ public abstract class AbstractBlockValidator<T extends Block> implements BlockTy
     protected ValidationMessage validateMinMax(int value, Integer min, Integer max,
                                              String fieldName, Severity severity,
                                              BlockValidationContext context, 
-                                             StructuralNode node) {
+                                             AstNode node) {
         if ((min != null && value < min) || (max != null && value > max)) {
             StringBuilder message = new StringBuilder(fieldName);
             String ruleIdSuffix;
@@ -3,8 +3,7 @@ package com.example.linter.validator.block;
 import java.util.ArrayList;
 import java.util.List;
 
-import org.asciidoctor.ast.StructuralNode;
-
+import com.example.linter.ast.AstNode;
 import com.example.linter.config.BlockType;
 import com.example.linter.config.Severity;
 import com.example.linter.config.blocks.AdmonitionBlock;
@@ -46,7 +45,7 @@ public final class AdmonitionBlockValidator extends AbstractBlockValidator<Admon
     }
     
     @Override
-    protected List<ValidationMessage> performSpecificValidations(StructuralNode block, 
+    protected List<ValidationMessage> performSpecificValidations(AstNode block, 
                                                                AdmonitionBlock admonitionConfig,
                                                                BlockValidationContext context) {
         
@@ -81,7 +80,7 @@ public final class AdmonitionBlockValidator extends AbstractBlockValidator<Admon
         return messages;
     }
     
-    private String getAdmonitionType(StructuralNode block) {
+    private String getAdmonitionType(AstNode block) {
         // Admonition type is typically in the style attribute
         String style = block.getStyle();
         if (style != null) {
@@ -99,9 +98,9 @@ public final class AdmonitionBlockValidator extends AbstractBlockValidator<Admon
     }
     
     
-    private boolean hasIcon(StructuralNode block) {
+    private boolean hasIcon(AstNode block) {
         // Check if icons are enabled at document level
-        Object docIcons = block.getDocument().getAttribute("icons");
+        Object docIcons = block.getDocument() != null ? block.getDocument().getAttribute("icons") : null;
         if (docIcons != null && "font".equals(docIcons.toString())) {
             return true;
         }
@@ -114,7 +113,7 @@ public final class AdmonitionBlockValidator extends AbstractBlockValidator<Admon
     private void validateType(String admonitionType, AdmonitionBlock.TypeConfig config,
                             AdmonitionBlock blockConfig,
                             BlockValidationContext context,
-                            StructuralNode block,
+                            AstNode block,
                             List<ValidationMessage> messages) {
         
         // Get severity with fallback to block severity
@@ -151,7 +150,7 @@ public final class AdmonitionBlockValidator extends AbstractBlockValidator<Admon
     private void validateTitle(String title, AdmonitionBlock.TitleConfig config,
                              AdmonitionBlock blockConfig,
                              BlockValidationContext context,
-                             StructuralNode block,
+                             AstNode block,
                              List<ValidationMessage> messages) {
         
         // Get severity with fallback to block severity
@@ -211,7 +210,7 @@ public final class AdmonitionBlockValidator extends AbstractBlockValidator<Admon
     private void validateContent(String content, AdmonitionBlock.ContentConfig config,
                                AdmonitionBlock blockConfig,
                                BlockValidationContext context,
-                               StructuralNode block,
+                               AstNode block,
                                List<ValidationMessage> messages) {
         
         // Get severity with fallback to block severity
@@ -266,7 +265,7 @@ public final class AdmonitionBlockValidator extends AbstractBlockValidator<Admon
                              AdmonitionBlock.ContentConfig contentConfig,
                              AdmonitionBlock blockConfig,
                              BlockValidationContext context,
-                             StructuralNode block,
+                             AstNode block,
                              List<ValidationMessage> messages) {
         
         // Get severity with fallback to content config severity, then block severity
@@ -305,7 +304,7 @@ public final class AdmonitionBlockValidator extends AbstractBlockValidator<Admon
     private void validateIcon(boolean hasIcon, AdmonitionBlock.IconConfig config,
                             AdmonitionBlock blockConfig,
                             BlockValidationContext context,
-                            StructuralNode block,
+                            AstNode block,
                             List<ValidationMessage> messages) {
         
         // Get severity with fallback to block severity
@@ -338,7 +337,7 @@ public final class AdmonitionBlockValidator extends AbstractBlockValidator<Admon
         }
     }
     
-    private String getIconValue(StructuralNode block) {
+    private String getIconValue(AstNode block) {
         Object icon = block.getAttribute("icon");
         return icon != null ? icon.toString() : null;
     }
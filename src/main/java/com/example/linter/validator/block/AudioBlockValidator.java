@@ -3,8 +3,7 @@ package com.example.linter.validator.block;
 import java.util.ArrayList;
 import java.util.List;
 
-import org.asciidoctor.ast.StructuralNode;
-
+import com.example.linter.ast.AstNode;
 import com.example.linter.config.BlockType;
 import com.example.linter.config.Severity;
 import com.example.linter.config.blocks.AudioBlock;
@@ -46,7 +45,7 @@ public final class AudioBlockValidator extends AbstractBlockValidator<AudioBlock
     }
     
     @Override
-    protected List<ValidationMessage> performSpecificValidations(StructuralNode block, 
+    protected List<ValidationMessage> performSpecificValidations(AstNode block, 
                                                                AudioBlock audioConfig,
                                                                BlockValidationContext context) {
         
@@ -74,7 +73,7 @@ public final class AudioBlockValidator extends AbstractBlockValidator<AudioBlock
         return messages;
     }
     
-    private String getAudioUrl(StructuralNode block) {
+    private String getAudioUrl(AstNode block) {
         // Try different ways to get audio URL
         Object target = block.getAttribute("target");
         if (target != null) {
@@ -82,14 +81,14 @@ public final class AudioBlockValidator extends AbstractBlockValidator<AudioBlock
         }
         
         // For audio blocks, the content might contain the path
-        if (block.getContent() != null) {
-            return block.getContent().toString();
+        if (block.getSource() != null) {
+            return block.getSource();
         }
         
         return null;
     }
     
-    private String getTitle(StructuralNode block) {
+    private String getTitle(AstNode block) {
         // First try the title attribute
         String title = block.getTitle();
         if (title != null && !title.trim().isEmpty()) {
@@ -107,7 +106,7 @@ public final class AudioBlockValidator extends AbstractBlockValidator<AudioBlock
     
     private void validateUrl(String url, AudioBlock.UrlConfig urlConfig,
                            BlockValidationContext context,
-                           StructuralNode block,
+                           AstNode block,
                            List<ValidationMessage> messages,
                            AudioBlock audioConfig) {
         
@@ -142,7 +141,7 @@ public final class AudioBlockValidator extends AbstractBlockValidator<AudioBlock
         }
     }
     
-    private void validateOptions(StructuralNode block, AudioBlock.OptionsConfig optionsConfig,
+    private void validateOptions(AstNode block, AudioBlock.OptionsConfig optionsConfig,
                                BlockValidationContext context,
                                List<ValidationMessage> messages,
                                AudioBlock audioConfig) {
@@ -163,7 +162,7 @@ public final class AudioBlockValidator extends AbstractBlockValidator<AudioBlock
         }
     }
     
-    private void validateAutoplay(StructuralNode block, AudioBlock.AutoplayConfig autoplayConfig,
+    private void validateAutoplay(AstNode block, AudioBlock.AutoplayConfig autoplayConfig,
                                 BlockValidationContext context,
                                 List<ValidationMessage> messages,
                                 AudioBlock audioConfig) {
@@ -185,7 +184,7 @@ public final class AudioBlockValidator extends AbstractBlockValidator<AudioBlock
         }
     }
     
-    private void validateControls(StructuralNode block, AudioBlock.ControlsConfig controlsConfig,
+    private void validateControls(AstNode block, AudioBlock.ControlsConfig controlsConfig,
                                 BlockValidationContext context,
                                 List<ValidationMessage> messages,
                                 AudioBlock audioConfig) {
@@ -207,7 +206,7 @@ public final class AudioBlockValidator extends AbstractBlockValidator<AudioBlock
         }
     }
     
-    private void validateLoop(StructuralNode block, AudioBlock.LoopConfig loopConfig,
+    private void validateLoop(AstNode block, AudioBlock.LoopConfig loopConfig,
                             BlockValidationContext context,
                             List<ValidationMessage> messages,
                             AudioBlock audioConfig) {
@@ -229,7 +228,7 @@ public final class AudioBlockValidator extends AbstractBlockValidator<AudioBlock
         }
     }
     
-    private boolean hasOption(StructuralNode block, String option) {
+    private boolean hasOption(AstNode block, String option) {
         Object opts = block.getAttribute("opts");
         if (opts != null) {
             String optsStr = opts.toString();
@@ -243,7 +242,7 @@ public final class AudioBlockValidator extends AbstractBlockValidator<AudioBlock
     
     private void validateTitle(String title, AudioBlock.TitleConfig titleConfig,
                              BlockValidationContext context,
-                             StructuralNode block,
+                             AstNode block,
                              List<ValidationMessage> messages,
                              AudioBlock audioConfig) {
         
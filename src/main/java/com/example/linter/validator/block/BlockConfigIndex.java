@@ -0,0 +1,72 @@
+package com.example.linter.validator.block;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import com.example.linter.config.BlockType;
+import com.example.linter.config.blocks.Block;
+
+/**
+ * Lookup table from block type and name to the allowed block configuration of a section.
+ *
+ * <p>Built once per section configuration, so finding the configuration of a block is
+ * a hash lookup instead of a scan over the allowed blocks. When several configurations
+ * share a type and name, the first declared one wins, as with a linear scan.</p>
+ */
+public final class BlockConfigIndex {
+
+    private final Map<BlockType, Map<String, Block>> namedConfigs;
+    private final Map<BlockType, Block> unnamedConfigs;
+
+    private BlockConfigIndex(List<Block> configs) {
+        this.namedConfigs = new EnumMap<>(BlockType.class);
+        this.unnamedConfigs = new EnumMap<>(BlockType.class);
+
+        for (Block config : configs) {
+            if (config.getType() == null) {
+                continue;
+            }
+            if (config.getName() != null) {
+                namedConfigs.computeIfAbsent(config.getType(), type -> new HashMap<>())
+                    .putIfAbsent(config.getName(), config);
+            } else {
+                unnamedConfigs.putIfAbsent(config.getType(), config);
+            }
+        }
+    }
+
+    /**
+     * Creates an index over the allowed blocks of a section.
+     *
+     * @param configs the allowed blocks in declaration order
+     * @return the index
+     */
+    public static BlockConfigIndex of(List<Block> configs) {
+        Objects.requireNonNull(configs, "configs must not be null");
+        return new BlockConfigIndex(configs);
+    }
+
+    /**
+     * Finds the configuration for a block. A configuration with a matching name
+     * takes precedence over the unnamed configuration of the same type.
+     *
+     * @param type the detected block type
+     * @param name the block's name attribute, or null if it has none
+     * @return the configuration, or null if the block is not allowed
+     */
+    public Block find(BlockType type, String name) {
+        if (name != null) {
+            Map<String, Block> named = namedConfigs.get(type);
+            if (named != null) {
+                Block config = named.get(name);
+                if (config != null) {
+                    return config;
+                }
+            }
+        }
+        return unnamedConfigs.get(type);
+    }
+}
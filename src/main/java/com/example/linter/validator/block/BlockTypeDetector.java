@@ -1,21 +1,20 @@
 package com.example.linter.validator.block;
 
-import org.asciidoctor.ast.StructuralNode;
-
+import com.example.linter.ast.AstNode;
 import com.example.linter.config.BlockType;
 
 /**
- * Detects the type of AsciidoctorJ blocks and maps them to our BlockType enum.
+ * Detects the type of snapshotted document blocks and maps them to our BlockType enum.
  */
 public final class BlockTypeDetector {
     
     /**
-     * Detects the block type from an AsciidoctorJ StructuralNode.
+     * Detects the block type from a document node.
      * 
      * @param node the node to analyze
      * @return the detected block type, or null if type cannot be determined
      */
-    public BlockType detectType(StructuralNode node) {
+    public BlockType detectType(AstNode node) {
         if (node == null) {
             return null;
         }
@@ -77,7 +76,7 @@ public final class BlockTypeDetector {
     /**
      * Determines if a quote/verse block is actually a verse block or quote block.
      */
-    private BlockType detectVerseOrQuote(StructuralNode node) {
+    private BlockType detectVerseOrQuote(AstNode node) {
         // Check if it has verse style explicitly
         if ("verse".equals(node.getStyle())) {
             return BlockType.VERSE;
@@ -108,7 +107,7 @@ public final class BlockTypeDetector {
     /**
      * Attempts to detect block type from content for container blocks.
      */
-    private BlockType detectFromContent(StructuralNode node) {
+    private BlockType detectFromContent(AstNode node) {
         // For container blocks, we might need to look at style or role
         String style = node.getStyle();
         if (style != null) {
@@ -122,7 +121,7 @@ public final class BlockTypeDetector {
         }
         
         // Check if it's an image block by role
-        if (node.hasRole("image") || "image".equals(node.getNodeName())) {
+        if (node.hasRole("image")) {
             return BlockType.IMAGE;
         }
         
@@ -133,7 +132,7 @@ public final class BlockTypeDetector {
     /**
      * Checks if a node is a specific block type.
      */
-    public boolean isBlockType(StructuralNode node, BlockType type) {
+    public boolean isBlockType(AstNode node, BlockType type) {
         return type == detectType(node);
     }
 }
\ No newline at end of file
@@ -2,8 +2,7 @@ package com.example.linter.validator.block;
 
 import java.util.List;
 
-import org.asciidoctor.ast.StructuralNode;
-
+import com.example.linter.ast.AstNode;
 import com.example.linter.config.BlockType;
 import com.example.linter.config.blocks.Block;
 import com.example.linter.validator.ValidationMessage;
@@ -36,12 +35,12 @@ public interface BlockTypeValidator {
     /**
      * Validates a block against its configuration.
      * 
-     * @param block the AsciidoctorJ block to validate
+     * @param block the snapshotted block to validate
      * @param config the block configuration containing validation rules
      * @param context the validation context containing section information
      * @return list of validation messages (errors, warnings, info)
      */
-    List<ValidationMessage> validate(StructuralNode block, 
+    List<ValidationMessage> validate(AstNode block, 
                                    Block config,
                                    BlockValidationContext context);
 }
\ No newline at end of file
@@ -7,9 +7,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
-import org.asciidoctor.ast.Section;
-import org.asciidoctor.ast.StructuralNode;
-
+import com.example.linter.ast.AstNode;
 import com.example.linter.config.blocks.Block;
 import com.example.linter.validator.SourceLocation;
 
@@ -17,19 +15,19 @@ import com.example.linter.validator.SourceLocation;
  * Context for block validation containing section information and tracking data.
  */
 public final class BlockValidationContext {
-    private final Section section;
+    private final AstNode section;
     private final String filename;
     private final Map<String, List<BlockOccurrence>> occurrences;
     private final List<BlockPosition> blockOrder;
     
-    public BlockValidationContext(Section section, String filename) {
+    public BlockValidationContext(AstNode section, String filename) {
         this.section = Objects.requireNonNull(section, "section must not be null");
         this.filename = Objects.requireNonNull(filename, "filename must not be null");
         this.occurrences = new HashMap<>();
         this.blockOrder = new ArrayList<>();
     }
     
-    public Section getSection() {
+    public AstNode getSection() {
         return section;
     }
     
@@ -40,11 +38,8 @@ public final class BlockValidationContext {
     /**
      * Creates a source location for the given block.
      */
-    public SourceLocation createLocation(StructuralNode block) {
-        int line = 1;
-        if (block.getSourceLocation() != null) {
-            line = block.getSourceLocation().getLineNumber();
-        }
+    public SourceLocation createLocation(AstNode block) {
+        int line = block.getLineNumber() > 0 ? block.getLineNumber() : 1;
         
         return SourceLocation.builder()
             .filename(filename)
@@ -55,7 +50,7 @@ public final class BlockValidationContext {
     /**
      * Tracks a block occurrence for validation.
      */
-    public void trackBlock(Block config, StructuralNode block) {
+    public void trackBlock(Block config, AstNode block) {
         String key = createOccurrenceKey(config);
         
         BlockOccurrence occurrence = new BlockOccurrence(config, block, blockOrder.size());
@@ -108,17 +103,17 @@ public final class BlockValidationContext {
      */
     public static final class BlockOccurrence {
         private final Block config;
-        private final StructuralNode block;
+        private final AstNode block;
         private final int position;
         
-        BlockOccurrence(Block config, StructuralNode block, int position) {
+        BlockOccurrence(Block config, AstNode block, int position) {
             this.config = config;
             this.block = block;
             this.position = position;
         }
         
         public Block getConfig() { return config; }
-        public StructuralNode getBlock() { return block; }
+        public AstNode getBlock() { return block; }
         public int getPosition() { return position; }
     }
     
@@ -127,17 +122,17 @@ public final class BlockValidationContext {
      */
     public static final class BlockPosition {
         private final Block config;
-        private final StructuralNode block;
+        private final AstNode block;
         private final int index;
         
-        BlockPosition(Block config, StructuralNode block, int index) {
+        BlockPosition(Block config, AstNode block, int index) {
             this.config = config;
             this.block = block;
             this.index = index;
         }
         
         public Block getConfig() { return config; }
-        public StructuralNode getBlock() { return block; }
+        public AstNode getBlock() { return block; }
         public int getIndex() { return index; }
     }
 }
\ No newline at end of file
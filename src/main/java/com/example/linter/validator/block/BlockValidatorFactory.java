@@ -1,6 +1,7 @@
 package com.example.linter.validator.block;
 
-import java.util.HashMap;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.Map;
 import java.util.Objects;
 
@@ -8,13 +9,14 @@ import com.example.linter.config.BlockType;
 
 /**
  * Factory for creating block type validators.
+ * The registered validators are stateless, so a factory can be shared between threads.
  */
 public final class BlockValidatorFactory {
     
     private final Map<BlockType, BlockTypeValidator> validators;
     
     public BlockValidatorFactory() {
-        this.validators = createValidators();
+        this.validators = Collections.unmodifiableMap(createValidators());
     }
     
     /**
@@ -41,7 +43,7 @@ public final class BlockValidatorFactory {
      * Creates and registers all available validators.
      */
     private Map<BlockType, BlockTypeValidator> createValidators() {
-        Map<BlockType, BlockTypeValidator> map = new HashMap<>();
+        Map<BlockType, BlockTypeValidator> map = new EnumMap<>(BlockType.class);
         
         // Register all validators
         registerValidator(map, new ParagraphBlockValidator());
@@ -3,8 +3,7 @@ package com.example.linter.validator.block;
 import java.util.ArrayList;
 import java.util.List;
 
-import org.asciidoctor.ast.StructuralNode;
-
+import com.example.linter.ast.AstNode;
 import com.example.linter.config.BlockType;
 import com.example.linter.config.Severity;
 import com.example.linter.config.blocks.ExampleBlock;
@@ -30,7 +29,7 @@ public final class ExampleBlockValidator extends AbstractBlockValidator<ExampleB
     }
     
     @Override
-    protected List<ValidationMessage> performSpecificValidations(StructuralNode node, 
+    protected List<ValidationMessage> performSpecificValidations(AstNode node, 
                                                                ExampleBlock exampleBlock,
                                                                BlockValidationContext context) {
         List<ValidationMessage> messages = new ArrayList<>();
@@ -48,7 +47,7 @@ public final class ExampleBlockValidator extends AbstractBlockValidator<ExampleB
         return messages;
     }
     
-    private List<ValidationMessage> validateCaption(StructuralNode node, ExampleBlock block, BlockValidationContext context) {
+    private List<ValidationMessage> validateCaption(AstNode node, ExampleBlock block, BlockValidationContext context) {
         List<ValidationMessage> messages = new ArrayList<>();
         ExampleBlock.CaptionConfig config = block.getCaption();
         
@@ -101,7 +100,7 @@ public final class ExampleBlockValidator extends AbstractBlockValidator<ExampleB
         return messages;
     }
     
-    private List<ValidationMessage> validateCollapsible(StructuralNode node, ExampleBlock block, BlockValidationContext context) {
+    private List<ValidationMessage> validateCollapsible(AstNode node, ExampleBlock block, BlockValidationContext context) {
         List<ValidationMessage> messages = new ArrayList<>();
         ExampleBlock.CollapsibleConfig config = block.getCollapsible();
         
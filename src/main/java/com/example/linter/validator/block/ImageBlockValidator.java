@@ -3,8 +3,7 @@ package com.example.linter.validator.block;
 import java.util.ArrayList;
 import java.util.List;
 
-import org.asciidoctor.ast.StructuralNode;
-
+import com.example.linter.ast.AstNode;
 import com.example.linter.config.BlockType;
 import com.example.linter.config.blocks.ImageBlock;
 import com.example.linter.validator.ValidationMessage;
@@ -44,7 +43,7 @@ public final class ImageBlockValidator extends AbstractBlockValidator<ImageBlock
     }
     
     @Override
-    protected List<ValidationMessage> performSpecificValidations(StructuralNode block, 
+    protected List<ValidationMessage> performSpecificValidations(AstNode block, 
                                                                ImageBlock imageConfig,
                                                                BlockValidationContext context) {
         List<ValidationMessage> messages = new ArrayList<>();
@@ -76,7 +75,7 @@ public final class ImageBlockValidator extends AbstractBlockValidator<ImageBlock
         return messages;
     }
     
-    private String getImageUrl(StructuralNode block) {
+    private String getImageUrl(AstNode block) {
         // Try different ways to get image URL
         Object target = block.getAttribute("target");
         if (target != null) {
@@ -84,21 +83,21 @@ public final class ImageBlockValidator extends AbstractBlockValidator<ImageBlock
         }
         
         // For image blocks, the content might contain the path
-        if (block.getContent() != null) {
-            return block.getContent().toString();
+        if (block.getSource() != null) {
+            return block.getSource();
         }
         
         return null;
     }
     
-    private String getAltText(StructuralNode block) {
+    private String getAltText(AstNode block) {
         Object alt = block.getAttribute("alt");
         return alt != null ? alt.toString() : null;
     }
     
     private void validateUrl(String url, ImageBlock.UrlConfig urlConfig,
                            BlockValidationContext context,
-                           StructuralNode block,
+                           AstNode block,
                            List<ValidationMessage> messages,
                            ImageBlock imageConfig) {
         
@@ -130,7 +129,7 @@ public final class ImageBlockValidator extends AbstractBlockValidator<ImageBlock
         }
     }
     
-    private void validateDimension(StructuralNode block, String dimensionName,
+    private void validateDimension(AstNode block, String dimensionName,
                                  ImageBlock.DimensionConfig dimConfig,
                                  BlockValidationContext context,
                                  List<ValidationMessage> messages,
@@ -197,7 +196,7 @@ public final class ImageBlockValidator extends AbstractBlockValidator<ImageBlock
     
     private void validateAltText(String altText, ImageBlock.AltTextConfig altConfig,
                                BlockValidationContext context,
-                               StructuralNode block,
+                               AstNode block,
                                List<ValidationMessage> messages,
                                ImageBlock imageConfig) {
         
@@ -2,9 +2,9 @@ package com.example.linter.validator.block;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.regex.Pattern;
 
-import org.asciidoctor.ast.StructuralNode;
-
+import com.example.linter.ast.AstNode;
 import com.example.linter.config.BlockType;
 import com.example.linter.config.Severity;
 import com.example.linter.config.blocks.ListingBlock;
@@ -34,6 +34,8 @@ import com.example.linter.validator.ValidationMessage;
  */
 public final class ListingBlockValidator extends AbstractBlockValidator<ListingBlock> {
     
+    private static final Pattern CALLOUT_PATTERN = Pattern.compile("<\\d+>");
+    
     @Override
     public BlockType getSupportedType() {
         return BlockType.LISTING;
@@ -45,7 +47,7 @@ public final class ListingBlockValidator extends AbstractBlockValidator<ListingB
     }
     
     @Override
-    protected List<ValidationMessage> performSpecificValidations(StructuralNode block, 
+    protected List<ValidationMessage> performSpecificValidations(AstNode block, 
                                                                ListingBlock listingConfig,
                                                                BlockValidationContext context) {
         List<ValidationMessage> messages = new ArrayList<>();
@@ -78,7 +80,7 @@ public final class ListingBlockValidator extends AbstractBlockValidator<ListingB
         return messages;
     }
     
-    private String getLanguage(StructuralNode block) {
+    private String getLanguage(AstNode block) {
         // Language can be in different attributes
         Object lang = block.getAttribute("language");
         if (lang != null) {
@@ -105,7 +107,7 @@ public final class ListingBlockValidator extends AbstractBlockValidator<ListingB
     private void validateLanguage(String language, ListingBlock.LanguageConfig config,
                                 ListingBlock blockConfig,
                                 BlockValidationContext context,
-                                StructuralNode block,
+                                AstNode block,
                                 List<ValidationMessage> messages) {
         
         // Get severity with fallback to block severity
@@ -141,7 +143,7 @@ public final class ListingBlockValidator extends AbstractBlockValidator<ListingB
     private void validateTitle(String title, ListingBlock.TitleConfig config,
                              ListingBlock blockConfig,
                              BlockValidationContext context,
-                             StructuralNode block,
+                             AstNode block,
                              List<ValidationMessage> messages) {
         
         // Get severity with fallback to block severity
@@ -176,7 +178,7 @@ public final class ListingBlockValidator extends AbstractBlockValidator<ListingB
     private void validateLines(String content, com.example.linter.config.rule.LineConfig config,
                              ListingBlock blockConfig,
                              BlockValidationContext context,
-                             StructuralNode block,
+                             AstNode block,
                              List<ValidationMessage> messages) {
         
         // Get severity with fallback to block severity
@@ -213,7 +215,7 @@ public final class ListingBlockValidator extends AbstractBlockValidator<ListingB
     private void validateCallouts(String content, ListingBlock.CalloutsConfig config,
                                 ListingBlock blockConfig,
                                 BlockValidationContext context,
-                                StructuralNode block,
+                                AstNode block,
                                 List<ValidationMessage> messages) {
         
         // Get severity with fallback to block severity
@@ -260,7 +262,7 @@ public final class ListingBlockValidator extends AbstractBlockValidator<ListingB
         
         for (String line : lines) {
             // Simple pattern to find <number>
-            if (line.matches(".*<\\d+>.*")) {
+            if (CALLOUT_PATTERN.matcher(line).find()) {
                 count++;
             }
         }
@@ -3,8 +3,7 @@ package com.example.linter.validator.block;
 import java.util.ArrayList;
 import java.util.List;
 
-import org.asciidoctor.ast.StructuralNode;
-
+import com.example.linter.ast.AstNode;
 import com.example.linter.config.BlockType;
 import com.example.linter.config.Severity;
 import com.example.linter.config.blocks.LiteralBlock;
@@ -58,7 +57,7 @@ public final class LiteralBlockValidator extends AbstractBlockValidator<LiteralB
     }
     
     @Override
-    protected List<ValidationMessage> performSpecificValidations(StructuralNode block, 
+    protected List<ValidationMessage> performSpecificValidations(AstNode block, 
                                                                LiteralBlock config,
                                                                BlockValidationContext context) {
         List<ValidationMessage> messages = new ArrayList<>();
@@ -85,12 +84,12 @@ public final class LiteralBlockValidator extends AbstractBlockValidator<LiteralB
         return messages;
     }
     
-    private String getTitle(StructuralNode block) {
+    private String getTitle(AstNode block) {
         Object titleObj = block.getTitle();
         return titleObj != null ? titleObj.toString() : null;
     }
     
-    private List<String> getContentLines(StructuralNode block) {
+    private List<String> getContentLines(AstNode block) {
         List<String> lines = new ArrayList<>();
         String content = getBlockContent(block);
         
@@ -107,7 +106,7 @@ public final class LiteralBlockValidator extends AbstractBlockValidator<LiteralB
     private void validateTitle(String title, LiteralBlock.TitleConfig config,
                              LiteralBlock blockConfig,
                              BlockValidationContext context,
-                             StructuralNode block,
+                             AstNode block,
                              List<ValidationMessage> messages) {
         
         // Get severity with fallback to block severity
@@ -137,7 +136,7 @@ public final class LiteralBlockValidator extends AbstractBlockValidator<LiteralB
     private void validateLines(List<String> lines, LiteralBlock.LinesConfig config,
                              LiteralBlock blockConfig,
                              BlockValidationContext context,
-                             StructuralNode block,
+                             AstNode block,
                              List<ValidationMessage> messages) {
         
         // Get severity with fallback to block severity
@@ -156,7 +155,7 @@ public final class LiteralBlockValidator extends AbstractBlockValidator<LiteralB
     private void validateIndentation(List<String> lines, LiteralBlock.IndentationConfig config,
                                    LiteralBlock blockConfig,
                                    BlockValidationContext context,
-                                   StructuralNode block,
+                                   AstNode block,
                                    List<ValidationMessage> messages) {
         
         // Get severity with fallback to block severity
@@ -3,8 +3,7 @@ package com.example.linter.validator.block;
 import java.util.ArrayList;
 import java.util.List;
 
-import org.asciidoctor.ast.StructuralNode;
-
+import com.example.linter.ast.AstNode;
 import com.example.linter.config.BlockType;
 import com.example.linter.config.Severity;
 import com.example.linter.config.blocks.ParagraphBlock;
@@ -49,7 +48,7 @@ public final class ParagraphBlockValidator extends AbstractBlockValidator<Paragr
     }
     
     @Override
-    protected List<ValidationMessage> performSpecificValidations(StructuralNode block, 
+    protected List<ValidationMessage> performSpecificValidations(AstNode block, 
                                                                ParagraphBlock paragraphConfig,
                                                                BlockValidationContext context) {
         List<ValidationMessage> messages = new ArrayList<>();
@@ -94,7 +93,7 @@ public final class ParagraphBlockValidator extends AbstractBlockValidator<Paragr
                                  com.example.linter.config.rule.LineConfig lineConfig,
                                  ParagraphBlock blockConfig,
                                  BlockValidationContext context,
-                                 StructuralNode block,
+                                 AstNode block,
                                  List<ValidationMessage> messages) {
         
         // Get severity with fallback to block severity
@@ -127,7 +126,7 @@ public final class ParagraphBlockValidator extends AbstractBlockValidator<Paragr
                                   ParagraphBlock.SentenceConfig sentenceConfig,
                                   ParagraphBlock blockConfig,
                                   BlockValidationContext context,
-                                  StructuralNode block,
+                                  AstNode block,
                                   List<ValidationMessage> messages) {
         
         if (content == null || content.isEmpty()) {
@@ -195,7 +194,7 @@ public final class ParagraphBlockValidator extends AbstractBlockValidator<Paragr
                                           OccurrenceConfig occurrenceConfig,
                                           ParagraphBlock blockConfig,
                                           BlockValidationContext context,
-                                          StructuralNode block,
+                                          AstNode block,
                                           List<ValidationMessage> messages) {
         
         Severity severity = occurrenceConfig.severity() != null 
@@ -229,7 +228,7 @@ public final class ParagraphBlockValidator extends AbstractBlockValidator<Paragr
                                         ParagraphBlock.WordsConfig wordsConfig,
                                         ParagraphBlock blockConfig,
                                         BlockValidationContext context,
-                                        StructuralNode block,
+                                        AstNode block,
                                         List<ValidationMessage> messages) {
         
         Severity severity = wordsConfig.getSeverity() != null 
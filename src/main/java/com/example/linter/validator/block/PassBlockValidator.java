@@ -3,8 +3,7 @@ package com.example.linter.validator.block;
 import java.util.ArrayList;
 import java.util.List;
 
-import org.asciidoctor.ast.StructuralNode;
-
+import com.example.linter.ast.AstNode;
 import com.example.linter.config.BlockType;
 import com.example.linter.config.Severity;
 import com.example.linter.config.blocks.PassBlock;
@@ -61,7 +60,7 @@ public final class PassBlockValidator extends AbstractBlockValidator<PassBlock>
     }
     
     @Override
-    protected List<ValidationMessage> performSpecificValidations(StructuralNode block, 
+    protected List<ValidationMessage> performSpecificValidations(AstNode block, 
                                                                PassBlock passConfig,
                                                                BlockValidationContext context) {
         
@@ -90,7 +89,7 @@ public final class PassBlockValidator extends AbstractBlockValidator<PassBlock>
         return messages;
     }
     
-    private String getAttributeAsString(StructuralNode block, String attributeName) {
+    private String getAttributeAsString(AstNode block, String attributeName) {
         Object value = block.getAttribute(attributeName);
         return value != null ? value.toString() : null;
     }
@@ -99,7 +98,7 @@ public final class PassBlockValidator extends AbstractBlockValidator<PassBlock>
     private void validateType(String passType, PassBlock.TypeConfig config,
                             PassBlock blockConfig,
                             BlockValidationContext context,
-                            StructuralNode block,
+                            AstNode block,
                             List<ValidationMessage> messages) {
         
         // Get severity with fallback to block severity
@@ -135,7 +134,7 @@ public final class PassBlockValidator extends AbstractBlockValidator<PassBlock>
     private void validateContent(String content, PassBlock.ContentConfig config,
                                PassBlock blockConfig,
                                BlockValidationContext context,
-                               StructuralNode block,
+                               AstNode block,
                                List<ValidationMessage> messages) {
         
         // Get severity with fallback to block severity
@@ -187,7 +186,7 @@ public final class PassBlockValidator extends AbstractBlockValidator<PassBlock>
     private void validateReason(String passReason, PassBlock.ReasonConfig config,
                                      PassBlock blockConfig,
                                      BlockValidationContext context,
-                                     StructuralNode block,
+                                     AstNode block,
                                      List<ValidationMessage> messages) {
         
         // Get severity with fallback to block severity
@@ -3,8 +3,7 @@ package com.example.linter.validator.block;
 import java.util.ArrayList;
 import java.util.List;
 
-import org.asciidoctor.ast.StructuralNode;
-
+import com.example.linter.ast.AstNode;
 import com.example.linter.config.BlockType;
 import com.example.linter.config.Severity;
 import com.example.linter.config.blocks.QuoteBlock;
@@ -27,7 +26,7 @@ public final class QuoteBlockValidator extends AbstractBlockValidator<QuoteBlock
     }
     
     @Override
-    protected List<ValidationMessage> performSpecificValidations(StructuralNode node, 
+    protected List<ValidationMessage> performSpecificValidations(AstNode node, 
                                                                QuoteBlock quoteBlock,
                                                                BlockValidationContext context) {
         List<ValidationMessage> results = new ArrayList<>();
@@ -50,7 +49,7 @@ public final class QuoteBlockValidator extends AbstractBlockValidator<QuoteBlock
         return results;
     }
     
-    private void validateAuthor(StructuralNode node, QuoteBlock.AuthorConfig config, 
+    private void validateAuthor(AstNode node, QuoteBlock.AuthorConfig config, 
                                Severity blockSeverity, List<ValidationMessage> results,
                                BlockValidationContext context) {
         String author = extractAuthor(node);
@@ -102,7 +101,7 @@ public final class QuoteBlockValidator extends AbstractBlockValidator<QuoteBlock
         }
     }
     
-    private void validateSource(StructuralNode node, QuoteBlock.SourceConfig config,
+    private void validateSource(AstNode node, QuoteBlock.SourceConfig config,
                                Severity blockSeverity, List<ValidationMessage> results,
                                BlockValidationContext context) {
         String source = extractSource(node);
@@ -154,7 +153,7 @@ public final class QuoteBlockValidator extends AbstractBlockValidator<QuoteBlock
         }
     }
     
-    private void validateContent(StructuralNode node, QuoteBlock.ContentConfig config,
+    private void validateContent(AstNode node, QuoteBlock.ContentConfig config,
                                 Severity blockSeverity, List<ValidationMessage> results,
                                 BlockValidationContext context) {
         String content = extractContent(node);
@@ -199,7 +198,7 @@ public final class QuoteBlockValidator extends AbstractBlockValidator<QuoteBlock
         }
     }
     
-    private void validateLines(StructuralNode node, String content, QuoteBlock.LinesConfig config,
+    private void validateLines(AstNode node, String content, QuoteBlock.LinesConfig config,
                               Severity blockSeverity, List<ValidationMessage> results,
                               BlockValidationContext context) {
         String[] lines = content.split("\n");
@@ -227,7 +226,7 @@ public final class QuoteBlockValidator extends AbstractBlockValidator<QuoteBlock
         }
     }
     
-    private String extractAuthor(StructuralNode node) {
+    private String extractAuthor(AstNode node) {
         // Check for author attribute (standard way)
         Object author = node.getAttribute("author");
         if (author != null) {
@@ -249,7 +248,7 @@ public final class QuoteBlockValidator extends AbstractBlockValidator<QuoteBlock
         return null;
     }
     
-    private String extractSource(StructuralNode node) {
+    private String extractSource(AstNode node) {
         // Check for citetitle attribute (standard way for source)
         Object citetitle = node.getAttribute("citetitle");
         if (citetitle != null) {
@@ -271,7 +270,7 @@ public final class QuoteBlockValidator extends AbstractBlockValidator<QuoteBlock
         return null;
     }
     
-    private String extractContent(StructuralNode node) {
+    private String extractContent(AstNode node) {
         // Use inherited getBlockContent method from AbstractBlockValidator
         return getBlockContent(node);
     }
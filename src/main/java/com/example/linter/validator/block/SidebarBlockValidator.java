@@ -4,8 +4,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.regex.Pattern;
 
-import org.asciidoctor.ast.StructuralNode;
-
+import com.example.linter.ast.AstNode;
 import com.example.linter.config.BlockType;
 import com.example.linter.config.Severity;
 import com.example.linter.config.blocks.SidebarBlock;
@@ -41,7 +40,7 @@ public final class SidebarBlockValidator extends AbstractBlockValidator<SidebarB
     }
     
     @Override
-    protected List<ValidationMessage> performSpecificValidations(StructuralNode block, 
+    protected List<ValidationMessage> performSpecificValidations(AstNode block, 
                                                                SidebarBlock sidebarConfig,
                                                                BlockValidationContext context) {
         
@@ -65,7 +64,7 @@ public final class SidebarBlockValidator extends AbstractBlockValidator<SidebarB
         return messages;
     }
     
-    private void validateTitle(StructuralNode block, SidebarBlock config,
+    private void validateTitle(AstNode block, SidebarBlock config,
                              BlockValidationContext context, List<ValidationMessage> messages) {
         SidebarBlock.TitleConfig titleConfig = config.getTitle();
         
@@ -131,7 +130,7 @@ public final class SidebarBlockValidator extends AbstractBlockValidator<SidebarB
         }
     }
     
-    private void validateContent(StructuralNode block, SidebarBlock config,
+    private void validateContent(AstNode block, SidebarBlock config,
                                BlockValidationContext context, List<ValidationMessage> messages) {
         SidebarBlock.ContentConfig contentConfig = config.getContent();
         
@@ -183,7 +182,7 @@ public final class SidebarBlockValidator extends AbstractBlockValidator<SidebarB
         }
     }
     
-    private void validateLines(StructuralNode block, SidebarBlock config, 
+    private void validateLines(AstNode block, SidebarBlock config, 
                              SidebarBlock.LinesConfig linesConfig,
                              BlockValidationContext context, List<ValidationMessage> messages) {
         
@@ -219,7 +218,7 @@ public final class SidebarBlockValidator extends AbstractBlockValidator<SidebarB
         }
     }
     
-    private void validatePosition(StructuralNode block, SidebarBlock config,
+    private void validatePosition(AstNode block, SidebarBlock config,
                                 BlockValidationContext context, List<ValidationMessage> messages) {
         SidebarBlock.PositionConfig positionConfig = config.getPosition();
         
@@ -4,11 +4,8 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.regex.Pattern;
 
-import org.asciidoctor.ast.Cell;
-import org.asciidoctor.ast.Row;
-import org.asciidoctor.ast.StructuralNode;
-import org.asciidoctor.ast.Table;
-
+import com.example.linter.ast.AstNode;
+import com.example.linter.ast.AstTable;
 import com.example.linter.config.BlockType;
 import com.example.linter.config.Severity;
 import com.example.linter.config.blocks.TableBlock;
@@ -50,47 +47,47 @@ public final class TableBlockValidator extends AbstractBlockValidator<TableBlock
     }
     
     @Override
-    protected List<ValidationMessage> performSpecificValidations(StructuralNode block, 
+    protected List<ValidationMessage> performSpecificValidations(AstNode block, 
                                                                TableBlock tableConfig,
                                                                BlockValidationContext context) {
         
-        if (!(block instanceof Table)) {
+        AstTable table = block.getTable();
+        if (table == null) {
             // Should not happen if BlockTypeDetector works correctly
             return List.of();
         }
         
-        Table table = (Table) block;
         List<ValidationMessage> messages = new ArrayList<>();
         
         // Validate columns
         if (tableConfig.getColumns() != null) {
-            validateColumns(table, tableConfig.getColumns(), tableConfig, context, messages);
+            validateColumns(block, table, tableConfig.getColumns(), tableConfig, context, messages);
         }
         
         // Validate rows
         if (tableConfig.getRows() != null) {
-            validateRows(table, tableConfig.getRows(), tableConfig, context, messages);
+            validateRows(block, table, tableConfig.getRows(), tableConfig, context, messages);
         }
         
         // Validate header
         if (tableConfig.getHeader() != null) {
-            validateHeader(table, tableConfig.getHeader(), tableConfig, context, messages);
+            validateHeader(block, table, tableConfig.getHeader(), tableConfig, context, messages);
         }
         
         // Validate caption
         if (tableConfig.getCaption() != null) {
-            validateCaption(table, tableConfig.getCaption(), tableConfig, context, messages);
+            validateCaption(block, tableConfig.getCaption(), tableConfig, context, messages);
         }
         
         // Validate format
         if (tableConfig.getFormat() != null) {
-            validateFormat(table, tableConfig.getFormat(), tableConfig, context, messages);
+            validateFormat(block, tableConfig.getFormat(), tableConfig, context, messages);
         }
         
         return messages;
     }
     
-    private void validateColumns(Table table, TableBlock.DimensionConfig config,
+    private void validateColumns(AstNode block, AstTable table, TableBlock.DimensionConfig config,
                                TableBlock blockConfig,
                                BlockValidationContext context,
                                List<ValidationMessage> messages) {
@@ -98,13 +95,13 @@ public final class TableBlockValidator extends AbstractBlockValidator<TableBlock
         // Get severity with fallback to block severity
         Severity severity = config.getSeverity() != null ? config.getSeverity() : blockConfig.getSeverity();
         
-        int columnCount = table.getColumns().size();
+        int columnCount = table.getColumnCount();
         
         if (config.getMin() != null && columnCount < config.getMin()) {
             messages.add(ValidationMessage.builder()
                 .severity(severity)
                 .ruleId("table.columns.min")
-                .location(context.createLocation(table))
+                .location(context.createLocation(block))
                 .message("Table has too few columns")
                 .actualValue(String.valueOf(columnCount))
                 .expectedValue("At least " + config.getMin() + " columns")
@@ -115,7 +112,7 @@ public final class TableBlockValidator extends AbstractBlockValidator<TableBlock
             messages.add(ValidationMessage.builder()
                 .severity(severity)
                 .ruleId("table.columns.max")
-                .location(context.createLocation(table))
+                .location(context.createLocation(block))
                 .message("Table has too many columns")
                 .actualValue(String.valueOf(columnCount))
                 .expectedValue("At most " + config.getMax() + " columns")
@@ -123,7 +120,7 @@ public final class TableBlockValidator extends AbstractBlockValidator<TableBlock
         }
     }
     
-    private void validateRows(Table table, TableBlock.DimensionConfig config,
+    private void validateRows(AstNode block, AstTable table, TableBlock.DimensionConfig config,
                             TableBlock blockConfig,
                             BlockValidationContext context,
                             List<ValidationMessage> messages) {
@@ -131,13 +128,13 @@ public final class TableBlockValidator extends AbstractBlockValidator<TableBlock
         // Get severity with fallback to block severity
         Severity severity = config.getSeverity() != null ? config.getSeverity() : blockConfig.getSeverity();
         
-        int rowCount = table.getBody().size();
+        int rowCount = table.getBodyRowCount();
         
         if (config.getMin() != null && rowCount < config.getMin()) {
             messages.add(ValidationMessage.builder()
                 .severity(severity)
                 .ruleId("table.rows.min")
-                .location(context.createLocation(table))
+                .location(context.createLocation(block))
                 .message("Table has too few rows")
                 .actualValue(String.valueOf(rowCount))
                 .expectedValue("At least " + config.getMin() + " rows")
@@ -148,7 +145,7 @@ public final class TableBlockValidator extends AbstractBlockValidator<TableBlock
             messages.add(ValidationMessage.builder()
                 .severity(severity)
                 .ruleId("table.rows.max")
-                .location(context.createLocation(table))
+                .location(context.createLocation(block))
                 .message("Table has too many rows")
                 .actualValue(String.valueOf(rowCount))
                 .expectedValue("At most " + config.getMax() + " rows")
@@ -156,7 +153,7 @@ public final class TableBlockValidator extends AbstractBlockValidator<TableBlock
         }
     }
     
-    private void validateHeader(Table table, TableBlock.HeaderConfig config,
+    private void validateHeader(AstNode block, AstTable table, TableBlock.HeaderConfig config,
                               TableBlock blockConfig,
                               BlockValidationContext context,
                               List<ValidationMessage> messages) {
@@ -170,7 +167,7 @@ public final class TableBlockValidator extends AbstractBlockValidator<TableBlock
             messages.add(ValidationMessage.builder()
                 .severity(severity)
                 .ruleId("table.header.required")
-                .location(context.createLocation(table))
+                .location(context.createLocation(block))
                 .message("Table must have a header row")
                 .actualValue("No header")
                 .expectedValue("Header row required")
@@ -181,14 +178,13 @@ public final class TableBlockValidator extends AbstractBlockValidator<TableBlock
         if (hasHeader && config.getPattern() != null) {
             Pattern pattern = config.getPattern();
             
-            for (Row headerRow : table.getHeader()) {
-                for (Cell cell : headerRow.getCells()) {
-                    String content = cell.getText();
+            for (List<String> headerRow : table.getHeader()) {
+                for (String content : headerRow) {
                     if (!pattern.matcher(content).matches()) {
                         messages.add(ValidationMessage.builder()
                             .severity(severity)
                             .ruleId("table.header.pattern")
-                            .location(context.createLocation(table))
+                            .location(context.createLocation(block))
                             .message("Table header does not match required pattern")
                             .actualValue(content)
                             .expectedValue("Pattern: " + config.getPattern())
@@ -199,7 +195,7 @@ public final class TableBlockValidator extends AbstractBlockValidator<TableBlock
         }
     }
     
-    private void validateCaption(Table table, TableBlock.CaptionConfig config,
+    private void validateCaption(AstNode block, TableBlock.CaptionConfig config,
                                TableBlock blockConfig,
                                BlockValidationContext context,
                                List<ValidationMessage> messages) {
@@ -207,13 +203,13 @@ public final class TableBlockValidator extends AbstractBlockValidator<TableBlock
         // Get severity with fallback to block severity
         Severity severity = config.getSeverity() != null ? config.getSeverity() : blockConfig.getSeverity();
         
-        String caption = table.getTitle();
+        String caption = block.getTitle();
         
         if (config.isRequired() && (caption == null || caption.trim().isEmpty())) {
             messages.add(ValidationMessage.builder()
                 .severity(severity)
                 .ruleId("table.caption.required")
-                .location(context.createLocation(table))
+                .location(context.createLocation(block))
                 .message("Table must have a caption")
                 .actualValue("No caption")
                 .expectedValue("Caption required")
@@ -229,7 +225,7 @@ public final class TableBlockValidator extends AbstractBlockValidator<TableBlock
                     messages.add(ValidationMessage.builder()
                         .severity(severity)
                         .ruleId("table.caption.pattern")
-                        .location(context.createLocation(table))
+                        .location(context.createLocation(block))
                         .message("Table caption does not match required pattern")
                         .actualValue(caption)
                         .expectedValue("Pattern: " + config.getPattern())
@@ -242,7 +238,7 @@ public final class TableBlockValidator extends AbstractBlockValidator<TableBlock
                 messages.add(ValidationMessage.builder()
                     .severity(severity)
                     .ruleId("table.caption.minLength")
-                    .location(context.createLocation(table))
+                    .location(context.createLocation(block))
                     .message("Table caption is too short")
                     .actualValue(caption.length() + " characters")
                     .expectedValue("At least " + config.getMinLength() + " characters")
@@ -253,7 +249,7 @@ public final class TableBlockValidator extends AbstractBlockValidator<TableBlock
                 messages.add(ValidationMessage.builder()
                     .severity(severity)
                     .ruleId("table.caption.maxLength")
-                    .location(context.createLocation(table))
+                    .location(context.createLocation(block))
                     .message("Table caption is too long")
                     .actualValue(caption.length() + " characters")
                     .expectedValue("At most " + config.getMaxLength() + " characters")
@@ -262,7 +258,7 @@ public final class TableBlockValidator extends AbstractBlockValidator<TableBlock
         }
     }
     
-    private void validateFormat(Table table, TableBlock.FormatConfig config,
+    private void validateFormat(AstNode block, TableBlock.FormatConfig config,
                               TableBlock blockConfig,
                               BlockValidationContext context,
                               List<ValidationMessage> messages) {
@@ -272,13 +268,13 @@ public final class TableBlockValidator extends AbstractBlockValidator<TableBlock
         
         // Validate table style
         if (config.getStyle() != null) {
-            Object styleObj = table.getAttribute("options");
+            Object styleObj = block.getAttribute("options");
             String actualStyle = styleObj != null ? styleObj.toString() : null;
             if (actualStyle == null || !actualStyle.contains(config.getStyle())) {
                 messages.add(ValidationMessage.builder()
                     .severity(severity)
                     .ruleId("table.format.style")
-                    .location(context.createLocation(table))
+                    .location(context.createLocation(block))
                     .message("Table does not have required style")
                     .actualValue(actualStyle != null ? actualStyle : "default")
                     .expectedValue("Style: " + config.getStyle())
@@ -288,13 +284,13 @@ public final class TableBlockValidator extends AbstractBlockValidator<TableBlock
         
         // Validate borders
         if (config.getBorders() != null && config.getBorders()) {
-            Object frameObj = table.getAttribute("frame");
+            Object frameObj = block.getAttribute("frame");
             String frame = frameObj != null ? frameObj.toString() : null;
             if (frame == null || "none".equals(frame)) {
                 messages.add(ValidationMessage.builder()
                     .severity(severity)
                     .ruleId("table.format.borders")
-                    .location(context.createLocation(table))
+                    .location(context.createLocation(block))
                     .message("Table must have borders")
                     .actualValue("No borders")
                     .expectedValue("Borders required")
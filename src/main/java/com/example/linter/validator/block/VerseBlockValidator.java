@@ -3,8 +3,7 @@ package com.example.linter.validator.block;
 import java.util.ArrayList;
 import java.util.List;
 
-import org.asciidoctor.ast.StructuralNode;
-
+import com.example.linter.ast.AstNode;
 import com.example.linter.config.BlockType;
 import com.example.linter.config.blocks.VerseBlock;
 import com.example.linter.validator.ValidationMessage;
@@ -43,7 +42,7 @@ public final class VerseBlockValidator extends AbstractBlockValidator<VerseBlock
     }
     
     @Override
-    protected List<ValidationMessage> performSpecificValidations(StructuralNode block, 
+    protected List<ValidationMessage> performSpecificValidations(AstNode block, 
                                                                VerseBlock verseConfig,
                                                                BlockValidationContext context) {
         List<ValidationMessage> messages = new ArrayList<>();
@@ -71,7 +70,7 @@ public final class VerseBlockValidator extends AbstractBlockValidator<VerseBlock
         return messages;
     }
     
-    private String getAuthor(StructuralNode block) {
+    private String getAuthor(AstNode block) {
         // Author can be in author attribute
         Object attr = block.getAttribute("author");
         if (attr != null) {
@@ -81,7 +80,7 @@ public final class VerseBlockValidator extends AbstractBlockValidator<VerseBlock
         return null;
     }
     
-    private String getAttribution(StructuralNode block) {
+    private String getAttribution(AstNode block) {
         // Attribution can be in attribution attribute
         Object attr = block.getAttribute("attribution");
         if (attr != null) {
@@ -101,7 +100,7 @@ public final class VerseBlockValidator extends AbstractBlockValidator<VerseBlock
     
     private void validateAuthor(String author, VerseBlock.AuthorConfig config,
                               BlockValidationContext context,
-                              StructuralNode block,
+                              AstNode block,
                               List<ValidationMessage> messages,
                               VerseBlock verseConfig) {
         
@@ -160,7 +159,7 @@ public final class VerseBlockValidator extends AbstractBlockValidator<VerseBlock
     
     private void validateAttribution(String attribution, VerseBlock.AttributionConfig config,
                                    BlockValidationContext context,
-                                   StructuralNode block,
+                                   AstNode block,
                                    List<ValidationMessage> messages,
                                    VerseBlock verseConfig) {
         
@@ -219,7 +218,7 @@ public final class VerseBlockValidator extends AbstractBlockValidator<VerseBlock
     
     private void validateContent(String content, VerseBlock.ContentConfig config,
                                BlockValidationContext context,
-                               StructuralNode block,
+                               AstNode block,
                                List<ValidationMessage> messages,
                                VerseBlock verseConfig) {
         
@@ -4,8 +4,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.regex.Pattern;
 
-import org.asciidoctor.ast.StructuralNode;
-
+import com.example.linter.ast.AstNode;
 import com.example.linter.config.BlockType;
 import com.example.linter.config.Severity;
 import com.example.linter.config.blocks.VideoBlock;
@@ -36,7 +35,7 @@ public final class VideoBlockValidator extends AbstractBlockValidator<VideoBlock
     }
     
     @Override
-    protected List<ValidationMessage> performSpecificValidations(StructuralNode node, 
+    protected List<ValidationMessage> performSpecificValidations(AstNode node, 
                                                                VideoBlock videoConfig,
                                                                BlockValidationContext context) {
         List<ValidationMessage> messages = new ArrayList<>();
@@ -73,7 +72,7 @@ public final class VideoBlockValidator extends AbstractBlockValidator<VideoBlock
         return messages;
     }
     
-    private void validateUrl(StructuralNode node, VideoBlock videoConfig, List<ValidationMessage> messages, BlockValidationContext context) {
+    private void validateUrl(AstNode node, VideoBlock videoConfig, List<ValidationMessage> messages, BlockValidationContext context) {
         VideoBlock.UrlConfig urlConfig = videoConfig.getUrl();
         String url = (String) node.getAttribute("target");
         
@@ -122,7 +121,7 @@ public final class VideoBlockValidator extends AbstractBlockValidator<VideoBlock
         }
     }
     
-    private void validateDimension(StructuralNode node, VideoBlock videoConfig, String dimensionType, 
+    private void validateDimension(AstNode node, VideoBlock videoConfig, String dimensionType, 
                                   VideoBlock.DimensionConfig dimensionConfig, List<ValidationMessage> messages, BlockValidationContext context) {
         String dimensionStr = (String) node.getAttribute(dimensionType);
         
@@ -203,7 +202,7 @@ public final class VideoBlockValidator extends AbstractBlockValidator<VideoBlock
         }
     }
     
-    private void validatePoster(StructuralNode node, VideoBlock videoConfig, List<ValidationMessage> messages, BlockValidationContext context) {
+    private void validatePoster(AstNode node, VideoBlock videoConfig, List<ValidationMessage> messages, BlockValidationContext context) {
         VideoBlock.PosterConfig posterConfig = videoConfig.getPoster();
         String poster = (String) node.getAttribute("poster");
         
@@ -250,7 +249,7 @@ public final class VideoBlockValidator extends AbstractBlockValidator<VideoBlock
         }
     }
     
-    private void validateControls(StructuralNode node, VideoBlock videoConfig, List<ValidationMessage> messages, BlockValidationContext context) {
+    private void validateControls(AstNode node, VideoBlock videoConfig, List<ValidationMessage> messages, BlockValidationContext context) {
         VideoBlock.ControlsConfig controlsConfig = videoConfig.getOptions().getControls();
         String controlsAttr = (String) node.getAttribute("options");
         
@@ -283,7 +282,7 @@ public final class VideoBlockValidator extends AbstractBlockValidator<VideoBlock
         }
     }
     
-    private void validateCaption(StructuralNode node, VideoBlock videoConfig, List<ValidationMessage> messages, BlockValidationContext context) {
+    private void validateCaption(AstNode node, VideoBlock videoConfig, List<ValidationMessage> messages, BlockValidationContext context) {
         VideoBlock.CaptionConfig captionConfig = videoConfig.getCaption();
         String caption = (String) node.getAttribute("caption");
         
@@ -11,5 +11,15 @@ public interface AttributeRule {
     
     List<ValidationMessage> validate(String attributeName, String value, SourceLocation location);
     
+    /**
+     * Validates an attribute and records whatever the rule needs to remember about
+     * it in the per-document context. Rules must not keep per-document state in
+     * their own fields, so one instance can serve many documents concurrently.
+     */
+    default List<ValidationMessage> validate(String attributeName, String value, SourceLocation location,
+                                             AttributeValidationContext context) {
+        return validate(attributeName, value, location);
+    }
+    
     boolean isApplicable(String attributeName);
 }
\ No newline at end of file
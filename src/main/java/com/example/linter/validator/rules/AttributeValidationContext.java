@@ -0,0 +1,58 @@
+package com.example.linter.validator.rules;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import com.example.linter.validator.SourceLocation;
+
+/**
+ * Per-document state of a metadata validation run.
+ *
+ * <p>Attribute rules are immutable and shared between documents and threads;
+ * anything a rule has to remember while the attributes of one document are
+ * visited lives here instead. A context is created for each document and must
+ * not be shared between threads.</p>
+ */
+public final class AttributeValidationContext {
+    private final Map<String, AttributePosition> positions = new HashMap<>();
+
+    /**
+     * Records where an attribute was seen, replacing an earlier record of the same attribute.
+     *
+     * @param attributeName the attribute name
+     * @param location the attribute's location in the document
+     */
+    public void recordPosition(String attributeName, SourceLocation location) {
+        Objects.requireNonNull(attributeName, "attributeName must not be null");
+        positions.put(attributeName, new AttributePosition(location, positions.size() + 1));
+    }
+
+    /**
+     * Returns the recorded position of an attribute, or null if it was not seen.
+     */
+    public AttributePosition getPosition(String attributeName) {
+        return positions.get(attributeName);
+    }
+
+    /**
+     * Position of an attribute among the recorded attributes of a document.
+     */
+    public static final class AttributePosition {
+        private final SourceLocation location;
+        private final int position;
+
+        AttributePosition(SourceLocation location, int position) {
+            this.location = location;
+            this.position = position;
+        }
+
+        public SourceLocation getLocation() {
+            return location;
+        }
+
+        public int getPosition() {
+            return position;
+        }
+    }
+}
@@ -10,10 +10,10 @@ import java.util.Objects;
 import com.example.linter.config.Severity;
 import com.example.linter.validator.SourceLocation;
 import com.example.linter.validator.ValidationMessage;
+import com.example.linter.validator.rules.AttributeValidationContext.AttributePosition;
 
 public final class OrderRule implements AttributeRule {
     private final Map<String, OrderConfig> orderConfigs;
-    private final Map<String, AttributePosition> actualPositions = new HashMap<>();
 
     private OrderRule(Builder builder) {
         this.orderConfigs = Collections.unmodifiableMap(new HashMap<>(builder.orderConfigs));
@@ -26,7 +26,14 @@ public final class OrderRule implements AttributeRule {
 
     @Override
     public List<ValidationMessage> validate(String attributeName, String value, SourceLocation location) {
-        actualPositions.put(attributeName, new AttributePosition(location, actualPositions.size() + 1));
+        // Order can only be judged across attributes, see validateOrder
+        return Collections.emptyList();
+    }
+
+    @Override
+    public List<ValidationMessage> validate(String attributeName, String value, SourceLocation location,
+                                            AttributeValidationContext context) {
+        context.recordPosition(attributeName, location);
         return Collections.emptyList();
     }
 
@@ -35,30 +42,30 @@ public final class OrderRule implements AttributeRule {
         return orderConfigs.containsKey(attributeName);
     }
 
-    public List<ValidationMessage> validateOrder() {
+    public List<ValidationMessage> validateOrder(AttributeValidationContext context) {
         List<ValidationMessage> messages = new ArrayList<>();
         
         for (Map.Entry<String, OrderConfig> entry : orderConfigs.entrySet()) {
             String attrName = entry.getKey();
             OrderConfig config = entry.getValue();
-            AttributePosition actual = actualPositions.get(attrName);
+            AttributePosition actual = context.getPosition(attrName);
             
             if (actual != null && config.hasOrder()) {
                 for (Map.Entry<String, OrderConfig> otherEntry : orderConfigs.entrySet()) {
                     String otherAttrName = otherEntry.getKey();
                     OrderConfig otherConfig = otherEntry.getValue();
-                    AttributePosition otherActual = actualPositions.get(otherAttrName);
+                    AttributePosition otherActual = context.getPosition(otherAttrName);
                     
                     if (!attrName.equals(otherAttrName) && otherActual != null && otherConfig.hasOrder()) {
-                        if (config.getOrder() < otherConfig.getOrder() && actual.position > otherActual.position) {
+                        if (config.getOrder() < otherConfig.getOrder() && actual.getPosition() > otherActual.getPosition()) {
                             messages.add(ValidationMessage.builder()
                                 .severity(config.getSeverity())
                                 .ruleId(getRuleId())
-                                .message("Attribute '" + attrName + "' should appear before '" + otherAttrName + "': actual position line " + actual.location.getStartLine() + ", expected before line " + otherActual.location.getStartLine())
-                                .location(actual.location)
+                                .message("Attribute '" + attrName + "' should appear before '" + otherAttrName + "': actual position line " + actual.getLocation().getStartLine() + ", expected before line " + otherActual.getLocation().getStartLine())
+                                .location(actual.getLocation())
                                 .attributeName(attrName)
-                                .actualValue("Line " + actual.location.getStartLine())
-                                .expectedValue("Before line " + otherActual.location.getStartLine())
+                                .actualValue("Line " + actual.getLocation().getStartLine())
+                                .expectedValue("Before line " + otherActual.getLocation().getStartLine())
                                 .build());
                         }
                     }
@@ -113,14 +120,4 @@ public final class OrderRule implements AttributeRule {
             return severity;
         }
     }
-
-    private static final class AttributePosition {
-        private final SourceLocation location;
-        private final int position;
-
-        AttributePosition(SourceLocation location, int position) {
-            this.location = location;
-            this.position = position;
-        }
-    }
 }
\ No newline at end of file
@@ -0,0 +1,86 @@
+package com.example.linter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.asciidoctor.Asciidoctor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("AsciidoctorPool")
+class AsciidoctorPoolTest {
+
+    @Test
+    @DisplayName("should lease and release the instances it created")
+    void shouldLeaseAndRelease() throws InterruptedException {
+        // Given
+        AsciidoctorPool pool = new AsciidoctorPool(2, () -> mock(Asciidoctor.class));
+
+        // When
+        Asciidoctor first = pool.lease();
+        pool.release(first);
+
+        // Then
+        assertEquals(2, pool.size());
+        pool.close();
+    }
+
+    @Test
+    @DisplayName("should close booted instances when another fails to boot")
+    void shouldCloseBootedInstancesOnFailure() {
+        // Given
+        List<Asciidoctor> created = new CopyOnWriteArrayList<>();
+        AtomicInteger calls = new AtomicInteger();
+        IllegalStateException bootFailure = new IllegalStateException("JRuby failed to start");
+        Supplier<Asciidoctor> factory = () -> {
+            if (calls.incrementAndGet() == 2) {
+                throw bootFailure;
+            }
+            Asciidoctor asciidoctor = mock(Asciidoctor.class);
+            created.add(asciidoctor);
+            return asciidoctor;
+        };
+
+        // When
+        IllegalStateException thrown = assertThrows(IllegalStateException.class, () -> new AsciidoctorPool(4, factory));
+
+        // Then
+        assertSame(bootFailure, thrown);
+        assertEquals(3, created.size());
+        for (Asciidoctor asciidoctor : created) {
+            verify(asciidoctor).close();
+        }
+    }
+
+    @Test
+    @DisplayName("should keep its instances when growing fails")
+    void shouldKeepInstancesWhenGrowingFails() {
+        // Given
+        AtomicInteger calls = new AtomicInteger();
+        Asciidoctor first = mock(Asciidoctor.class);
+        AsciidoctorPool pool = new AsciidoctorPool(1, () -> {
+            if (calls.incrementAndGet() == 1) {
+                return first;
+            }
+            throw new IllegalStateException("JRuby failed to start");
+        });
+
+        // When
+        assertThrows(IllegalStateException.class, () -> pool.ensureSize(3));
+
+        // Then
+        assertEquals(1, pool.size());
+        verify(first, never()).close();
+        pool.close();
+        verify(first).close();
+    }
+}
@@ -0,0 +1,123 @@
+package com.example.linter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.example.linter.config.LinterConfiguration;
+import com.example.linter.config.loader.ConfigurationLoader;
+import com.example.linter.validator.ValidationResult;
+
+/**
+ * Benchmark for parallel validation with a pool of Asciidoctor instances,
+ * reporting speedup and efficiency from one job up to the core count.
+ */
+@Tag("performance")
+@DisplayName("Linter Performance")
+class LinterPerformanceTest {
+    
+    private static final int FILE_COUNT = 120;
+    private static final int ROUNDS = 3;
+    
+    @TempDir
+    Path tempDir;
+    
+    @Test
+    @DisplayName("should scale validation with the number of jobs")
+    void shouldScaleValidationWithNumberOfJobs() throws IOException {
+        int cores = Runtime.getRuntime().availableProcessors();
+        List<Integer> steps = new ArrayList<>();
+        for (int jobs = 1; jobs < cores; jobs *= 2) {
+            steps.add(jobs);
+        }
+        steps.add(cores);
+        
+        List<Path> files = createDocuments(FILE_COUNT);
+        LinterConfiguration config = createConfiguration();
+        
+        Linter linter = new Linter(cores);
+        try {
+            // Warm up every pooled instance
+            linter.validateFiles(files.subList(0, Math.min(files.size(), cores * 4)), config, cores);
+            
+            Map<Path, ValidationResult> sequential = null;
+            long sequentialNanos = 0;
+            for (int jobs : steps) {
+                long nanos = Long.MAX_VALUE;
+                Map<Path, ValidationResult> results = null;
+                for (int round = 0; round < ROUNDS; round++) {
+                    long start = System.nanoTime();
+                    results = linter.validateFiles(files, config, jobs);
+                    nanos = Math.min(nanos, System.nanoTime() - start);
+                }
+                if (sequential == null) {
+                    sequential = results;
+                    sequentialNanos = nanos;
+                }
+                
+                double speedup = (double) sequentialNanos / nanos;
+                System.out.printf("%2d jobs: %8.1f ms, speedup: %5.2fx, efficiency: %3.0f%%%n",
+                    jobs, nanos / 1_000_000.0, speedup, 100 * speedup / jobs);
+                
+                // Timings are only reported, parallel runs must produce the same messages
+                assertEquals(sequential.keySet(), results.keySet());
+                for (Path file : files) {
+                    assertEquals(sequential.get(file).getMessages(), results.get(file).getMessages());
+                }
+            }
+        } finally {
+            linter.close();
+        }
+    }
+    
+    private List<Path> createDocuments(int count) throws IOException {
+        List<Path> files = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            StringBuilder content = new StringBuilder();
+            content.append("= Document ").append(i).append("\n");
+            content.append("Jane Doe\n\n");
+            for (int s = 0; s < 10; s++) {
+                content.append("== Section ").append(s).append("\n\n");
+                for (int p = 0; p < 5; p++) {
+                    content.append("Paragraph ").append(p).append(" with some *bold* and _italic_ text.\n\n");
+                }
+                content.append("[source,java]\n----\nclass Example {}\n----\n\n");
+            }
+            Path file = tempDir.resolve("doc" + i + ".adoc");
+            Files.writeString(file, content.toString());
+            files.add(file);
+        }
+        return files;
+    }
+    
+    private LinterConfiguration createConfiguration() {
+        return new ConfigurationLoader().loadConfiguration("""
+            document:
+              metadata:
+                attributes:
+                  - name: title
+                    required: true
+                    severity: error
+              sections:
+                - name: section
+                  level: 1
+                  title:
+                    pattern: "^Section \\\\d+$"
+                  allowedBlocks:
+                    - paragraph:
+                        severity: warn
+                    - listing:
+                        severity: warn
+            """);
+    }
+}
\ No newline at end of file
@@ -12,6 +12,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -20,7 +21,9 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import com.example.linter.cache.ResultCache;
 import com.example.linter.config.LinterConfiguration;
+import com.example.linter.config.Severity;
 import com.example.linter.config.loader.ConfigurationLoader;
 import com.example.linter.validator.ValidationMessage;
 import com.example.linter.validator.ValidationResult;
@@ -136,6 +139,80 @@ class LinterTest {
             // With empty config, no validation errors should occur
             assertEquals(0, result.getErrorCount());
         }
+        
+        @Test
+        @DisplayName("should report header attributes on their source lines")
+        void shouldReportHeaderAttributesOnTheirSourceLines(@TempDir Path tempDir) throws IOException {
+            // Given
+            Path file = tempDir.resolve("document.adoc");
+            Files.writeString(file, """
+                = Document Title
+                Jane Doe
+                :version: draft
+                
+                == Section
+                
+                Content here.
+                """);
+            LinterConfiguration config = new ConfigurationLoader().loadConfiguration("""
+                document:
+                  metadata:
+                    attributes:
+                      - name: version
+                        pattern: "^\\\\d+\\\\.\\\\d+$"
+                        severity: error
+                      - name: author
+                        pattern: "^[A-Z].*$"
+                        severity: error
+                """);
+            
+            // When
+            ValidationResult result = linter.validateFile(file, config);
+            
+            // Then
+            List<ValidationMessage> errors = result.getMessagesBySeverity(Severity.ERROR);
+            assertEquals(1, errors.size());
+            assertEquals(3, errors.get(0).getLocation().getStartLine());
+        }
+        
+        @Test
+        @DisplayName("should validate content from a document source under its reported name")
+        void shouldValidateContentFromDocumentSource(@TempDir Path tempDir) throws IOException {
+            // Given
+            Path file = Path.of("docs/staged.adoc");
+            DocumentSource source = new DocumentSource() {
+                @Override
+                public String read(Path document) {
+                    return "= Document Title\n\nContent here.\n";
+                }
+                
+                @Override
+                public Path locate(Path document) {
+                    return tempDir.resolve(document);
+                }
+                
+                @Override
+                public String describe(Path document) {
+                    return document.toString();
+                }
+            };
+            LinterConfiguration config = new ConfigurationLoader().loadConfiguration("""
+                document:
+                  metadata:
+                    attributes:
+                      - name: author
+                        required: true
+                        severity: error
+                """);
+            
+            // When
+            ValidationResult result = linter.validateFile(file, config, source);
+            
+            // Then
+            List<ValidationMessage> errors = result.getMessagesBySeverity(Severity.ERROR);
+            assertEquals(1, errors.size());
+            assertEquals("docs/staged.adoc", errors.get(0).getLocation().getFilename());
+        }
     }
     
     @Nested
@@ -223,6 +300,267 @@ class LinterTest {
         }
     }
     
+    @Nested
+    @DisplayName("validateFiles in parallel")
+    class ValidateFilesInParallelTest {
+        
+        @Test
+        @DisplayName("should reject non-positive jobs")
+        void shouldRejectNonPositiveJobs() {
+            LinterConfiguration config = LinterConfiguration.builder().build();
+            
+            assertThrows(IllegalArgumentException.class, () -> 
+                linter.validateFiles(List.of(), config, 0)
+            );
+        }
+        
+        @Test
+        @DisplayName("should return results in input order")
+        void shouldReturnResultsInInputOrder(@TempDir Path tempDir) throws IOException {
+            List<Path> files = new java.util.ArrayList<>();
+            for (int i = 0; i < 6; i++) {
+                Path file = tempDir.resolve("doc" + i + ".adoc");
+                Files.writeString(file, "= Document " + i + "\n\nContent " + i);
+                files.add(file);
+            }
+            files.add(tempDir.resolve("missing.adoc"));
+            LinterConfiguration config = LinterConfiguration.builder().build();
+            
+            Map<Path, ValidationResult> results = linter.validateFiles(files, config, 2);
+            
+            assertEquals(files, List.copyOf(results.keySet()));
+            assertEquals("io-error", results.get(files.get(6)).getMessages().get(0).getRuleId());
+        }
+        
+        @Test
+        @DisplayName("should produce the same messages as sequential validation")
+        void shouldProduceSameMessagesAsSequentialValidation(@TempDir Path tempDir) throws IOException {
+            List<Path> files = new java.util.ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                Path file = tempDir.resolve("doc" + i + ".adoc");
+                Files.writeString(file, "= Document " + i + "\n\n== Section " + i + "\n\nContent");
+                files.add(file);
+            }
+            LinterConfiguration config = new ConfigurationLoader().loadConfiguration("""
+                document:
+                  metadata:
+                    attributes:
+                      - name: author
+                        required: true
+                        severity: error
+                  sections:
+                    - name: intro
+                      level: 1
+                      min: 1
+                      title:
+                        pattern: "^Introduction$"
+                """);
+            
+            Map<Path, ValidationResult> sequential = linter.validateFiles(files, config);
+            Map<Path, ValidationResult> parallel = linter.validateFiles(files, config, 2);
+            
+            for (Path file : files) {
+                assertEquals(sequential.get(file).getMessages(), parallel.get(file).getMessages());
+            }
+        }
+    }
+    
+    @Nested
+    @DisplayName("validateFiles with ResultSink")
+    class ValidateFilesWithSinkTest {
+        
+        @Test
+        @DisplayName("should deliver every result before completing")
+        void shouldDeliverEveryResultBeforeCompleting(@TempDir Path tempDir) throws IOException {
+            // Given
+            Path valid = tempDir.resolve("valid.adoc");
+            Files.writeString(valid, "= Document\n\nContent");
+            Path missing = tempDir.resolve("missing.adoc");
+            LinterConfiguration config = LinterConfiguration.builder().build();
+            List<String> events = new java.util.ArrayList<>();
+            
+            // When
+            linter.validateFiles(List.of(valid, missing), config, 1, new ResultSink() {
+                @Override
+                public void onResult(Path file, ValidationResult result) {
+                    events.add(file.getFileName() + ":" + result.getErrorCount());
+                }
+                
+                @Override
+                public void onComplete() {
+                    events.add("complete");
+                }
+            });
+            
+            // Then
+            assertEquals(List.of("valid.adoc:0", "missing.adoc:1", "complete"), events);
+        }
+        
+        @Test
+        @DisplayName("should throw NullPointerException when sink is null")
+        void shouldThrowNullPointerExceptionWhenSinkIsNull() {
+            LinterConfiguration config = LinterConfiguration.builder().build();
+            
+            assertThrows(NullPointerException.class, () ->
+                linter.validateFiles(List.of(), config, 1, null)
+            );
+        }
+    }
+    
+    @Nested
+    @DisplayName("result cache")
+    class ResultCacheTest {
+        
+        @Test
+        @DisplayName("should reuse messages for unchanged files")
+        void shouldReuseMessagesForUnchangedFiles(@TempDir Path tempDir) throws IOException {
+            // Given
+            Path file = tempDir.resolve("doc.adoc");
+            Files.writeString(file, "= Document\n\nContent");
+            LinterConfiguration config = new ConfigurationLoader().loadConfiguration("""
+                document:
+                  metadata:
+                    attributes:
+                      - name: author
+                        required: true
+                        severity: error
+                """);
+            ResultCache cache = ResultCache.builder()
+                .directory(tempDir.resolve("cache"))
+                .linterVersion(Linter.VERSION)
+                .build();
+            
+            try (cache) {
+                Linter cachingLinter = new Linter(1, cache);
+                try {
+                    // When
+                    ValidationResult first = cachingLinter.validateFile(file, config);
+                    ValidationResult second = cachingLinter.validateFile(file, config);
+                    Files.writeString(file, "= Document\n:author: Jane Doe\n\nContent");
+                    ValidationResult changed = cachingLinter.validateFile(file, config);
+                    
+                    // Then
+                    assertEquals(1, first.getCacheMisses());
+                    assertEquals(1, second.getCacheHits());
+                    assertEquals(first.getMessages(), second.getMessages());
+                    assertEquals(1, changed.getCacheMisses());
+                    assertFalse(changed.hasErrors());
+                } finally {
+                    cachingLinter.close();
+                }
+            }
+        }
+        
+        @Test
+        @DisplayName("should miss the cache when an included fragment changes")
+        void shouldMissWhenIncludedFragmentChanges(@TempDir Path tempDir) throws IOException {
+            // Given
+            Path file = tempDir.resolve("doc.adoc");
+            Path fragment = tempDir.resolve("fragment.adoc");
+            Files.writeString(file, "= Document\n\ninclude::fragment.adoc[]");
+            Files.writeString(fragment, "Content");
+            LinterConfiguration config = LinterConfiguration.builder().build();
+            ResultCache cache = ResultCache.builder()
+                .directory(tempDir.resolve("cache"))
+                .linterVersion(Linter.VERSION)
+                .build();
+            
+            try (cache) {
+                Linter cachingLinter = new Linter(1, cache);
+                try {
+                    // When
+                    ValidationResult first = cachingLinter.validateFile(file, config);
+                    ValidationResult second = cachingLinter.validateFile(file, config);
+                    Files.writeString(fragment, "Changed content");
+                    ValidationResult changed = cachingLinter.validateFile(file, config);
+                    
+                    // Then
+                    assertEquals(1, first.getCacheMisses());
+                    assertEquals(1, second.getCacheHits());
+                    assertEquals(1, changed.getCacheMisses());
+                    assertEquals(Set.of(file.toAbsolutePath().normalize()),
+                                 cachingLinter.getIncludeGraph().affectedBy(List.of(fragment)));
+                } finally {
+                    cachingLinter.close();
+                }
+            }
+        }
+    }
+    
+    @Nested
+    @DisplayName("includes")
+    class IncludesTest {
+        
+        @Test
+        @DisplayName("should report include cycles on the including line")
+        void shouldReportIncludeCycles(@TempDir Path tempDir) throws IOException {
+            // Given
+            Path file = tempDir.resolve("doc.adoc");
+            Path fragment = tempDir.resolve("fragment.adoc");
+            Files.writeString(file, "= Document\n\ninclude::fragment.adoc[]");
+            Files.writeString(fragment, "Content\n\ninclude::doc.adoc[]");
+            
+            Linter checkingLinter = new Linter(1, null, false, true);
+            
+            try {
+                // When
+                ValidationResult result = checkingLinter.validateFile(file, LinterConfiguration.builder().build());
+                
+                // Then
+                ValidationMessage cycle = result.getMessages().stream()
+                    .filter(message -> "include-cycle".equals(message.getRuleId()))
+                    .findFirst()
+                    .orElseThrow();
+                assertEquals(fragment.toAbsolutePath().normalize().toString(), cycle.getLocation().getFilename());
+                assertEquals(3, cycle.getLocation().getStartLine());
+            } finally {
+                checkingLinter.close();
+            }
+        }
+        
+        @Test
+        @DisplayName("should neither follow nor report includes unless asked to")
+        void shouldNotFollowIncludesByDefault(@TempDir Path tempDir) throws IOException {
+            // Given
+            Path file = tempDir.resolve("doc.adoc");
+            Path fragment = tempDir.resolve("fragment.adoc");
+            Files.writeString(file, "= Document\n\ninclude::fragment.adoc[]");
+            Files.writeString(fragment, "Content\n\ninclude::doc.adoc[]");
+            
+            // When
+            ValidationResult result = linter.validateFile(file, LinterConfiguration.builder().build());
+            
+            // Then
+            assertTrue(result.getMessages().stream()
+                .noneMatch(message -> message.getRuleId().startsWith("include-")));
+            assertFalse(linter.getIncludeGraph().isResolved(file));
+        }
+        
+        @Test
+        @DisplayName("should record includes without reporting them when tracking")
+        void shouldRecordIncludesWhenTracking(@TempDir Path tempDir) throws IOException {
+            // Given
+            Path file = tempDir.resolve("doc.adoc");
+            Path fragment = tempDir.resolve("fragment.adoc");
+            Files.writeString(file, "= Document\n\ninclude::fragment.adoc[]");
+            Files.writeString(fragment, "Content\n\ninclude::doc.adoc[]");
+            Linter trackingLinter = new Linter(1, null, true, false);
+            
+            try {
+                // When
+                ValidationResult result = trackingLinter.validateFile(file, LinterConfiguration.builder().build());
+                
+                // Then
+                assertTrue(result.getMessages().stream()
+                    .noneMatch(message -> message.getRuleId().startsWith("include-")));
+                assertEquals(Set.of(file.toAbsolutePath().normalize()),
+                             trackingLinter.getIncludeGraph().affectedBy(List.of(fragment)));
+            } finally {
+                trackingLinter.close();
+            }
+        }
+    }
+    
     @Nested
     @DisplayName("validateDirectory")
     class ValidateDirectoryTest {
@@ -0,0 +1,193 @@
+package com.example.linter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.example.linter.validator.ValidationResult;
+
+@DisplayName("ReorderBuffer")
+class ReorderBufferTest {
+
+    private final List<Path> reported = new ArrayList<>();
+
+    @Nested
+    @DisplayName("with the wait policy")
+    class Wait {
+
+        @Test
+        @DisplayName("should report results in admission order as soon as earlier ones are done")
+        void shouldReportResultsInAdmissionOrder() throws InterruptedException {
+            // Given
+            ReorderBuffer buffer = buffer(4, ResultOrder.StallPolicy.WAIT);
+            long first = buffer.admit();
+            long second = buffer.admit();
+            long third = buffer.admit();
+
+            // When
+            buffer.complete(third, file(third), result());
+            buffer.complete(second, file(second), result());
+
+            // Then
+            assertEquals(List.of(), reported);
+
+            // When
+            buffer.complete(first, file(first), result());
+
+            // Then
+            assertEquals(List.of(file(0), file(1), file(2)), reported);
+        }
+
+        @Test
+        @DisplayName("should block admission while the window is full")
+        void shouldBlockAdmissionWhileWindowIsFull() throws InterruptedException {
+            // Given
+            ReorderBuffer buffer = buffer(2, ResultOrder.StallPolicy.WAIT);
+            long first = buffer.admit();
+            long second = buffer.admit();
+            CountDownLatch admitted = new CountDownLatch(1);
+            AtomicLong third = new AtomicLong(-1);
+            Thread producer = new Thread(() -> {
+                try {
+                    third.set(buffer.admit());
+                    admitted.countDown();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            producer.start();
+
+            // When
+            buffer.complete(second, file(second), result());
+
+            // Then
+            assertFalse(admitted.await(100, TimeUnit.MILLISECONDS), "The stalled file must hold the window");
+
+            // When
+            buffer.complete(first, file(first), result());
+
+            // Then
+            assertTrue(admitted.await(5, TimeUnit.SECONDS));
+            assertEquals(2, third.get());
+            producer.join();
+        }
+
+        @Test
+        @DisplayName("should stop blocking admission when unblocked")
+        void shouldStopBlockingAdmissionWhenUnblocked() throws InterruptedException {
+            // Given
+            ReorderBuffer buffer = buffer(1, ResultOrder.StallPolicy.WAIT);
+            buffer.admit();
+
+            // When
+            buffer.unblock();
+
+            // Then
+            assertEquals(1, buffer.admit());
+            assertEquals(2, buffer.admit());
+        }
+    }
+
+    @Nested
+    @DisplayName("with the unordered policy")
+    class Unordered {
+
+        @Test
+        @DisplayName("should report held back results ahead of a stalled file once the window is full")
+        void shouldReportAheadOfStalledFile() throws InterruptedException {
+            // Given
+            ReorderBuffer buffer = buffer(2, ResultOrder.StallPolicy.UNORDERED);
+            long[] sequences = new long[4];
+            for (int i = 0; i < sequences.length; i++) {
+                sequences[i] = buffer.admit();
+            }
+
+            // When
+            buffer.complete(sequences[1], file(1), result());
+
+            // Then
+            assertEquals(List.of(), reported);
+
+            // When
+            buffer.complete(sequences[2], file(2), result());
+
+            // Then
+            assertEquals(List.of(file(1), file(2)), reported);
+
+            // When
+            buffer.complete(sequences[0], file(0), result());
+            buffer.complete(sequences[3], file(3), result());
+
+            // Then
+            assertEquals(List.of(file(1), file(2), file(0), file(3)), reported);
+        }
+
+        @Test
+        @DisplayName("should report in completion order with a window of one")
+        void shouldReportInCompletionOrderWithWindowOfOne() throws InterruptedException {
+            // Given
+            ReorderBuffer buffer = buffer(1, ResultOrder.StallPolicy.UNORDERED);
+            long first = buffer.admit();
+            long second = buffer.admit();
+
+            // When
+            buffer.complete(second, file(second), result());
+            buffer.complete(first, file(first), result());
+
+            // Then
+            assertEquals(List.of(file(1), file(0)), reported);
+        }
+    }
+
+    @Test
+    @DisplayName("should flush results held back behind lost files in order")
+    void shouldFlushResultsHeldBackBehindLostFiles() throws InterruptedException {
+        // Given
+        ReorderBuffer buffer = buffer(8, ResultOrder.StallPolicy.WAIT);
+        buffer.admit();
+        long second = buffer.admit();
+        long third = buffer.admit();
+        buffer.complete(third, file(third), result());
+        buffer.complete(second, file(second), result());
+
+        // When
+        buffer.flush();
+
+        // Then
+        assertEquals(List.of(file(1), file(2)), reported);
+    }
+
+    @Test
+    @DisplayName("should derive the window from the jobs unless configured")
+    void shouldDeriveWindowFromJobs() {
+        assertEquals(4 * ResultOrder.DEFAULT_WINDOW_PER_JOB,
+            new ReorderBuffer(ResultOrder.defaults(), 4, (file, result) -> { }).getWindow());
+        assertEquals(3,
+            new ReorderBuffer(ResultOrder.builder().window(3).build(), 4, (file, result) -> { }).getWindow());
+    }
+
+    private ReorderBuffer buffer(int window, ResultOrder.StallPolicy policy) {
+        ResultOrder order = ResultOrder.builder().window(window).stallPolicy(policy).build();
+        return new ReorderBuffer(order, 1, (file, result) -> reported.add(file));
+    }
+
+    private static Path file(long sequence) {
+        return Paths.get("doc" + sequence + ".adoc");
+    }
+
+    private static ValidationResult result() {
+        return ValidationResult.builder().complete().build();
+    }
+}
@@ -0,0 +1,168 @@
+package com.example.linter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.example.linter.config.LinterConfiguration;
+import com.example.linter.validator.ValidationResult;
+
+@DisplayName("ValidationPipeline")
+class ValidationPipelineTest {
+    
+    @TempDir
+    Path tempDir;
+    
+    private Linter linter;
+    
+    @BeforeEach
+    void setUp() {
+        linter = new Linter();
+    }
+    
+    @AfterEach
+    void tearDown() {
+        linter.close();
+    }
+    
+    @Test
+    @DisplayName("should report every file exactly once")
+    void shouldReportEveryFileExactlyOnce() throws IOException {
+        List<Path> files = createDocuments(10);
+        files.add(tempDir.resolve("missing.adoc"));
+        Map<Path, ValidationResult> reported = new ConcurrentHashMap<>();
+        AtomicInteger calls = new AtomicInteger();
+        
+        ValidationPipeline.builder()
+            .linter(linter)
+            .jobs(2)
+            .readAhead(3)
+            .build()
+            .run(files, LinterConfiguration.builder().build(), (file, result) -> {
+                calls.incrementAndGet();
+                reported.put(file, result);
+            });
+        
+        assertEquals(files.size(), calls.get());
+        assertEquals(new HashSet<>(files), reported.keySet());
+        assertEquals("io-error", reported.get(tempDir.resolve("missing.adoc")).getMessages().get(0).getRuleId());
+    }
+    
+    @Test
+    @DisplayName("should not read further ahead than the configured window")
+    void shouldNotReadFurtherAheadThanConfiguredWindow() throws IOException {
+        List<Path> files = createDocuments(20);
+        AtomicInteger discovered = new AtomicInteger();
+        AtomicInteger reported = new AtomicInteger();
+        Set<Integer> maxInFlight = ConcurrentHashMap.newKeySet();
+        Iterable<Path> countingFiles = () -> new Iterator<Path>() {
+            private final Iterator<Path> delegate = files.iterator();
+            
+            @Override
+            public boolean hasNext() {
+                return delegate.hasNext();
+            }
+            
+            @Override
+            public Path next() {
+                maxInFlight.add(discovered.incrementAndGet() - reported.get());
+                return delegate.next();
+            }
+        };
+        
+        ValidationPipeline.builder()
+            .linter(linter)
+            .jobs(1)
+            .readAhead(2)
+            .build()
+            .run(countingFiles, LinterConfiguration.builder().build(), (file, result) -> {
+                reported.incrementAndGet();
+            });
+        
+        assertEquals(files.size(), reported.get());
+        int window = 2 + 1 + 1 + 2 + 2; // read-ahead, parse, validate queue, validate, report queue
+        assertTrue(maxInFlight.stream().allMatch(inFlight -> inFlight <= window + 1),
+            "Discovery must be throttled by the bounded queues: " + maxInFlight);
+    }
+    
+    @Test
+    @DisplayName("should report files in discovery order")
+    void shouldReportFilesInDiscoveryOrder() throws IOException {
+        List<Path> files = createDocuments(30);
+        // A larger first document tends to finish after the ones behind it
+        Files.writeString(files.get(0), "= Document 0\n\n" + "== Section\n\nContent\n\n".repeat(500));
+        List<Path> reported = new ArrayList<>();
+        
+        ValidationPipeline.builder()
+            .linter(linter)
+            .jobs(4)
+            .resultOrder(ResultOrder.builder().window(4).build())
+            .build()
+            .run(files, LinterConfiguration.builder().build(), (file, result) -> reported.add(file));
+        
+        assertEquals(files, reported);
+    }
+    
+    @Test
+    @DisplayName("should report every file once when the window stalls")
+    void shouldReportEveryFileOnceWhenWindowStalls() throws IOException {
+        List<Path> files = createDocuments(30);
+        Files.writeString(files.get(0), "= Document 0\n\n" + "== Section\n\nContent\n\n".repeat(500));
+        List<Path> reported = new ArrayList<>();
+        
+        ValidationPipeline.builder()
+            .linter(linter)
+            .jobs(4)
+            .resultOrder(ResultOrder.builder().window(2).stallPolicy(ResultOrder.StallPolicy.UNORDERED).build())
+            .build()
+            .run(files, LinterConfiguration.builder().build(), (file, result) -> reported.add(file));
+        
+        assertEquals(files.size(), reported.size());
+        assertEquals(new HashSet<>(files), new HashSet<>(reported));
+    }
+    
+    @Test
+    @DisplayName("should propagate reporter failures")
+    void shouldPropagateReporterFailures() throws IOException {
+        List<Path> files = createDocuments(3);
+        
+        ValidationPipeline pipeline = ValidationPipeline.builder()
+            .linter(linter)
+            .jobs(2)
+            .build();
+        
+        assertThrows(IllegalStateException.class, () -> 
+            pipeline.run(files, LinterConfiguration.builder().build(), (file, result) -> {
+                throw new IllegalStateException("reporter failed");
+            })
+        );
+    }
+    
+    private List<Path> createDocuments(int count) throws IOException {
+        List<Path> files = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Path file = tempDir.resolve("doc" + i + ".adoc");
+            Files.writeString(file, "= Document " + i + "\n\n== Section\n\nContent " + i);
+            files.add(file);
+        }
+        return files;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,92 @@
+package com.example.linter.ast;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.asciidoctor.Asciidoctor;
+import org.asciidoctor.Options;
+import org.asciidoctor.ast.Block;
+import org.asciidoctor.ast.Document;
+import org.asciidoctor.ast.StructuralNode;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Performance tests comparing raw source access with converting block content on paragraph-heavy documents.
+ */
+@Tag("performance")
+@DisplayName("AstSnapshot Performance")
+class AstSnapshotPerformanceTest {
+
+    private static final int PARAGRAPH_COUNT = 2_000;
+    private static final int ROUNDS = 3;
+
+    private static Asciidoctor asciidoctor;
+
+    @BeforeAll
+    static void setUp() {
+        asciidoctor = Asciidoctor.Factory.create();
+    }
+
+    @AfterAll
+    static void tearDown() {
+        asciidoctor.close();
+    }
+
+    @Test
+    @DisplayName("should read raw source faster than converting content")
+    void shouldReadRawSourceFasterThanConvertingContent() {
+        String content = createParagraphHeavyDocument();
+
+        // Keep the best of several rounds, the first ones warm up JRuby
+        long convertNanos = Long.MAX_VALUE;
+        long sourceNanos = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            Document converted = load(content);
+            long convertStart = System.nanoTime();
+            long convertedChars = walk(converted.getBlocks(), true);
+            convertNanos = Math.min(convertNanos, System.nanoTime() - convertStart);
+
+            Document raw = load(content);
+            long sourceStart = System.nanoTime();
+            long rawChars = walk(raw.getBlocks(), false);
+            sourceNanos = Math.min(sourceNanos, System.nanoTime() - sourceStart);
+
+            assertTrue(convertedChars > 0 && rawChars > 0);
+        }
+
+        System.out.printf("Converted content: %.1f ms, raw source: %.1f ms, speedup: %.2fx%n",
+            convertNanos / 1_000_000.0, sourceNanos / 1_000_000.0, (double) convertNanos / sourceNanos);
+
+        assertTrue(sourceNanos < convertNanos, "Reading raw source should be cheaper than converting");
+    }
+
+    private Document load(String content) {
+        return asciidoctor.load(content, Options.builder().sourcemap(true).toFile(false).build());
+    }
+
+    private long walk(List<StructuralNode> nodes, boolean convert) {
+        long chars = 0;
+        for (StructuralNode node : nodes) {
+            if (node instanceof Block) {
+                Object text = convert ? node.getContent() : ((Block) node).getSource();
+                chars += text instanceof String ? ((String) text).length() : 0;
+            }
+            chars += walk(node.getBlocks(), convert);
+        }
+        return chars;
+    }
+
+    private String createParagraphHeavyDocument() {
+        StringBuilder content = new StringBuilder("= Paragraphs\n:product: Linter\n\n== Section\n\n");
+        for (int i = 0; i < PARAGRAPH_COUNT; i++) {
+            content.append("Paragraph ").append(i).append(" mentions *{product}* with _emphasis_, `code`\n")
+                .append("and a link:https://example.com/").append(i).append("[link] on a second line.\n\n");
+        }
+        return content.toString();
+    }
+}
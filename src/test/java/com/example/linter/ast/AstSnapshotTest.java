@@ -0,0 +1,361 @@
+package com.example.linter.ast;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.asciidoctor.Asciidoctor;
+import org.asciidoctor.Options;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("AstSnapshot")
+class AstSnapshotTest {
+
+    private static Asciidoctor asciidoctor;
+
+    @BeforeAll
+    static void setUp() {
+        asciidoctor = Asciidoctor.Factory.create();
+    }
+
+    @AfterAll
+    static void tearDown() {
+        asciidoctor.close();
+    }
+
+    private AstDocument snapshot(String content) {
+        return AstSnapshot.of(asciidoctor.load(content, Options.builder().sourcemap(true).toFile(false).build()));
+    }
+
+    @Nested
+    @DisplayName("document")
+    class DocumentSnapshot {
+
+        @Test
+        @DisplayName("should copy title and header attributes")
+        void shouldCopyTitleAndHeaderAttributes() {
+            // Given
+            String content = """
+                = Document Title
+                :author: Jane Doe
+                :version: 1.0
+
+                Content
+                """;
+
+            // When
+            AstDocument document = snapshot(content);
+
+            // Then
+            assertEquals("Document Title", document.getTitle());
+            assertEquals("Jane Doe", document.getAttribute("author"));
+            assertEquals("1.0", document.getAttribute("version"));
+            assertTrue(document.hasAttribute("doctype"));
+        }
+
+        @Test
+        @DisplayName("should copy attributes before content is converted")
+        void shouldCopyAttributesBeforeContentIsConverted() {
+            // Given - converting a table sets table-number on the document
+            String content = """
+                = Document Title
+
+                == Section
+
+                |===
+                |A |B
+                |===
+                """;
+
+            // When
+            AstDocument document = snapshot(content);
+
+            // Then
+            assertFalse(document.hasAttribute("table-number"));
+        }
+
+        @Test
+        @DisplayName("should return unmodifiable collections")
+        void shouldReturnUnmodifiableCollections() {
+            // Given
+            AstDocument document = snapshot("= Title\n\n== Section\n\nText");
+
+            // When/Then
+            assertThrows(UnsupportedOperationException.class, () -> document.getAttributes().put("x", "y"));
+            assertThrows(UnsupportedOperationException.class, () -> document.getBlocks().clear());
+            assertThrows(UnsupportedOperationException.class,
+                () -> document.getBlocks().get(0).getBlocks().clear());
+        }
+    }
+
+    @Nested
+    @DisplayName("sections")
+    class SectionSnapshot {
+
+        @Test
+        @DisplayName("should copy nested sections with title, level and line")
+        void shouldCopyNestedSections() {
+            // Given
+            String content = """
+                = Document Title
+
+                == Introduction
+
+                Intro text.
+
+                === Details
+
+                Detail text.
+                """;
+
+            // When
+            AstDocument document = snapshot(content);
+
+            // Then
+            AstNode introduction = document.getBlocks().get(0);
+            assertTrue(introduction.isSection());
+            assertEquals("Introduction", introduction.getTitle());
+            assertEquals(1, introduction.getLevel());
+            assertEquals(3, introduction.getLineNumber());
+            assertNull(introduction.getSource());
+            assertSame(document, introduction.getDocument());
+
+            AstNode details = introduction.getBlocks().get(1);
+            assertTrue(details.isSection());
+            assertEquals("Details", details.getTitle());
+            assertEquals(2, details.getLevel());
+            assertEquals(7, details.getLineNumber());
+            assertSame(document, details.getDocument());
+        }
+    }
+
+    @Nested
+    @DisplayName("blocks")
+    class BlockSnapshot {
+
+        @Test
+        @DisplayName("should copy context, style, attributes and content")
+        void shouldCopyBlockProperties() {
+            // Given
+            String content = """
+                = Document Title
+
+                == Code
+
+                .Example code
+                [source,java]
+                ----
+                System.out.println("Hello");
+                ----
+                """;
+
+            // When
+            AstDocument document = snapshot(content);
+
+            // Then
+            AstNode listing = document.getBlocks().get(0).getBlocks().get(0);
+            assertEquals("listing", listing.getContext());
+            assertEquals("source", listing.getStyle());
+            assertEquals("Example code", listing.getTitle());
+            assertEquals("java", listing.getAttribute("language"));
+            assertTrue(listing.hasAttribute("language"));
+            assertFalse(listing.hasAttribute("linenums"));
+            assertEquals(7, listing.getLineNumber());
+            assertNotNull(listing.getSource());
+            assertTrue(listing.getSource().contains("System.out.println"));
+        }
+
+        @Test
+        @DisplayName("should copy roles")
+        void shouldCopyRoles() {
+            // Given
+            String content = """
+                = Document Title
+
+                == Section
+
+                [.lead.important]
+                A paragraph.
+                """;
+
+            // When
+            AstNode paragraph = snapshot(content).getBlocks().get(0).getBlocks().get(0);
+
+            // Then
+            assertEquals(List.of("lead", "important"), paragraph.getRoles());
+            assertTrue(paragraph.hasRole("lead"));
+            assertFalse(paragraph.hasRole("image"));
+        }
+
+        @Test
+        @DisplayName("should copy children of compound blocks")
+        void shouldCopyChildrenOfCompoundBlocks() {
+            // Given
+            String content = """
+                = Document Title
+
+                == Section
+
+                ====
+                Inside the example.
+                ====
+                """;
+
+            // When
+            AstNode example = snapshot(content).getBlocks().get(0).getBlocks().get(0);
+
+            // Then
+            assertEquals("example", example.getContext());
+            assertEquals(1, example.getBlocks().size());
+            assertEquals("paragraph", example.getBlocks().get(0).getContext());
+            assertEquals("Inside the example.", example.getBlocks().get(0).getSource());
+        }
+
+        @Test
+        @DisplayName("should copy list items and blocks attached to them")
+        void shouldCopyListItems() {
+            // Given
+            String content = """
+                = Document Title
+
+                == Section
+
+                * First
+                * Second
+                +
+                ----
+                ls
+                ----
+                ** Nested
+                """;
+
+            // When
+            AstNode list = snapshot(content).getBlocks().get(0).getBlocks().get(0);
+
+            // Then
+            assertEquals("ulist", list.getContext());
+            assertEquals(2, list.getBlocks().size());
+            AstNode second = list.getBlocks().get(1);
+            assertEquals("list_item", second.getContext());
+            assertEquals(List.of("listing", "ulist"),
+                second.getBlocks().stream().map(AstNode::getContext).toList());
+            assertEquals("ls", second.getBlocks().get(0).getSource());
+            assertEquals("list_item", second.getBlocks().get(1).getBlocks().get(0).getContext());
+        }
+
+        @Test
+        @DisplayName("should copy the descriptions of description list entries")
+        void shouldCopyDescriptionListEntries() {
+            // Given
+            String content = """
+                = Document Title
+
+                == Section
+
+                CPU:: The brain
+                RAM::
+                +
+                ----
+                free -h
+                ----
+                Disk::
+                """;
+
+            // When
+            AstNode list = snapshot(content).getBlocks().get(0).getBlocks().get(0);
+
+            // Then
+            assertEquals("dlist", list.getContext());
+            assertEquals(2, list.getBlocks().size());
+            assertTrue(list.getBlocks().stream().allMatch(item -> "list_item".equals(item.getContext())));
+            AstNode listing = list.getBlocks().get(1).getBlocks().get(0);
+            assertEquals("listing", listing.getContext());
+            assertEquals("free -h", listing.getSource());
+        }
+
+        @Test
+        @DisplayName("should copy raw source without substitutions")
+        void shouldCopyRawSourceWithoutSubstitutions() {
+            // Given
+            String content = """
+                = Document Title
+
+                == Section
+
+                Some *bold* text
+                with {two} lines.
+
+                ----
+                run <1>
+                ----
+                <1> The command
+
+                ****
+                Inside the sidebar.
+                ****
+                """;
+
+            // When
+            List<AstNode> blocks = snapshot(content).getBlocks().get(0).getBlocks();
+
+            // Then
+            assertEquals("Some *bold* text\nwith {two} lines.", blocks.get(0).getSource());
+            assertEquals("run <1>", blocks.get(1).getSource());
+            AstNode sidebar = blocks.get(3);
+            assertEquals("sidebar", sidebar.getContext());
+            assertNull(sidebar.getSource());
+            assertEquals("Inside the sidebar.", sidebar.getBlocks().get(0).getSource());
+        }
+
+        @Test
+        @DisplayName("should copy table structure")
+        void shouldCopyTableStructure() {
+            // Given
+            String content = """
+                = Document Title
+
+                == Section
+
+                .Prices
+                [options="header"]
+                |===
+                |Name |Price |Stock
+                |Apple |1.00 |10
+                |Pear |2.00 |5
+                |===
+                """;
+
+            // When
+            AstNode table = snapshot(content).getBlocks().get(0).getBlocks().get(0);
+
+            // Then
+            assertEquals("table", table.getContext());
+            assertEquals("Prices", table.getTitle());
+            assertNotNull(table.getTable());
+            assertEquals(3, table.getTable().getColumnCount());
+            assertEquals(2, table.getTable().getBodyRowCount());
+            assertEquals(List.of(List.of("Name", "Price", "Stock")), table.getTable().getHeader());
+        }
+
+        @Test
+        @DisplayName("should leave table structure empty for other blocks")
+        void shouldLeaveTableStructureEmptyForOtherBlocks() {
+            // When
+            AstNode paragraph = snapshot("= Title\n\n== Section\n\nText").getBlocks().get(0).getBlocks().get(0);
+
+            // Then
+            assertNull(paragraph.getTable());
+            assertFalse(paragraph.isSection());
+        }
+    }
+}
\ No newline at end of file
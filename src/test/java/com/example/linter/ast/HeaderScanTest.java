@@ -0,0 +1,163 @@
+package com.example.linter.ast;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("HeaderScan")
+class HeaderScanTest {
+
+    @Nested
+    @DisplayName("line numbers")
+    class LineNumbers {
+
+        @Test
+        @DisplayName("should report the lines of title and attribute entries")
+        void shouldReportLinesOfTitleAndAttributeEntries() {
+            // Given
+            String source = """
+                // leading comment
+
+                = Document Title
+                :version: 1.0
+                :Status: draft
+
+                Content
+                """;
+
+            // When
+            HeaderScan header = HeaderScan.scan(source);
+
+            // Then
+            assertEquals(3, header.getTitleLine());
+            assertEquals(4, header.getAttributeLine("version"));
+            assertEquals(5, header.getAttributeLine("status"));
+            assertEquals(0, header.getAttributeLine("unknown"));
+        }
+
+        @Test
+        @DisplayName("should map derived attributes to the author and revision lines")
+        void shouldMapDerivedAttributesToAuthorAndRevisionLines() {
+            // Given
+            String source = """
+                = Document Title
+                Jane Doe <jane@example.com>; John Roe
+                v1.2, 2024-01-01: Draft
+                :description: Example
+
+                Content
+                """;
+
+            // When
+            HeaderScan header = HeaderScan.scan(source);
+
+            // Then
+            assertEquals(2, header.getAttributeLine("author"));
+            assertEquals(2, header.getAttributeLine("email"));
+            assertEquals(2, header.getAttributeLine("lastname_2"));
+            assertEquals(3, header.getAttributeLine("revnumber"));
+            assertEquals(3, header.getAttributeLine("revdate"));
+            assertEquals(4, header.getAttributeLine("description"));
+        }
+
+        @Test
+        @DisplayName("should report the first line of a wrapped attribute value")
+        void shouldReportFirstLineOfWrappedAttributeValue() {
+            // Given
+            String source = "= Title\n:description: first part \\\nsecond part\n:version: 2\n";
+
+            // When
+            HeaderScan header = HeaderScan.scan(source);
+
+            // Then
+            assertEquals(2, header.getAttributeLine("description"));
+            assertEquals(4, header.getAttributeLine("version"));
+        }
+
+        @Test
+        @DisplayName("should skip block comments before the title")
+        void shouldSkipBlockCommentsBeforeTitle() {
+            // Given
+            String source = "////\n= Not the title\n////\n= Title\n";
+
+            // When
+            HeaderScan header = HeaderScan.scan(source);
+
+            // Then
+            assertEquals(4, header.getTitleLine());
+        }
+    }
+
+    @Nested
+    @DisplayName("header end")
+    class HeaderEnd {
+
+        @Test
+        @DisplayName("should end the header at the first blank line after the title")
+        void shouldEndHeaderAtFirstBlankLineAfterTitle() {
+            // Given
+            String source = "= Title\r\n:version: 1.0\r\n\r\n== Section\r\n";
+
+            // When
+            HeaderScan header = HeaderScan.scan(source);
+
+            // Then
+            assertEquals("= Title\r\n:version: 1.0\r\n", source.substring(0, header.getHeaderEnd()));
+        }
+
+        @Test
+        @DisplayName("should end the header at the end of a header-only source")
+        void shouldEndHeaderAtEndOfHeaderOnlySource() {
+            // Given
+            String source = "= Title\n:version: 1.0";
+
+            // When
+            HeaderScan header = HeaderScan.scan(source);
+
+            // Then
+            assertEquals(source.length(), header.getHeaderEnd());
+        }
+
+        @Test
+        @DisplayName("should not cut a document without a title")
+        void shouldNotCutDocumentWithoutTitle() {
+            // Given
+            String source = ":version: 1.0\n\n== Section\n";
+
+            // When
+            HeaderScan header = HeaderScan.scan(source);
+
+            // Then
+            assertEquals(0, header.getTitleLine());
+            assertEquals(1, header.getAttributeLine("version"));
+            assertEquals(-1, header.getHeaderEnd());
+        }
+
+        @Test
+        @DisplayName("should not cut a header that contains a preprocessor directive")
+        void shouldNotCutHeaderWithPreprocessorDirective() {
+            // Given
+            String source = "= Title\ninclude::attributes.adoc[]\n\nContent\n";
+
+            // When
+            HeaderScan header = HeaderScan.scan(source);
+
+            // Then
+            assertEquals(1, header.getTitleLine());
+            assertEquals(-1, header.getHeaderEnd());
+        }
+
+        @Test
+        @DisplayName("should return an empty scan for empty content")
+        void shouldReturnEmptyScanForEmptyContent() {
+            // When
+            HeaderScan header = HeaderScan.scan("");
+
+            // Then
+            assertEquals(0, header.getTitleLine());
+            assertEquals(-1, header.getHeaderEnd());
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.linter.ast;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("IncludeScan")
+class IncludeScanTest {
+
+    @Test
+    @DisplayName("should report include directives with their lines")
+    void shouldReportIncludeDirectivesWithTheirLines() {
+        // Given
+        String source = """
+            = Book
+            :partsdir: parts
+
+            include::{partsdir}/chapter-1.adoc[]
+            include::{sharedir}/legal.adoc[leveloffset=+1]
+            """;
+
+        // When
+        IncludeScan scan = IncludeScan.scan(source);
+
+        // Then
+        List<IncludeScan.Directive> directives = scan.getDirectives();
+        assertEquals(2, directives.size());
+        assertEquals("parts/chapter-1.adoc", directives.get(0).getTarget());
+        assertEquals(4, directives.get(0).getLine());
+        assertEquals("{sharedir}/legal.adoc", directives.get(1).getTarget());
+        assertEquals(5, directives.get(1).getLine());
+        assertEquals(Map.of("partsdir", "parts"), scan.getAttributes());
+    }
+
+    @Test
+    @DisplayName("should skip commented and escaped directives")
+    void shouldSkipCommentedAndEscapedDirectives() {
+        // Given
+        String source = """
+            // include::line-comment.adoc[]
+            ////
+            include::block-comment.adoc[]
+            ////
+            \\include::escaped.adoc[]
+            ifdef::backend-html5[]
+            include::conditional.adoc[]
+            endif::[]
+            """;
+
+        // When
+        List<IncludeScan.Directive> directives = IncludeScan.scan(source).getDirectives();
+
+        // Then
+        assertEquals(1, directives.size());
+        assertEquals("conditional.adoc", directives.get(0).getTarget());
+    }
+
+    @Test
+    @DisplayName("should substitute known attribute references only")
+    void shouldSubstituteKnownAttributeReferencesOnly() {
+        // When
+        String substituted = IncludeScan.substitute("{Docdir}/{missing}/a.adoc", Map.of("docdir", "/book"));
+
+        // Then
+        assertEquals("/book/{missing}/a.adoc", substituted);
+        assertTrue(IncludeScan.hasAttributeReference(substituted));
+        assertFalse(IncludeScan.hasAttributeReference("/book/a.adoc"));
+    }
+}
@@ -0,0 +1,204 @@
+package com.example.linter.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@DisplayName("IncludeGraph")
+class IncludeGraphTest {
+
+    @TempDir
+    Path tempDir;
+
+    private Path book;
+    private Path chapter;
+    private Path fragment;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        book = write("book.adoc", "= Book\n:partsdir: parts\n\ninclude::{partsdir}/chapter.adoc[]\n");
+        chapter = write("parts/chapter.adoc", "== Chapter\n\ninclude::shared/fragment.adoc[]\n");
+        fragment = write("parts/shared/fragment.adoc", "Shared text\n");
+    }
+
+    private Path write(String name, String content) throws IOException {
+        Path file = tempDir.resolve(name).toAbsolutePath().normalize();
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, content);
+        return file;
+    }
+
+    @Nested
+    @DisplayName("resolve")
+    class Resolve {
+
+        @Test
+        @DisplayName("should follow includes relative to the including file")
+        void shouldFollowIncludesRelativeToIncludingFile() {
+            // When
+            IncludeGraph.Resolution resolution = new IncludeGraph().resolve(book);
+
+            // Then
+            assertEquals(List.of(chapter, fragment), resolution.getDependencies());
+            assertTrue(resolution.getProblems().isEmpty());
+        }
+
+        @Test
+        @DisplayName("should change the fingerprint when a nested fragment changes")
+        void shouldChangeFingerprintWhenNestedFragmentChanges() throws IOException {
+            // Given
+            IncludeGraph graph = new IncludeGraph();
+            String before = graph.resolve(book).getFingerprint();
+
+            // When
+            Files.writeString(fragment, "Changed text\n");
+
+            // Then
+            assertNotEquals(before, graph.resolve(book).getFingerprint());
+        }
+
+        @Test
+        @DisplayName("should rescan a kept file when its size changes")
+        void shouldRescanKeptFileWhenItChanges() throws IOException {
+            // Given
+            Files.setLastModifiedTime(chapter, FileTime.from(Instant.now().minus(1, ChronoUnit.HOURS)));
+            IncludeGraph graph = new IncludeGraph();
+            graph.resolve(book);
+
+            // When
+            Path other = write("parts/other.adoc", "Other\n");
+            Files.writeString(chapter, "== Chapter\n\ninclude::other.adoc[]\n");
+
+            // Then
+            assertEquals(List.of(chapter, other), graph.resolve(book).getDependencies());
+        }
+
+        @Test
+        @DisplayName("should report include cycles without following them")
+        void shouldReportIncludeCycles() throws IOException {
+            // Given
+            Files.writeString(fragment, "include::../chapter.adoc[]\n");
+
+            // When
+            IncludeGraph.Resolution resolution = new IncludeGraph().resolve(book);
+
+            // Then
+            assertEquals(1, resolution.getProblems().size());
+            IncludeGraph.Problem problem = resolution.getProblems().get(0);
+            assertEquals(IncludeGraph.Problem.Kind.CYCLE, problem.getKind());
+            assertEquals(fragment, problem.getFile());
+            assertEquals(1, problem.getLine());
+            assertEquals("Include cycle: parts/chapter.adoc -> parts/shared/fragment.adoc -> parts/chapter.adoc",
+                         problem.getMessage());
+        }
+
+        @Test
+        @DisplayName("should report nesting deeper than the maximum depth once")
+        void shouldReportExcessiveDepth() throws IOException {
+            // Given
+            for (int i = 0; i < 5; i++) {
+                write("level-" + i + ".adoc", "include::level-" + (i + 1) + ".adoc[]\n");
+            }
+            write("level-5.adoc", "Bottom\n");
+
+            // When
+            IncludeGraph.Resolution resolution = new IncludeGraph(3).resolve(tempDir.resolve("level-0.adoc"));
+
+            // Then
+            assertEquals(1, resolution.getProblems().size());
+            assertEquals(IncludeGraph.Problem.Kind.DEPTH, resolution.getProblems().get(0).getKind());
+            assertEquals(3, resolution.getDependencies().size());
+        }
+
+        @Test
+        @DisplayName("should keep missing targets as dependencies")
+        void shouldKeepMissingTargetsAsDependencies() throws IOException {
+            // Given
+            Path document = write("draft.adoc", "= Draft\n\ninclude::later.adoc[]\n");
+
+            // When
+            IncludeGraph.Resolution resolution = new IncludeGraph().resolve(document, Files.readString(document), true);
+
+            // Then
+            assertEquals(List.of(tempDir.resolve("later.adoc").toAbsolutePath().normalize()),
+                         resolution.getDependencies());
+        }
+    }
+
+    @Nested
+    @DisplayName("affectedBy")
+    class AffectedBy {
+
+        @Test
+        @DisplayName("should return exactly the documents including a changed file")
+        void shouldReturnDocumentsIncludingChangedFile() throws IOException {
+            // Given
+            Path standalone = write("standalone.adoc", "= Standalone\n\nText\n");
+            IncludeGraph graph = new IncludeGraph();
+            graph.resolve(book);
+            graph.resolve(chapter);
+            graph.resolve(standalone);
+
+            // When
+            Set<Path> affected = graph.affectedBy(List.of(fragment));
+
+            // Then
+            assertEquals(Set.of(book, chapter), affected);
+            assertEquals(Set.of(), graph.affectedBy(List.of(standalone)));
+        }
+
+        @Test
+        @DisplayName("should tell which documents it knows the includes of")
+        void shouldTellResolvedDocuments() {
+            // Given
+            IncludeGraph graph = new IncludeGraph();
+
+            // When
+            graph.resolve(chapter);
+
+            // Then
+            assertTrue(graph.isResolved(chapter));
+            assertTrue(graph.affectedBy(List.of(fragment)).contains(chapter));
+            assertFalse(graph.isResolved(book));
+        }
+    }
+
+    @Nested
+    @DisplayName("persistence")
+    class Persistence {
+
+        @Test
+        @DisplayName("should be stored with the result cache")
+        void shouldBeStoredWithResultCache() {
+            // Given
+            Path cacheDirectory = tempDir.resolve("cache");
+            try (ResultCache cache = ResultCache.builder().directory(cacheDirectory).linterVersion("1.0.0").build()) {
+                cache.getIncludeGraph().resolve(book);
+            }
+
+            // When
+            ResultCache reopened = ResultCache.builder().directory(cacheDirectory).linterVersion("1.0.0").build();
+
+            // Then
+            assertTrue(Files.exists(cacheDirectory.resolve(IncludeGraph.FILE_NAME)));
+            assertEquals(List.of(chapter, fragment), reopened.getIncludeGraph().dependenciesOf(book));
+            assertEquals(Set.of(book), reopened.getIncludeGraph().affectedBy(List.of(fragment)));
+        }
+    }
+}
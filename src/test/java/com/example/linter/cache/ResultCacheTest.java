@@ -0,0 +1,247 @@
+package com.example.linter.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.example.linter.config.DocumentConfiguration;
+import com.example.linter.config.LinterConfiguration;
+import com.example.linter.config.Severity;
+import com.example.linter.config.loader.ConfigurationLoader;
+import com.example.linter.validator.ErrorType;
+import com.example.linter.validator.SourceLocation;
+import com.example.linter.validator.Suggestion;
+import com.example.linter.validator.ValidationMessage;
+
+@DisplayName("ResultCache")
+class ResultCacheTest {
+
+    @TempDir
+    Path tempDir;
+
+    private Path cacheDirectory;
+    private ResultCache cache;
+    private LinterConfiguration config;
+
+    @BeforeEach
+    void setUp() {
+        cacheDirectory = tempDir.resolve("cache");
+        cache = ResultCache.builder()
+            .directory(cacheDirectory)
+            .linterVersion("1.0.0")
+            .build();
+        config = LinterConfiguration.builder().build();
+    }
+
+    private ValidationMessage messageFor(Path file) {
+        return ValidationMessage.builder()
+            .severity(Severity.ERROR)
+            .ruleId("metadata.required")
+            .message("Missing required attribute 'author'")
+            .location(SourceLocation.builder()
+                .filename(file.toAbsolutePath().toString())
+                .startLine(2)
+                .startColumn(1)
+                .endLine(2)
+                .endColumn(10)
+                .sourceLine(":revdate: 2024-01-01")
+                .build())
+            .attributeName("author")
+            .expectedValue("non-empty value")
+            .errorType(ErrorType.MISSING_VALUE)
+            .missingValueHint(":author: Your Name")
+            .addSuggestion(Suggestion.builder()
+                .description("Add the author attribute")
+                .fixedValue(":author: Your Name")
+                .addExample(":author: Jane Doe")
+                .autoFixable(true)
+                .build())
+            .addContextLine("= Title")
+            .build();
+    }
+
+    @Nested
+    @DisplayName("Keys")
+    class Keys {
+
+        @Test
+        @DisplayName("should be stable for the same content and configuration")
+        void shouldBeStableForSameContentAndConfiguration() {
+            assertEquals(cache.key("= Doc", config), cache.key("= Doc", LinterConfiguration.builder().build()));
+        }
+
+        @Test
+        @DisplayName("should change with content, configuration and version")
+        void shouldChangeWithContentConfigurationAndVersion() {
+            // Given
+            LinterConfiguration otherConfig = new ConfigurationLoader().loadConfiguration("""
+                document:
+                  metadata:
+                    attributes:
+                      - name: author
+                        required: true
+                        severity: error
+                """);
+            ResultCache otherVersion = ResultCache.builder()
+                .directory(cacheDirectory)
+                .linterVersion("2.0.0")
+                .build();
+            String key = cache.key("= Doc", config);
+
+            // When / Then
+            assertNotEquals(key, cache.key("= Other", config));
+            assertNotEquals(key, cache.key("= Doc", otherConfig));
+            assertNotEquals(key, otherVersion.key("= Doc", config));
+        }
+
+        @Test
+        @DisplayName("should treat equal configurations alike")
+        void shouldTreatEqualConfigurationsAlike() {
+            LinterConfiguration withEmptyDocument = LinterConfiguration.builder()
+                .document(DocumentConfiguration.builder().build())
+                .build();
+
+            assertEquals(cache.key("= Doc", withEmptyDocument), cache.key("= Doc", LinterConfiguration.builder()
+                .document(DocumentConfiguration.builder().build())
+                .build()));
+        }
+    }
+
+    @Nested
+    @DisplayName("Entries")
+    class Entries {
+
+        @Test
+        @DisplayName("should miss for unknown keys")
+        void shouldMissForUnknownKeys() {
+            Optional<List<ValidationMessage>> cached = cache.get(cache.key("= Doc", config), tempDir.resolve("doc.adoc"));
+
+            assertFalse(cached.isPresent());
+            assertEquals(0, cache.getHitCount());
+            assertEquals(1, cache.getMissCount());
+        }
+
+        @Test
+        @DisplayName("should return stored messages unchanged")
+        void shouldReturnStoredMessagesUnchanged() {
+            // Given
+            Path file = tempDir.resolve("doc.adoc");
+            String key = cache.key("= Doc", config);
+            List<ValidationMessage> messages = List.of(messageFor(file));
+
+            // When
+            cache.put(key, file, messages);
+            Optional<List<ValidationMessage>> cached = cache.get(key, file);
+
+            // Then
+            assertTrue(cached.isPresent());
+            assertEquals(messages, cached.get());
+            assertEquals(1, cache.getHitCount());
+        }
+
+        @Test
+        @DisplayName("should report messages under the path of the file being validated")
+        void shouldReportMessagesUnderPathOfFileBeingValidated() {
+            // Given
+            Path original = tempDir.resolve("a/doc.adoc");
+            Path moved = tempDir.resolve("b/doc.adoc");
+            String key = cache.key("= Doc", config);
+            cache.put(key, original, List.of(messageFor(original)));
+
+            // When
+            List<ValidationMessage> cached = cache.get(key, moved).orElseThrow();
+
+            // Then
+            assertEquals(moved.toAbsolutePath().toString(), cached.get(0).getLocation().getFilename());
+        }
+
+        @Test
+        @DisplayName("should discard corrupt entries")
+        void shouldDiscardCorruptEntries() throws IOException {
+            // Given
+            Path file = tempDir.resolve("doc.adoc");
+            String key = cache.key("= Doc", config);
+            cache.put(key, file, List.of(messageFor(file)));
+            Path entry = cacheDirectory.resolve(key + ".json");
+            Files.writeString(entry, "{\"messages\": [");
+
+            // When
+            Optional<List<ValidationMessage>> cached = cache.get(key, file);
+
+            // Then
+            assertFalse(cached.isPresent());
+            assertFalse(Files.exists(entry));
+        }
+
+        @Test
+        @DisplayName("should not leave temporary files behind")
+        void shouldNotLeaveTemporaryFilesBehind() throws IOException {
+            Path file = tempDir.resolve("doc.adoc");
+            cache.put(cache.key("= Doc", config), file, List.of());
+
+            try (Stream<Path> entries = Files.list(cacheDirectory)) {
+                assertTrue(entries.allMatch(path -> path.toString().endsWith(".json")));
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Eviction")
+    class Eviction {
+
+        @Test
+        @DisplayName("should evict least recently used entries beyond the size limit")
+        void shouldEvictLeastRecentlyUsedEntriesBeyondSizeLimit() throws IOException {
+            // Given
+            Path file = tempDir.resolve("doc.adoc");
+            List<ValidationMessage> messages = List.of(messageFor(file));
+            String oldKey = cache.key("= Old", config);
+            String recentKey = cache.key("= Recent", config);
+            cache.put(oldKey, file, messages);
+            cache.put(recentKey, file, messages);
+            Files.setLastModifiedTime(cacheDirectory.resolve(oldKey + ".json"), FileTime.fromMillis(1000));
+            long entrySize = Files.size(cacheDirectory.resolve(recentKey + ".json"));
+
+            ResultCache bounded = ResultCache.builder()
+                .directory(cacheDirectory)
+                .linterVersion("1.0.0")
+                .maxSizeBytes(entrySize)
+                .build();
+
+            // When
+            bounded.evict();
+
+            // Then
+            assertFalse(Files.exists(cacheDirectory.resolve(oldKey + ".json")));
+            assertTrue(Files.exists(cacheDirectory.resolve(recentKey + ".json")));
+        }
+
+        @Test
+        @DisplayName("should reject non-positive size limits")
+        void shouldRejectNonPositiveSizeLimits() {
+            assertThrows(IllegalArgumentException.class, () ->
+                ResultCache.builder()
+                    .directory(cacheDirectory)
+                    .linterVersion("1.0.0")
+                    .maxSizeBytes(0)
+                    .build()
+            );
+        }
+    }
+}
\ No newline at end of file
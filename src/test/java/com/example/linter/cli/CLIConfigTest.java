@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -16,6 +17,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import com.example.linter.ResultOrder;
 import com.example.linter.config.Severity;
 
 @DisplayName("CLIConfig")
@@ -111,6 +113,73 @@ class CLIConfigTest {
             assertNotNull(config.getBaseDirectory());
             assertNull(config.getConfigFile());
             assertNull(config.getReportOutput());
+            assertEquals(1, config.getJobs());
+            assertSame(ResultOrder.defaults(), config.getResultOrder());
+            assertEquals(1, config.getDiscoveryThreads());
+            assertEquals(List.of(), config.getExcludePatterns());
+            assertFalse(config.isIgnoreFilesEnabled());
+            assertNull(config.getChangedSince());
+            assertFalse(config.isChangedFilesOnly());
+            assertFalse(config.isWatch());
+            assertFalse(config.isIncludeChecksEnabled());
+            assertFalse(config.isCacheEnabled());
+        }
+        
+        @Test
+        @DisplayName("should reject combining changed-since and staged")
+        void shouldRejectCombiningChangedSinceAndStaged() {
+            assertThrows(IllegalArgumentException.class, () -> 
+                CLIConfig.builder()
+                    .inputPatterns(Arrays.asList("*.adoc"))
+                    .changedSince("origin/main")
+                    .stagedOnly(true)
+                    .build()
+            );
+        }
+        
+        @Test
+        @DisplayName("should reject staged content without staged files")
+        void shouldRejectStagedContentWithoutStagedFiles() {
+            assertThrows(IllegalArgumentException.class, () -> 
+                CLIConfig.builder()
+                    .inputPatterns(Arrays.asList("*.adoc"))
+                    .stagedContent(true)
+                    .build()
+            );
+        }
+        
+        @Test
+        @DisplayName("should reject watching only changed files")
+        void shouldRejectWatchWithChangedFiles() {
+            assertThrows(IllegalArgumentException.class, () -> 
+                CLIConfig.builder()
+                    .inputPatterns(Arrays.asList("*.adoc"))
+                    .changedSince("origin/main")
+                    .watch(true)
+                    .build()
+            );
+        }
+        
+        @Test
+        @DisplayName("should reject a changed-since value that looks like an option")
+        void shouldRejectOptionLikeChangedSince() {
+            assertThrows(IllegalArgumentException.class, () -> 
+                CLIConfig.builder()
+                    .inputPatterns(Arrays.asList("*.adoc"))
+                    .changedSince("--output=report.txt")
+                    .build()
+            );
+        }
+        
+        @Test
+        @DisplayName("should reject non-positive jobs")
+        void shouldRejectNonPositiveJobs() {
+            assertThrows(IllegalArgumentException.class, () -> 
+                CLIConfig.builder()
+                    .inputPatterns(Arrays.asList("*.adoc"))
+                    .jobs(0)
+                    .build()
+            );
         }
     }
     
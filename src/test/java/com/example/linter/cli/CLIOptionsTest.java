@@ -102,4 +102,131 @@ class CLIOptionsTest {
         // Then
         assertEquals("warn", cmd.getOptionValue("fail-level"));
     }
+    
+    @Test
+    @DisplayName("should parse jobs")
+    void shouldParseJobs() throws ParseException {
+        // Given
+        String[] args = {"-i", "**/*.adoc", "--jobs", "4"};
+        
+        // When
+        CommandLine cmd = parser.parse(cliOptions.getOptions(), args);
+        
+        // Then
+        assertEquals("4", cmd.getOptionValue("j"));
+    }
+    
+    @Test
+    @DisplayName("should parse result order options")
+    void shouldParseResultOrderOptions() throws ParseException {
+        // Given
+        String[] args = {"-i", "**/*.adoc", "--jobs", "4", "--order-window", "32", "--on-stall", "unordered"};
+        
+        // When
+        CommandLine cmd = parser.parse(cliOptions.getOptions(), args);
+        
+        // Then
+        assertEquals("32", cmd.getOptionValue("order-window"));
+        assertEquals("unordered", cmd.getOptionValue("on-stall"));
+    }
+    
+    @Test
+    @DisplayName("should parse discovery threads")
+    void shouldParseDiscoveryThreads() throws ParseException {
+        // Given
+        String[] args = {"-i", "**/*.adoc", "--discovery-threads", "8"};
+        
+        // When
+        CommandLine cmd = parser.parse(cliOptions.getOptions(), args);
+        
+        // Then
+        assertEquals("8", cmd.getOptionValue("discovery-threads"));
+    }
+    
+    @Test
+    @DisplayName("should parse exclusions")
+    void shouldParseExclusions() throws ParseException {
+        // Given
+        String[] args = {"-i", "**/*.adoc", "--exclude", "build/**,**/_*.adoc", "--ignore-files"};
+        
+        // When
+        CommandLine cmd = parser.parse(cliOptions.getOptions(), args);
+        
+        // Then
+        assertEquals("build/**,**/_*.adoc", cmd.getOptionValue("exclude"));
+        assertTrue(cmd.hasOption("ignore-files"));
+    }
+    
+    @Test
+    @DisplayName("should parse changed files options")
+    void shouldParseChangedFilesOptions() throws ParseException {
+        // Given
+        String[] args = {"-i", "**/*.adoc", "--changed-since", "origin/main"};
+        
+        // When
+        CommandLine cmd = parser.parse(cliOptions.getOptions(), args);
+        
+        // Then
+        assertEquals("origin/main", cmd.getOptionValue("changed-since"));
+        assertFalse(cmd.hasOption("staged"));
+        assertTrue(parser.parse(cliOptions.getOptions(), new String[] {"-i", "**/*.adoc", "--staged"})
+            .hasOption("staged"));
+        assertTrue(parser.parse(cliOptions.getOptions(), new String[] {"-i", "**/*.adoc", "--staged-content"})
+            .hasOption("staged-content"));
+    }
+    
+    @Test
+    @DisplayName("should parse check includes option")
+    void shouldParseCheckIncludesOption() throws ParseException {
+        // Given
+        String[] args = {"-i", "**/*.adoc", "--check-includes"};
+        
+        // When
+        CommandLine cmd = parser.parse(cliOptions.getOptions(), args);
+        
+        // Then
+        assertTrue(cmd.hasOption("check-includes"));
+    }
+    
+    @Test
+    @DisplayName("should parse watch option")
+    void shouldParseWatchOption() throws ParseException {
+        // Given
+        String[] args = {"-i", "**/*.adoc", "--watch"};
+        
+        // When
+        CommandLine cmd = parser.parse(cliOptions.getOptions(), args);
+        
+        // Then
+        assertTrue(cmd.hasOption("watch"));
+    }
+    
+    @Test
+    @DisplayName("should parse cache options")
+    void shouldParseCacheOptions() throws ParseException {
+        // Given
+        String[] args = {"-i", "**/*.adoc", "--cache", "--cache-location", "build/lint-cache"};
+        
+        // When
+        CommandLine cmd = parser.parse(cliOptions.getOptions(), args);
+        
+        // Then
+        assertTrue(cmd.hasOption("cache"));
+        assertEquals("build/lint-cache", cmd.getOptionValue("cache-location"));
+    }
+    
+    @Test
+    @DisplayName("should parse daemon options")
+    void shouldParseDaemonOptions() throws ParseException {
+        // Given
+        String[] args = {"--daemon", "--daemon-socket", "/tmp/lint.sock", "--daemon-idle-timeout", "60"};
+        
+        // When
+        CommandLine cmd = parser.parse(cliOptions.getOptions(), args);
+        
+        // Then
+        assertTrue(cmd.hasOption("daemon"));
+        assertEquals("/tmp/lint.sock", cmd.getOptionValue("daemon-socket"));
+        assertEquals("60", cmd.getOptionValue("daemon-idle-timeout"));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,261 @@
+package com.example.linter.cli;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.time.Duration;
+import java.util.OptionalInt;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@DisplayName("DaemonServer")
+class DaemonServerTest {
+
+    @TempDir
+    Path tempDir;
+
+    private Path socketPath;
+    private DaemonServer server;
+    private CompletableFuture<Void> serving;
+    private ByteArrayOutputStream out;
+    private ByteArrayOutputStream err;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        socketPath = tempDir.resolve("daemon.sock");
+        out = new ByteArrayOutputStream();
+        err = new ByteArrayOutputStream();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        if (server != null) {
+            server.stop();
+            serving.get(30, TimeUnit.SECONDS);
+            server.close();
+        }
+    }
+
+    private void startServer(Duration idleTimeout) throws Exception {
+        startServer(idleTimeout, DaemonServer.DEFAULT_REQUEST_TIMEOUT);
+    }
+
+    private void startServer(Duration idleTimeout, Duration requestTimeout) throws Exception {
+        server = new DaemonServer(socketPath, idleTimeout, requestTimeout);
+        serving = CompletableFuture.runAsync(() -> {
+            try {
+                server.serve();
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        long deadline = System.currentTimeMillis() + 30_000;
+        while (!Files.exists(socketPath) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertTrue(Files.exists(socketPath), "daemon did not start listening");
+    }
+
+    private OptionalInt forward(String... args) {
+        return new DaemonClient(socketPath).run(args, tempDir,
+            new PrintStream(out, true, StandardCharsets.UTF_8),
+            new PrintStream(err, true, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("should report that no daemon is listening")
+    void shouldReportThatNoDaemonIsListening() {
+        assertFalse(forward("-i", "*.adoc").isPresent());
+    }
+
+    @Test
+    @DisplayName("should validate forwarded command lines relative to the client directory")
+    void shouldValidateForwardedCommandLinesRelativeToClientDirectory() throws Exception {
+        // Given
+        Files.writeString(tempDir.resolve("doc.adoc"), "= Document\n\nContent");
+        Files.writeString(tempDir.resolve("rules.yaml"), """
+            document:
+              metadata:
+                attributes:
+                  - name: author
+                    required: true
+                    severity: error
+            """);
+        startServer(Duration.ofMinutes(5));
+
+        // When
+        OptionalInt exitCode = forward("-i", "doc.adoc", "-c", "rules.yaml", "-f", "json");
+
+        // Then
+        assertEquals(OptionalInt.of(1), exitCode);
+        String output = out.toString(StandardCharsets.UTF_8);
+        assertTrue(output.contains("\"ruleId\" : \"metadata.required\""), output);
+    }
+
+    @Test
+    @DisplayName("should reload the configuration when its file changes")
+    void shouldReloadConfigurationWhenItsFileChanges() throws Exception {
+        // Given
+        Files.writeString(tempDir.resolve("doc.adoc"), "= Document\n\nContent");
+        Path rules = tempDir.resolve("rules.yaml");
+        Files.writeString(rules, """
+            document:
+              metadata:
+                attributes:
+                  - name: author
+                    required: true
+                    severity: error
+            """);
+        startServer(Duration.ofMinutes(5));
+        assertEquals(OptionalInt.of(1), forward("-i", "doc.adoc", "-c", "rules.yaml", "-f", "json"));
+
+        // When
+        Files.writeString(rules, """
+            document:
+              metadata:
+                attributes:
+                  - name: author
+                    required: false
+                    severity: error
+            """);
+        Files.setLastModifiedTime(rules, FileTime.fromMillis(System.currentTimeMillis() + 10_000));
+
+        // Then
+        assertEquals(OptionalInt.of(0), forward("-i", "doc.adoc", "-c", "rules.yaml", "-f", "json"));
+    }
+
+    @Test
+    @DisplayName("should refuse to start a nested daemon")
+    void shouldRefuseToStartNestedDaemon() throws Exception {
+        startServer(Duration.ofMinutes(5));
+
+        assertEquals(OptionalInt.of(2), forward("--daemon"));
+        assertTrue(err.toString(StandardCharsets.UTF_8).contains("--daemon cannot be forwarded"));
+    }
+
+    @Test
+    @DisplayName("should shut down and remove its socket after the idle timeout")
+    void shouldShutDownAfterIdleTimeout() throws Exception {
+        // Given
+        startServer(Duration.ofSeconds(1));
+
+        // When
+        serving.get(30, TimeUnit.SECONDS);
+
+        // Then
+        assertFalse(Files.exists(socketPath));
+    }
+
+    @Test
+    @DisplayName("should serve the next client while a connected client sends nothing")
+    void shouldServeNextClientWhileAnotherStalls() throws Exception {
+        // Given
+        startServer(Duration.ofMinutes(5), Duration.ofMillis(200));
+
+        try (SocketChannel stalled = SocketChannel.open(UnixDomainSocketAddress.of(socketPath))) {
+            // When
+            OptionalInt exitCode = CompletableFuture.supplyAsync(() -> forward("--daemon"))
+                .get(30, TimeUnit.SECONDS);
+
+            // Then
+            assertEquals(OptionalInt.of(2), exitCode);
+            assertTrue(err.toString(StandardCharsets.UTF_8).contains("--daemon cannot be forwarded"));
+        }
+    }
+
+    @Test
+    @DisplayName("should shut down after the idle timeout while a connected client sends nothing")
+    void shouldShutDownWhileClientStalls() throws Exception {
+        // Given
+        startServer(Duration.ofSeconds(1), Duration.ofMillis(200));
+
+        try (SocketChannel stalled = SocketChannel.open(UnixDomainSocketAddress.of(socketPath))) {
+            // When
+            serving.get(30, TimeUnit.SECONDS);
+
+            // Then
+            assertFalse(Files.exists(socketPath));
+        }
+    }
+
+    @Test
+    @DisplayName("should create a socket directory only the user can enter")
+    void shouldCreatePrivateSocketDirectory() throws Exception {
+        assumeTrue(isPosix(), "Needs POSIX permissions");
+
+        // Given
+        socketPath = tempDir.resolve("sockets").resolve("daemon.sock");
+
+        // When
+        startServer(Duration.ofMinutes(5));
+
+        // Then
+        assertEquals(PosixFilePermissions.fromString("rwx------"),
+            Files.getPosixFilePermissions(socketPath.getParent()));
+    }
+
+    @Test
+    @DisplayName("should refuse to listen in a directory other users can write to")
+    void shouldRefuseSharedSocketDirectory() throws Exception {
+        assumeTrue(isPosix(), "Needs POSIX permissions");
+
+        // Given
+        Path shared = Files.createDirectory(tempDir.resolve("shared"));
+        Files.setPosixFilePermissions(shared, PosixFilePermissions.fromString("rwxrwxrwx"));
+
+        // When
+        IOException thrown;
+        try (DaemonServer shadowed = new DaemonServer(shared.resolve("daemon.sock"), Duration.ofMinutes(5))) {
+            thrown = assertThrows(IOException.class, shadowed::serve);
+        }
+
+        // Then
+        assertTrue(thrown.getMessage().contains("writable by other users"), thrown.getMessage());
+    }
+
+    @Test
+    @DisplayName("should not forward to a socket in a directory other users can write to")
+    void shouldNotForwardToSharedSocket() throws Exception {
+        assumeTrue(isPosix(), "Needs POSIX permissions");
+
+        // Given
+        Path shared = Files.createDirectory(tempDir.resolve("shared"));
+        Files.setPosixFilePermissions(shared, PosixFilePermissions.fromString("rwxrwxrwx"));
+        socketPath = shared.resolve("daemon.sock");
+
+        try (ServerSocketChannel foreign = ServerSocketChannel.open(StandardProtocolFamily.UNIX)) {
+            foreign.bind(UnixDomainSocketAddress.of(socketPath));
+
+            // When
+            OptionalInt exitCode = forward("-i", "*.adoc");
+
+            // Then
+            assertFalse(exitCode.isPresent());
+        }
+    }
+
+    private boolean isPosix() {
+        return tempDir.getFileSystem().supportedFileAttributeViews().contains("posix");
+    }
+}
@@ -1,24 +1,35 @@
 package com.example.linter.cli;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.IOException;
+import java.nio.file.FileSystems;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.PathMatcher;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 /**
- * Performance tests for FileDiscoveryService pattern caching.
+ * Performance tests for FileDiscoveryService pattern matching and directory walking.
  */
 @DisplayName("FileDiscoveryService Performance")
 class FileDiscoveryServicePerformanceTest {
     
+    private static final int LARGE_TREE_FILES = 100_000;
+    private static final int LARGE_TREE_DOCS = 2_000;
+    private static final int LARGE_TREE_ROUNDS = 3;
+    
     @TempDir
     Path tempDir;
     
@@ -126,6 +137,72 @@ class FileDiscoveryServicePerformanceTest {
         assertTrue(memoryIncrease < 10 * 1024 * 1024, "Memory usage should be reasonable");
     }
     
+    @Test
+    @Tag("performance")
+    @DisplayName("should walk a 100k-file tree once for several patterns")
+    void shouldWalkLargeTreeOnceForSeveralPatterns() throws IOException {
+        createLargeFileStructure();
+        List<String> patterns = List.of("docs/**/*.adoc", "guides/**/*.adoc");
+        
+        // Keep the best of several rounds, the first ones warm up the JIT and the file system cache
+        long walkPerPatternNanos = Long.MAX_VALUE;
+        long singleWalkNanos = Long.MAX_VALUE;
+        for (int round = 0; round < LARGE_TREE_ROUNDS; round++) {
+            long walkPerPatternStart = System.nanoTime();
+            Set<Path> expected = walkOncePerPattern(patterns);
+            walkPerPatternNanos = Math.min(walkPerPatternNanos, System.nanoTime() - walkPerPatternStart);
+            
+            long singleWalkStart = System.nanoTime();
+            List<Path> files = service.discoverFiles(patterns, tempDir);
+            singleWalkNanos = Math.min(singleWalkNanos, System.nanoTime() - singleWalkStart);
+            
+            assertEquals(LARGE_TREE_DOCS, files.size());
+            assertEquals(expected, new HashSet<>(files));
+        }
+        
+        System.out.printf("100k files: walk per pattern %.1f ms, single pruned walk %.1f ms, speedup: %.2fx%n",
+            walkPerPatternNanos / 1_000_000.0, singleWalkNanos / 1_000_000.0,
+            (double) walkPerPatternNanos / singleWalkNanos);
+        assertTrue(singleWalkNanos < walkPerPatternNanos, "A single pruned walk should beat one full walk per pattern");
+    }
+    
+    /**
+     * The previous discovery strategy: one full walk of the base directory per pattern,
+     * matching every file against the pattern.
+     */
+    private Set<Path> walkOncePerPattern(List<String> patterns) throws IOException {
+        Set<Path> matched = new HashSet<>();
+        for (String pattern : patterns) {
+            PathMatcher matcher = FileSystems.getDefault().getPathMatcher("glob:" + pattern);
+            try (Stream<Path> paths = Files.walk(tempDir)) {
+                paths.filter(Files::isRegularFile)
+                    .filter(path -> matcher.matches(tempDir.relativize(path)))
+                    .forEach(path -> matched.add(path.normalize()));
+            }
+        }
+        return matched;
+    }
+    
+    /**
+     * Creates 100k files, most of them in directories no pattern asks for.
+     */
+    private void createLargeFileStructure() throws IOException {
+        List<String> wanted = List.of("docs", "guides");
+        for (int d = 0; d < LARGE_TREE_DOCS / 20; d++) {
+            Path dir = Files.createDirectories(tempDir.resolve(wanted.get(d % 2)).resolve("part" + d));
+            for (int f = 0; f < 20; f++) {
+                Files.writeString(dir.resolve("page" + f + ".adoc"), "= Page");
+            }
+        }
+        List<String> unwanted = List.of("node_modules", "target", ".git");
+        for (int d = 0; d < (LARGE_TREE_FILES - LARGE_TREE_DOCS) / 100; d++) {
+            Path dir = Files.createDirectories(tempDir.resolve(unwanted.get(d % 3)).resolve("pkg" + d).resolve("lib"));
+            for (int f = 0; f < 100; f++) {
+                Files.writeString(dir.resolve("file" + f + (f % 10 == 0 ? ".adoc" : ".js")), "x");
+            }
+        }
+    }
+    
     private void createTestFileStructure() throws IOException {
         // Create a realistic file structure
         Files.createDirectories(tempDir.resolve("docs"));
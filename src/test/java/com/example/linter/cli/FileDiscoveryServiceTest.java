@@ -3,13 +3,20 @@ package com.example.linter.cli;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
 import java.io.IOException;
+import java.nio.file.FileSystems;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -222,6 +229,62 @@ class FileDiscoveryServiceTest {
             // Then
             assertEquals(3, files.size());
         }
+        
+        @Test
+        @DisplayName("should find the same files in one walk as in one walk per pattern")
+        void shouldFindSameFilesAsOneWalkPerPattern() throws IOException {
+            // Given
+            for (String dir : List.of("docs/part0", "guides/part1", "node_modules/pkg0/lib", "target/pkg1/lib")) {
+                Files.createDirectories(tempDir.resolve(dir));
+            }
+            for (String file : List.of("docs/part0/page0.adoc", "docs/part0/page1.adoc", "docs/part0/notes.txt",
+                                       "guides/part1/page0.adoc", "node_modules/pkg0/lib/file0.adoc",
+                                       "target/pkg1/lib/file0.adoc")) {
+                Files.createFile(tempDir.resolve(file));
+            }
+            List<String> patterns = List.of("docs/**/*.adoc", "guides/**/*.adoc");
+            Set<Path> expected = new HashSet<>();
+            for (String pattern : patterns) {
+                PathMatcher matcher = FileSystems.getDefault().getPathMatcher("glob:" + pattern);
+                try (Stream<Path> paths = Files.walk(tempDir)) {
+                    paths.filter(Files::isRegularFile)
+                        .filter(path -> matcher.matches(tempDir.relativize(path)))
+                        .forEach(path -> expected.add(path.normalize()));
+                }
+            }
+            
+            // When
+            List<Path> files = service.discoverFiles(patterns, tempDir);
+            
+            // Then
+            assertEquals(3, files.size());
+            assertEquals(expected, new HashSet<>(files));
+        }
+        
+        @Test
+        @DisplayName("should list named files first and other matches sorted by name within each directory")
+        void shouldListNamedFilesFirstAndOtherMatchesSortedByName() throws IOException {
+            // Given
+            Files.createDirectories(tempDir.resolve("docs"));
+            Files.createDirectories(tempDir.resolve("guides"));
+            Files.createFile(tempDir.resolve("docs/manual.adoc"));
+            Files.createFile(tempDir.resolve("guides/start.adoc"));
+            Files.createFile(tempDir.resolve("README.adoc"));
+            
+            CLIConfig config = CLIConfig.builder()
+                .inputPatterns(Arrays.asList("guides/**/*.adoc", "README.adoc", "**/*.adoc"))
+                .baseDirectory(tempDir)
+                .build();
+            
+            // When
+            List<Path> files = service.discoverFiles(config);
+            
+            // Then
+            assertEquals(List.of(
+                tempDir.resolve("README.adoc"),
+                tempDir.resolve("docs/manual.adoc"),
+                tempDir.resolve("guides/start.adoc")), files);
+        }
     }
     
     @Nested
@@ -277,6 +340,287 @@ class FileDiscoveryServiceTest {
             // Then
             assertEquals(2, files.size());
         }
+        
+        @Test
+        @DisplayName("should match files below directories named like matching files")
+        void shouldMatchFilesBelowDirectoriesNamedLikeMatchingFiles() throws IOException {
+            // Given
+            Path oddDir = tempDir.resolve("old.adoc").resolve("chapters");
+            Files.createDirectories(oddDir);
+            Files.createFile(oddDir.resolve("intro.adoc"));
+            
+            CLIConfig config = CLIConfig.builder()
+                .inputPatterns(Arrays.asList("**/*.adoc"))
+                .baseDirectory(tempDir)
+                .build();
+            
+            // When
+            List<Path> files = service.discoverFiles(config);
+            
+            // Then
+            assertEquals(List.of(oddDir.resolve("intro.adoc")), files);
+        }
+        
+        @Test
+        @DisplayName("should match ** between literal segments as zero or more directories")
+        void shouldMatchDoubleWildcardBetweenLiteralSegments() throws IOException {
+            // Given
+            Files.createDirectories(tempDir.resolve("src/docs"));
+            Files.createDirectories(tempDir.resolve("src/main/docs/api"));
+            Files.createFile(tempDir.resolve("src/docs/a.adoc"));
+            Files.createFile(tempDir.resolve("src/main/docs/b.adoc"));
+            Files.createFile(tempDir.resolve("src/main/docs/api/c.adoc"));
+            
+            CLIConfig config = CLIConfig.builder()
+                .inputPatterns(Arrays.asList("src/**/docs/*.adoc"))
+                .baseDirectory(tempDir)
+                .build();
+            
+            // When
+            List<Path> files = service.discoverFiles(config);
+            
+            // Then
+            List<String> fileNames = files.stream()
+                .map(p -> p.getFileName().toString())
+                .sorted()
+                .collect(Collectors.toList());
+            assertEquals(List.of("a.adoc", "b.adoc"), fileNames);
+        }
+    }
+    
+    @Nested
+    @DisplayName("Exclusions")
+    class Exclusions {
+        
+        @Test
+        @DisplayName("should skip excluded files and directories")
+        void shouldSkipExcludedFilesAndDirectories() throws IOException {
+            // Given
+            Files.createDirectories(tempDir.resolve("build/docs"));
+            Files.createDirectories(tempDir.resolve("docs"));
+            for (String file : List.of("build/docs/copy.adoc", "docs/guide.adoc", "docs/_partial.adoc", "README.adoc")) {
+                Files.createFile(tempDir.resolve(file));
+            }
+            CLIConfig config = CLIConfig.builder()
+                .inputPatterns(Arrays.asList("**/*.adoc"))
+                .baseDirectory(tempDir)
+                .excludePatterns(List.of("build/**", "**/_*.adoc"))
+                .build();
+            
+            // When
+            List<Path> files = service.discoverFiles(config);
+            
+            // Then
+            assertEquals(Set.of(tempDir.resolve("README.adoc"), tempDir.resolve("docs/guide.adoc")),
+                new HashSet<>(files));
+        }
+        
+        @Test
+        @DisplayName("should honour ignore files with negation and directory-only patterns")
+        void shouldHonourIgnoreFiles() throws IOException {
+            // Given
+            Files.createDirectories(tempDir.resolve("docs/keep"));
+            Files.createDirectories(tempDir.resolve("tmp"));
+            Files.createDirectories(tempDir.resolve(".git"));
+            for (String file : List.of("docs/guide.adoc", "docs/keep/a.adoc", "docs/keep/b.adoc", "tmp/scratch.adoc",
+                                       "tmp.adoc", ".git/stray.adoc")) {
+                Files.createFile(tempDir.resolve(file));
+            }
+            Files.writeString(tempDir.resolve(".gitignore"), "# generated\ntmp/\n");
+            Files.writeString(tempDir.resolve("docs/.gitignore"), "keep/*\n!keep/a.adoc\n");
+            CLIConfig config = CLIConfig.builder()
+                .inputPatterns(Arrays.asList("**/*.adoc"))
+                .baseDirectory(tempDir)
+                .ignoreFilesEnabled(true)
+                .build();
+            
+            // When
+            List<Path> files = service.discoverFiles(config);
+            
+            // Then
+            assertEquals(Set.of(tempDir.resolve("docs/guide.adoc"), tempDir.resolve("docs/keep/a.adoc"),
+                                tempDir.resolve("tmp.adoc")), new HashSet<>(files));
+        }
+        
+        @Test
+        @DisplayName("should let a lintignore file override the gitignore file next to it")
+        void shouldLetLintignoreOverrideGitignore() throws IOException {
+            // Given
+            Files.createFile(tempDir.resolve("draft.adoc"));
+            Files.createFile(tempDir.resolve("guide.adoc"));
+            Files.writeString(tempDir.resolve(".gitignore"), "*.adoc\n");
+            Files.writeString(tempDir.resolve(".lintignore"), "!guide.adoc\n");
+            CLIConfig config = CLIConfig.builder()
+                .inputPatterns(Arrays.asList("*.adoc"))
+                .baseDirectory(tempDir)
+                .ignoreFilesEnabled(true)
+                .build();
+            
+            // When
+            List<Path> files = service.discoverFiles(config);
+            
+            // Then
+            assertEquals(List.of(tempDir.resolve("guide.adoc")), files);
+        }
+        
+        @Test
+        @DisplayName("should apply ignore files from the repository root down to the base directory")
+        void shouldApplyIgnoreFilesOfAncestors() throws IOException {
+            // Given
+            Path baseDir = tempDir.resolve("docs/manual");
+            Files.createDirectories(tempDir.resolve(".git/info"));
+            Files.createDirectories(baseDir.resolve("drafts"));
+            for (String file : List.of("guide.adoc", "notes.adoc", "scratch.adoc", "drafts/plan.adoc")) {
+                Files.createFile(baseDir.resolve(file));
+            }
+            Files.writeString(tempDir.resolve(".git/info/exclude"), "scratch.adoc\n");
+            Files.writeString(tempDir.resolve(".gitignore"), "notes.adoc\n");
+            Files.writeString(tempDir.resolve("docs/.gitignore"), "manual/drafts/\n");
+            CLIConfig config = CLIConfig.builder()
+                .inputPatterns(Arrays.asList("**/*.adoc"))
+                .baseDirectory(baseDir)
+                .ignoreFilesEnabled(true)
+                .build();
+
+            // When
+            List<Path> files = service.discoverFiles(config);
+
+            // Then
+            assertEquals(List.of(baseDir.resolve("guide.adoc")), files);
+        }
+
+        @Test
+        @DisplayName("should let a negation re-include a file below a trailing double wildcard")
+        void shouldReincludeBelowTrailingDoubleWildcard() throws IOException {
+            // Given
+            Files.createDirectories(tempDir.resolve("generated/api"));
+            for (String file : List.of("generated/keep.adoc", "generated/other.adoc", "generated/api/index.adoc")) {
+                Files.createFile(tempDir.resolve(file));
+            }
+            Files.writeString(tempDir.resolve(".gitignore"), "generated/**\n!generated/keep.adoc\n");
+            CLIConfig config = CLIConfig.builder()
+                .inputPatterns(Arrays.asList("**/*.adoc"))
+                .baseDirectory(tempDir)
+                .ignoreFilesEnabled(true)
+                .build();
+
+            // When
+            List<Path> files = service.discoverFiles(config);
+
+            // Then
+            assertEquals(List.of(tempDir.resolve("generated/keep.adoc")), files);
+        }
+        
+        @Test
+        @DisplayName("should not read ignore files unless enabled")
+        void shouldNotReadIgnoreFilesUnlessEnabled() throws IOException {
+            // Given
+            Files.createFile(tempDir.resolve("draft.adoc"));
+            Files.writeString(tempDir.resolve(".gitignore"), "*.adoc\n");
+            CLIConfig config = CLIConfig.builder()
+                .inputPatterns(Arrays.asList("*.adoc"))
+                .baseDirectory(tempDir)
+                .build();
+            
+            // When
+            List<Path> files = service.discoverFiles(config);
+            
+            // Then
+            assertEquals(List.of(tempDir.resolve("draft.adoc")), files);
+        }
+        
+        @Test
+        @DisplayName("should apply exclusions in parallel discovery")
+        void shouldApplyExclusionsInParallelDiscovery() throws IOException {
+            // Given
+            Files.createDirectories(tempDir.resolve("build"));
+            Files.createDirectories(tempDir.resolve("docs"));
+            Files.createFile(tempDir.resolve("build/copy.adoc"));
+            Files.createFile(tempDir.resolve("docs/guide.adoc"));
+            CLIConfig config = CLIConfig.builder()
+                .inputPatterns(Arrays.asList("**/*.adoc"))
+                .baseDirectory(tempDir)
+                .excludePatterns(List.of("build"))
+                .discoveryThreads(2)
+                .build();
+            
+            // When
+            List<Path> files = new ArrayList<>();
+            service.streamFiles(config).forEach(files::add);
+            
+            // Then
+            assertEquals(List.of(tempDir.resolve("docs/guide.adoc")), files);
+        }
+    }
+    
+    @Nested
+    @DisplayName("Parallel discovery")
+    class ParallelDiscovery {
+        
+        @Test
+        @DisplayName("should stream the same files sorted by name within each directory")
+        void shouldStreamSameFilesSortedByName() throws IOException {
+            // Given
+            for (String dir : List.of("b", "a/z", "a/c", "node_modules/x")) {
+                Files.createDirectories(tempDir.resolve(dir));
+            }
+            for (String file : List.of("b/2.adoc", "b/1.adoc", "a/z/doc.adoc", "a/c/doc.adoc", "a/readme.adoc",
+                                       "a/notes.txt", "node_modules/x/pkg.adoc", "top.adoc")) {
+                Files.createFile(tempDir.resolve(file));
+            }
+            List<String> patterns = List.of("a/**/*.adoc", "b/*.adoc", "top.adoc");
+            
+            // When
+            List<Path> files = new ArrayList<>();
+            service.streamFiles(patterns, tempDir, 4).forEach(files::add);
+            
+            // Then
+            assertEquals(List.of(
+                tempDir.resolve("top.adoc"),
+                tempDir.resolve("a/c/doc.adoc"),
+                tempDir.resolve("a/readme.adoc"),
+                tempDir.resolve("a/z/doc.adoc"),
+                tempDir.resolve("b/1.adoc"),
+                tempDir.resolve("b/2.adoc")), files);
+            assertEquals(service.discoverFiles(patterns, tempDir), files);
+        }
+        
+        @Test
+        @DisplayName("should not follow symbolic link cycles")
+        void shouldNotFollowSymbolicLinkCycles() throws IOException {
+            // Given
+            Path dir = Files.createDirectories(tempDir.resolve("docs"));
+            Files.createFile(dir.resolve("guide.adoc"));
+            try {
+                Files.createSymbolicLink(dir.resolve("loop"), dir);
+            } catch (UnsupportedOperationException | IOException e) {
+                assumeTrue(false, "Symbolic links are not supported here");
+            }
+            
+            // When
+            List<Path> files = new ArrayList<>();
+            service.streamFiles(List.of("**/*.adoc"), tempDir, 2).forEach(files::add);
+            
+            // Then
+            assertEquals(List.of(dir.resolve("guide.adoc")), files);
+        }
+        
+        @Test
+        @DisplayName("should use the sequential discovery with one thread")
+        void shouldUseSequentialDiscoveryWithOneThread() throws IOException {
+            // Given
+            Files.createFile(tempDir.resolve("doc.adoc"));
+            CLIConfig config = CLIConfig.builder()
+                .inputPatterns(Arrays.asList("*.adoc"))
+                .baseDirectory(tempDir)
+                .build();
+            
+            // When
+            Iterable<Path> files = service.streamFiles(config);
+            
+            // Then
+            assertEquals(List.of(tempDir.resolve("doc.adoc")), files);
+        }
     }
     
     @Nested
@@ -0,0 +1,100 @@
+package com.example.linter.cli;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Performance test for reading staged content through one batch process.
+ */
+@Tag("performance")
+@DisplayName("GitBlobReader Performance")
+class GitBlobReaderPerformanceTest {
+    
+    private static final int STAGED_FILES = 1_000;
+    private static final int ROUNDS = 3;
+    
+    @TempDir
+    Path repository;
+    
+    @Test
+    @DisplayName("should read 1,000 staged files faster than one git show per file")
+    void shouldReadStagedFilesFasterThanGitShow() throws Exception {
+        // Given
+        assumeTrue(git("init", "-q"), "git is not available");
+        List<Path> files = new ArrayList<>();
+        for (int i = 0; i < STAGED_FILES; i++) {
+            Path file = Path.of("docs", "part" + (i % 20), "doc" + i + ".adoc");
+            Files.createDirectories(repository.resolve(file).getParent());
+            Files.writeString(repository.resolve(file), ("= Document " + i + "\n\n== Section\n\nContent.\n").repeat(10));
+            files.add(file);
+        }
+        assertTrue(git("add", "."));
+        
+        // When
+        long batchBest = Long.MAX_VALUE;
+        long showBest = Long.MAX_VALUE;
+        long batchChars = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            long start = System.nanoTime();
+            batchChars = 0;
+            try (GitBlobReader reader = GitBlobReader.open(repository)) {
+                for (Path file : files) {
+                    batchChars += reader.read(file).length();
+                }
+            }
+            batchBest = Math.min(batchBest, System.nanoTime() - start);
+            
+            start = System.nanoTime();
+            long showChars = 0;
+            for (Path file : files) {
+                showChars += gitShow(file).length();
+            }
+            showBest = Math.min(showBest, System.nanoTime() - start);
+            assertEquals(showChars, batchChars);
+        }
+        
+        // Then
+        System.out.printf("%d staged files: cat-file --batch %.1f ms (%.0f files/s), git show per file %.1f ms, "
+            + "speedup: %.1fx%n", STAGED_FILES, batchBest / 1_000_000.0, STAGED_FILES * 1e9 / batchBest,
+            showBest / 1_000_000.0, (double) showBest / batchBest);
+        assertTrue(batchBest < showBest, "One batch process should beat a process per file");
+    }
+    
+    private String gitShow(Path file) throws IOException, InterruptedException {
+        Process process = new ProcessBuilder("git", "show", ":" + file.toString().replace('\\', '/'))
+            .directory(repository.toFile())
+            .redirectError(ProcessBuilder.Redirect.DISCARD)
+            .start();
+        String content = new String(process.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+        process.waitFor();
+        return content;
+    }
+    
+    private boolean git(String... args) throws IOException, InterruptedException {
+        List<String> command = new ArrayList<>(List.of("git"));
+        command.addAll(List.of(args));
+        try {
+            Process process = new ProcessBuilder(command)
+                .directory(repository.toFile())
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .start();
+            return process.waitFor() == 0;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+}
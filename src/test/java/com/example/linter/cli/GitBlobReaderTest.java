@@ -0,0 +1,92 @@
+package com.example.linter.cli;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@DisplayName("GitBlobReader")
+class GitBlobReaderTest {
+    
+    @TempDir
+    Path repository;
+    
+    @BeforeEach
+    void setUp() throws IOException, InterruptedException {
+        assumeTrue(git("init", "-q"), "git is not available");
+        Files.createDirectories(repository.resolve("docs"));
+    }
+    
+    @Test
+    @DisplayName("should read the staged content rather than the working tree")
+    void shouldReadStagedContent() throws Exception {
+        // Given
+        Files.writeString(repository.resolve("docs/guide.adoc"), "= Guide\n\nStaged ümlaut.\n");
+        assertTrue(git("add", "docs/guide.adoc"));
+        Files.writeString(repository.resolve("docs/guide.adoc"), "= Guide\n\nNot staged.\n");
+        
+        // When
+        try (GitBlobReader reader = GitBlobReader.open(repository)) {
+            String relative = reader.read(Path.of("docs/guide.adoc"));
+            String absolute = reader.read(repository.resolve("docs/guide.adoc"));
+            
+            // Then
+            assertEquals("= Guide\n\nStaged ümlaut.\n", relative);
+            assertEquals(relative, absolute);
+        }
+    }
+    
+    @Test
+    @DisplayName("should report documents by repository path and locate them in the working tree")
+    void shouldReportRepositoryPaths() throws Exception {
+        try (GitBlobReader reader = GitBlobReader.open(repository)) {
+            assertEquals("docs/guide.adoc", reader.describe(repository.resolve("docs/guide.adoc")));
+            assertEquals(repository.resolve("docs/guide.adoc").toAbsolutePath(), 
+                reader.locate(Path.of("docs/guide.adoc")));
+        }
+    }
+    
+    @Test
+    @DisplayName("should keep serving files after one that is not staged")
+    void shouldKeepServingAfterMissingFile() throws Exception {
+        // Given
+        Files.writeString(repository.resolve("docs/guide.adoc"), "= Guide\n");
+        assertTrue(git("add", "docs/guide.adoc"));
+        
+        // When
+        try (GitBlobReader reader = GitBlobReader.open(repository)) {
+            assertThrows(NoSuchFileException.class, () -> reader.read(Path.of("docs/untracked.adoc")));
+            assertThrows(IOException.class, () -> reader.read(Path.of("docs")));
+            
+            // Then
+            assertEquals("= Guide\n", reader.read(Path.of("docs/guide.adoc")));
+        }
+    }
+    
+    private boolean git(String... args) throws IOException, InterruptedException {
+        List<String> command = new ArrayList<>(List.of("git"));
+        command.addAll(List.of(args));
+        try {
+            Process process = new ProcessBuilder(command)
+                .directory(repository.toFile())
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .start();
+            return process.waitFor() == 0;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.linter.cli;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@DisplayName("GitChangeSet")
+class GitChangeSetTest {
+    
+    @TempDir
+    Path repository;
+    
+    @BeforeEach
+    void setUp() throws IOException, InterruptedException {
+        assumeTrue(git("init", "-q"), "git is not available");
+        Files.createDirectories(repository.resolve("docs"));
+        Files.writeString(repository.resolve("docs/guide.adoc"), "= Guide\n");
+        Files.writeString(repository.resolve("docs/stable.adoc"), "= Stable\n");
+        Files.writeString(repository.resolve("removed.adoc"), "= Removed\n");
+        assertTrue(git("add", "."));
+        assertTrue(git("commit", "-q", "-m", "Initial"));
+    }
+    
+    @Test
+    @DisplayName("should report modified, staged and untracked files since a ref")
+    void shouldReportFilesChangedSinceRef() throws Exception {
+        // Given
+        Files.writeString(repository.resolve("docs/guide.adoc"), "= Guide\n\nChanged.\n");
+        Files.writeString(repository.resolve("docs/staged.adoc"), "= Staged\n");
+        assertTrue(git("add", "docs/staged.adoc"));
+        Files.writeString(repository.resolve("docs/new draft.adoc"), "= Draft\n");
+        Files.delete(repository.resolve("removed.adoc"));
+        
+        // When
+        GitChangeSet changes = GitChangeSet.changedSince(repository.resolve("docs"), "HEAD");
+        
+        // Then
+        assertEquals(3, changes.size());
+        assertTrue(changes.contains(repository.resolve("docs/guide.adoc")));
+        assertTrue(changes.contains(repository.resolve("docs/staged.adoc")));
+        assertTrue(changes.contains(repository.resolve("docs/new draft.adoc")));
+        assertFalse(changes.contains(repository.resolve("docs/stable.adoc")));
+    }
+    
+    @Test
+    @DisplayName("should report only staged files")
+    void shouldReportOnlyStagedFiles() throws Exception {
+        // Given
+        Files.writeString(repository.resolve("docs/guide.adoc"), "= Guide\n\nChanged.\n");
+        Files.writeString(repository.resolve("docs/staged.adoc"), "= Staged\n");
+        assertTrue(git("add", "docs/staged.adoc"));
+        
+        // When
+        GitChangeSet changes = GitChangeSet.staged(repository);
+        
+        // Then
+        assertEquals(1, changes.size());
+        assertTrue(changes.contains(repository.resolve("docs/staged.adoc")));
+    }
+    
+    @Test
+    @DisplayName("should fail for an unknown ref")
+    void shouldFailForUnknownRef() {
+        IOException exception = assertThrows(IOException.class,
+            () -> GitChangeSet.changedSince(repository, "no-such-branch"));
+        assertTrue(exception.getMessage().startsWith("git diff failed"));
+    }
+    
+    private boolean git(String... args) throws IOException, InterruptedException {
+        List<String> command = new ArrayList<>(List.of("git", "-c", "user.name=Test", "-c", "user.email=test@example.com",
+                                                       "-c", "commit.gpgsign=false"));
+        command.addAll(List.of(args));
+        try {
+            Process process = new ProcessBuilder(command)
+                .directory(repository.toFile())
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .start();
+            return process.waitFor() == 0;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+}
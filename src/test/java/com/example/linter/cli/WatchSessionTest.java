@@ -0,0 +1,164 @@
+package com.example.linter.cli;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@DisplayName("WatchSession")
+class WatchSessionTest {
+
+    private static final String REQUIRE_AUTHOR = """
+        document:
+          metadata:
+            attributes:
+              - name: author
+                required: true
+                severity: error
+        """;
+
+    @TempDir
+    Path tempDir;
+
+    private ByteArrayOutputStream status;
+    private WatchSession session;
+    private CompletableFuture<Integer> running;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        status = new ByteArrayOutputStream();
+        Files.createDirectories(tempDir.resolve("docs"));
+        Files.writeString(tempDir.resolve("docs/a.adoc"), "= A\nJane Doe\n\nContent");
+        Files.writeString(tempDir.resolve("docs/b.adoc"), "= B\nJane Doe\n\nContent");
+        Files.writeString(tempDir.resolve("rules.yaml"), REQUIRE_AUTHOR);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        if (session != null) {
+            session.close();
+            running.get(30, TimeUnit.SECONDS);
+        }
+    }
+
+    private void startSession() throws Exception {
+        CLIConfig config = CLIConfig.builder()
+            .inputPatterns(List.of("docs/**/*.adoc"))
+            .baseDirectory(tempDir)
+            .configFile(tempDir.resolve("rules.yaml"))
+            .reportFormat("json")
+            .reportOutput(tempDir.resolve("report.json"))
+            .watch(true)
+            .build();
+        session = new WatchSession(config, new PrintStream(status, true, StandardCharsets.UTF_8),
+                                   Duration.ofMillis(50));
+        running = CompletableFuture.supplyAsync(() -> {
+            try {
+                return session.run();
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        awaitStatus("Watching 2 files");
+    }
+
+    private void awaitStatus(String expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 30_000;
+        while (!status().contains(expected) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertTrue(status().contains(expected), "Missing '" + expected + "' in:\n" + status());
+    }
+
+    private String status() {
+        return status.toString(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    @DisplayName("should re-validate only the file that changed")
+    void shouldRevalidateOnlyChangedFile() throws Exception {
+        // Given
+        Files.writeString(tempDir.resolve("docs/b.adoc"), "= B\n\nNo author");
+        startSession();
+        awaitStatus("1 errors, 0 warnings, 0 infos in 2 files");
+
+        // When
+        Files.writeString(tempDir.resolve("docs/a.adoc"), "= A\n\nNo author any more");
+
+        // Then
+        awaitStatus("Re-validated 1 of 2 files");
+        awaitStatus("2 errors, 0 warnings, 0 infos in 2 files");
+        String report = Files.readString(tempDir.resolve("report.json"));
+        assertTrue(report.contains("a.adoc") && report.contains("b.adoc"), report);
+    }
+
+    @Test
+    @DisplayName("should pick up new and removed files")
+    void shouldPickUpNewAndRemovedFiles() throws Exception {
+        // Given
+        startSession();
+
+        // When
+        Files.createDirectories(tempDir.resolve("docs/new"));
+        Files.writeString(tempDir.resolve("docs/new/c.adoc"), "= C\n\nNo author");
+
+        // Then
+        awaitStatus("1 errors, 0 warnings, 0 infos in 3 files");
+
+        // When
+        Files.delete(tempDir.resolve("docs/new/c.adoc"));
+
+        // Then
+        awaitStatus("Removed " + tempDir.resolve("docs/new/c.adoc"));
+        awaitStatus("0 errors, 0 warnings, 0 infos in 2 files");
+    }
+
+    @Test
+    @DisplayName("should recompile the configuration and re-validate everything when it changes")
+    void shouldRevalidateEverythingWhenConfigurationChanges() throws Exception {
+        // Given
+        startSession();
+
+        // When
+        Files.writeString(tempDir.resolve("rules.yaml"), REQUIRE_AUTHOR + """
+                  - name: revision
+                    required: true
+                    severity: warn
+            """);
+
+        // Then
+        awaitStatus("Configuration changed");
+        awaitStatus("Re-validated 2 of 2 files");
+        awaitStatus("0 errors, 2 warnings, 0 infos in 2 files");
+    }
+
+    @Test
+    @DisplayName("should return the exit code of the last results when closed")
+    void shouldReturnExitCodeOfLastResults() throws Exception {
+        // Given
+        Files.writeString(tempDir.resolve("docs/b.adoc"), "= B\n\nNo author");
+        startSession();
+
+        // When
+        session.close();
+
+        // Then
+        assertEquals(1, running.get(30, TimeUnit.SECONDS));
+        session = null;
+    }
+}
@@ -1,18 +1,22 @@
 package com.example.linter.report;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.nio.file.Path;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import com.example.linter.ResultSink;
 import com.example.linter.config.Severity;
 import com.example.linter.config.output.DisplayConfig;
+import com.example.linter.config.output.ErrorGroupingConfig;
 import com.example.linter.config.output.OutputConfiguration;
 import com.example.linter.config.output.OutputFormat;
 import com.example.linter.validator.SourceLocation;
@@ -93,6 +97,24 @@ class ConsoleFormatterTest {
             assertTrue(output.contains("Summary: 1 error, 0 warnings, 0 info messages"));
         }
         
+        @Test
+        @DisplayName("should show cache statistics when the result cache was used")
+        void shouldShowCacheStatisticsWhenResultCacheWasUsed() {
+            // Given
+            ValidationResult result = ValidationResult.builder()
+                .cacheHits(3)
+                .cacheMisses(1)
+                .complete()
+                .build();
+            
+            // When
+            formatter.format(result, printWriter);
+            printWriter.flush();
+            
+            // Then
+            assertTrue(stringWriter.toString().contains("Cache hits:              3 of 4 (1 miss)"));
+        }
+        
         @Test
         @DisplayName("should return correct name")
         void shouldReturnCorrectName() {
@@ -241,6 +263,97 @@ class ConsoleFormatterTest {
         }
     }
     
+    @Nested
+    @DisplayName("Streaming Sink")
+    class StreamingSink {
+        
+        private ValidationResult resultFor(String filename, Severity severity, int line) {
+            return ValidationResult.builder()
+                .addMessage(ValidationMessage.builder()
+                    .severity(severity)
+                    .ruleId("test-rule")
+                    .location(SourceLocation.builder()
+                        .filename(filename)
+                        .startLine(line)
+                        .build())
+                    .message("Problem in " + filename)
+                    .build())
+                .complete()
+                .build();
+        }
+        
+        @Test
+        @DisplayName("should write each file as soon as its result arrives")
+        void shouldWriteEachFileAsSoonAsItsResultArrives() {
+            // Given
+            OutputConfiguration config = OutputConfiguration.builder()
+                .format(OutputFormat.SIMPLE)
+                .display(DisplayConfig.builder()
+                    .useColors(false)
+                    .build())
+                .errorGrouping(ErrorGroupingConfig.builder()
+                    .enabled(false)
+                    .build())
+                .build();
+            ResultSink sink = new ConsoleFormatter(config).openSink(printWriter);
+            
+            // When
+            sink.onResult(Path.of("file1.adoc"), resultFor("file1.adoc", Severity.ERROR, 3));
+            String afterFirstFile = stringWriter.toString();
+            sink.onResult(Path.of("file2.adoc"), resultFor("file2.adoc", Severity.WARN, 7));
+            sink.onComplete();
+            
+            // Then
+            assertTrue(afterFirstFile.contains("file1.adoc:"));
+            assertTrue(afterFirstFile.contains("Line 3, Column 1: [ERROR] Problem in file1.adoc"));
+            assertFalse(afterFirstFile.contains("Summary:"));
+            String output = stringWriter.toString();
+            assertTrue(output.indexOf("file1.adoc:") < output.indexOf("file2.adoc:"));
+            assertTrue(output.contains("Summary: 1 error, 1 warning, 0 info messages"));
+        }
+        
+        @Test
+        @DisplayName("should report no issues when no file had messages")
+        void shouldReportNoIssuesWhenNoFileHadMessages() {
+            // Given
+            OutputConfiguration config = OutputConfiguration.builder()
+                .format(OutputFormat.SIMPLE)
+                .display(DisplayConfig.builder()
+                    .useColors(false)
+                    .build())
+                .errorGrouping(ErrorGroupingConfig.builder()
+                    .enabled(false)
+                    .build())
+                .build();
+            ResultSink sink = new ConsoleFormatter(config).openSink(printWriter);
+            
+            // When
+            sink.onResult(Path.of("clean.adoc"), ValidationResult.builder().complete().build());
+            sink.onComplete();
+            
+            // Then
+            String output = stringWriter.toString();
+            assertTrue(output.contains("No validation issues found."));
+            assertTrue(output.contains("Summary: 0 errors, 0 warnings, 0 info messages"));
+        }
+        
+        @Test
+        @DisplayName("should defer output until complete when grouping errors")
+        void shouldDeferOutputUntilCompleteWhenGroupingErrors() {
+            // Given
+            ResultSink sink = formatter.openSink(printWriter);
+            
+            // When
+            sink.onResult(Path.of("file1.adoc"), resultFor("file1.adoc", Severity.ERROR, 3));
+            String beforeComplete = stringWriter.toString();
+            sink.onComplete();
+            
+            // Then
+            assertEquals("", beforeComplete);
+            assertTrue(stringWriter.toString().contains("Summary: 1 error, 0 warnings, 0 info messages"));
+        }
+    }
+    
     @Nested
     @DisplayName("Color Support")
     class ColorSupport {
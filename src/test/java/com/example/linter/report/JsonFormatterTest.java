@@ -6,17 +6,24 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import com.example.linter.ResultSink;
 import com.example.linter.config.Severity;
 import com.example.linter.validator.SourceLocation;
 import com.example.linter.validator.ValidationMessage;
 import com.example.linter.validator.ValidationResult;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import com.jayway.jsonpath.JsonPath;
 
 @DisplayName("JsonFormatter")
@@ -291,4 +298,129 @@ class JsonFormatterTest {
             assertEquals("2.500s", JsonPath.read(output, "$.duration"));
         }
     }
-}
\ No newline at end of file
+    
+    @Nested
+    @DisplayName("Streaming")
+    class Streaming {
+        
+        private ValidationMessage message(String filename, Severity severity, String text) {
+            return ValidationMessage.builder()
+                .severity(severity)
+                .ruleId("test-rule")
+                .location(SourceLocation.builder()
+                    .filename(filename)
+                    .startLine(3)
+                    .startColumn(7)
+                    .build())
+                .message(text)
+                .actualValue("\"quoted\"")
+                .build();
+        }
+        
+        @Test
+        @DisplayName("should write the same bytes as serializing the report tree")
+        void shouldWriteSameBytesAsReportTree() throws Exception {
+            for (boolean prettyPrint : new boolean[] {true, false}) {
+                // Given
+                JsonFormatter jsonFormatter = new JsonFormatter("json", prettyPrint);
+                ValidationResult result = ValidationResult.builder()
+                    .addMessage(message("a.adoc", Severity.ERROR, "First"))
+                    .addMessage(message("b.adoc", Severity.INFO, "Second"))
+                    .startTime(1000)
+                    .endTime(1250)
+                    .build();
+                StringWriter streamed = new StringWriter();
+                
+                // When
+                jsonFormatter.format(result, new PrintWriter(streamed));
+                
+                // Then
+                Map<String, Object> root = new LinkedHashMap<>();
+                root.put("timestamp", JsonPath.read(streamed.toString(), "$.timestamp"));
+                root.put("duration", "250ms");
+                Map<String, Object> summary = new LinkedHashMap<>();
+                summary.put("totalMessages", 2);
+                summary.put("errors", 1);
+                summary.put("warnings", 0);
+                summary.put("infos", 1);
+                root.put("summary", summary);
+                List<Map<String, Object>> messages = new ArrayList<>();
+                for (ValidationMessage msg : result.getMessages()) {
+                    Map<String, Object> msgMap = new LinkedHashMap<>();
+                    msgMap.put("file", msg.getLocation().getFilename());
+                    msgMap.put("line", 3);
+                    msgMap.put("column", 7);
+                    msgMap.put("severity", msg.getSeverity().toString());
+                    msgMap.put("message", msg.getMessage());
+                    msgMap.put("ruleId", "test-rule");
+                    msgMap.put("actualValue", "\"quoted\"");
+                    messages.add(msgMap);
+                }
+                root.put("messages", messages);
+                ObjectMapper objectMapper = new ObjectMapper();
+                if (prettyPrint) {
+                    objectMapper.enable(SerializationFeature.INDENT_OUTPUT);
+                }
+                assertEquals(objectMapper.writeValueAsString(root), streamed.toString());
+            }
+        }
+        
+        @Test
+        @DisplayName("should write messages before the sink completes")
+        void shouldWriteMessagesBeforeCompletion() {
+            // Given
+            ResultSink sink = formatter.openSink(printWriter);
+            
+            // When
+            sink.onResult(Path.of("a.adoc"), ValidationResult.builder()
+                .addMessage(message("a.adoc", Severity.ERROR, "Streamed early"))
+                .build());
+            
+            // Then
+            assertTrue(stringWriter.toString().contains("Streamed early"));
+        }
+        
+        @Test
+        @DisplayName("should write summary counts after all results")
+        void shouldWriteSummaryAfterAllResults() {
+            // Given
+            ResultSink sink = formatter.openSink(printWriter);
+            
+            // When
+            sink.onResult(Path.of("a.adoc"), ValidationResult.builder()
+                .addMessage(message("a.adoc", Severity.ERROR, "First"))
+                .addMessage(message("a.adoc", Severity.WARN, "Second"))
+                .build());
+            sink.onResult(Path.of("b.adoc"), ValidationResult.builder().build());
+            sink.onResult(Path.of("c.adoc"), ValidationResult.builder()
+                .addMessage(message("c.adoc", Severity.ERROR, "Third"))
+                .build());
+            sink.onComplete();
+            
+            // Then
+            String output = stringWriter.toString();
+            assertEquals(3, (int) JsonPath.read(output, "$.summary.totalMessages"));
+            assertEquals(2, (int) JsonPath.read(output, "$.summary.errors"));
+            assertEquals(1, (int) JsonPath.read(output, "$.summary.warnings"));
+            assertEquals(0, (int) JsonPath.read(output, "$.summary.infos"));
+            assertEquals(List.of("First", "Second", "Third"), JsonPath.read(output, "$.messages[*].message"));
+            assertNotNull(JsonPath.read(output, "$.duration"));
+            assertTrue(output.indexOf("\"summary\"") > output.indexOf("Third"));
+        }
+        
+        @Test
+        @DisplayName("should write an empty report when no results arrive")
+        void shouldWriteEmptyReport() {
+            // Given
+            ResultSink sink = JsonFormatter.compact().openSink(printWriter);
+            
+            // When
+            sink.onComplete();
+            
+            // Then
+            String output = stringWriter.toString();
+            assertTrue(((List<?>) JsonPath.read(output, "$.messages")).isEmpty());
+            assertEquals(0, (int) JsonPath.read(output, "$.summary.totalMessages"));
+        }
+    }
+}
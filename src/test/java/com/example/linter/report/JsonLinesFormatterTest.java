@@ -0,0 +1,164 @@
+package com.example.linter.report;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.example.linter.ResultSink;
+import com.example.linter.config.Severity;
+import com.example.linter.validator.SourceLocation;
+import com.example.linter.validator.ValidationMessage;
+import com.example.linter.validator.ValidationResult;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@DisplayName("JsonLinesFormatter")
+class JsonLinesFormatterTest {
+
+    private JsonLinesFormatter formatter;
+    private ObjectMapper objectMapper;
+    private StringWriter stringWriter;
+    private PrintWriter printWriter;
+
+    @BeforeEach
+    void setUp() {
+        formatter = new JsonLinesFormatter();
+        objectMapper = new ObjectMapper();
+        stringWriter = new StringWriter();
+        printWriter = new PrintWriter(stringWriter);
+    }
+
+    private ValidationMessage message(String filename, Severity severity, String text) {
+        return ValidationMessage.builder()
+            .severity(severity)
+            .ruleId("test-rule")
+            .location(SourceLocation.builder()
+                .filename(filename)
+                .startLine(4)
+                .build())
+            .message(text)
+            .build();
+    }
+
+    private String[] records() {
+        String output = stringWriter.toString();
+        assertTrue(output.endsWith("\n"), "Every record should end with a line break");
+        return output.split("\n");
+    }
+
+    @Test
+    @DisplayName("should return correct name")
+    void shouldReturnCorrectName() {
+        assertEquals("jsonl", formatter.getName());
+    }
+
+    @Nested
+    @DisplayName("Records")
+    class Records {
+
+        @Test
+        @DisplayName("should write one record per message and a summary record")
+        void shouldWriteOneRecordPerMessage() throws Exception {
+            // Given
+            ValidationResult result = ValidationResult.builder()
+                .addMessage(message("a.adoc", Severity.ERROR, "First \"quoted\"\nsecond line"))
+                .addMessage(message("b.adoc", Severity.WARN, "Second"))
+                .startTime(1000)
+                .endTime(1200)
+                .build();
+
+            // When
+            formatter.format(result, printWriter);
+
+            // Then
+            String[] records = records();
+            assertEquals(3, records.length);
+
+            JsonNode first = objectMapper.readTree(records[0]);
+            assertEquals("message", first.get("type").asText());
+            assertEquals("a.adoc", first.get("file").asText());
+            assertEquals(4, first.get("line").asInt());
+            assertEquals("ERROR", first.get("severity").asText());
+            assertEquals("First \"quoted\"\nsecond line", first.get("message").asText());
+            assertEquals("test-rule", first.get("ruleId").asText());
+
+            JsonNode summary = objectMapper.readTree(records[2]);
+            assertEquals("summary", summary.get("type").asText());
+            assertEquals("200ms", summary.get("duration").asText());
+            assertEquals(2, summary.get("totalMessages").asInt());
+            assertEquals(1, summary.get("errors").asInt());
+            assertEquals(1, summary.get("warnings").asInt());
+            assertEquals(0, summary.get("infos").asInt());
+        }
+
+        @Test
+        @DisplayName("should write only the summary record for an empty result")
+        void shouldWriteOnlySummaryForEmptyResult() throws Exception {
+            // When
+            formatter.format(ValidationResult.builder().complete().build(), printWriter);
+
+            // Then
+            String[] records = records();
+            assertEquals(1, records.length);
+            assertEquals(0, objectMapper.readTree(records[0]).get("totalMessages").asInt());
+        }
+    }
+
+    @Nested
+    @DisplayName("Streaming")
+    class Streaming {
+
+        @Test
+        @DisplayName("should write each file's records when its result arrives")
+        void shouldWriteRecordsAsResultsArrive() {
+            // Given
+            ResultSink sink = formatter.openSink(printWriter);
+
+            // When
+            sink.onResult(Path.of("a.adoc"), ValidationResult.builder()
+                .addMessage(message("a.adoc", Severity.ERROR, "Streamed early"))
+                .build());
+
+            // Then
+            String output = stringWriter.toString();
+            assertTrue(output.contains("Streamed early"));
+            assertFalse(output.contains("\"summary\""));
+        }
+
+        @Test
+        @DisplayName("should total all results in the summary record")
+        void shouldTotalAllResults() throws Exception {
+            // Given
+            ResultSink sink = formatter.openSink(printWriter);
+
+            // When
+            sink.onResult(Path.of("a.adoc"), ValidationResult.builder()
+                .addMessage(message("a.adoc", Severity.ERROR, "First"))
+                .build());
+            sink.onResult(Path.of("b.adoc"), ValidationResult.builder().build());
+            sink.onResult(Path.of("c.adoc"), ValidationResult.builder()
+                .addMessage(message("c.adoc", Severity.INFO, "Second"))
+                .addMessage(message("c.adoc", Severity.ERROR, "Third"))
+                .build());
+            sink.onComplete();
+
+            // Then
+            String[] records = records();
+            assertEquals(4, records.length);
+            assertEquals("c.adoc", objectMapper.readTree(records[2]).get("file").asText());
+            JsonNode summary = objectMapper.readTree(records[3]);
+            assertEquals(3, summary.get("totalMessages").asInt());
+            assertEquals(2, summary.get("errors").asInt());
+            assertEquals(1, summary.get("infos").asInt());
+        }
+    }
+}
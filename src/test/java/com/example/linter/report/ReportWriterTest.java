@@ -6,9 +6,12 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Set;
+import java.util.zip.GZIPInputStream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -56,6 +59,8 @@ class ReportWriterTest {
             // Console formatter is created dynamically now
             assertTrue(formats.contains("json"));
             assertTrue(formats.contains("json-compact"));
+            assertTrue(formats.contains("jsonl"));
+            assertTrue(formats.contains("sarif"));
         }
         
         @Test
@@ -147,6 +152,25 @@ class ReportWriterTest {
             assertTrue(content.contains("\"message\" : \"Test error\""));
         }
         
+        @Test
+        @DisplayName("should compress files ending in .gz")
+        void shouldCompressGzipFiles() throws IOException {
+            // Given
+            Path outputFile = tempDir.resolve("report.jsonl.gz");
+            
+            // When
+            writer.write(sampleResult, "jsonl", outputFile.toString());
+            
+            // Then
+            try (InputStream in = new GZIPInputStream(Files.newInputStream(outputFile))) {
+                String content = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+                String[] records = content.split("\n");
+                assertEquals(2, records.length);
+                assertTrue(records[0].contains("\"message\":\"Test error\""));
+                assertTrue(records[1].contains("\"type\":\"summary\""));
+            }
+        }
+        
         @Test
         @DisplayName("should accept Path object")
         void shouldAcceptPathObject() throws IOException {
@@ -0,0 +1,305 @@
+package com.example.linter.report;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.example.linter.Linter;
+import com.example.linter.ResultSink;
+import com.example.linter.config.Severity;
+import com.example.linter.validator.SourceLocation;
+import com.example.linter.validator.Suggestion;
+import com.example.linter.validator.ValidationMessage;
+import com.example.linter.validator.ValidationResult;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@DisplayName("SarifFormatter")
+class SarifFormatterTest {
+
+    private SarifFormatter formatter;
+    private ObjectMapper objectMapper;
+    private StringWriter stringWriter;
+    private PrintWriter printWriter;
+
+    @BeforeEach
+    void setUp() {
+        formatter = new SarifFormatter();
+        objectMapper = new ObjectMapper();
+        stringWriter = new StringWriter();
+        printWriter = new PrintWriter(stringWriter);
+    }
+
+    private ValidationMessage message(String ruleId, Severity severity, String filename, int line) {
+        return ValidationMessage.builder()
+            .severity(severity)
+            .ruleId(ruleId)
+            .location(SourceLocation.builder()
+                .filename(filename)
+                .line(line)
+                .build())
+            .message("Violates " + ruleId)
+            .build();
+    }
+
+    private JsonNode run() throws Exception {
+        JsonNode log = objectMapper.readTree(stringWriter.toString());
+        assertEquals(1, log.get("runs").size());
+        return log.get("runs").get(0);
+    }
+
+    @Test
+    @DisplayName("should return correct name")
+    void shouldReturnCorrectName() {
+        assertEquals("sarif", formatter.getName());
+    }
+
+    @Nested
+    @DisplayName("Log Structure")
+    class LogStructure {
+
+        @Test
+        @DisplayName("should write an empty run for an empty result")
+        void shouldWriteEmptyRun() throws Exception {
+            // When
+            formatter.format(ValidationResult.builder().complete().build(), printWriter);
+
+            // Then
+            JsonNode log = objectMapper.readTree(stringWriter.toString());
+            assertEquals("2.1.0", log.get("version").asText());
+            assertEquals(SarifFormatter.SCHEMA, log.get("$schema").asText());
+            JsonNode run = run();
+            assertEquals(0, run.get("results").size());
+            assertEquals(SarifFormatter.TOOL_NAME, run.at("/tool/driver/name").asText());
+            assertEquals(Linter.VERSION, run.at("/tool/driver/version").asText());
+            assertEquals(0, run.at("/tool/driver/rules").size());
+        }
+
+        @Test
+        @DisplayName("should map severities to SARIF levels")
+        void shouldMapSeveritiesToLevels() throws Exception {
+            // Given
+            ValidationResult result = ValidationResult.builder()
+                .addMessage(message("a", Severity.ERROR, "doc.adoc", 1))
+                .addMessage(message("b", Severity.WARN, "doc.adoc", 2))
+                .addMessage(message("c", Severity.INFO, "doc.adoc", 3))
+                .build();
+
+            // When
+            formatter.format(result, printWriter);
+
+            // Then
+            JsonNode results = run().get("results");
+            assertEquals("error", results.get(0).get("level").asText());
+            assertEquals("warning", results.get(1).get("level").asText());
+            assertEquals("note", results.get(2).get("level").asText());
+        }
+
+        @Test
+        @DisplayName("should write file locations with line regions")
+        void shouldWriteLocations() throws Exception {
+            // Given
+            ValidationResult result = ValidationResult.builder()
+                .addMessage(message("a", Severity.ERROR, "docs/my guide.adoc", 12))
+                .build();
+
+            // When
+            formatter.format(result, printWriter);
+
+            // Then
+            JsonNode location = run().get("results").get(0).at("/locations/0/physicalLocation");
+            assertEquals("docs/my%20guide.adoc", location.at("/artifactLocation/uri").asText());
+            assertEquals(12, location.at("/region/startLine").asInt());
+            assertTrue(location.at("/region/startColumn").isMissingNode());
+        }
+
+        @Test
+        @DisplayName("should write absolute paths as file URIs")
+        void shouldWriteAbsolutePathsAsFileUris() {
+            // Given
+            Path absolute = Path.of("doc.adoc").toAbsolutePath();
+
+            // When
+            String uri = SarifFormatter.toUri(absolute.toString());
+
+            // Then
+            assertEquals(absolute.toUri().toASCIIString(), uri);
+        }
+    }
+
+    @Nested
+    @DisplayName("Rules")
+    class Rules {
+
+        @Test
+        @DisplayName("should describe each rule once and reference it by index")
+        void shouldDescribeEachRuleOnce() throws Exception {
+            // Given
+            ResultSink sink = formatter.openSink(printWriter);
+
+            // When
+            sink.onResult(Path.of("a.adoc"), ValidationResult.builder()
+                .addMessage(message("metadata.required", Severity.ERROR, "a.adoc", 1))
+                .addMessage(message("section.order", Severity.WARN, "a.adoc", 5))
+                .build());
+            sink.onResult(Path.of("b.adoc"), ValidationResult.builder()
+                .addMessage(message("section.order", Severity.WARN, "b.adoc", 7))
+                .addMessage(message("metadata.required", Severity.ERROR, "b.adoc", 1))
+                .build());
+            sink.onComplete();
+
+            // Then
+            JsonNode run = run();
+            JsonNode rules = run.at("/tool/driver/rules");
+            assertEquals(2, rules.size());
+            assertEquals("metadata.required", rules.get(0).get("id").asText());
+            assertEquals("section.order", rules.get(1).get("id").asText());
+            assertEquals("Metadata required", rules.get(0).at("/shortDescription/text").asText());
+            assertTrue(rules.get(1).at("/defaultConfiguration").isMissingNode());
+
+            JsonNode results = run.get("results");
+            assertEquals(4, results.size());
+            for (JsonNode result : results) {
+                int index = result.get("ruleIndex").asInt();
+                assertEquals(rules.get(index).get("id").asText(), result.get("ruleId").asText());
+            }
+        }
+
+        @Test
+        @DisplayName("should describe rules by their ID")
+        void shouldDescribeRulesByTheirId() {
+            assertEquals("Table caption max length", SarifFormatter.describe("table.caption.maxLength"));
+            assertEquals("Section min occurrences", SarifFormatter.describe("section.min-occurrences"));
+            assertEquals("Include cycle", SarifFormatter.describe("include-cycle"));
+        }
+
+        @Test
+        @DisplayName("should write results before the sink completes")
+        void shouldWriteResultsBeforeCompletion() {
+            // Given
+            ResultSink sink = formatter.openSink(printWriter);
+
+            // When
+            sink.onResult(Path.of("a.adoc"), ValidationResult.builder()
+                .addMessage(message("metadata.required", Severity.ERROR, "a.adoc", 1))
+                .build());
+
+            // Then
+            String output = stringWriter.toString();
+            assertTrue(output.contains("Violates metadata.required"));
+            assertFalse(output.contains("\"rules\""));
+        }
+    }
+
+    @Nested
+    @DisplayName("Fixes")
+    class Fixes {
+
+        private ValidationMessage messageWithSuggestion(SourceLocation location) {
+            return ValidationMessage.builder()
+                .severity(Severity.ERROR)
+                .ruleId("metadata.pattern")
+                .location(location)
+                .message("Value does not match the pattern")
+                .actualValue("v1")
+                .addSuggestion(Suggestion.builder()
+                    .description("Use a version number")
+                    .fixedValue("1.0.0")
+                    .build())
+                .addSuggestion(Suggestion.builder()
+                    .description("Check the documentation")
+                    .build())
+                .build();
+        }
+
+        @Test
+        @DisplayName("should turn fixed values into replacements of the message's columns")
+        void shouldWriteFixesForColumnRanges() throws Exception {
+            // Given
+            ValidationResult result = ValidationResult.builder()
+                .addMessage(messageWithSuggestion(SourceLocation.builder()
+                    .filename("doc.adoc")
+                    .line(3)
+                    .columns(11, 15)
+                    .build()))
+                .build();
+
+            // When
+            formatter.format(result, printWriter);
+
+            // Then
+            JsonNode sarifResult = run().get("results").get(0);
+            assertEquals(11, sarifResult.at("/locations/0/physicalLocation/region/startColumn").asInt());
+            assertEquals(16, sarifResult.at("/locations/0/physicalLocation/region/endColumn").asInt());
+
+            JsonNode fixes = sarifResult.get("fixes");
+            assertEquals(1, fixes.size());
+            assertEquals("Use a version number", fixes.get(0).at("/description/text").asText());
+            JsonNode change = fixes.get(0).at("/artifactChanges/0");
+            assertEquals("doc.adoc", change.at("/artifactLocation/uri").asText());
+            assertEquals(11, change.at("/replacements/0/deletedRegion/startColumn").asInt());
+            assertEquals(16, change.at("/replacements/0/deletedRegion/endColumn").asInt());
+            assertEquals("1.0.0", change.at("/replacements/0/insertedContent/text").asText());
+            assertEquals("Check the documentation",
+                sarifResult.at("/properties/suggestions/0/description").asText());
+        }
+
+        @Test
+        @DisplayName("should replace whole lines whose source holds the actual value")
+        void shouldReplaceWholeLines() throws Exception {
+            // Given
+            ValidationResult result = ValidationResult.builder()
+                .addMessage(messageWithSuggestion(SourceLocation.builder()
+                    .filename("doc.adoc")
+                    .line(3)
+                    .sourceLine(":version: v1")
+                    .build()))
+                .build();
+
+            // When
+            formatter.format(result, printWriter);
+
+            // Then
+            JsonNode sarifResult = run().get("results").get(0);
+            JsonNode replacement = sarifResult.at("/fixes/0/artifactChanges/0/replacements/0");
+            assertEquals(3, replacement.at("/deletedRegion/startLine").asInt());
+            assertTrue(replacement.at("/deletedRegion/startColumn").isMissingNode());
+            assertTrue(replacement.at("/deletedRegion/endColumn").isMissingNode());
+            assertEquals(":version: 1.0.0", replacement.at("/insertedContent/text").asText());
+        }
+
+        @Test
+        @DisplayName("should keep suggestions that cannot be applied as result properties")
+        void shouldKeepUnappliedSuggestionsAsProperties() throws Exception {
+            // Given
+            ValidationResult result = ValidationResult.builder()
+                .addMessage(messageWithSuggestion(SourceLocation.builder()
+                    .filename("doc.adoc")
+                    .line(3)
+                    .build()))
+                .build();
+
+            // When
+            formatter.format(result, printWriter);
+
+            // Then
+            JsonNode sarifResult = run().get("results").get(0);
+            assertNull(sarifResult.get("fixes"));
+            JsonNode suggestions = sarifResult.at("/properties/suggestions");
+            assertEquals(2, suggestions.size());
+            assertEquals("Use a version number", suggestions.get(0).get("description").asText());
+            assertEquals("1.0.0", suggestions.get(0).get("fixedValue").asText());
+            assertNull(suggestions.get(1).get("fixedValue"));
+        }
+    }
+}
@@ -10,14 +10,13 @@ import static org.mockito.Mockito.when;
 
 import java.util.Arrays;
 
-import org.asciidoctor.ast.Block;
-import org.asciidoctor.ast.Section;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import com.example.linter.ast.AstNode;
 import com.example.linter.config.Severity;
 import com.example.linter.config.blocks.ParagraphBlock;
 import com.example.linter.config.blocks.TableBlock;
@@ -28,12 +27,12 @@ import com.example.linter.config.rule.SectionConfig;
 class BlockValidatorTest {
     
     private BlockValidator validator;
-    private Section mockSection;
+    private AstNode mockSection;
     
     @BeforeEach
     void setUp() {
         validator = new BlockValidator();
-        mockSection = mock(Section.class);
+        mockSection = mock(AstNode.class);
     }
     
     @Nested
@@ -71,8 +70,8 @@ class BlockValidatorTest {
                 .allowedBlocks(Arrays.asList(paragraphConfig))
                 .build();
             
-            Block block1 = mock(Block.class);
-            Block block2 = mock(Block.class);
+            AstNode block1 = mock(AstNode.class);
+            AstNode block2 = mock(AstNode.class);
             when(block1.getContext()).thenReturn("paragraph");
             when(block2.getContext()).thenReturn("paragraph");
             when(mockSection.getBlocks()).thenReturn(Arrays.asList(block1, block2));
@@ -97,7 +96,7 @@ class BlockValidatorTest {
                 .allowedBlocks(Arrays.asList(paragraphConfig))
                 .build();
             
-            Block unknownBlock = mock(Block.class);
+            AstNode unknownBlock = mock(AstNode.class);
             when(unknownBlock.getContext()).thenReturn("unknown-type");
             when(mockSection.getBlocks()).thenReturn(Arrays.asList(unknownBlock));
             
@@ -138,7 +137,7 @@ class BlockValidatorTest {
                 .build();
             
             // Only one paragraph block (violates min)
-            Block block = mock(Block.class);
+            AstNode block = mock(AstNode.class);
             when(block.getContext()).thenReturn("paragraph");
             when(mockSection.getBlocks()).thenReturn(Arrays.asList(block));
             
@@ -171,9 +170,9 @@ class BlockValidatorTest {
                 .build();
             
             // Three paragraph blocks (violates max)
-            Block block1 = mock(Block.class);
-            Block block2 = mock(Block.class);
-            Block block3 = mock(Block.class);
+            AstNode block1 = mock(AstNode.class);
+            AstNode block2 = mock(AstNode.class);
+            AstNode block3 = mock(AstNode.class);
             when(block1.getContext()).thenReturn("paragraph");
             when(block2.getContext()).thenReturn("paragraph");
             when(block3.getContext()).thenReturn("paragraph");
@@ -218,8 +217,8 @@ class BlockValidatorTest {
                 .build();
             
             // Wrong order: data before header
-            Block block1 = mock(Block.class);
-            Block block2 = mock(Block.class);
+            AstNode block1 = mock(AstNode.class);
+            AstNode block2 = mock(AstNode.class);
             when(block1.getContext()).thenReturn("table");
             when(block2.getContext()).thenReturn("paragraph");
             when(mockSection.getBlocks()).thenReturn(Arrays.asList(block1, block2));
@@ -263,10 +262,10 @@ class BlockValidatorTest {
                 .build();
             
             // Setup blocks: table, then paragraph
-            Block tableBlock = mock(Block.class);
+            AstNode tableBlock = mock(AstNode.class);
             when(tableBlock.getContext()).thenReturn("table");
             
-            Block paragraphBlock = mock(Block.class);
+            AstNode paragraphBlock = mock(AstNode.class);
             when(paragraphBlock.getContext()).thenReturn("paragraph");
             
             when(mockSection.getBlocks()).thenReturn(Arrays.asList(tableBlock, paragraphBlock));
@@ -299,10 +298,10 @@ class BlockValidatorTest {
                 .build();
             
             // Mix of configured and unconfigured block types
-            Block para1 = mock(Block.class);
-            Block table1 = mock(Block.class);
-            Block listing1 = mock(Block.class); // Not configured
-            Block para2 = mock(Block.class);
+            AstNode para1 = mock(AstNode.class);
+            AstNode table1 = mock(AstNode.class);
+            AstNode listing1 = mock(AstNode.class); // Not configured
+            AstNode para2 = mock(AstNode.class);
             
             when(para1.getContext()).thenReturn("paragraph");
             when(table1.getContext()).thenReturn("table");
@@ -324,13 +323,13 @@ class BlockValidatorTest {
         @DisplayName("should handle null section config gracefully")
         void shouldHandleNullSectionConfigGracefully() {
             // Given
-            Block block = mock(Block.class);
+            AstNode block = mock(AstNode.class);
             when(block.getContext()).thenReturn("paragraph");
             when(mockSection.getBlocks()).thenReturn(Arrays.asList(block));
             
             // When/Then
             assertThrows(NullPointerException.class, () -> 
-                validator.validate(mockSection, null, "test.adoc"));
+                validator.validate(mockSection, (SectionConfig) null, "test.adoc"));
         }
     }
     
@@ -351,7 +350,7 @@ class BlockValidatorTest {
                 .allowedBlocks(Arrays.asList(paragraphConfig))
                 .build();
             
-            Block block = mock(Block.class);
+            AstNode block = mock(AstNode.class);
             when(block.getContext()).thenThrow(new RuntimeException("Test exception"));
             when(mockSection.getBlocks()).thenReturn(Arrays.asList(block));
             
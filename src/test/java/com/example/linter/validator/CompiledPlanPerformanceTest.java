@@ -0,0 +1,102 @@
+package com.example.linter.validator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.example.linter.ast.AstDocument;
+import com.example.linter.ast.AstNode;
+import com.example.linter.config.DocumentConfiguration;
+import com.example.linter.config.Severity;
+import com.example.linter.config.rule.SectionConfig;
+import com.example.linter.config.rule.TitleConfig;
+
+/**
+ * Performance tests comparing a shared compiled plan with compiling the configuration per document.
+ */
+@Tag("performance")
+@DisplayName("CompiledPlan Performance")
+class CompiledPlanPerformanceTest {
+
+    private static final int SECTION_RULES = 200;
+    private static final int DOCUMENT_COUNT = 500;
+    private static final int ROUNDS = 3;
+
+    @Test
+    @DisplayName("should validate faster with a shared plan than with a plan per document")
+    void shouldValidateFasterWithSharedPlan() {
+        DocumentConfiguration config = createConfiguration();
+        List<AstDocument> documents = createDocuments();
+
+        CompiledPlan plan = CompiledPlan.compile(config);
+        SectionValidator shared = SectionValidator.builder().plan(plan).build();
+
+        // Keep the best of several rounds, the first ones warm up the JIT
+        long rebuildNanos = Long.MAX_VALUE;
+        long sharedNanos = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            long rebuildStart = System.nanoTime();
+            List<List<ValidationMessage>> rebuilt = new ArrayList<>();
+            for (AstDocument document : documents) {
+                rebuilt.add(SectionValidator.fromConfiguration(config).build().validate(document).getMessages());
+            }
+            rebuildNanos = Math.min(rebuildNanos, System.nanoTime() - rebuildStart);
+
+            long sharedStart = System.nanoTime();
+            List<List<ValidationMessage>> reused = new ArrayList<>();
+            for (AstDocument document : documents) {
+                reused.add(shared.validate(document).getMessages());
+            }
+            sharedNanos = Math.min(sharedNanos, System.nanoTime() - sharedStart);
+
+            assertEquals(rebuilt, reused);
+        }
+
+        System.out.printf("Plan per document: %.1f us/file, shared plan: %.1f us/file, speedup: %.2fx%n",
+            rebuildNanos / 1_000.0 / DOCUMENT_COUNT, sharedNanos / 1_000.0 / DOCUMENT_COUNT,
+            (double) rebuildNanos / sharedNanos);
+
+        assertTrue(sharedNanos < rebuildNanos, "A shared plan should be cheaper than compiling per document");
+    }
+
+    private DocumentConfiguration createConfiguration() {
+        DocumentConfiguration.Builder builder = DocumentConfiguration.builder();
+        for (int i = 0; i < SECTION_RULES; i++) {
+            builder.addSection(SectionConfig.builder()
+                .name("section-" + i)
+                .level(1)
+                .max(1)
+                .order(i)
+                .title(TitleConfig.builder()
+                    .pattern("^(?:Section|Chapter) " + i + "(?: - .+)?$")
+                    .severity(Severity.WARN)
+                    .build())
+                .build());
+        }
+        return builder.build();
+    }
+
+    private List<AstDocument> createDocuments() {
+        List<AstDocument> documents = new ArrayList<>();
+        for (int d = 0; d < DOCUMENT_COUNT; d++) {
+            AstDocument.Builder document = AstDocument.builder()
+                .title("Document " + d)
+                .attribute("docfile", "doc" + d + ".adoc");
+            for (int s = 0; s < 10; s++) {
+                document.addBlock(AstNode.builder()
+                    .context("section")
+                    .title("Section " + ((d + s * 7) % SECTION_RULES))
+                    .level(1)
+                    .lineNumber(3 + s * 10));
+            }
+            documents.add(document.build());
+        }
+        return documents;
+    }
+}
@@ -0,0 +1,182 @@
+package com.example.linter.validator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.PatternSyntaxException;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.example.linter.config.BlockType;
+import com.example.linter.config.DocumentConfiguration;
+import com.example.linter.config.LinterConfiguration;
+import com.example.linter.config.Severity;
+import com.example.linter.config.blocks.ListingBlock;
+import com.example.linter.config.blocks.ParagraphBlock;
+import com.example.linter.config.rule.SectionConfig;
+import com.example.linter.config.rule.TitleConfig;
+import com.example.linter.validator.block.BlockConfigIndex;
+
+@DisplayName("CompiledPlan")
+class CompiledPlanTest {
+
+    @Nested
+    @DisplayName("sections")
+    class Sections {
+
+        @Test
+        @DisplayName("should number sections depth-first with dense IDs")
+        void shouldNumberSectionsDepthFirstWithDenseIds() {
+            // Given
+            SectionConfig child = SectionConfig.builder().name("child").level(2).build();
+            SectionConfig first = SectionConfig.builder().name("first").level(1).addSubsection(child).build();
+            SectionConfig second = SectionConfig.builder().name("second").level(1).build();
+
+            // When
+            CompiledPlan plan = CompiledPlan.compile(DocumentConfiguration.builder()
+                .sections(Arrays.asList(first, second))
+                .build());
+
+            // Then
+            assertTrue(plan.needsDocumentBody());
+            assertEquals(3, plan.getSectionCount());
+            assertEquals("first", plan.getSection(0).getName());
+            assertEquals("child", plan.getSection(1).getName());
+            assertEquals("second", plan.getSection(2).getName());
+            assertSame(plan.getSection(1), plan.getRootSections().get(0).getSubsections().get(0));
+        }
+
+        @Test
+        @DisplayName("should share occurrence counters between sections with the same name and level")
+        void shouldShareOccurrenceCountersBetweenSectionsWithSameNameAndLevel() {
+            // Given
+            SectionConfig notes = SectionConfig.builder().name("notes").level(2).build();
+            SectionConfig first = SectionConfig.builder().name("first").level(1).addSubsection(notes).build();
+            SectionConfig second = SectionConfig.builder().name("second").level(1).addSubsection(notes).build();
+
+            // When
+            CompiledPlan plan = CompiledPlan.compile(DocumentConfiguration.builder()
+                .sections(Arrays.asList(first, second))
+                .build());
+
+            // Then
+            assertEquals(4, plan.getSectionCount());
+            assertEquals(3, plan.getOccurrenceCounterCount());
+            assertEquals(plan.getSection(1).getOccurrenceId(), plan.getSection(3).getOccurrenceId());
+            assertNotEquals(plan.getSection(0).getOccurrenceId(), plan.getSection(2).getOccurrenceId());
+        }
+
+        @Test
+        @DisplayName("should precompile title patterns")
+        void shouldPrecompileTitlePatterns() {
+            // Given
+            SectionConfig section = SectionConfig.builder()
+                .name("chapter")
+                .level(1)
+                .title(TitleConfig.builder().pattern("^Chapter \\d+$").severity(Severity.WARN).build())
+                .build();
+
+            // When
+            CompiledPlan plan = CompiledPlan.compile(DocumentConfiguration.builder().addSection(section).build());
+            CompiledSection compiled = plan.getSection(0);
+
+            // Then
+            assertTrue(compiled.getTitlePattern().matcher("Chapter 7").matches());
+            assertEquals(Severity.WARN, compiled.getTitleSeverity());
+            assertTrue(compiled.matches("Chapter 7", 1));
+            assertFalse(compiled.matches("Chapter 7", 2));
+            assertFalse(compiled.matches("Appendix", 1));
+        }
+
+        @Test
+        @DisplayName("should fail to compile an invalid title pattern")
+        void shouldFailToCompileInvalidTitlePattern() {
+            // Given
+            SectionConfig section = SectionConfig.builder()
+                .name("broken")
+                .level(1)
+                .title(TitleConfig.builder().pattern("[unclosed").build())
+                .build();
+            DocumentConfiguration document = DocumentConfiguration.builder().addSection(section).build();
+
+            // When/Then
+            assertThrows(PatternSyntaxException.class, () -> CompiledPlan.compile(document));
+        }
+
+        @Test
+        @DisplayName("should sort ordered root sections by their order")
+        void shouldSortOrderedRootSectionsByOrder() {
+            // Given
+            SectionConfig last = SectionConfig.builder().name("last").level(1).order(2).build();
+            SectionConfig unordered = SectionConfig.builder().name("unordered").level(1).build();
+            SectionConfig first = SectionConfig.builder().name("first").level(1).order(1).build();
+
+            // When
+            CompiledPlan plan = CompiledPlan.compile(DocumentConfiguration.builder()
+                .sections(Arrays.asList(last, unordered, first))
+                .build());
+
+            // Then
+            List<CompiledSection> ordered = plan.getOrderedRootSections();
+            assertEquals(2, ordered.size());
+            assertEquals("first", ordered.get(0).getName());
+            assertEquals("last", ordered.get(1).getName());
+        }
+
+        @Test
+        @DisplayName("should compile an empty configuration")
+        void shouldCompileEmptyConfiguration() {
+            // When
+            CompiledPlan plan = CompiledPlan.compile(LinterConfiguration.builder().build());
+
+            // Then
+            assertFalse(plan.hasSectionRules());
+            assertFalse(plan.needsDocumentBody());
+            assertNull(plan.getMetadata());
+            assertEquals(0, plan.getSectionCount());
+        }
+    }
+
+    @Nested
+    @DisplayName("block dispatch")
+    class BlockDispatch {
+
+        @Test
+        @DisplayName("should prefer the named configuration over the unnamed one")
+        void shouldPreferNamedConfigurationOverUnnamedOne() {
+            // Given
+            ParagraphBlock unnamed = ParagraphBlock.builder().severity(Severity.WARN).build();
+            ParagraphBlock named = ParagraphBlock.builder().name("intro").severity(Severity.ERROR).build();
+            BlockConfigIndex index = BlockConfigIndex.of(Arrays.asList(unnamed, named));
+
+            // When/Then
+            assertSame(named, index.find(BlockType.PARAGRAPH, "intro"));
+            assertSame(unnamed, index.find(BlockType.PARAGRAPH, "other"));
+            assertSame(unnamed, index.find(BlockType.PARAGRAPH, null));
+            assertNull(index.find(BlockType.TABLE, null));
+        }
+
+        @Test
+        @DisplayName("should keep the first declared configuration for a type")
+        void shouldKeepFirstDeclaredConfigurationForType() {
+            // Given
+            ListingBlock first = ListingBlock.builder().severity(Severity.ERROR).build();
+            ListingBlock second = ListingBlock.builder().severity(Severity.INFO).build();
+
+            // When
+            BlockConfigIndex index = BlockConfigIndex.of(Arrays.asList(first, second));
+
+            // Then
+            assertSame(first, index.find(BlockType.LISTING, null));
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.example.linter.validator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.example.linter.ast.AstDocument;
+import com.example.linter.ast.AstNode;
+import com.example.linter.config.DocumentConfiguration;
+import com.example.linter.config.Severity;
+import com.example.linter.config.blocks.ParagraphBlock;
+import com.example.linter.config.rule.LineConfig;
+import com.example.linter.config.rule.SectionConfig;
+import com.example.linter.config.rule.TitleConfig;
+
+/**
+ * Performance tests comparing the single document walk with running section and block validation as separate passes.
+ */
+@Tag("performance")
+@DisplayName("DocumentValidator Performance")
+class DocumentValidatorPerformanceTest {
+
+    private static final int SECTION_RULES = 200;
+    private static final int DOCUMENT_COUNT = 500;
+    private static final int ROUNDS = 3;
+
+    @Test
+    @DisplayName("should validate faster in one walk than in separate passes")
+    void shouldValidateFasterInOneWalkThanInSeparatePasses() {
+        CompiledPlan plan = CompiledPlan.compile(createConfiguration());
+        List<AstDocument> documents = createDocuments();
+
+        SectionValidator sectionValidator = SectionValidator.builder().plan(plan).build();
+        BlockValidator blockValidator = new BlockValidator();
+        DocumentValidator documentValidator = DocumentValidator.builder().plan(plan).build();
+
+        // Keep the best of several rounds, the first ones warm up the JIT
+        long separateNanos = Long.MAX_VALUE;
+        long walkNanos = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            long separateStart = System.nanoTime();
+            List<List<ValidationMessage>> separate = new ArrayList<>();
+            for (AstDocument document : documents) {
+                List<ValidationMessage> messages = new ArrayList<>(sectionValidator.validate(document).getMessages());
+                for (AstNode section : document.getBlocks()) {
+                    for (CompiledSection config : plan.getRootSections()) {
+                        if (config.matches(section.getTitle(), section.getLevel())) {
+                            messages.addAll(blockValidator.validate(section, config, "test.adoc").getMessages());
+                            break;
+                        }
+                    }
+                }
+                separate.add(messages);
+            }
+            separateNanos = Math.min(separateNanos, System.nanoTime() - separateStart);
+
+            long walkStart = System.nanoTime();
+            List<List<ValidationMessage>> walked = new ArrayList<>();
+            for (AstDocument document : documents) {
+                walked.add(documentValidator.validate(document).getMessages());
+            }
+            walkNanos = Math.min(walkNanos, System.nanoTime() - walkStart);
+
+            assertEquals(separate, walked);
+        }
+
+        System.out.printf("Separate passes: %.1f us/file, single walk: %.1f us/file, speedup: %.2fx%n",
+            separateNanos / 1_000.0 / DOCUMENT_COUNT, walkNanos / 1_000.0 / DOCUMENT_COUNT,
+            (double) separateNanos / walkNanos);
+
+        assertTrue(walkNanos < separateNanos, "A single walk should be cheaper than separate passes");
+    }
+
+    private DocumentConfiguration createConfiguration() {
+        DocumentConfiguration.Builder builder = DocumentConfiguration.builder();
+        for (int i = 0; i < SECTION_RULES; i++) {
+            builder.addSection(SectionConfig.builder()
+                .name("section-" + i)
+                .level(1)
+                .order(i)
+                .title(TitleConfig.builder()
+                    .pattern("^(?:Section|Chapter) " + i + "(?: - .+)?$")
+                    .severity(Severity.WARN)
+                    .build())
+                .addAllowedBlock(ParagraphBlock.builder()
+                    .severity(Severity.INFO)
+                    .lines(LineConfig.builder().max(1).severity(Severity.INFO).build())
+                    .build())
+                .build());
+        }
+        return builder.build();
+    }
+
+    private List<AstDocument> createDocuments() {
+        List<AstDocument> documents = new ArrayList<>();
+        for (int d = 0; d < DOCUMENT_COUNT; d++) {
+            AstDocument.Builder document = AstDocument.builder()
+                .title("Document " + d)
+                .attribute("docfile", "test.adoc");
+            for (int s = 0; s < 10; s++) {
+                document.addBlock(AstNode.builder()
+                    .context("section")
+                    .title("Section " + ((d + s * 7) % SECTION_RULES))
+                    .level(1)
+                    .lineNumber(3 + s * 10)
+                    .addBlock(AstNode.builder()
+                        .context("paragraph")
+                        .source("First line\nSecond line")
+                        .lineNumber(5 + s * 10)));
+            }
+            documents.add(document.build());
+        }
+        return documents;
+    }
+}
@@ -0,0 +1,258 @@
+package com.example.linter.validator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.asciidoctor.Asciidoctor;
+import org.asciidoctor.Options;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.example.linter.ast.AstDocument;
+import com.example.linter.ast.AstNode;
+import com.example.linter.ast.AstSnapshot;
+import com.example.linter.config.DocumentConfiguration;
+import com.example.linter.config.MetadataConfiguration;
+import com.example.linter.config.Severity;
+import com.example.linter.config.blocks.ListingBlock;
+import com.example.linter.config.blocks.ParagraphBlock;
+import com.example.linter.config.rule.AttributeConfig;
+import com.example.linter.config.rule.SectionConfig;
+
+@DisplayName("DocumentValidator")
+class DocumentValidatorTest {
+
+    private static final ListingBlock LISTING_WITH_LANGUAGE = ListingBlock.builder()
+        .severity(Severity.ERROR)
+        .language(ListingBlock.LanguageConfig.builder().required(true).severity(Severity.ERROR).build())
+        .build();
+
+    @Test
+    @DisplayName("should require a plan")
+    void shouldRequirePlan() {
+        assertThrows(NullPointerException.class, () -> DocumentValidator.builder().build());
+    }
+
+    @Nested
+    @DisplayName("traversal")
+    class Traversal {
+
+        @Test
+        @DisplayName("should validate blocks of nested sections against their own configuration")
+        void shouldValidateBlocksOfNestedSections() {
+            // Given
+            SectionConfig details = SectionConfig.builder()
+                .name("details")
+                .level(2)
+                .addAllowedBlock(LISTING_WITH_LANGUAGE)
+                .build();
+            SectionConfig chapter = SectionConfig.builder()
+                .name("chapter")
+                .level(1)
+                .addAllowedBlock(ParagraphBlock.builder().severity(Severity.WARN).build())
+                .addSubsection(details)
+                .build();
+            AstDocument document = document()
+                .addBlock(section("Chapter", 1, 3)
+                    .addBlock(AstNode.builder().context("paragraph").source("Intro").lineNumber(5))
+                    .addBlock(section("Details", 2, 7)
+                        .addBlock(AstNode.builder().context("listing").source("ls").lineNumber(9))))
+                .build();
+
+            // When
+            List<ValidationMessage> messages = validate(chapter, document);
+
+            // Then
+            assertEquals(List.of("listing.language.required"), ruleIds(messages));
+            assertEquals(9, messages.get(0).getLocation().getStartLine());
+        }
+
+        @Test
+        @DisplayName("should validate blocks nested in compound blocks")
+        void shouldValidateBlocksNestedInCompoundBlocks() {
+            // Given
+            SectionConfig chapter = SectionConfig.builder()
+                .name("chapter")
+                .level(1)
+                .addAllowedBlock(LISTING_WITH_LANGUAGE)
+                .build();
+            AstDocument document = document()
+                .addBlock(section("Chapter", 1, 3)
+                    .addBlock(AstNode.builder().context("listing").attribute("language", "java").source("a()")
+                        .lineNumber(5))
+                    .addBlock(AstNode.builder().context("sidebar").lineNumber(9)
+                        .addBlock(AstNode.builder().context("listing").source("ls").lineNumber(11))))
+                .build();
+
+            // When
+            List<ValidationMessage> messages = validate(chapter, document);
+
+            // Then
+            assertEquals(List.of("listing.language.required"), ruleIds(messages));
+            assertEquals(11, messages.get(0).getLocation().getStartLine());
+        }
+
+        @Test
+        @DisplayName("should validate blocks attached to list items")
+        void shouldValidateBlocksAttachedToListItems() {
+            // Given
+            SectionConfig chapter = SectionConfig.builder()
+                .name("chapter")
+                .level(1)
+                .addAllowedBlock(LISTING_WITH_LANGUAGE)
+                .build();
+            AstDocument document = parse("""
+                = Document
+
+                == Chapter
+
+                * Install
+                +
+                [source]
+                ----
+                make install
+                ----
+                ** Configure
+                +
+                [source,shell]
+                ----
+                make config
+                ----
+
+                Then:
+
+                Build::
+                +
+                [source]
+                ----
+                make
+                ----
+                Test:: Run the suite
+                """);
+
+            // When
+            List<ValidationMessage> messages = validate(chapter, document).stream()
+                .filter(message -> message.getRuleId().startsWith("listing."))
+                .collect(Collectors.toList());
+
+            // Then
+            assertEquals(List.of("listing.language.required", "listing.language.required"), ruleIds(messages));
+            assertEquals(List.of(8, 23), messages.stream()
+                .map(message -> message.getLocation().getStartLine())
+                .collect(Collectors.toList()));
+        }
+
+        @Test
+        @DisplayName("should not report subsections as unknown blocks")
+        void shouldNotReportSubsectionsAsUnknownBlocks() {
+            // Given
+            SectionConfig chapter = SectionConfig.builder()
+                .name("chapter")
+                .level(1)
+                .addAllowedBlock(ParagraphBlock.builder().severity(Severity.WARN).build())
+                .addSubsection(SectionConfig.builder().name("details").level(2).build())
+                .build();
+            AstDocument document = document()
+                .addBlock(section("Chapter", 1, 3)
+                    .addBlock(section("Details", 2, 5)))
+                .build();
+
+            // When
+            List<ValidationMessage> messages = validate(chapter, document);
+
+            // Then
+            assertTrue(messages.isEmpty());
+        }
+    }
+
+    @Nested
+    @DisplayName("reporting")
+    class Reporting {
+
+        @Test
+        @DisplayName("should report metadata, section and block messages in that order")
+        void shouldReportMessagesInValidatorOrder() {
+            // Given
+            SectionConfig chapter = SectionConfig.builder()
+                .name("chapter")
+                .level(1)
+                .max(1)
+                .addAllowedBlock(LISTING_WITH_LANGUAGE)
+                .build();
+            DocumentConfiguration configuration = DocumentConfiguration.builder()
+                .metadata(MetadataConfiguration.builder()
+                    .addAttribute(AttributeConfig.builder().name("author").required(true)
+                        .severity(Severity.ERROR).build())
+                    .build())
+                .addSection(chapter)
+                .build();
+            AstDocument document = document()
+                .addBlock(section("Chapter", 1, 3)
+                    .addBlock(AstNode.builder().context("listing").source("ls").lineNumber(5)))
+                .addBlock(section("Chapter", 1, 7))
+                .build();
+
+            // When
+            List<ValidationMessage> messages = DocumentValidator.builder()
+                .plan(CompiledPlan.compile(configuration))
+                .build()
+                .validate(document)
+                .getMessages();
+
+            // Then
+            assertEquals(List.of("metadata.required", "section.max-occurrences", "listing.language.required"),
+                ruleIds(messages));
+        }
+
+        @Test
+        @DisplayName("should match the section validator on section rules")
+        void shouldMatchSectionValidatorOnSectionRules() {
+            // Given
+            DocumentConfiguration configuration = DocumentConfiguration.builder()
+                .addSection(SectionConfig.builder().name("first").level(1).order(1).min(1).build())
+                .addSection(SectionConfig.builder().name("second").level(1).order(2).build())
+                .build();
+            AstDocument document = document()
+                .addBlock(section("Unexpected", 2, 3))
+                .build();
+            CompiledPlan plan = CompiledPlan.compile(configuration);
+
+            // When
+            List<ValidationMessage> walked = DocumentValidator.builder().plan(plan).build()
+                .validate(document).getMessages();
+            List<ValidationMessage> separate = SectionValidator.builder().plan(plan).build()
+                .validate(document).getMessages();
+
+            // Then
+            assertEquals(separate, walked);
+        }
+    }
+
+    private List<ValidationMessage> validate(SectionConfig section, AstDocument document) {
+        CompiledPlan plan = CompiledPlan.compile(DocumentConfiguration.builder().addSection(section).build());
+        return DocumentValidator.builder().plan(plan).build().validate(document).getMessages();
+    }
+
+    private static AstDocument parse(String content) {
+        try (Asciidoctor asciidoctor = Asciidoctor.Factory.create()) {
+            return AstSnapshot.of(asciidoctor.load(content, Options.builder().sourcemap(true).toFile(false).build()));
+        }
+    }
+
+    private static AstDocument.Builder document() {
+        return AstDocument.builder().title("Document").attribute("docfile", "test.adoc");
+    }
+
+    private static AstNode.Builder section(String title, int level, int line) {
+        return AstNode.builder().context("section").title(title).level(level).lineNumber(line);
+    }
+
+    private static List<String> ruleIds(List<ValidationMessage> messages) {
+        return messages.stream().map(ValidationMessage::getRuleId).collect(Collectors.toList());
+    }
+}
@@ -5,8 +5,11 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
@@ -199,15 +202,15 @@ class EnhancedValidationMessageTest {
     class BuilderDefenseTests {
         
         @Test
-        @DisplayName("should make defensive copies of lists")
-        void shouldMakeDefensiveCopiesOfLists() {
+        @DisplayName("should keep unmodifiable copies of lists")
+        void shouldKeepUnmodifiableCopiesOfLists() {
             // Given
-            List<Suggestion> mutableSuggestions = Arrays.asList(
+            List<Suggestion> mutableSuggestions = new ArrayList<>(List.of(
                 Suggestion.builder()
                     .description("Suggestion")
                     .build()
-            );
-            List<String> mutableContext = Arrays.asList("Line 1", "Line 2");
+            ));
+            List<String> mutableContext = new ArrayList<>(List.of("Line 1", "Line 2"));
             
             // When
             ValidationMessage message = ValidationMessage.builder()
@@ -221,15 +224,46 @@ class EnhancedValidationMessageTest {
                 .suggestions(mutableSuggestions)
                 .contextLines(mutableContext)
                 .build();
+            mutableSuggestions.add(Suggestion.builder().description("later").build());
+            mutableContext.add("later line");
+            
+            // Then - later changes to the input do not leak in, and the returned lists are read-only views
+            assertEquals(1, message.getSuggestions().size());
+            assertEquals(2, message.getContextLines().size());
+            assertThrows(UnsupportedOperationException.class,
+                () -> message.getSuggestions().add(Suggestion.builder().description("new").build()));
+            assertThrows(UnsupportedOperationException.class, () -> message.getContextLines().add("new line"));
+            assertSame(message.getContextLines(), message.getContextLines());
+        }
+        
+        @Test
+        @DisplayName("should share interned rule IDs and file names")
+        void shouldShareInternedRuleIdsAndFileNames() {
+            // Given
+            String prefix = "test";
+            String directory = "docs";
             
-            // Then - returned lists should be defensive copies (mutable but separate)
-            List<Suggestion> suggestions = message.getSuggestions();
-            suggestions.add(Suggestion.builder().description("new").build());
-            assertEquals(1, message.getSuggestions().size()); // Original unchanged
+            // When
+            ValidationMessage first = messageAt(prefix + ".rule", directory + "/test.adoc");
+            ValidationMessage second = messageAt(prefix + ".rule", directory + "/test.adoc");
             
-            List<String> contextLines = message.getContextLines();
-            contextLines.add("new line");
-            assertEquals(2, message.getContextLines().size()); // Original unchanged
+            // Then
+            assertSame(first.getRuleId(), second.getRuleId());
+            assertSame(first.getLocation().getFilename(), second.getLocation().getFilename());
+            assertSame(first.getLocation(), second.getLocation());
+            assertSame(List.of(), first.getSuggestions());
+        }
+        
+        private ValidationMessage messageAt(String ruleId, String filename) {
+            return ValidationMessage.builder()
+                .severity(Severity.ERROR)
+                .ruleId(ruleId)
+                .message("Test error")
+                .location(SourceLocation.builder()
+                    .filename(filename)
+                    .line(10)
+                    .build())
+                .build();
         }
         
         @Test
@@ -17,6 +17,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import com.example.linter.ast.AstSnapshot;
 import com.example.linter.config.MetadataConfiguration;
 import com.example.linter.config.Severity;
 import com.example.linter.config.rule.AttributeConfig;
@@ -93,7 +94,7 @@ class MetadataValidatorIntegrationTest {
         Document document = asciidoctor.loadFile(docFile, Options.builder().sourcemap(true).toFile(false).build());
         
         // When
-        ValidationResult result = validator.validate(document);
+        ValidationResult result = validator.validate(AstSnapshot.of(document));
         
         // Then
         assertFalse(result.hasErrors());
@@ -115,7 +116,7 @@ class MetadataValidatorIntegrationTest {
         Document document = asciidoctor.loadFile(docFile, Options.builder().sourcemap(true).toFile(false).build());
         
         // When
-        ValidationResult result = validator.validate(document);
+        ValidationResult result = validator.validate(AstSnapshot.of(document));
         
         // Then
         assertTrue(result.hasErrors());
@@ -145,7 +146,7 @@ class MetadataValidatorIntegrationTest {
         Document document = asciidoctor.loadFile(docFile, Options.builder().sourcemap(true).toFile(false).build());
         
         // When
-        ValidationResult result = validator.validate(document);
+        ValidationResult result = validator.validate(AstSnapshot.of(document));
         
         // Then
         assertTrue(result.hasErrors());
@@ -185,7 +186,7 @@ class MetadataValidatorIntegrationTest {
         Document document = asciidoctor.loadFile(docFile, Options.builder().sourcemap(true).toFile(false).build());
         
         // When
-        ValidationResult result = validator.validate(document);
+        ValidationResult result = validator.validate(AstSnapshot.of(document));
         
         // Then
         assertTrue(result.hasErrors());
@@ -213,7 +214,7 @@ class MetadataValidatorIntegrationTest {
         Document document = asciidoctor.loadFile(docFile, Options.builder().sourcemap(true).toFile(false).build());
         
         // When
-        ValidationResult result = validator.validate(document);
+        ValidationResult result = validator.validate(AstSnapshot.of(document));
         
         // Then
         assertFalse(result.hasErrors());
@@ -229,7 +230,7 @@ class MetadataValidatorIntegrationTest {
         Document document = asciidoctor.loadFile(docFile, Options.builder().sourcemap(true).toFile(false).build());
         
         // When
-        ValidationResult result = validator.validate(document);
+        ValidationResult result = validator.validate(AstSnapshot.of(document));
         
         // Then
         assertTrue(result.hasErrors());
@@ -248,7 +249,7 @@ class MetadataValidatorIntegrationTest {
             """;
         File docFile = createTempFile("report-test.adoc", content);
         Document document = asciidoctor.loadFile(docFile, Options.builder().sourcemap(true).toFile(false).build());
-        ValidationResult result = validator.validate(document);
+        ValidationResult result = validator.validate(AstSnapshot.of(document));
         
         // When
         java.io.ByteArrayOutputStream baos = new java.io.ByteArrayOutputStream();
@@ -1,5 +1,6 @@
 package com.example.linter.validator;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -16,6 +17,8 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import com.example.linter.ast.AstDocument;
+import com.example.linter.ast.AstSnapshot;
 import com.example.linter.config.MetadataConfiguration;
 import com.example.linter.config.Severity;
 import com.example.linter.config.rule.AttributeConfig;
@@ -72,7 +75,7 @@ class MetadataValidatorTest {
         MetadataValidator validator = MetadataValidator.fromConfiguration(testConfig).build();
         
         // When
-        ValidationResult result = validator.validate(document);
+        ValidationResult result = validator.validate(AstSnapshot.of(document));
         
         // Then
         assertNotNull(result);
@@ -95,7 +98,7 @@ class MetadataValidatorTest {
         MetadataValidator validator = MetadataValidator.fromConfiguration(testConfig).build();
         
         // When
-        ValidationResult result = validator.validate(document);
+        ValidationResult result = validator.validate(AstSnapshot.of(document));
         
         // Then
         assertTrue(result.hasErrors());
@@ -136,7 +139,7 @@ class MetadataValidatorTest {
         MetadataValidator validator = MetadataValidator.fromConfiguration(config).build();
         
         // When
-        ValidationResult result = validator.validate(document);
+        ValidationResult result = validator.validate(AstSnapshot.of(document));
         
         // Then
         assertNotNull(result);
@@ -145,4 +148,78 @@ class MetadataValidatorTest {
             assertTrue(msg.getLocation().getStartLine() > 0);
         });
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("should not carry attribute order from one document to the next")
+    void shouldNotCarryAttributeOrderFromOneDocumentToTheNext() {
+        // Given
+        MetadataConfiguration config = MetadataConfiguration.builder()
+            .attributes(Arrays.asList(
+                AttributeConfig.builder()
+                    .name("author")
+                    .order(1)
+                    .severity(Severity.ERROR)
+                    .build(),
+                AttributeConfig.builder()
+                    .name("version")
+                    .order(2)
+                    .severity(Severity.ERROR)
+                    .build()
+            ))
+            .build();
+        MetadataValidator validator = MetadataValidator.fromConfiguration(config).build();
+        AstDocument outOfOrder = AstDocument.builder()
+            .title("First")
+            .attribute("version", "1.0")
+            .attribute("author", "Test Author")
+            .build();
+        AstDocument authorOnly = AstDocument.builder()
+            .title("Second")
+            .attribute("author", "Test Author")
+            .build();
+        
+        // When
+        ValidationResult first = validator.validate(outOfOrder);
+        ValidationResult second = validator.validate(authorOnly);
+        
+        // Then
+        assertTrue(first.getMessages().stream().anyMatch(msg -> "metadata.order".equals(msg.getRuleId())));
+        assertTrue(second.getMessages().stream().noneMatch(msg -> "metadata.order".equals(msg.getRuleId())));
+    }
+
+    @Test
+    @DisplayName("should report title and attributes on their source lines")
+    void shouldReportTitleAndAttributesOnTheirSourceLines() {
+        // Given
+        MetadataConfiguration config = MetadataConfiguration.builder()
+            .attributes(Arrays.asList(
+                AttributeConfig.builder()
+                    .name("title")
+                    .minLength(50)
+                    .severity(Severity.ERROR)
+                    .build(),
+                AttributeConfig.builder()
+                    .name("version")
+                    .pattern("^\\d+$")
+                    .severity(Severity.ERROR)
+                    .build()
+            ))
+            .build();
+        MetadataValidator validator = MetadataValidator.fromConfiguration(config).build();
+        AstDocument document = AstDocument.builder()
+            .title("Short")
+            .titleLine(3)
+            .attribute("version", "draft")
+            .attributeLine("version", 5)
+            .attribute("docname", "document")
+            .build();
+        
+        // When
+        ValidationResult result = validator.validate(document);
+        
+        // Then
+        assertEquals(2, result.getMessages().size());
+        assertEquals(3, result.getMessages().get(0).getLocation().getStartLine());
+        assertEquals(5, result.getMessages().get(1).getLocation().getStartLine());
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.linter.validator;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.example.linter.config.DocumentConfiguration;
+import com.example.linter.config.Severity;
+import com.example.linter.config.rule.SectionConfig;
+import com.example.linter.config.rule.TitleConfig;
+
+/**
+ * Performance tests comparing the title index with trying every section configuration in turn.
+ */
+@Tag("performance")
+@DisplayName("SectionTitleIndex Performance")
+class SectionTitleIndexPerformanceTest {
+
+    private static final int SECTION_RULES = 300;
+    private static final int TITLE_COUNT = 20_000;
+    private static final int ROUNDS = 3;
+
+    @Test
+    @DisplayName("should match titles faster than trying each configuration")
+    void shouldMatchTitlesFasterThanTryingEachConfiguration() {
+        List<CompiledSection> sections = createSections();
+        SectionTitleIndex index = SectionTitleIndex.of(sections);
+        List<String> titles = new ArrayList<>();
+        for (int i = 0; i < TITLE_COUNT; i++) {
+            titles.add(i % 10 == 0 ? "Unknown " + i : "Chapter " + (i * 7 % SECTION_RULES) + " - Topic");
+        }
+
+        // Keep the best of several rounds, the first ones warm up the JIT
+        long scanNanos = Long.MAX_VALUE;
+        long indexNanos = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            CompiledSection[] scanned = new CompiledSection[titles.size()];
+            long scanStart = System.nanoTime();
+            for (int i = 0; i < titles.size(); i++) {
+                for (CompiledSection section : sections) {
+                    if (section.matches(titles.get(i), 1)) {
+                        scanned[i] = section;
+                        break;
+                    }
+                }
+            }
+            scanNanos = Math.min(scanNanos, System.nanoTime() - scanStart);
+
+            CompiledSection[] indexed = new CompiledSection[titles.size()];
+            long indexStart = System.nanoTime();
+            for (int i = 0; i < titles.size(); i++) {
+                indexed[i] = index.find(titles.get(i), 1);
+            }
+            indexNanos = Math.min(indexNanos, System.nanoTime() - indexStart);
+
+            for (int i = 0; i < titles.size(); i++) {
+                assertSame(scanned[i], indexed[i]);
+            }
+        }
+
+        System.out.printf("Scan: %.2f us/title, index: %.2f us/title, speedup: %.2fx%n",
+            scanNanos / 1_000.0 / TITLE_COUNT, indexNanos / 1_000.0 / TITLE_COUNT, (double) scanNanos / indexNanos);
+
+        assertTrue(indexNanos < scanNanos, "The title index should be cheaper than trying each configuration");
+    }
+
+    private List<CompiledSection> createSections() {
+        DocumentConfiguration.Builder builder = DocumentConfiguration.builder();
+        for (int i = 0; i < SECTION_RULES; i++) {
+            TitleConfig title = i % 3 == 0
+                ? TitleConfig.builder().exactMatch("Chapter " + i).severity(Severity.WARN).build()
+                : TitleConfig.builder().pattern("^(?:Section|Chapter) " + i + "(?: - .+)?$").severity(Severity.WARN).build();
+            builder.addSection(SectionConfig.builder().name("section-" + i).level(1).title(title).build());
+        }
+        return CompiledPlan.compile(builder.build()).getRootSections();
+    }
+}
@@ -0,0 +1,143 @@
+package com.example.linter.validator;
+
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.example.linter.config.DocumentConfiguration;
+import com.example.linter.config.rule.SectionConfig;
+import com.example.linter.config.rule.TitleConfig;
+
+@DisplayName("SectionTitleIndex")
+class SectionTitleIndexTest {
+
+    @Nested
+    @DisplayName("find")
+    class Find {
+
+        @Test
+        @DisplayName("should return the first matching configuration in declaration order")
+        void shouldReturnFirstMatchingConfigurationInDeclarationOrder() {
+            // Given
+            List<CompiledSection> sections = compile(
+                section("generic", 1, TitleConfig.builder().pattern("^Chapter .+$").build()),
+                section("exact", 1, TitleConfig.builder().exactMatch("Chapter 1").build()),
+                section("numbered", 1, TitleConfig.builder().pattern("^Chapter \\d+$").build()));
+            SectionTitleIndex index = SectionTitleIndex.of(sections);
+
+            // When/Then
+            assertSame(sections.get(0), index.find("Chapter 1", 1));
+            assertSame(sections.get(0), index.find("Chapter Two", 1));
+            assertNull(index.find("Appendix", 1));
+            assertNull(index.find("Chapter 1", 2));
+        }
+
+        @Test
+        @DisplayName("should prefer an earlier exact title over a later pattern")
+        void shouldPreferEarlierExactTitleOverLaterPattern() {
+            // Given
+            List<CompiledSection> sections = compile(
+                section("exact", 1, TitleConfig.builder().exactMatch("Summary").build()),
+                section("any", 1, TitleConfig.builder().pattern(".*").build()));
+            SectionTitleIndex index = SectionTitleIndex.of(sections);
+
+            // When/Then
+            assertSame(sections.get(0), index.find("Summary", 1));
+            assertSame(sections.get(1), index.find("Other", 1));
+        }
+
+        @Test
+        @DisplayName("should match named sections without title rules by level")
+        void shouldMatchNamedSectionsWithoutTitleRulesByLevel() {
+            // Given
+            List<CompiledSection> sections = compile(
+                section("intro", 1, TitleConfig.builder().pattern("^Intro$").build()),
+                section("anything", 1, null));
+            SectionTitleIndex index = SectionTitleIndex.of(sections);
+
+            // When/Then
+            assertSame(sections.get(0), index.find("Intro", 1));
+            assertSame(sections.get(1), index.find("Whatever", 1));
+            assertSame(sections.get(1), index.find(null, 1));
+        }
+
+        @Test
+        @DisplayName("should keep patterns with backreferences and groups working")
+        void shouldKeepPatternsWithBackreferencesAndGroupsWorking() {
+            // Given
+            List<CompiledSection> sections = compile(
+                section("grouped", 1, TitleConfig.builder().pattern("^(Part) (\\d+)$").build()),
+                section("repeated", 1, TitleConfig.builder().pattern("^(\\w+) \\1$").build()),
+                section("named", 1, TitleConfig.builder().pattern("^(?<word>[a-z]+)!$").build()),
+                section("alsoNamed", 1, TitleConfig.builder().pattern("^(?<word>[A-Z]+)!$").build()),
+                section("quoted", 1, TitleConfig.builder().pattern("\\Q(x)").build()));
+            SectionTitleIndex index = SectionTitleIndex.of(sections);
+
+            // When/Then
+            assertSame(sections.get(0), index.find("Part 2", 1));
+            assertSame(sections.get(1), index.find("bye bye", 1));
+            assertNull(index.find("bye hello", 1));
+            assertSame(sections.get(2), index.find("hey!", 1));
+            assertSame(sections.get(3), index.find("HEY!", 1));
+            assertSame(sections.get(4), index.find("(x)", 1));
+        }
+
+        @Test
+        @DisplayName("should agree with matching each configuration in turn")
+        void shouldAgreeWithMatchingEachConfigurationInTurn() {
+            // Given
+            List<SectionConfig> configs = new ArrayList<>();
+            for (int i = 0; i < 50; i++) {
+                TitleConfig title = i % 5 == 0
+                    ? TitleConfig.builder().exactMatch("Section " + i).build()
+                    : TitleConfig.builder().pattern("^Section " + (i % 7) + "\\d*$").build();
+                configs.add(section("section-" + i, 1 + i % 2, title));
+            }
+            List<CompiledSection> sections = compile(configs.toArray(new SectionConfig[0]));
+            SectionTitleIndex index = SectionTitleIndex.of(sections);
+
+            // When/Then
+            for (int n = 0; n < 120; n++) {
+                for (int level = 1; level <= 2; level++) {
+                    String title = "Section " + n;
+                    CompiledSection expected = null;
+                    for (CompiledSection section : sections) {
+                        if (section.matches(title, level)) {
+                            expected = section;
+                            break;
+                        }
+                    }
+                    assertSame(expected, index.find(title, level), title + " at level " + level);
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("should be empty without configurations")
+        void shouldBeEmptyWithoutConfigurations() {
+            // When
+            SectionTitleIndex index = SectionTitleIndex.of(List.of());
+
+            // Then
+            assertTrue(index.isEmpty());
+            assertNull(index.find("Anything", 1));
+        }
+    }
+
+    private static SectionConfig section(String name, int level, TitleConfig title) {
+        return SectionConfig.builder().name(name).level(level).title(title).build();
+    }
+
+    private static List<CompiledSection> compile(SectionConfig... sections) {
+        return CompiledPlan.compile(DocumentConfiguration.builder().sections(Arrays.asList(sections)).build())
+            .getRootSections();
+    }
+}
@@ -14,6 +14,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import com.example.linter.ast.AstSnapshot;
 import com.example.linter.config.DocumentConfiguration;
 import com.example.linter.config.Severity;
 import com.example.linter.config.rule.SectionConfig;
@@ -75,7 +76,7 @@ class SectionValidatorTest {
             // When
             SectionValidator validator = SectionValidator.fromConfiguration(config).build();
             Document document = asciidoctor.load(content, Options.builder().sourcemap(true).toFile(false).build());
-            ValidationResult result = validator.validate(document);
+            ValidationResult result = validator.validate(AstSnapshot.of(document));
             
             // Then
             assertTrue(result.isValid());
@@ -111,7 +112,7 @@ class SectionValidatorTest {
             // When
             SectionValidator validator = SectionValidator.fromConfiguration(config).build();
             Document document = asciidoctor.load(content, Options.builder().sourcemap(true).toFile(false).build());
-            ValidationResult result = validator.validate(document);
+            ValidationResult result = validator.validate(AstSnapshot.of(document));
             
             // Then
             assertFalse(result.isValid());
@@ -160,7 +161,7 @@ class SectionValidatorTest {
             // When
             SectionValidator validator = SectionValidator.fromConfiguration(config).build();
             Document document = asciidoctor.load(content, Options.builder().sourcemap(true).toFile(false).build());
-            ValidationResult result = validator.validate(document);
+            ValidationResult result = validator.validate(AstSnapshot.of(document));
             
             // Then
             assertFalse(result.isValid());
@@ -210,7 +211,7 @@ class SectionValidatorTest {
             // When
             SectionValidator validator = SectionValidator.fromConfiguration(config).build();
             Document document = asciidoctor.load(content, Options.builder().sourcemap(true).toFile(false).build());
-            ValidationResult result = validator.validate(document);
+            ValidationResult result = validator.validate(AstSnapshot.of(document));
             
             // Then
             assertTrue(result.isValid());
@@ -246,7 +247,7 @@ class SectionValidatorTest {
             // When
             SectionValidator validator = SectionValidator.fromConfiguration(config).build();
             Document document = asciidoctor.load(content, Options.builder().sourcemap(true).toFile(false).build());
-            ValidationResult result = validator.validate(document);
+            ValidationResult result = validator.validate(AstSnapshot.of(document));
             
             // Then
             assertFalse(result.isValid());
@@ -296,7 +297,7 @@ class SectionValidatorTest {
             // When
             SectionValidator validator = SectionValidator.fromConfiguration(config).build();
             Document document = asciidoctor.load(content, Options.builder().sourcemap(true).toFile(false).build());
-            ValidationResult result = validator.validate(document);
+            ValidationResult result = validator.validate(AstSnapshot.of(document));
             
             // Then
             assertFalse(result.isValid());
@@ -370,7 +371,7 @@ class SectionValidatorTest {
             // When
             SectionValidator validator = SectionValidator.fromConfiguration(config).build();
             Document document = asciidoctor.load(content, Options.builder().sourcemap(true).toFile(false).build());
-            ValidationResult result = validator.validate(document);
+            ValidationResult result = validator.validate(AstSnapshot.of(document));
             
             // Then
             assertTrue(result.isValid());
@@ -418,7 +419,7 @@ class SectionValidatorTest {
             // When
             SectionValidator validator = SectionValidator.fromConfiguration(config).build();
             Document document = asciidoctor.load(content, Options.builder().sourcemap(true).toFile(false).build());
-            ValidationResult result = validator.validate(document);
+            ValidationResult result = validator.validate(AstSnapshot.of(document));
             
             // Then
             assertFalse(result.isValid());
@@ -494,7 +495,7 @@ class SectionValidatorTest {
             // When
             SectionValidator validator = SectionValidator.fromConfiguration(config).build();
             Document document = asciidoctor.load(content, Options.builder().sourcemap(true).toFile(false).build());
-            ValidationResult result = validator.validate(document);
+            ValidationResult result = validator.validate(AstSnapshot.of(document));
             
             // Then
             assertTrue(result.isValid());
@@ -545,7 +546,7 @@ class SectionValidatorTest {
             // When
             SectionValidator validator = SectionValidator.fromConfiguration(config).build();
             Document document = asciidoctor.load(content, Options.builder().sourcemap(true).toFile(false).build());
-            ValidationResult result = validator.validate(document);
+            ValidationResult result = validator.validate(AstSnapshot.of(document));
             
             // Then
             assertFalse(result.isValid());
@@ -587,7 +588,7 @@ class SectionValidatorTest {
             // When
             SectionValidator validator = SectionValidator.fromConfiguration(config).build();
             Document document = asciidoctor.load(content, Options.builder().sourcemap(true).toFile(false).build());
-            ValidationResult result = validator.validate(document);
+            ValidationResult result = validator.validate(AstSnapshot.of(document));
             
             // Then
             assertTrue(result.isValid());
@@ -610,7 +611,7 @@ class SectionValidatorTest {
             // When
             SectionValidator validator = SectionValidator.fromConfiguration(config).build();
             Document document = asciidoctor.load(content, Options.builder().sourcemap(true).toFile(false).build());
-            ValidationResult result = validator.validate(document);
+            ValidationResult result = validator.validate(AstSnapshot.of(document));
             
             // Then
             assertTrue(result.isValid());
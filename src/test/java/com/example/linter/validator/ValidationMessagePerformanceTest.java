@@ -0,0 +1,186 @@
+package com.example.linter.validator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.example.linter.config.Severity;
+
+/**
+ * Checks that compact messages share their strings, locations and empty lists,
+ * and benchmarks their retained size against the layout that copied every list
+ * and kept its own strings and locations.
+ */
+@DisplayName("ValidationMessage Performance")
+class ValidationMessagePerformanceTest {
+
+    private static final int FILE_COUNT = 500;
+    private static final int MESSAGES_PER_FILE = 400;
+    private static final int MESSAGE_COUNT = FILE_COUNT * MESSAGES_PER_FILE;
+    private static final int LINES_PER_FILE = 3;
+    private static final String[] RULES = {"required", "pattern", "min-length", "max-length", "order"};
+
+    @Test
+    @DisplayName("should share strings, locations and empty lists between messages")
+    void shouldShareInstancesBetweenMessages() {
+        // When
+        List<ValidationMessage> messages = createCompact(MESSAGE_COUNT);
+
+        // Then
+        assertEquals(RULES.length, countInstances(messages, ValidationMessage::getRuleId));
+        assertEquals(1, countInstances(messages, message -> message.getAttributeName().orElseThrow()));
+        assertEquals(FILE_COUNT, countInstances(messages, message -> message.getLocation().getFilename()));
+        assertEquals(FILE_COUNT * LINES_PER_FILE, countInstances(messages, ValidationMessage::getLocation));
+        assertEquals(1, countInstances(messages, ValidationMessage::getSuggestions));
+        assertSame(List.of(), messages.get(0).getSuggestions());
+        assertSame(List.of(), messages.get(0).getContextLines());
+        assertSame(messages.get(0).getLocation(), messages.get(1).getLocation());
+    }
+
+    @Test
+    @Tag("performance")
+    @DisplayName("should retain fewer bytes per message than the uncompacted layout")
+    void shouldRetainFewerBytesPerMessage() {
+        // Warm up so class loading and JIT allocations do not count towards either side
+        createUncompacted(1_000);
+        createCompact(1_000);
+
+        long baseline = usedMemory();
+        List<Object> uncompacted = createUncompacted(MESSAGE_COUNT);
+        double uncompactedBytes = (double) (usedMemory() - baseline) / MESSAGE_COUNT;
+        assertEquals(MESSAGE_COUNT, uncompacted.size());
+        uncompacted = null;
+
+        baseline = usedMemory();
+        List<ValidationMessage> compact = createCompact(MESSAGE_COUNT);
+        double compactBytes = (double) (usedMemory() - baseline) / MESSAGE_COUNT;
+        assertEquals(MESSAGE_COUNT, compact.size());
+
+        System.out.printf("Uncompacted: %.1f bytes/message, compact: %.1f bytes/message, saved: %.0f%%%n",
+            uncompactedBytes, compactBytes, 100 * (1 - compactBytes / uncompactedBytes));
+
+        assertTrue(compactBytes < uncompactedBytes, "Compact messages should retain less memory");
+    }
+
+    /**
+     * Counts the distinct instances, by identity, that messages hold for one field.
+     */
+    private static int countInstances(List<ValidationMessage> messages, Function<ValidationMessage, Object> field) {
+        Set<Object> instances = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (ValidationMessage message : messages) {
+            instances.add(field.apply(message));
+        }
+        return instances.size();
+    }
+
+    /**
+     * Builds messages the way validators do: file names and rule IDs are concatenated
+     * per message, and each line of a file gets its messages one after the other.
+     */
+    private static List<ValidationMessage> createCompact(int count) {
+        List<ValidationMessage> messages = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String rule = RULES[i % RULES.length];
+            messages.add(ValidationMessage.builder()
+                .severity(Severity.ERROR)
+                .ruleId("metadata." + rule)
+                .message("Attribute does not satisfy " + rule)
+                .attributeName("author")
+                .location(SourceLocation.builder()
+                    .filename(filename(i))
+                    .line(line(i))
+                    .build())
+                .build());
+        }
+        return messages;
+    }
+
+    private static List<Object> createUncompacted(int count) {
+        List<Object> messages = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String rule = RULES[i % RULES.length];
+            messages.add(new UncompactedMessage(Severity.ERROR, "metadata." + rule,
+                "Attribute does not satisfy " + rule, "author",
+                new UncompactedLocation(filename(i), line(i)), new ArrayList<>(), new ArrayList<>()));
+        }
+        return messages;
+    }
+
+    private static String filename(int message) {
+        return "/work/legacy-corpus/module-" + (message / MESSAGES_PER_FILE) + "/index.adoc";
+    }
+
+    private static int line(int message) {
+        return 1 + (message % MESSAGES_PER_FILE) * LINES_PER_FILE / MESSAGES_PER_FILE;
+    }
+
+    private static long usedMemory() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 5; i++) {
+            System.gc();
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    /**
+     * The fields a message kept before it was compacted: its own copies of both lists
+     * and of every string, and a location per message.
+     */
+    @SuppressWarnings("unused")
+    private static final class UncompactedMessage {
+        private final Severity severity;
+        private final String ruleId;
+        private final String message;
+        private final UncompactedLocation location;
+        private final String attributeName;
+        private final String actualValue = null;
+        private final String expectedValue = null;
+        private final ErrorType errorType = ErrorType.GENERIC;
+        private final String missingValueHint = null;
+        private final List<Suggestion> suggestions;
+        private final List<String> contextLines;
+
+        UncompactedMessage(Severity severity, String ruleId, String message, String attributeName,
+                           UncompactedLocation location, List<Suggestion> suggestions, List<String> contextLines) {
+            this.severity = severity;
+            this.ruleId = ruleId;
+            this.message = message;
+            this.attributeName = attributeName;
+            this.location = location;
+            this.suggestions = new ArrayList<>(suggestions);
+            this.contextLines = new ArrayList<>(contextLines);
+        }
+    }
+
+    @SuppressWarnings("unused")
+    private static final class UncompactedLocation {
+        private final String filename;
+        private final int startLine;
+        private final int startColumn = 1;
+        private final int endLine;
+        private final int endColumn = 1;
+        private final String sourceLine = null;
+
+        UncompactedLocation(String filename, int line) {
+            this.filename = filename;
+            this.startLine = line;
+            this.endLine = line;
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.linter.validator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.example.linter.config.Severity;
+
+/**
+ * Performance test comparing a composed report result with copying every
+ * per-file result into one and counting its messages on each call.
+ */
+@Tag("performance")
+@DisplayName("ValidationResult Performance")
+class ValidationResultPerformanceTest {
+
+    private static final int FILE_COUNT = 2_000;
+    private static final int MESSAGES_PER_FILE = 50;
+    private static final int STATUS_CHECKS = 10;
+    private static final int ROUNDS = 5;
+    private static final Severity[] SEVERITIES = {Severity.ERROR, Severity.WARN, Severity.INFO};
+
+    @Test
+    @DisplayName("should compose and count a report faster than copying and streaming it")
+    void shouldComposeFasterThanCopying() {
+        List<ValidationResult> results = createResults();
+
+        // Keep the best of several rounds, the first ones warm up the JIT
+        long copyNanos = Long.MAX_VALUE;
+        long composeNanos = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            long copyStart = System.nanoTime();
+            ValidationResult.Builder aggregated = ValidationResult.builder();
+            for (ValidationResult result : results) {
+                aggregated.addMessages(result.getMessages());
+            }
+            List<ValidationMessage> copied = aggregated.build().getMessages();
+            long copiedErrors = 0;
+            for (int i = 0; i < STATUS_CHECKS; i++) {
+                // What every count and status check did before the counters were kept
+                copiedErrors = copied.stream().filter(msg -> msg.getSeverity() == Severity.ERROR).count();
+                copied.stream().filter(msg -> msg.getSeverity() == Severity.WARN).count();
+                copied.stream().anyMatch(msg -> msg.getSeverity() == Severity.ERROR);
+            }
+            copyNanos = Math.min(copyNanos, System.nanoTime() - copyStart);
+
+            long composeStart = System.nanoTime();
+            ValidationResult composed = ValidationResult.compose(results, 0, 0);
+            int composedErrors = 0;
+            for (int i = 0; i < STATUS_CHECKS; i++) {
+                composedErrors = composed.getErrorCount();
+                composed.getWarningCount();
+                composed.hasErrors();
+            }
+            composeNanos = Math.min(composeNanos, System.nanoTime() - composeStart);
+
+            assertEquals(copiedErrors, composedErrors);
+            assertEquals(copied.size(), composed.getMessages().size());
+        }
+
+        System.out.printf("Copied and streamed: %.2f ms, composed: %.2f ms, speedup: %.1fx%n",
+            copyNanos / 1e6, composeNanos / 1e6, (double) copyNanos / composeNanos);
+
+        assertTrue(composeNanos < copyNanos, "Composing should be faster than copying every message");
+    }
+
+    private static List<ValidationResult> createResults() {
+        List<ValidationResult> results = new ArrayList<>(FILE_COUNT);
+        for (int file = 0; file < FILE_COUNT; file++) {
+            ValidationResult.Builder builder = ValidationResult.builder();
+            for (int i = 0; i < MESSAGES_PER_FILE; i++) {
+                builder.addMessage(ValidationMessage.builder()
+                    .severity(SEVERITIES[i % SEVERITIES.length])
+                    .ruleId("rule-" + i % 7)
+                    .message("Message " + i)
+                    .location(SourceLocation.builder()
+                        .filename("module-" + file + ".adoc")
+                        .line(1 + i)
+                        .build())
+                    .build());
+            }
+            results.add(builder.build());
+        }
+        return results;
+    }
+}
@@ -3,6 +3,7 @@ package com.example.linter.validator;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -308,6 +309,113 @@ class ValidationResultTest {
             // Then
             assertTrue(messagesByLine.isEmpty());
         }
+        
+        @Test
+        @DisplayName("should build the groupings once and keep them unmodifiable")
+        void shouldBuildGroupingsOnce() {
+            // When
+            Map<String, List<ValidationMessage>> messagesByFile = result.getMessagesByFile();
+            
+            // Then
+            assertSame(messagesByFile, result.getMessagesByFile());
+            assertSame(result.getMessagesByLine("test1.adoc"), result.getMessagesByLine("test1.adoc"));
+            assertThrows(UnsupportedOperationException.class, () ->
+                messagesByFile.get("test1.adoc").add(errorMessage));
+            assertThrows(UnsupportedOperationException.class, () ->
+                result.getMessagesBySeverity(Severity.ERROR).clear());
+        }
+        
+        @Test
+        @DisplayName("should count messages per rule in order of first occurrence")
+        void shouldCountMessagesPerRule() {
+            // When
+            Map<String, Integer> ruleCounts = result.getRuleCounts();
+            
+            // Then
+            assertEquals(List.of("test.error", "another.error", "file2.error", "test.info"),
+                List.copyOf(ruleCounts.keySet()));
+            assertEquals(1, ruleCounts.get("another.error"));
+        }
+    }
+    
+    @Nested
+    @DisplayName("Composed Results")
+    class ComposedResultTests {
+        
+        private ValidationResult first;
+        private ValidationResult second;
+        
+        @BeforeEach
+        void setUp() {
+            first = ValidationResult.builder()
+                .addMessage(errorMessage)
+                .addMessage(infoMessage)
+                .cacheHits(1)
+                .build();
+            second = ValidationResult.builder()
+                .addMessage(warnMessage)
+                .addMessage(errorMessage)
+                .cacheMisses(1)
+                .build();
+        }
+        
+        @Test
+        @DisplayName("should present the messages of all results in order")
+        void shouldPresentMessagesInOrder() {
+            // When
+            ValidationResult composed = ValidationResult.compose(
+                List.of(first, ValidationResult.builder().build(), second), 100, 250);
+            
+            // Then
+            assertEquals(List.of(errorMessage, infoMessage, warnMessage, errorMessage), composed.getMessages());
+            assertEquals(4, composed.getMessages().size());
+            assertSame(warnMessage, composed.getMessages().get(2));
+            assertThrows(IndexOutOfBoundsException.class, () -> composed.getMessages().get(4));
+            assertThrows(UnsupportedOperationException.class, () -> composed.getMessages().add(errorMessage));
+            assertEquals(150, composed.getValidationTimeMillis());
+        }
+        
+        @Test
+        @DisplayName("should sum the counters of all results")
+        void shouldSumCounters() {
+            // When
+            ValidationResult composed = ValidationResult.compose(List.of(first, second), 0, 0);
+            
+            // Then
+            assertEquals(2, composed.getErrorCount());
+            assertEquals(1, composed.getWarningCount());
+            assertEquals(1, composed.getInfoCount());
+            assertTrue(composed.hasErrors());
+            assertTrue(composed.hasWarnings());
+            assertEquals(1, composed.getCacheHits());
+            assertEquals(1, composed.getCacheMisses());
+            assertEquals(Map.of("test.error", 2, "test.info", 1, "test.warn", 1), composed.getRuleCounts());
+        }
+        
+        @Test
+        @DisplayName("should group the messages of all results")
+        void shouldGroupMessagesOfAllResults() {
+            // When
+            ValidationResult composed = ValidationResult.compose(List.of(first, second), 0, 0);
+            
+            // Then
+            assertEquals(3, composed.getMessagesByFile().get("test1.adoc").size());
+            assertEquals(1, composed.getMessagesByFile().get("test2.adoc").size());
+            assertEquals(2, composed.getMessagesBySeverity(Severity.ERROR).size());
+            assertEquals(3, composed.getMessagesByLine("test1.adoc").get(10).size());
+        }
+        
+        @Test
+        @DisplayName("should compose no results into an empty result")
+        void shouldComposeNoResults() {
+            // When
+            ValidationResult composed = ValidationResult.compose(List.of(), 0, 0);
+            
+            // Then
+            assertTrue(composed.getMessages().isEmpty());
+            assertFalse(composed.hasMessages());
+            assertTrue(composed.isValid());
+        }
     }
     
     @Nested
@@ -9,13 +9,13 @@ import static org.mockito.Mockito.when;
 
 import java.util.List;
 
-import org.asciidoctor.ast.Document;
-import org.asciidoctor.ast.StructuralNode;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import com.example.linter.ast.AstDocument;
+import com.example.linter.ast.AstNode;
 import com.example.linter.config.BlockType;
 import com.example.linter.config.Severity;
 import com.example.linter.config.blocks.AdmonitionBlock;
@@ -27,15 +27,15 @@ class AdmonitionBlockValidatorTest {
     
     private AdmonitionBlockValidator validator;
     private BlockValidationContext context;
-    private StructuralNode mockBlock;
-    private Document mockDocument;
+    private AstNode mockBlock;
+    private AstDocument mockDocument;
     
     @BeforeEach
     void setUp() {
         validator = new AdmonitionBlockValidator();
         context = mock(BlockValidationContext.class);
-        mockBlock = mock(StructuralNode.class);
-        mockDocument = mock(Document.class);
+        mockBlock = mock(AstNode.class);
+        mockDocument = mock(AstDocument.class);
         
         when(mockBlock.getDocument()).thenReturn(mockDocument);
         when(context.createLocation(any())).thenReturn(mock(com.example.linter.validator.SourceLocation.class));
@@ -130,7 +130,7 @@ class AdmonitionBlockValidatorTest {
         @DisplayName("should validate content min length")
         void shouldValidateContentMinLength() {
             // Given
-            when(mockBlock.getContent()).thenReturn("Short");
+            when(mockBlock.getSource()).thenReturn("Short");
             when(mockBlock.getStyle()).thenReturn("IMPORTANT");
             
             AdmonitionBlock config = AdmonitionBlock.builder()
@@ -155,7 +155,7 @@ class AdmonitionBlockValidatorTest {
         void shouldValidateContentMaxLength() {
             // Given
             String longContent = "This is a very long content that exceeds the maximum allowed length";
-            when(mockBlock.getContent()).thenReturn(longContent);
+            when(mockBlock.getSource()).thenReturn(longContent);
             when(mockBlock.getStyle()).thenReturn("CAUTION");
             
             AdmonitionBlock config = AdmonitionBlock.builder()
@@ -182,7 +182,7 @@ class AdmonitionBlockValidatorTest {
         @DisplayName("should validate minimum lines")
         void shouldValidateMinLines() {
             // Given
-            when(mockBlock.getContent()).thenReturn("Single line");
+            when(mockBlock.getSource()).thenReturn("Single line");
             when(mockBlock.getStyle()).thenReturn("NOTE");
             
             AdmonitionBlock config = AdmonitionBlock.builder()
@@ -208,7 +208,7 @@ class AdmonitionBlockValidatorTest {
         @DisplayName("should validate maximum lines")
         void shouldValidateMaxLines() {
             // Given
-            when(mockBlock.getContent()).thenReturn("Line 1\nLine 2\nLine 3\nLine 4");
+            when(mockBlock.getSource()).thenReturn("Line 1\nLine 2\nLine 3\nLine 4");
             when(mockBlock.getStyle()).thenReturn("TIP");
             
             AdmonitionBlock config = AdmonitionBlock.builder()
@@ -494,7 +494,7 @@ class AdmonitionBlockValidatorTest {
         @DisplayName("should handle line severity override with double fallback")
         void shouldHandleLineSeverityWithDoubleFallback() {
             // Given
-            when(mockBlock.getContent()).thenReturn("Line 1\nLine 2\nLine 3\nLine 4");
+            when(mockBlock.getSource()).thenReturn("Line 1\nLine 2\nLine 3\nLine 4");
             
             AdmonitionBlock config = AdmonitionBlock.builder()
                 .severity(Severity.ERROR) // Block-level severity
@@ -520,7 +520,7 @@ class AdmonitionBlockValidatorTest {
         @DisplayName("should fallback through hierarchy when line severity is null")
         void shouldFallbackThroughHierarchy() {
             // Given
-            when(mockBlock.getContent()).thenReturn("Short");
+            when(mockBlock.getSource()).thenReturn("Short");
             
             AdmonitionBlock config = AdmonitionBlock.builder()
                 .severity(Severity.ERROR) // Block-level severity
@@ -561,7 +561,7 @@ class AdmonitionBlockValidatorTest {
         @DisplayName("should handle null content")
         void shouldHandleNullContent() {
             // Given
-            when(mockBlock.getContent()).thenReturn(null);
+            when(mockBlock.getSource()).thenReturn(null);
             when(mockBlock.getBlocks()).thenReturn(null);
             when(mockBlock.getStyle()).thenReturn("IMPORTANT");
             
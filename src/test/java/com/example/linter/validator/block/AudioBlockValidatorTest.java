@@ -8,14 +8,12 @@ import static org.mockito.Mockito.when;
 import java.util.List;
 import java.util.regex.Pattern;
 
-import org.asciidoctor.ast.Block;
-import org.asciidoctor.ast.Section;
-import org.asciidoctor.ast.StructuralNode;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import com.example.linter.ast.AstNode;
 import com.example.linter.config.BlockType;
 import com.example.linter.config.Severity;
 import com.example.linter.config.blocks.AudioBlock;
@@ -49,15 +47,15 @@ class AudioBlockValidatorTest {
     
     private AudioBlockValidator validator;
     private BlockValidationContext context;
-    private Block mockBlock;
-    private Section mockSection;
+    private AstNode mockBlock;
+    private AstNode mockSection;
     
     @BeforeEach
     void setUp() {
         validator = new AudioBlockValidator();
-        mockSection = mock(Section.class);
+        mockSection = mock(AstNode.class);
         context = new BlockValidationContext(mockSection, "test.adoc");
-        mockBlock = mock(Block.class);
+        mockBlock = mock(AstNode.class);
     }
     
     @Test
@@ -78,7 +76,7 @@ class AudioBlockValidatorTest {
         @DisplayName("should return empty list when block is not Audio instance")
         void shouldReturnEmptyListWhenNotAudioInstance() {
             // Given
-            StructuralNode notAnAudio = mock(StructuralNode.class);
+            AstNode notAnAudio = mock(AstNode.class);
             AudioBlock config = AudioBlock.builder()
                 .severity(Severity.ERROR)
                 .build();
@@ -124,7 +122,7 @@ class AudioBlockValidatorTest {
                 .build();
             
             when(mockBlock.getAttribute("target")).thenReturn(null);
-            when(mockBlock.getContent()).thenReturn(null);
+            when(mockBlock.getSource()).thenReturn(null);
             
             // When
             List<ValidationMessage> messages = validator.validate(mockBlock, config, context);
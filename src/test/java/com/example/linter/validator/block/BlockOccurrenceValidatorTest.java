@@ -10,13 +10,12 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
-import org.asciidoctor.ast.Section;
-import org.asciidoctor.ast.StructuralNode;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import com.example.linter.ast.AstNode;
 import com.example.linter.config.Severity;
 import com.example.linter.config.blocks.Block;
 import com.example.linter.config.blocks.ParagraphBlock;
@@ -29,12 +28,12 @@ class BlockOccurrenceValidatorTest {
     
     private BlockOccurrenceValidator validator;
     private BlockValidationContext context;
-    private Section mockSection;
+    private AstNode mockSection;
     
     @BeforeEach
     void setUp() {
         validator = new BlockOccurrenceValidator();
-        mockSection = mock(Section.class);
+        mockSection = mock(AstNode.class);
         context = new BlockValidationContext(mockSection, "test.adoc");
     }
     
@@ -112,7 +111,7 @@ class BlockOccurrenceValidatorTest {
             List<Block> blocks = Arrays.asList(block);
             
             // Add only one occurrence to context
-            StructuralNode node = mock(StructuralNode.class);
+            AstNode node = mock(AstNode.class);
             context.trackBlock(block, node);
             
             // When
@@ -145,8 +144,8 @@ class BlockOccurrenceValidatorTest {
             List<Block> blocks = Arrays.asList(block);
             
             // Add two occurrences to context
-            StructuralNode node1 = mock(StructuralNode.class);
-            StructuralNode node2 = mock(StructuralNode.class);
+            AstNode node1 = mock(AstNode.class);
+            AstNode node2 = mock(AstNode.class);
             context.trackBlock(block, node1);
             context.trackBlock(block, node2);
             
@@ -208,9 +207,9 @@ class BlockOccurrenceValidatorTest {
             List<Block> blocks = Arrays.asList(block);
             
             // Add three occurrences to context
-            StructuralNode node1 = mock(StructuralNode.class);
-            StructuralNode node2 = mock(StructuralNode.class);
-            StructuralNode node3 = mock(StructuralNode.class);
+            AstNode node1 = mock(AstNode.class);
+            AstNode node2 = mock(AstNode.class);
+            AstNode node3 = mock(AstNode.class);
             context.trackBlock(block, node1);
             context.trackBlock(block, node2);
             context.trackBlock(block, node3);
@@ -244,9 +243,9 @@ class BlockOccurrenceValidatorTest {
             List<Block> blocks = Arrays.asList(block);
             
             // Add three occurrences to context (exactly at max)
-            StructuralNode node1 = mock(StructuralNode.class);
-            StructuralNode node2 = mock(StructuralNode.class);
-            StructuralNode node3 = mock(StructuralNode.class);
+            AstNode node1 = mock(AstNode.class);
+            AstNode node2 = mock(AstNode.class);
+            AstNode node3 = mock(AstNode.class);
             context.trackBlock(block, node1);
             context.trackBlock(block, node2);
             context.trackBlock(block, node3);
@@ -293,7 +292,7 @@ class BlockOccurrenceValidatorTest {
             
             // Add no paragraph blocks (violates min)
             // Add one table block (violates min)
-            StructuralNode tableNode = mock(StructuralNode.class);
+            AstNode tableNode = mock(AstNode.class);
             context.trackBlock(tableBlock, tableNode);
             
             // When
@@ -337,8 +336,8 @@ class BlockOccurrenceValidatorTest {
             List<Block> blocks = Arrays.asList(block);
             
             // Add two occurrences (violates max)
-            StructuralNode node1 = mock(StructuralNode.class);
-            StructuralNode node2 = mock(StructuralNode.class);
+            AstNode node1 = mock(AstNode.class);
+            AstNode node2 = mock(AstNode.class);
             context.trackBlock(block, node1);
             context.trackBlock(block, node2);
             
@@ -374,9 +373,9 @@ class BlockOccurrenceValidatorTest {
             List<Block> blocks = Arrays.asList(block);
             
             // Test with exactly 3 occurrences
-            StructuralNode node1 = mock(StructuralNode.class);
-            StructuralNode node2 = mock(StructuralNode.class);
-            StructuralNode node3 = mock(StructuralNode.class);
+            AstNode node1 = mock(AstNode.class);
+            AstNode node2 = mock(AstNode.class);
+            AstNode node3 = mock(AstNode.class);
             context.trackBlock(block, node1);
             context.trackBlock(block, node2);
             context.trackBlock(block, node3);
@@ -405,7 +404,7 @@ class BlockOccurrenceValidatorTest {
             
             // Add 4 occurrences
             for (int i = 0; i < 4; i++) {
-                StructuralNode node = mock(StructuralNode.class);
+                AstNode node = mock(AstNode.class);
                 context.trackBlock(block, node);
             }
             
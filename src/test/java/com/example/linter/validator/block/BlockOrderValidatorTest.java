@@ -7,13 +7,12 @@ import static org.mockito.Mockito.mock;
 import java.util.Arrays;
 import java.util.List;
 
-import org.asciidoctor.ast.Section;
-import org.asciidoctor.ast.StructuralNode;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import com.example.linter.ast.AstNode;
 import com.example.linter.config.Severity;
 import com.example.linter.config.blocks.ImageBlock;
 import com.example.linter.config.blocks.ParagraphBlock;
@@ -26,12 +25,12 @@ class BlockOrderValidatorTest {
     
     private BlockOrderValidator validator;
     private BlockValidationContext context;
-    private Section mockSection;
+    private AstNode mockSection;
     
     @BeforeEach
     void setUp() {
         validator = new BlockOrderValidator();
-        mockSection = mock(Section.class);
+        mockSection = mock(AstNode.class);
         context = new BlockValidationContext(mockSection, "test.adoc");
     }
     
@@ -107,9 +106,9 @@ class BlockOrderValidatorTest {
                 .severity(Severity.ERROR)
                 .build();
             
-            StructuralNode node1 = mock(StructuralNode.class);
-            StructuralNode node2 = mock(StructuralNode.class);
-            StructuralNode node3 = mock(StructuralNode.class);
+            AstNode node1 = mock(AstNode.class);
+            AstNode node2 = mock(AstNode.class);
+            AstNode node3 = mock(AstNode.class);
             
             context.trackBlock(introBlock, node1);
             context.trackBlock(contentBlock, node2);
@@ -141,8 +140,8 @@ class BlockOrderValidatorTest {
                 .severity(Severity.ERROR)
                 .build();
             
-            StructuralNode node1 = mock(StructuralNode.class);
-            StructuralNode node2 = mock(StructuralNode.class);
+            AstNode node1 = mock(AstNode.class);
+            AstNode node2 = mock(AstNode.class);
             
             context.trackBlock(contentBlock, node1); // Wrong: content first
             context.trackBlock(introBlock, node2);   // Wrong: intro second
@@ -183,9 +182,9 @@ class BlockOrderValidatorTest {
                 .severity(Severity.ERROR)
                 .build();
             
-            StructuralNode node1 = mock(StructuralNode.class);
-            StructuralNode node2 = mock(StructuralNode.class);
-            StructuralNode node3 = mock(StructuralNode.class);
+            AstNode node1 = mock(AstNode.class);
+            AstNode node2 = mock(AstNode.class);
+            AstNode node3 = mock(AstNode.class);
             
             context.trackBlock(headerBlock, node1);
             context.trackBlock(imageBlock, node2);   // Not in fixed order - OK
@@ -224,8 +223,8 @@ class BlockOrderValidatorTest {
                 .severity(Severity.ERROR)
                 .build();
             
-            StructuralNode node1 = mock(StructuralNode.class);
-            StructuralNode node2 = mock(StructuralNode.class);
+            AstNode node1 = mock(AstNode.class);
+            AstNode node2 = mock(AstNode.class);
             
             context.trackBlock(introBlock, node1);
             context.trackBlock(conclusionBlock, node2);
@@ -258,8 +257,8 @@ class BlockOrderValidatorTest {
                 .severity(Severity.ERROR)
                 .build();
             
-            StructuralNode node1 = mock(StructuralNode.class);
-            StructuralNode node2 = mock(StructuralNode.class);
+            AstNode node1 = mock(AstNode.class);
+            AstNode node2 = mock(AstNode.class);
             
             context.trackBlock(conclusionBlock, node1);  // Wrong order
             context.trackBlock(introBlock, node2);
@@ -294,7 +293,7 @@ class BlockOrderValidatorTest {
                 .severity(Severity.ERROR)
                 .build();
             
-            StructuralNode node = mock(StructuralNode.class);
+            AstNode node = mock(AstNode.class);
             context.trackBlock(introBlock, node);
             
             // When
@@ -330,8 +329,8 @@ class BlockOrderValidatorTest {
                 .severity(Severity.ERROR)
                 .build();
             
-            StructuralNode node1 = mock(StructuralNode.class);
-            StructuralNode node2 = mock(StructuralNode.class);
+            AstNode node1 = mock(AstNode.class);
+            AstNode node2 = mock(AstNode.class);
             
             context.trackBlock(headerBlock, node1);
             context.trackBlock(summaryBlock, node2);
@@ -364,8 +363,8 @@ class BlockOrderValidatorTest {
                 .severity(Severity.ERROR)
                 .build();
             
-            StructuralNode node1 = mock(StructuralNode.class);
-            StructuralNode node2 = mock(StructuralNode.class);
+            AstNode node1 = mock(AstNode.class);
+            AstNode node2 = mock(AstNode.class);
             
             context.trackBlock(summaryBlock, node1);  // Wrong order
             context.trackBlock(headerBlock, node2);
@@ -415,9 +414,9 @@ class BlockOrderValidatorTest {
                 .severity(Severity.ERROR)
                 .build();
             
-            StructuralNode node1 = mock(StructuralNode.class);
-            StructuralNode node2 = mock(StructuralNode.class);
-            StructuralNode node3 = mock(StructuralNode.class);
+            AstNode node1 = mock(AstNode.class);
+            AstNode node2 = mock(AstNode.class);
+            AstNode node3 = mock(AstNode.class);
             
             // Wrong order: footer, content, header
             context.trackBlock(footerBlock, node1);
@@ -452,8 +451,8 @@ class BlockOrderValidatorTest {
                 .severity(Severity.ERROR)
                 .build();
             
-            StructuralNode node1 = mock(StructuralNode.class);
-            StructuralNode node2 = mock(StructuralNode.class);
+            AstNode node1 = mock(AstNode.class);
+            AstNode node2 = mock(AstNode.class);
             
             // Wrong order
             context.trackBlock(tableBlock, node1);
@@ -7,24 +7,24 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
-import org.asciidoctor.ast.StructuralNode;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import com.example.linter.ast.AstNode;
 import com.example.linter.config.BlockType;
 
 @DisplayName("BlockTypeDetector")
 class BlockTypeDetectorTest {
     
     private BlockTypeDetector detector;
-    private StructuralNode mockNode;
+    private AstNode mockNode;
     
     @BeforeEach
     void setUp() {
         detector = new BlockTypeDetector();
-        mockNode = mock(StructuralNode.class);
+        mockNode = mock(AstNode.class);
     }
     
     @Nested
@@ -35,7 +35,7 @@ class BlockTypeDetectorTest {
         @DisplayName("should return null when node is null")
         void shouldReturnNullWhenNodeIsNull() {
             // Given
-            StructuralNode nullNode = null;
+            AstNode nullNode = null;
             
             // When
             BlockType result = detector.detectType(nullNode);
@@ -226,7 +226,7 @@ class BlockTypeDetectorTest {
         @DisplayName("should return false when node is null")
         void shouldReturnFalseWhenNodeIsNull() {
             // Given
-            StructuralNode nullNode = null;
+            AstNode nullNode = null;
             
             // When
             boolean result = detector.isBlockType(nullNode, BlockType.PARAGRAPH);
@@ -8,14 +8,12 @@ import static org.mockito.Mockito.when;
 
 import java.util.List;
 
-import org.asciidoctor.ast.Cursor;
-import org.asciidoctor.ast.Section;
-import org.asciidoctor.ast.StructuralNode;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import com.example.linter.ast.AstNode;
 import com.example.linter.config.BlockType;
 import com.example.linter.config.blocks.Block;
 import com.example.linter.config.blocks.ParagraphBlock;
@@ -25,12 +23,12 @@ import com.example.linter.validator.SourceLocation;
 class BlockValidationContextTest {
     
     private BlockValidationContext context;
-    private Section mockSection;
+    private AstNode mockSection;
     private String filename = "test.adoc";
     
     @BeforeEach
     void setUp() {
-        mockSection = mock(Section.class);
+        mockSection = mock(AstNode.class);
         context = new BlockValidationContext(mockSection, filename);
     }
     
@@ -42,7 +40,7 @@ class BlockValidationContextTest {
         @DisplayName("should require non-null section")
         void shouldRequireNonNullSection() {
             // Given
-            Section nullSection = null;
+            AstNode nullSection = null;
             
             // When/Then
             assertThrows(NullPointerException.class, 
@@ -80,10 +78,8 @@ class BlockValidationContextTest {
         @DisplayName("should create location with line number from source location")
         void shouldCreateLocationWithLineNumberFromSourceLocation() {
             // Given
-            StructuralNode mockBlock = mock(StructuralNode.class);
-            Cursor mockCursor = mock(Cursor.class);
-            when(mockBlock.getSourceLocation()).thenReturn(mockCursor);
-            when(mockCursor.getLineNumber()).thenReturn(42);
+            AstNode mockBlock = mock(AstNode.class);
+            when(mockBlock.getLineNumber()).thenReturn(42);
             
             // When
             SourceLocation location = context.createLocation(mockBlock);
@@ -94,11 +90,11 @@ class BlockValidationContextTest {
         }
         
         @Test
-        @DisplayName("should create location with line 1 when source location is null")
-        void shouldCreateLocationWithLine1WhenSourceLocationIsNull() {
+        @DisplayName("should create location with line 1 when source location is unknown")
+        void shouldCreateLocationWithLine1WhenSourceLocationIsUnknown() {
             // Given
-            StructuralNode mockBlock = mock(StructuralNode.class);
-            when(mockBlock.getSourceLocation()).thenReturn(null);
+            AstNode mockBlock = mock(AstNode.class);
+            when(mockBlock.getLineNumber()).thenReturn(0);
             
             // When
             SourceLocation location = context.createLocation(mockBlock);
@@ -118,7 +114,7 @@ class BlockValidationContextTest {
         void shouldTrackBlockOccurrence() {
             // Given
             Block mockConfig = mock(ParagraphBlock.class);
-            StructuralNode mockBlock = mock(StructuralNode.class);
+            AstNode mockBlock = mock(AstNode.class);
             when(mockConfig.getName()).thenReturn("intro");
             when(mockConfig.getType()).thenReturn(BlockType.PARAGRAPH);
             
@@ -134,8 +130,8 @@ class BlockValidationContextTest {
         void shouldTrackMultipleOccurrencesOfSameBlock() {
             // Given
             Block mockConfig = mock(ParagraphBlock.class);
-            StructuralNode mockBlock1 = mock(StructuralNode.class);
-            StructuralNode mockBlock2 = mock(StructuralNode.class);
+            AstNode mockBlock1 = mock(AstNode.class);
+            AstNode mockBlock2 = mock(AstNode.class);
             when(mockConfig.getName()).thenReturn("intro");
             when(mockConfig.getType()).thenReturn(BlockType.PARAGRAPH);
             
@@ -153,8 +149,8 @@ class BlockValidationContextTest {
             // Given
             Block config1 = mock(ParagraphBlock.class);
             Block config2 = mock(ParagraphBlock.class);
-            StructuralNode block1 = mock(StructuralNode.class);
-            StructuralNode block2 = mock(StructuralNode.class);
+            AstNode block1 = mock(AstNode.class);
+            AstNode block2 = mock(AstNode.class);
             when(config1.getName()).thenReturn("first");
             when(config2.getName()).thenReturn("second");
             when(config1.getType()).thenReturn(BlockType.PARAGRAPH);
@@ -197,7 +193,7 @@ class BlockValidationContextTest {
         void shouldReturnTrackedOccurrences() {
             // Given
             Block mockConfig = mock(ParagraphBlock.class);
-            StructuralNode mockBlock = mock(StructuralNode.class);
+            AstNode mockBlock = mock(AstNode.class);
             when(mockConfig.getName()).thenReturn("intro");
             when(mockConfig.getType()).thenReturn(BlockType.PARAGRAPH);
             context.trackBlock(mockConfig, mockBlock);
@@ -9,12 +9,12 @@ import static org.mockito.Mockito.when;
 import java.util.Arrays;
 import java.util.List;
 
-import org.asciidoctor.ast.StructuralNode;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import com.example.linter.ast.AstNode;
 import com.example.linter.config.BlockType;
 import com.example.linter.config.Severity;
 import com.example.linter.config.blocks.ExampleBlock;
@@ -25,14 +25,14 @@ import com.example.linter.validator.ValidationMessage;
 class ExampleBlockValidatorTest {
     
     private ExampleBlockValidator validator;
-    private StructuralNode mockNode;
+    private AstNode mockNode;
     private BlockValidationContext mockContext;
     private SourceLocation mockLocation;
     
     @BeforeEach
     void setUp() {
         validator = new ExampleBlockValidator();
-        mockNode = mock(StructuralNode.class);
+        mockNode = mock(AstNode.class);
         mockContext = mock(BlockValidationContext.class);
         mockLocation = mock(SourceLocation.class);
         when(mockContext.createLocation(any())).thenReturn(mockLocation);
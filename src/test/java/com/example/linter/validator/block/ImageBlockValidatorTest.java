@@ -8,14 +8,12 @@ import static org.mockito.Mockito.when;
 import java.util.List;
 import java.util.regex.Pattern;
 
-import org.asciidoctor.ast.Block;
-import org.asciidoctor.ast.Section;
-import org.asciidoctor.ast.StructuralNode;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import com.example.linter.ast.AstNode;
 import com.example.linter.config.BlockType;
 import com.example.linter.config.Severity;
 import com.example.linter.config.blocks.ImageBlock;
@@ -50,15 +48,15 @@ class ImageBlockValidatorTest {
     
     private ImageBlockValidator validator;
     private BlockValidationContext context;
-    private Block mockBlock;
-    private Section mockSection;
+    private AstNode mockBlock;
+    private AstNode mockSection;
     
     @BeforeEach
     void setUp() {
         validator = new ImageBlockValidator();
-        mockSection = mock(Section.class);
+        mockSection = mock(AstNode.class);
         context = new BlockValidationContext(mockSection, "test.adoc");
-        mockBlock = mock(Block.class);
+        mockBlock = mock(AstNode.class);
     }
     
     @Test
@@ -79,7 +77,7 @@ class ImageBlockValidatorTest {
         @DisplayName("should return empty list when block is not Image instance")
         void shouldReturnEmptyListWhenNotImageInstance() {
             // Given
-            StructuralNode notAnImage = mock(StructuralNode.class);
+            AstNode notAnImage = mock(AstNode.class);
             ImageBlock config = ImageBlock.builder()
                 .severity(Severity.ERROR)
                 .build();
@@ -9,14 +9,12 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.regex.Pattern;
 
-import org.asciidoctor.ast.Block;
-import org.asciidoctor.ast.Section;
-import org.asciidoctor.ast.StructuralNode;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import com.example.linter.ast.AstNode;
 import com.example.linter.config.BlockType;
 import com.example.linter.config.Severity;
 import com.example.linter.config.blocks.ListingBlock;
@@ -49,15 +47,15 @@ class ListingBlockValidatorTest {
     
     private ListingBlockValidator validator;
     private BlockValidationContext context;
-    private Block mockBlock;
-    private Section mockSection;
+    private AstNode mockBlock;
+    private AstNode mockSection;
     
     @BeforeEach
     void setUp() {
         validator = new ListingBlockValidator();
-        mockSection = mock(Section.class);
+        mockSection = mock(AstNode.class);
         context = new BlockValidationContext(mockSection, "test.adoc");
-        mockBlock = mock(Block.class);
+        mockBlock = mock(AstNode.class);
     }
     
     @Test
@@ -78,7 +76,7 @@ class ListingBlockValidatorTest {
         @DisplayName("should return empty list when block is not Block instance")
         void shouldReturnEmptyListWhenNotBlockInstance() {
             // Given
-            StructuralNode notABlock = mock(StructuralNode.class);
+            AstNode notABlock = mock(AstNode.class);
             ListingBlock config = ListingBlock.builder()
                 .severity(Severity.ERROR)
                 .build();
@@ -368,7 +366,7 @@ class ListingBlockValidatorTest {
                 .severity(Severity.ERROR)
                 .build();
             
-            when(mockBlock.getContent()).thenReturn("public class Test { // <1>\n    // code\n}");
+            when(mockBlock.getSource()).thenReturn("public class Test { // <1>\n    // code\n}");
             
             // When
             List<ValidationMessage> messages = validator.validate(mockBlock, config, context);
@@ -396,7 +394,7 @@ class ListingBlockValidatorTest {
                 .severity(Severity.ERROR)
                 .build();
             
-            when(mockBlock.getContent()).thenReturn("public class Test { // <1>\n    // code\n}");
+            when(mockBlock.getSource()).thenReturn("public class Test { // <1>\n    // code\n}");
             
             // When
             List<ValidationMessage> messages = validator.validate(mockBlock, config, context);
@@ -421,7 +419,7 @@ class ListingBlockValidatorTest {
                 .severity(Severity.ERROR)
                 .build();
             
-            when(mockBlock.getContent()).thenReturn("public class Test { // <1>\n    // code\n}");
+            when(mockBlock.getSource()).thenReturn("public class Test { // <1>\n    // code\n}");
             
             // When
             List<ValidationMessage> messages = validator.validate(mockBlock, config, context);
@@ -447,7 +445,7 @@ class ListingBlockValidatorTest {
                 .severity(Severity.ERROR)
                 .build();
             
-            when(mockBlock.getContent()).thenReturn("public class Test { // <1>\n    // code\n}");
+            when(mockBlock.getSource()).thenReturn("public class Test { // <1>\n    // code\n}");
             
             // When
             List<ValidationMessage> messages = validator.validate(mockBlock, config, context);
@@ -470,7 +468,7 @@ class ListingBlockValidatorTest {
                 .severity(Severity.ERROR)
                 .build();
             
-            when(mockBlock.getContent()).thenReturn("code // <1>\nmore // <2>\nagain // <3>");
+            when(mockBlock.getSource()).thenReturn("code // <1>\nmore // <2>\nagain // <3>");
             
             // When
             List<ValidationMessage> messages = validator.validate(mockBlock, config, context);
@@ -502,7 +500,7 @@ class ListingBlockValidatorTest {
                 .severity(Severity.ERROR)
                 .build();
             
-            when(mockBlock.getContent()).thenReturn("line1\nline2\nline3");
+            when(mockBlock.getSource()).thenReturn("line1\nline2\nline3");
             
             // When
             List<ValidationMessage> messages = validator.validate(mockBlock, config, context);
@@ -535,7 +533,7 @@ class ListingBlockValidatorTest {
             for (int i = 1; i <= 51; i++) {
                 content.append("line ").append(i).append("\n");
             }
-            when(mockBlock.getContent()).thenReturn(content.toString());
+            when(mockBlock.getSource()).thenReturn(content.toString());
             
             // When
             List<ValidationMessage> messages = validator.validate(mockBlock, config, context);
@@ -579,7 +577,7 @@ class ListingBlockValidatorTest {
             when(mockBlock.hasAttribute("language")).thenReturn(true);
             when(mockBlock.getAttribute("language")).thenReturn("javascript"); // Not allowed
             when(mockBlock.getTitle()).thenReturn(null); // Missing
-            when(mockBlock.getContent()).thenReturn("line1\nline2\nline3\nline4\nline5\nline6\nline7\nline8\nline9\nline10\nline11"); // Too long
+            when(mockBlock.getSource()).thenReturn("line1\nline2\nline3\nline4\nline5\nline6\nline7\nline8\nline9\nline10\nline11"); // Too long
             
             // When
             List<ValidationMessage> messages = validator.validate(mockBlock, config, context);
@@ -604,7 +602,7 @@ class ListingBlockValidatorTest {
                 .severity(Severity.ERROR)
                 .build();
             
-            when(mockBlock.getContent()).thenReturn("");
+            when(mockBlock.getSource()).thenReturn("");
             
             // When
             List<ValidationMessage> messages = validator.validate(mockBlock, config, context);
@@ -627,7 +625,7 @@ class ListingBlockValidatorTest {
                 .severity(Severity.ERROR)
                 .build();
             
-            when(mockBlock.getContent()).thenReturn(null);
+            when(mockBlock.getSource()).thenReturn(null);
             
             // When
             List<ValidationMessage> messages = validator.validate(mockBlock, config, context);
@@ -7,7 +7,6 @@ import static org.mockito.Mockito.when;
 
 import java.util.List;
 
-import org.asciidoctor.ast.StructuralNode;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -15,12 +14,13 @@ import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
+import com.example.linter.ast.AstNode;
 import com.example.linter.config.BlockType;
 import com.example.linter.config.Severity;
-import com.example.linter.config.blocks.LiteralBlock;
 import com.example.linter.config.blocks.LiteralBlock.IndentationConfig;
 import com.example.linter.config.blocks.LiteralBlock.LinesConfig;
 import com.example.linter.config.blocks.LiteralBlock.TitleConfig;
+import com.example.linter.config.blocks.LiteralBlock;
 import com.example.linter.validator.SourceLocation;
 import com.example.linter.validator.ValidationMessage;
 
@@ -29,7 +29,7 @@ class LiteralBlockValidatorTest {
     private LiteralBlockValidator validator;
     
     @Mock
-    private StructuralNode mockBlock;
+    private AstNode mockBlock;
     
     @Mock
     private BlockValidationContext mockContext;
@@ -44,7 +44,7 @@ class LiteralBlockValidatorTest {
         
         // Default setup
         when(mockContext.createLocation(any())).thenReturn(mockLocation);
-        when(mockBlock.getContent()).thenReturn("Line 1\nLine 2");
+        when(mockBlock.getSource()).thenReturn("Line 1\nLine 2");
     }
     
     @Test
@@ -187,7 +187,7 @@ class LiteralBlockValidatorTest {
         @DisplayName("should validate min lines")
         void shouldValidateMinLines() {
             // Given
-            when(mockBlock.getContent()).thenReturn("Line 1");
+            when(mockBlock.getSource()).thenReturn("Line 1");
             
             LiteralBlock config = LiteralBlock.builder()
                 .severity(Severity.INFO)
@@ -219,7 +219,7 @@ class LiteralBlockValidatorTest {
                 if (i > 0) sb.append("\n");
                 sb.append("Line");
             }
-            when(mockBlock.getContent()).thenReturn(sb.toString());
+            when(mockBlock.getSource()).thenReturn(sb.toString());
             
             LiteralBlock config = LiteralBlock.builder()
                 .severity(Severity.INFO)
@@ -245,7 +245,7 @@ class LiteralBlockValidatorTest {
         @DisplayName("should handle content fallback when lines are null")
         void shouldHandleContentFallbackWhenLinesAreNull() {
             // Given
-            when(mockBlock.getContent()).thenReturn("Line 1\nLine 2\nLine 3");
+            when(mockBlock.getSource()).thenReturn("Line 1\nLine 2\nLine 3");
             
             LiteralBlock config = LiteralBlock.builder()
                 .severity(Severity.INFO)
@@ -272,7 +272,7 @@ class LiteralBlockValidatorTest {
         @DisplayName("should skip validation when not required")
         void shouldSkipValidationWhenNotRequired() {
             // Given
-            when(mockBlock.getContent()).thenReturn("  Line 1\n    Line 2");
+            when(mockBlock.getSource()).thenReturn("  Line 1\n    Line 2");
             
             LiteralBlock config = LiteralBlock.builder()
                 .severity(Severity.INFO)
@@ -294,7 +294,7 @@ class LiteralBlockValidatorTest {
         @DisplayName("should validate min spaces")
         void shouldValidateMinSpaces() {
             // Given
-            when(mockBlock.getContent()).thenReturn("Line 1\n  Line 2");
+            when(mockBlock.getSource()).thenReturn("Line 1\n  Line 2");
             
             LiteralBlock config = LiteralBlock.builder()
                 .severity(Severity.INFO)
@@ -322,7 +322,7 @@ class LiteralBlockValidatorTest {
         @DisplayName("should validate max spaces")
         void shouldValidateMaxSpaces() {
             // Given
-            when(mockBlock.getContent()).thenReturn("    Line 1\n          Line 2");
+            when(mockBlock.getSource()).thenReturn("    Line 1\n          Line 2");
             
             LiteralBlock config = LiteralBlock.builder()
                 .severity(Severity.INFO)
@@ -350,7 +350,7 @@ class LiteralBlockValidatorTest {
         @DisplayName("should validate consistent indentation")
         void shouldValidateConsistentIndentation() {
             // Given
-            when(mockBlock.getContent()).thenReturn(
+            when(mockBlock.getSource()).thenReturn(
                 "  Line 1\n" +
                 "  Line 2\n" +
                 "    Line 3\n" +  // Inconsistent
@@ -383,7 +383,7 @@ class LiteralBlockValidatorTest {
         @DisplayName("should skip empty lines for indentation check")
         void shouldSkipEmptyLinesForIndentationCheck() {
             // Given
-            when(mockBlock.getContent()).thenReturn(
+            when(mockBlock.getSource()).thenReturn(
                 "  Line 1\n" +
                 "\n" +              // Empty line
                 "  Line 2\n" +
@@ -411,7 +411,7 @@ class LiteralBlockValidatorTest {
         @DisplayName("should count tabs as 4 spaces")
         void shouldCountTabsAs4Spaces() {
             // Given
-            when(mockBlock.getContent()).thenReturn(
+            when(mockBlock.getSource()).thenReturn(
                 "\tLine 1\n" +      // 1 tab = 4 spaces
                 "    Line 2"         // 4 spaces
             );
@@ -444,7 +444,7 @@ class LiteralBlockValidatorTest {
         void shouldValidateAllRulesTogether() {
             // Given
             when(mockBlock.getTitle()).thenReturn("Valid Config");
-            when(mockBlock.getContent()).thenReturn(
+            when(mockBlock.getSource()).thenReturn(
                 "  server:\n" +
                 "    host: localhost\n" +
                 "    port: 8080\n" +
@@ -486,7 +486,7 @@ class LiteralBlockValidatorTest {
         void shouldCollectMultipleValidationErrors() {
             // Given
             when(mockBlock.getTitle()).thenReturn("Hi"); // Too short
-            when(mockBlock.getContent()).thenReturn("Line"); // Too few lines
+            when(mockBlock.getSource()).thenReturn("Line"); // Too few lines
             
             LiteralBlock config = LiteralBlock.builder()
                 .severity(Severity.INFO)
@@ -527,7 +527,7 @@ class LiteralBlockValidatorTest {
         void shouldUseNestedSeverityWhenSpecified() {
             // Given
             when(mockBlock.getTitle()).thenReturn("Hi");
-            when(mockBlock.getContent()).thenReturn("Line");
+            when(mockBlock.getSource()).thenReturn("Line");
             
             LiteralBlock config = LiteralBlock.builder()
                 .severity(Severity.ERROR) // Block severity
@@ -576,7 +576,7 @@ class LiteralBlockValidatorTest {
         void shouldFallbackToBlockSeverityWhenNull() {
             // Given
             when(mockBlock.getTitle()).thenReturn(null);
-            when(mockBlock.getContent()).thenReturn("Line");
+            when(mockBlock.getSource()).thenReturn("Line");
             
             LiteralBlock config = LiteralBlock.builder()
                 .severity(Severity.WARN) // Block severity
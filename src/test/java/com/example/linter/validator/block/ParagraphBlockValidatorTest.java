@@ -8,13 +8,12 @@ import static org.mockito.Mockito.when;
 import java.util.Arrays;
 import java.util.List;
 
-import org.asciidoctor.ast.Section;
-import org.asciidoctor.ast.StructuralNode;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import com.example.linter.ast.AstNode;
 import com.example.linter.config.BlockType;
 import com.example.linter.config.Severity;
 import com.example.linter.config.blocks.ParagraphBlock;
@@ -51,15 +50,15 @@ class ParagraphBlockValidatorTest {
     
     private ParagraphBlockValidator validator;
     private BlockValidationContext context;
-    private StructuralNode mockBlock;
-    private Section mockSection;
+    private AstNode mockBlock;
+    private AstNode mockSection;
     
     @BeforeEach
     void setUp() {
         validator = new ParagraphBlockValidator();
-        mockSection = mock(Section.class);
+        mockSection = mock(AstNode.class);
         context = new BlockValidationContext(mockSection, "test.adoc");
-        mockBlock = mock(StructuralNode.class);
+        mockBlock = mock(AstNode.class);
     }
     
     @Test
@@ -83,7 +82,7 @@ class ParagraphBlockValidatorTest {
             ParagraphBlock config = ParagraphBlock.builder()
                 .severity(Severity.ERROR)
                 .build();
-            when(mockBlock.getContent()).thenReturn("Some content");
+            when(mockBlock.getSource()).thenReturn("Some content");
             
             // When
             List<ValidationMessage> messages = validator.validate(mockBlock, config, context);
@@ -104,7 +103,7 @@ class ParagraphBlockValidatorTest {
                 .lines(lineConfig)
                 .severity(Severity.ERROR)
                 .build();
-            when(mockBlock.getContent()).thenReturn("Line 1\nLine 2");
+            when(mockBlock.getSource()).thenReturn("Line 1\nLine 2");
             
             // When
             List<ValidationMessage> messages = validator.validate(mockBlock, config, context);
@@ -131,7 +130,7 @@ class ParagraphBlockValidatorTest {
                 .lines(lineConfig)
                 .severity(Severity.ERROR)
                 .build();
-            when(mockBlock.getContent()).thenReturn("Line 1\nLine 2\nLine 3");
+            when(mockBlock.getSource()).thenReturn("Line 1\nLine 2\nLine 3");
             
             // When
             List<ValidationMessage> messages = validator.validate(mockBlock, config, context);
@@ -159,7 +158,7 @@ class ParagraphBlockValidatorTest {
                 .severity(Severity.INFO)
                 .build();
             
-            when(mockBlock.getContent()).thenReturn("Line 1\nLine 2\nLine 3");
+            when(mockBlock.getSource()).thenReturn("Line 1\nLine 2\nLine 3");
             
             // When
             List<ValidationMessage> messages = validator.validate(mockBlock, config, context);
@@ -185,7 +184,7 @@ class ParagraphBlockValidatorTest {
                 .lines(lineConfig)
                 .severity(Severity.ERROR)
                 .build();
-            when(mockBlock.getContent()).thenReturn("Line 1\nLine 2\nLine 3");
+            when(mockBlock.getSource()).thenReturn("Line 1\nLine 2\nLine 3");
             
             // When
             List<ValidationMessage> messages = validator.validate(mockBlock, config, context);
@@ -206,7 +205,7 @@ class ParagraphBlockValidatorTest {
                 .lines(lineConfig)
                 .severity(Severity.ERROR)
                 .build();
-            when(mockBlock.getContent()).thenReturn("Line 1\n\n  \nLine 2");
+            when(mockBlock.getSource()).thenReturn("Line 1\n\n  \nLine 2");
             
             // When
             List<ValidationMessage> messages = validator.validate(mockBlock, config, context);
@@ -227,7 +226,7 @@ class ParagraphBlockValidatorTest {
                 .lines(lineConfig)
                 .severity(Severity.ERROR)
                 .build();
-            when(mockBlock.getContent()).thenReturn("");
+            when(mockBlock.getSource()).thenReturn("");
             
             // When
             List<ValidationMessage> messages = validator.validate(mockBlock, config, context);
@@ -249,7 +248,7 @@ class ParagraphBlockValidatorTest {
                 .lines(lineConfig)
                 .severity(Severity.ERROR)
                 .build();
-            when(mockBlock.getContent()).thenReturn(null);
+            when(mockBlock.getSource()).thenReturn(null);
             when(mockBlock.getBlocks()).thenReturn(null);
             
             // When
@@ -273,9 +272,9 @@ class ParagraphBlockValidatorTest {
                 .severity(Severity.ERROR)
                 .build();
             
-            StructuralNode childBlock = mock(StructuralNode.class);
-            when(childBlock.getContent()).thenReturn("Child content");
-            when(mockBlock.getContent()).thenReturn(null);
+            AstNode childBlock = mock(AstNode.class);
+            when(childBlock.getSource()).thenReturn("Child content");
+            when(mockBlock.getSource()).thenReturn(null);
             when(mockBlock.getBlocks()).thenReturn(Arrays.asList(childBlock));
             
             // When
@@ -310,7 +309,7 @@ class ParagraphBlockValidatorTest {
                     .build();
                 
                 // Content with only 2 sentences
-                when(mockBlock.getContent()).thenReturn("This is the first sentence. This is the second sentence.");
+                when(mockBlock.getSource()).thenReturn("This is the first sentence. This is the second sentence.");
                 
                 // When
                 List<ValidationMessage> messages = validator.validate(mockBlock, config, context);
@@ -341,7 +340,7 @@ class ParagraphBlockValidatorTest {
                     .build();
                 
                 // Content with 3 sentences
-                when(mockBlock.getContent()).thenReturn("First sentence. Second sentence. Third sentence.");
+                when(mockBlock.getSource()).thenReturn("First sentence. Second sentence. Third sentence.");
                 
                 // When
                 List<ValidationMessage> messages = validator.validate(mockBlock, config, context);
@@ -371,7 +370,7 @@ class ParagraphBlockValidatorTest {
                     .severity(Severity.INFO)
                     .build();
                 
-                when(mockBlock.getContent()).thenReturn("Only one sentence here.");
+                when(mockBlock.getSource()).thenReturn("Only one sentence here.");
                 
                 // When
                 List<ValidationMessage> messages = validator.validate(mockBlock, config, context);
@@ -398,7 +397,7 @@ class ParagraphBlockValidatorTest {
                     .severity(Severity.ERROR)
                     .build();
                 
-                when(mockBlock.getContent()).thenReturn("");
+                when(mockBlock.getSource()).thenReturn("");
                 
                 // When
                 List<ValidationMessage> messages = validator.validate(mockBlock, config, context);
@@ -429,7 +428,7 @@ class ParagraphBlockValidatorTest {
                     .build();
                 
                 // First sentence has only 3 words, second has 5
-                when(mockBlock.getContent()).thenReturn("Too short sentence. This sentence has five words.");
+                when(mockBlock.getSource()).thenReturn("Too short sentence. This sentence has five words.");
                 
                 // When
                 List<ValidationMessage> messages = validator.validate(mockBlock, config, context);
@@ -460,7 +459,7 @@ class ParagraphBlockValidatorTest {
                     .build();
                 
                 // Sentence with 10 words
-                when(mockBlock.getContent()).thenReturn("This sentence has way too many words for the configured maximum limit.");
+                when(mockBlock.getSource()).thenReturn("This sentence has way too many words for the configured maximum limit.");
                 
                 // When
                 List<ValidationMessage> messages = validator.validate(mockBlock, config, context);
@@ -490,7 +489,7 @@ class ParagraphBlockValidatorTest {
                     .severity(Severity.INFO)
                     .build();
                 
-                when(mockBlock.getContent()).thenReturn("Short.");
+                when(mockBlock.getSource()).thenReturn("Short.");
                 
                 // When
                 List<ValidationMessage> messages = validator.validate(mockBlock, config, context);
@@ -519,7 +518,7 @@ class ParagraphBlockValidatorTest {
                     .build();
                 
                 // Mix of valid and invalid sentences
-                when(mockBlock.getContent()).thenReturn(
+                when(mockBlock.getSource()).thenReturn(
                     "Too short. " + // 2 words - too few
                     "This sentence is just right. " + // 5 words - OK
                     "This sentence has way too many words to be considered valid." // 12 words - too many
@@ -558,7 +557,7 @@ class ParagraphBlockValidatorTest {
                     .build();
                 
                 // Content with period, question mark, and exclamation mark
-                when(mockBlock.getContent()).thenReturn("This is a statement. Is this a question? This is exciting!");
+                when(mockBlock.getSource()).thenReturn("This is a statement. Is this a question? This is exciting!");
                 
                 // When
                 List<ValidationMessage> messages = validator.validate(mockBlock, config, context);
@@ -584,7 +583,7 @@ class ParagraphBlockValidatorTest {
                     .build();
                 
                 // Content with sentences spanning multiple lines
-                when(mockBlock.getContent()).thenReturn(
+                when(mockBlock.getSource()).thenReturn(
                     "This is a long sentence that\nspans multiple lines\nbut is still one sentence. " +
                     "This is\nanother sentence."
                 );
@@ -613,7 +612,7 @@ class ParagraphBlockValidatorTest {
                     .build();
                 
                 // Content without sentence-ending punctuation
-                when(mockBlock.getContent()).thenReturn("This is content without proper punctuation");
+                when(mockBlock.getSource()).thenReturn("This is content without proper punctuation");
                 
                 // When
                 List<ValidationMessage> messages = validator.validate(mockBlock, config, context);
@@ -649,7 +648,7 @@ class ParagraphBlockValidatorTest {
                     .build();
                 
                 // One sentence with too few words, one with too many
-                when(mockBlock.getContent()).thenReturn(
+                when(mockBlock.getSource()).thenReturn(
                     "Short. " + // 1 word - too few
                     "This sentence has way too many words and should trigger a validation error for exceeding the limit." // 17 words - too many
                 );
@@ -676,7 +675,7 @@ class ParagraphBlockValidatorTest {
                     .severity(Severity.ERROR)
                     .build();
                 
-                when(mockBlock.getContent()).thenReturn("Some content with sentences. Another sentence here.");
+                when(mockBlock.getSource()).thenReturn("Some content with sentences. Another sentence here.");
                 
                 // When
                 List<ValidationMessage> messages = validator.validate(mockBlock, config, context);
@@ -8,7 +8,6 @@ import static org.mockito.Mockito.when;
 import java.util.Arrays;
 import java.util.List;
 
-import org.asciidoctor.ast.StructuralNode;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -16,12 +15,13 @@ import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
+import com.example.linter.ast.AstNode;
 import com.example.linter.config.BlockType;
 import com.example.linter.config.Severity;
-import com.example.linter.config.blocks.PassBlock;
 import com.example.linter.config.blocks.PassBlock.ContentConfig;
 import com.example.linter.config.blocks.PassBlock.ReasonConfig;
 import com.example.linter.config.blocks.PassBlock.TypeConfig;
+import com.example.linter.config.blocks.PassBlock;
 import com.example.linter.validator.SourceLocation;
 import com.example.linter.validator.ValidationMessage;
 
@@ -30,7 +30,7 @@ class PassBlockValidatorTest {
     private PassBlockValidator validator;
     
     @Mock
-    private StructuralNode mockBlock;
+    private AstNode mockBlock;
     
     @Mock
     private BlockValidationContext mockContext;
@@ -45,7 +45,7 @@ class PassBlockValidatorTest {
         
         // Default setup
         when(mockContext.createLocation(any())).thenReturn(mockLocation);
-        when(mockBlock.getContent()).thenReturn("<div>Test content</div>");
+        when(mockBlock.getSource()).thenReturn("<div>Test content</div>");
     }
     
     @Test
@@ -163,7 +163,7 @@ class PassBlockValidatorTest {
         @DisplayName("should validate required content when missing")
         void shouldValidateRequiredContentWhenMissing() {
             // Given
-            when(mockBlock.getContent()).thenReturn("");
+            when(mockBlock.getSource()).thenReturn("");
             
             PassBlock config = PassBlock.builder()
                 .severity(Severity.ERROR)
@@ -188,7 +188,7 @@ class PassBlockValidatorTest {
         void shouldValidateMaxLength() {
             // Given
             String longContent = "x".repeat(100);
-            when(mockBlock.getContent()).thenReturn(longContent);
+            when(mockBlock.getSource()).thenReturn(longContent);
             
             PassBlock config = PassBlock.builder()
                 .severity(Severity.ERROR)
@@ -214,7 +214,7 @@ class PassBlockValidatorTest {
         @DisplayName("should validate content pattern")
         void shouldValidateContentPattern() {
             // Given
-            when(mockBlock.getContent()).thenReturn("<script>alert('bad')</script>");
+            when(mockBlock.getSource()).thenReturn("<script>alert('bad')</script>");
             
             PassBlock config = PassBlock.builder()
                 .severity(Severity.ERROR)
@@ -235,7 +235,7 @@ class PassBlockValidatorTest {
         @DisplayName("should fail when content does not match pattern")
         void shouldFailWhenContentDoesNotMatchPattern() {
             // Given
-            when(mockBlock.getContent()).thenReturn("plain text");
+            when(mockBlock.getSource()).thenReturn("plain text");
             
             PassBlock config = PassBlock.builder()
                 .severity(Severity.ERROR)
@@ -370,7 +370,7 @@ class PassBlockValidatorTest {
             // Given
             when(mockBlock.getAttribute("pass-type")).thenReturn("html");
             when(mockBlock.getAttribute("pass-reason")).thenReturn("Custom widget for product gallery display");
-            when(mockBlock.getContent()).thenReturn("<div class=\"product-slider\">Content</div>");
+            when(mockBlock.getSource()).thenReturn("<div class=\"product-slider\">Content</div>");
             
             PassBlock config = PassBlock.builder()
                 .name("Passthrough Block")
@@ -407,7 +407,7 @@ class PassBlockValidatorTest {
             // Given
             when(mockBlock.getAttribute("pass-type")).thenReturn(null);
             when(mockBlock.getAttribute("pass-reason")).thenReturn("Short");
-            when(mockBlock.getContent()).thenReturn("");
+            when(mockBlock.getSource()).thenReturn("");
             
             PassBlock config = PassBlock.builder()
                 .severity(Severity.ERROR)
@@ -449,7 +449,7 @@ class PassBlockValidatorTest {
             // Given
             when(mockBlock.getAttribute("pass-type")).thenReturn("javascript");
             when(mockBlock.getAttribute("pass-reason")).thenReturn("Short");
-            when(mockBlock.getContent()).thenReturn("x".repeat(100));
+            when(mockBlock.getSource()).thenReturn("x".repeat(100));
             
             PassBlock config = PassBlock.builder()
                 .severity(Severity.ERROR) // Block severity
@@ -499,7 +499,7 @@ class PassBlockValidatorTest {
             // Given
             when(mockBlock.getAttribute("pass-type")).thenReturn(null);
             when(mockBlock.getAttribute("pass-reason")).thenReturn(null);
-            when(mockBlock.getContent()).thenReturn("");
+            when(mockBlock.getSource()).thenReturn("");
             
             PassBlock config = PassBlock.builder()
                 .severity(Severity.WARN) // Block severity
@@ -533,7 +533,7 @@ class PassBlockValidatorTest {
             // Given
             when(mockBlock.getAttribute("pass-type")).thenReturn("invalid");
             when(mockBlock.getAttribute("pass-reason")).thenReturn("Valid reason for using pass block");
-            when(mockBlock.getContent()).thenReturn("<div>Valid content</div>");
+            when(mockBlock.getSource()).thenReturn("<div>Valid content</div>");
             
             PassBlock config = PassBlock.builder()
                 .severity(Severity.INFO) // Block severity
@@ -8,12 +8,12 @@ import static org.mockito.Mockito.when;
 
 import java.util.List;
 
-import org.asciidoctor.ast.StructuralNode;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import com.example.linter.ast.AstNode;
 import com.example.linter.config.BlockType;
 import com.example.linter.config.Severity;
 import com.example.linter.config.blocks.Block;
@@ -25,19 +25,19 @@ import com.example.linter.validator.ValidationMessage;
 class QuoteBlockValidatorTest {
     
     private QuoteBlockValidator validator;
-    private StructuralNode mockNode;
+    private AstNode mockNode;
     private BlockValidationContext mockContext;
     
     @BeforeEach
     void setUp() {
         validator = new QuoteBlockValidator();
-        mockNode = mock(StructuralNode.class);
+        mockNode = mock(AstNode.class);
         mockContext = mock(BlockValidationContext.class);
         
         // Mock the location creation
         SourceLocation mockLocation = mock(SourceLocation.class);
-        when(mockContext.createLocation(any(StructuralNode.class))).thenReturn(mockLocation);
-        when(mockNode.getSourceLocation()).thenReturn(null);
+        when(mockContext.createLocation(any(AstNode.class))).thenReturn(mockLocation);
+        when(mockNode.getLineNumber()).thenReturn(0);
     }
     
     @Test
@@ -254,7 +254,7 @@ class QuoteBlockValidatorTest {
         @Test
         @DisplayName("should validate required content when missing")
         void shouldValidateRequiredContentWhenMissing() {
-            when(mockNode.getContent()).thenReturn(null);
+            when(mockNode.getSource()).thenReturn(null);
             
             QuoteBlock block = QuoteBlock.builder()
                     .severity(Severity.WARN)
@@ -272,7 +272,7 @@ class QuoteBlockValidatorTest {
         @Test
         @DisplayName("should validate content min length")
         void shouldValidateContentMinLength() {
-            when(mockNode.getContent()).thenReturn("Short");
+            when(mockNode.getSource()).thenReturn("Short");
             
             QuoteBlock block = QuoteBlock.builder()
                     .severity(Severity.WARN)
@@ -293,7 +293,7 @@ class QuoteBlockValidatorTest {
         @DisplayName("should validate content max length")
         void shouldValidateContentMaxLength() {
             String longContent = "A".repeat(1001);
-            when(mockNode.getContent()).thenReturn(longContent);
+            when(mockNode.getSource()).thenReturn(longContent);
             
             QuoteBlock block = QuoteBlock.builder()
                     .severity(Severity.WARN)
@@ -314,7 +314,7 @@ class QuoteBlockValidatorTest {
         @DisplayName("should validate content line count")
         void shouldValidateContentLineCount() {
             String multiLineContent = "Line 1\nLine 2\nLine 3";
-            when(mockNode.getContent()).thenReturn(multiLineContent);
+            when(mockNode.getSource()).thenReturn(multiLineContent);
             
             QuoteBlock block = QuoteBlock.builder()
                     .severity(Severity.WARN)
@@ -339,7 +339,7 @@ class QuoteBlockValidatorTest {
         @DisplayName("should validate max line count")
         void shouldValidateMaxLineCount() {
             String manyLines = String.join("\n", "Line".repeat(21).split("(?<=.{4})"));
-            when(mockNode.getContent()).thenReturn(manyLines);
+            when(mockNode.getSource()).thenReturn(manyLines);
             
             QuoteBlock block = QuoteBlock.builder()
                     .severity(Severity.WARN)
@@ -409,7 +409,7 @@ class QuoteBlockValidatorTest {
         void shouldValidateCompleteQuoteBlock() {
             when(mockNode.getAttribute("author")).thenReturn("Albert Einstein");
             when(mockNode.getAttribute("citetitle")).thenReturn("Theory of Relativity");
-            when(mockNode.getContent()).thenReturn("Imagination is more important than knowledge. " +
+            when(mockNode.getSource()).thenReturn("Imagination is more important than knowledge. " +
                     "Knowledge is limited. Imagination embraces the entire world, stimulating progress, giving birth to evolution.");
             
             QuoteBlock block = QuoteBlock.builder()
@@ -447,7 +447,7 @@ class QuoteBlockValidatorTest {
         void shouldCollectMultipleValidationErrors() {
             when(mockNode.getAttribute("author")).thenReturn("a");  // Too short
             when(mockNode.getAttribute("citetitle")).thenReturn("b");  // Too short
-            when(mockNode.getContent()).thenReturn("Short");  // Too short
+            when(mockNode.getSource()).thenReturn("Short");  // Too short
             
             QuoteBlock block = QuoteBlock.builder()
                     .severity(Severity.WARN)
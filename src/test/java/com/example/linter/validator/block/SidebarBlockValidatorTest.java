@@ -6,9 +6,6 @@ import static org.mockito.Mockito.when;
 
 import java.util.List;
 
-import org.asciidoctor.ast.Cursor;
-import org.asciidoctor.ast.Section;
-import org.asciidoctor.ast.StructuralNode;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -16,6 +13,7 @@ import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
+import com.example.linter.ast.AstNode;
 import com.example.linter.config.BlockType;
 import com.example.linter.config.Severity;
 import com.example.linter.config.blocks.SidebarBlock;
@@ -28,14 +26,11 @@ class SidebarBlockValidatorTest {
     private BlockValidationContext context;
     
     @Mock
-    private StructuralNode node;
+    private AstNode node;
     
     @Mock
-    private Section section;
-    
-    @Mock
-    private Cursor sourceLocation;
-    
+    private AstNode section;
+
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
@@ -82,8 +77,7 @@ class SidebarBlockValidatorTest {
                 .build();
             
             when(node.getTitle()).thenReturn(null);
-            when(node.getSourceLocation()).thenReturn(sourceLocation);
-            when(sourceLocation.getLineNumber()).thenReturn(10);
+            when(node.getLineNumber()).thenReturn(10);
             
             // When
             List<ValidationMessage> results = validator.validate(node, config, context);
@@ -109,8 +103,7 @@ class SidebarBlockValidatorTest {
                 .build();
             
             when(node.getTitle()).thenReturn(null);
-            when(node.getSourceLocation()).thenReturn(sourceLocation);
-            when(sourceLocation.getLineNumber()).thenReturn(10);
+            when(node.getLineNumber()).thenReturn(10);
             
             // When
             List<ValidationMessage> results = validator.validate(node, config, context);
@@ -134,8 +127,7 @@ class SidebarBlockValidatorTest {
                 .build();
             
             when(node.getTitle()).thenReturn("abc");
-            when(node.getSourceLocation()).thenReturn(sourceLocation);
-            when(sourceLocation.getLineNumber()).thenReturn(10);
+            when(node.getLineNumber()).thenReturn(10);
             
             // When
             List<ValidationMessage> results = validator.validate(node, config, context);
@@ -159,8 +151,7 @@ class SidebarBlockValidatorTest {
                 .build();
             
             when(node.getTitle()).thenReturn("lowercase");
-            when(node.getSourceLocation()).thenReturn(sourceLocation);
-            when(sourceLocation.getLineNumber()).thenReturn(10);
+            when(node.getLineNumber()).thenReturn(10);
             
             // When
             List<ValidationMessage> results = validator.validate(node, config, context);
@@ -227,9 +218,8 @@ class SidebarBlockValidatorTest {
                     .build())
                 .build();
             
-            when(node.getContent()).thenReturn(null);
-            when(node.getSourceLocation()).thenReturn(sourceLocation);
-            when(sourceLocation.getLineNumber()).thenReturn(10);
+            when(node.getSource()).thenReturn(null);
+            when(node.getLineNumber()).thenReturn(10);
             
             // When
             List<ValidationMessage> results = validator.validate(node, config, context);
@@ -252,9 +242,8 @@ class SidebarBlockValidatorTest {
                     .build())
                 .build();
             
-            when(node.getContent()).thenReturn("Short content");
-            when(node.getSourceLocation()).thenReturn(sourceLocation);
-            when(sourceLocation.getLineNumber()).thenReturn(10);
+            when(node.getSource()).thenReturn("Short content");
+            when(node.getLineNumber()).thenReturn(10);
             
             // When
             List<ValidationMessage> results = validator.validate(node, config, context);
@@ -280,9 +269,8 @@ class SidebarBlockValidatorTest {
                     .build())
                 .build();
             
-            when(node.getContent()).thenReturn("Line 1");
-            when(node.getSourceLocation()).thenReturn(sourceLocation);
-            when(sourceLocation.getLineNumber()).thenReturn(10);
+            when(node.getSource()).thenReturn("Line 1");
+            when(node.getLineNumber()).thenReturn(10);
             
             // When
             List<ValidationMessage> results = validator.validate(node, config, context);
@@ -311,7 +299,7 @@ class SidebarBlockValidatorTest {
                     .build())
                 .build();
             
-            when(node.getContent()).thenReturn("This is valid sidebar content\nWith multiple lines");
+            when(node.getSource()).thenReturn("This is valid sidebar content\nWith multiple lines");
             
             // When
             List<ValidationMessage> results = validator.validate(node, config, context);
@@ -354,8 +342,7 @@ class SidebarBlockValidatorTest {
                 .build();
             
             when(node.getAttribute("position")).thenReturn(null);
-            when(node.getSourceLocation()).thenReturn(sourceLocation);
-            when(sourceLocation.getLineNumber()).thenReturn(10);
+            when(node.getLineNumber()).thenReturn(10);
             
             // When
             List<ValidationMessage> results = validator.validate(node, config, context);
@@ -379,8 +366,7 @@ class SidebarBlockValidatorTest {
                 .build();
             
             when(node.getAttribute("position")).thenReturn("center");
-            when(node.getSourceLocation()).thenReturn(sourceLocation);
-            when(sourceLocation.getLineNumber()).thenReturn(10);
+            when(node.getLineNumber()).thenReturn(10);
             
             // When
             List<ValidationMessage> results = validator.validate(node, config, context);
@@ -428,9 +414,9 @@ class SidebarBlockValidatorTest {
             .build();
         
         when(node.getTitle()).thenReturn(null);
-        when(node.getContent()).thenReturn(null);
+        when(node.getSource()).thenReturn(null);
         when(node.getAttribute("position")).thenReturn(null);
-        when(node.getSourceLocation()).thenReturn(null);
+        when(node.getLineNumber()).thenReturn(0);
         
         // When
         List<ValidationMessage> results = validator.validate(node, config, context);
@@ -8,14 +8,12 @@ import static org.mockito.Mockito.when;
 import java.util.List;
 import java.util.regex.Pattern;
 
-import org.asciidoctor.ast.Block;
-import org.asciidoctor.ast.Section;
-import org.asciidoctor.ast.StructuralNode;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import com.example.linter.ast.AstNode;
 import com.example.linter.config.BlockType;
 import com.example.linter.config.Severity;
 import com.example.linter.config.blocks.VerseBlock;
@@ -58,15 +56,15 @@ class VerseBlockValidatorTest {
     
     private VerseBlockValidator validator;
     private BlockValidationContext context;
-    private Block mockBlock;
-    private Section mockSection;
+    private AstNode mockBlock;
+    private AstNode mockSection;
     
     @BeforeEach
     void setUp() {
         validator = new VerseBlockValidator();
-        mockSection = mock(Section.class);
+        mockSection = mock(AstNode.class);
         context = new BlockValidationContext(mockSection, "test.adoc");
-        mockBlock = mock(Block.class);
+        mockBlock = mock(AstNode.class);
     }
     
     @Test
@@ -87,7 +85,7 @@ class VerseBlockValidatorTest {
         @DisplayName("should return empty list when block is not Block instance")
         void shouldReturnEmptyListWhenNotBlockInstance() {
             // Given
-            StructuralNode notABlock = mock(StructuralNode.class);
+            AstNode notABlock = mock(AstNode.class);
             VerseBlock config = VerseBlock.builder()
                 .severity(Severity.ERROR)
                 .build();
@@ -273,7 +271,7 @@ class VerseBlockValidatorTest {
                 .severity(Severity.ERROR)
                 .build();
             
-            when(mockBlock.getContent()).thenReturn("Short verse");
+            when(mockBlock.getSource()).thenReturn("Short verse");
             
             // When
             List<ValidationMessage> messages = validator.validate(mockBlock, config, context);
@@ -302,7 +300,7 @@ class VerseBlockValidatorTest {
             
             // Create long content
             String longContent = "This is a very long verse that exceeds the maximum length allowed";
-            when(mockBlock.getContent()).thenReturn(longContent);
+            when(mockBlock.getSource()).thenReturn(longContent);
             
             // When
             List<ValidationMessage> messages = validator.validate(mockBlock, config, context);
@@ -329,7 +327,7 @@ class VerseBlockValidatorTest {
                 .severity(Severity.ERROR)
                 .build();
             
-            when(mockBlock.getContent()).thenReturn("This is a perfect verse");
+            when(mockBlock.getSource()).thenReturn("This is a perfect verse");
             
             // When
             List<ValidationMessage> messages = validator.validate(mockBlock, config, context);
@@ -405,7 +403,7 @@ class VerseBlockValidatorTest {
                 .severity(Severity.ERROR) // Block severity
                 .build();
             
-            when(mockBlock.getContent()).thenReturn("Short");
+            when(mockBlock.getSource()).thenReturn("Short");
             
             // When
             List<ValidationMessage> messages = validator.validate(mockBlock, config, context);
@@ -438,7 +436,7 @@ class VerseBlockValidatorTest {
             when(mockBlock.hasAttribute("author")).thenReturn(true);
             when(mockBlock.getAttribute("author")).thenReturn("anonymous"); // Invalid pattern
             when(mockBlock.hasAttribute("citetitle")).thenReturn(false); // Missing
-            when(mockBlock.getContent()).thenReturn("Short verse");
+            when(mockBlock.getSource()).thenReturn("Short verse");
             
             // When
             List<ValidationMessage> messages = validator.validate(mockBlock, config, context);
@@ -460,7 +458,7 @@ class VerseBlockValidatorTest {
                 .severity(Severity.ERROR)
                 .build();
             
-            when(mockBlock.getContent()).thenReturn("");
+            when(mockBlock.getSource()).thenReturn("");
             
             // When
             List<ValidationMessage> messages = validator.validate(mockBlock, config, context);
@@ -482,7 +480,7 @@ class VerseBlockValidatorTest {
                 .severity(Severity.ERROR)
                 .build();
             
-            when(mockBlock.getContent()).thenReturn(null);
+            when(mockBlock.getSource()).thenReturn(null);
             
             // When
             List<ValidationMessage> messages = validator.validate(mockBlock, config, context);
@@ -516,7 +514,7 @@ class VerseBlockValidatorTest {
             when(mockBlock.getAttribute("author")).thenReturn("William Shakespeare");
             when(mockBlock.hasAttribute("attribution")).thenReturn(true);
             when(mockBlock.getAttribute("attribution")).thenReturn("Hamlet (1603)");
-            when(mockBlock.getContent()).thenReturn("To be, or not to be,\nthat is the question");
+            when(mockBlock.getSource()).thenReturn("To be, or not to be,\nthat is the question");
             
             // When
             List<ValidationMessage> messages = validator.validate(mockBlock, config, context);
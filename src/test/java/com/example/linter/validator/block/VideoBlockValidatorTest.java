@@ -7,7 +7,6 @@ import static org.mockito.Mockito.when;
 
 import java.util.List;
 
-import org.asciidoctor.ast.StructuralNode;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -15,6 +14,7 @@ import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
+import com.example.linter.ast.AstNode;
 import com.example.linter.config.BlockType;
 import com.example.linter.config.Severity;
 import com.example.linter.config.blocks.ParagraphBlock;
@@ -29,10 +29,7 @@ class VideoBlockValidatorTest {
     private VideoBlockValidator validator;
     
     @Mock
-    private StructuralNode node;
-    
-    @Mock
-    private org.asciidoctor.ast.Cursor sourceLocation;
+    private AstNode node;
     
     @Mock
     private BlockValidationContext context;
@@ -41,16 +38,14 @@ class VideoBlockValidatorTest {
     void setUp() {
         MockitoAnnotations.openMocks(this);
         validator = new VideoBlockValidator();
-        when(node.getSourceLocation()).thenReturn(sourceLocation);
-        when(sourceLocation.getLineNumber()).thenReturn(10);
-        when(sourceLocation.getFile()).thenReturn("test.adoc");
+        when(node.getLineNumber()).thenReturn(10);
         
         // Mock context.createLocation()
         SourceLocation location = SourceLocation.builder()
                 .filename("test.adoc")
                 .startLine(10)
                 .build();
-        when(context.createLocation(any(StructuralNode.class))).thenReturn(location);
+        when(context.createLocation(any(AstNode.class))).thenReturn(location);
     }
     
     @Test
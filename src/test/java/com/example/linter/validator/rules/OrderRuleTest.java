@@ -72,12 +72,13 @@ class OrderRuleTest {
                 .build();
             
             // When
-            rule.validate("title", "My Document", createLocation("test.adoc", 1));
-            rule.validate("author", "John Doe", createLocation("test.adoc", 2));
-            rule.validate("revdate", "2024-01-15", createLocation("test.adoc", 3));
+            AttributeValidationContext context = new AttributeValidationContext();
+            rule.validate("title", "My Document", createLocation("test.adoc", 1), context);
+            rule.validate("author", "John Doe", createLocation("test.adoc", 2), context);
+            rule.validate("revdate", "2024-01-15", createLocation("test.adoc", 3), context);
             
             // Then
-            List<ValidationMessage> messages = rule.validateOrder();
+            List<ValidationMessage> messages = rule.validateOrder(context);
             assertTrue(messages.isEmpty());
         }
         
@@ -92,11 +93,12 @@ class OrderRuleTest {
                 .build();
             
             // When
-            rule.validate("author", "John Doe", createLocation("test.adoc", 2));
-            rule.validate("title", "My Document", createLocation("test.adoc", 3));
-            rule.validate("revdate", "2024-01-15", createLocation("test.adoc", 4));
+            AttributeValidationContext context = new AttributeValidationContext();
+            rule.validate("author", "John Doe", createLocation("test.adoc", 2), context);
+            rule.validate("title", "My Document", createLocation("test.adoc", 3), context);
+            rule.validate("revdate", "2024-01-15", createLocation("test.adoc", 4), context);
             
-            List<ValidationMessage> messages = rule.validateOrder();
+            List<ValidationMessage> messages = rule.validateOrder(context);
             
             // Then
             assertFalse(messages.isEmpty());
@@ -117,13 +119,14 @@ class OrderRuleTest {
                 .build();
             
             // When
-            rule.validate("version", "1.0", createLocation("test.adoc", 1));
-            rule.validate("revdate", "2024-01-15", createLocation("test.adoc", 2));
-            rule.validate("title", "My Document", createLocation("test.adoc", 3));
-            rule.validate("author", "John Doe", createLocation("test.adoc", 4));
+            AttributeValidationContext context = new AttributeValidationContext();
+            rule.validate("version", "1.0", createLocation("test.adoc", 1), context);
+            rule.validate("revdate", "2024-01-15", createLocation("test.adoc", 2), context);
+            rule.validate("title", "My Document", createLocation("test.adoc", 3), context);
+            rule.validate("author", "John Doe", createLocation("test.adoc", 4), context);
             
             // Then
-            List<ValidationMessage> messages = rule.validateOrder();
+            List<ValidationMessage> messages = rule.validateOrder(context);
             assertTrue(messages.size() >= 2);
         }
     }
@@ -143,11 +146,12 @@ class OrderRuleTest {
                 .build();
             
             // When
-            rule.validate("title", "My Document", createLocation("test.adoc", 1));
-            rule.validate("version", "1.0", createLocation("test.adoc", 2));
+            AttributeValidationContext context = new AttributeValidationContext();
+            rule.validate("title", "My Document", createLocation("test.adoc", 1), context);
+            rule.validate("version", "1.0", createLocation("test.adoc", 2), context);
             
             // Then
-            List<ValidationMessage> messages = rule.validateOrder();
+            List<ValidationMessage> messages = rule.validateOrder(context);
             assertTrue(messages.isEmpty());
         }
         
@@ -161,12 +165,13 @@ class OrderRuleTest {
                 .build();
             
             // When
-            rule.validate("title", "My Document", createLocation("test.adoc", 1));
-            rule.validate("keywords", "test, doc", createLocation("test.adoc", 2));
-            rule.validate("author", "John Doe", createLocation("test.adoc", 3));
+            AttributeValidationContext context = new AttributeValidationContext();
+            rule.validate("title", "My Document", createLocation("test.adoc", 1), context);
+            rule.validate("keywords", "test, doc", createLocation("test.adoc", 2), context);
+            rule.validate("author", "John Doe", createLocation("test.adoc", 3), context);
             
             // Then
-            List<ValidationMessage> messages = rule.validateOrder();
+            List<ValidationMessage> messages = rule.validateOrder(context);
             assertTrue(messages.isEmpty());
         }
     }
@@ -185,10 +190,11 @@ class OrderRuleTest {
                 .build();
             
             // When
-            rule.validate("author", "John Doe", createLocation("test.adoc", 2));
-            rule.validate("title", "My Document", createLocation("test.adoc", 5));
+            AttributeValidationContext context = new AttributeValidationContext();
+            rule.validate("author", "John Doe", createLocation("test.adoc", 2), context);
+            rule.validate("title", "My Document", createLocation("test.adoc", 5), context);
             
-            List<ValidationMessage> messages = rule.validateOrder();
+            List<ValidationMessage> messages = rule.validateOrder(context);
             
             // Then
             assertEquals(1, messages.size());
@@ -200,6 +206,27 @@ class OrderRuleTest {
             assertTrue(message.getMessage().contains("actual position line 5"));
             assertTrue(message.getMessage().contains("expected before line 2"));
         }
+        
+        @Test
+        @DisplayName("should not carry positions from one document to the next")
+        void shouldNotCarryPositionsFromOneDocumentToTheNext() {
+            // Given
+            OrderRule rule = OrderRule.builder()
+                .addOrderConstraint("title", 1, Severity.ERROR)
+                .addOrderConstraint("author", 2, Severity.ERROR)
+                .build();
+            AttributeValidationContext first = new AttributeValidationContext();
+            rule.validate("author", "John Doe", createLocation("first.adoc", 2), first);
+            rule.validate("title", "My Document", createLocation("first.adoc", 3), first);
+            
+            // When
+            AttributeValidationContext second = new AttributeValidationContext();
+            rule.validate("title", "My Document", createLocation("second.adoc", 2), second);
+            
+            // Then
+            assertEquals(1, rule.validateOrder(first).size());
+            assertTrue(rule.validateOrder(second).isEmpty());
+        }
     }
     
     private SourceLocation createLocation(String filename, int line) {